@@ -0,0 +1,122 @@
+package com.compass.domain.chat.benchmark;
+
+import com.compass.domain.chat.entity.TravelCandidate;
+import com.compass.domain.chat.repository.TravelCandidateRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Stream;
+
+// 벤치마크용 합성 travel_candidates 데이터 (고정 시드 - 같은 크기면 항상 같은 데이터)
+// 제주 크기의 영역에 몇 개의 밀집 지역 + 흩어진 장소를 섞어 실제 지역 분포와 비슷하게 만든다
+public final class SyntheticTravelCandidates {
+
+    public static final String REGION = "제주";
+    public static final long SEED = 20261016L;
+
+    private static final double CENTER_LAT = 33.38;
+    private static final double CENTER_LNG = 126.55;
+    private static final int HOTSPOTS = 12;
+    private static final double HOTSPOT_SHARE = 0.7;
+
+    // TimeBlockRecommendationService / 스타일 매칭이 보는 카테고리
+    private static final String[] CATEGORIES = {
+        "관광지", "맛집", "카페", "박물관", "공원", "전통시장", "쇼핑", "체험", "야경", "전망대", "식당", "디저트"
+    };
+    private static final String[] BUSINESS_HOURS = {
+        null, "09:00~18:00", "10:00~21:00", "11:00~15:00", "17:00~23:00", "24시간"
+    };
+
+    private SyntheticTravelCandidates() {
+    }
+
+    public static List<TravelCandidate> generate(int count) {
+        return generate(REGION, count, SEED);
+    }
+
+    public static List<TravelCandidate> generate(String region, int count, long seed) {
+        Random random = new Random(seed);
+        double[][] hotspots = new double[HOTSPOTS][];
+        for (int h = 0; h < HOTSPOTS; h++) {
+            hotspots[h] = new double[] {
+                CENTER_LAT + (random.nextDouble() - 0.5) * 0.3,
+                CENTER_LNG + (random.nextDouble() - 0.5) * 0.7
+            };
+        }
+
+        TravelCandidate.TimeBlock[] timeBlocks = TravelCandidate.TimeBlock.values();
+        LocalDateTime collectedAt = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<TravelCandidate> candidates = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double latitude;
+            double longitude;
+            if (random.nextDouble() < HOTSPOT_SHARE) {
+                double[] hotspot = hotspots[random.nextInt(HOTSPOTS)];
+                latitude = hotspot[0] + random.nextGaussian() * 0.01;
+                longitude = hotspot[1] + random.nextGaussian() * 0.012;
+            } else {
+                latitude = CENTER_LAT + (random.nextDouble() - 0.5) * 0.4;
+                longitude = CENTER_LNG + (random.nextDouble() - 0.5) * 0.9;
+            }
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            boolean enriched = random.nextDouble() < 0.8;
+
+            candidates.add(TravelCandidate.builder()
+                .id((long) i + 1)
+                .placeId("synthetic-" + i)
+                .name(category + " " + i)
+                .region(region)
+                .category(category)
+                .timeBlock(timeBlocks[random.nextInt(timeBlocks.length)])
+                .latitude(latitude)
+                .longitude(longitude)
+                .address(region + " 합성주소 " + i)
+                .rating(Math.round((3.0 + random.nextDouble() * 2.0) * 10) / 10.0)
+                .reviewCount(random.nextInt(5000))
+                .priceLevel(random.nextInt(5))
+                .description(category + " 설명")
+                .qualityScore(enriched ? 0.6 + random.nextDouble() * 0.4 : random.nextDouble() * 0.6)
+                .googlePlaceId(enriched ? "g-" + i : null)
+                .businessHours(BUSINESS_HOURS[random.nextInt(BUSINESS_HOURS.length)])
+                .collectedAt(collectedAt)
+                .isActive(true)
+                .build());
+        }
+        return candidates;
+    }
+
+    // DB 없이 메모리 목록으로 응답하는 저장소 - 벤치마크 대상 경로(스냅샷, Stage 3 보강/통합)가 쓰는 조회만 구현한다
+    // 구현하지 않은 메서드는 어떤 메서드인지 알려주며 실패한다 (경로가 새 조회를 쓰게 되면 여기에 추가)
+    public static TravelCandidateRepository repositoryOf(List<TravelCandidate> candidates) {
+        return (TravelCandidateRepository) Proxy.newProxyInstance(
+            TravelCandidateRepository.class.getClassLoader(),
+            new Class<?>[] {TravelCandidateRepository.class},
+            (proxy, method, args) -> switch (method.getName() + "/" + (args == null ? 0 : args.length)) {
+                case "findByRegionAndIsActiveTrue/1" -> active(candidates, (String) args[0]).toList();
+                case "findByRegionAndCategoryAndIsActiveTrue/2" -> active(candidates, (String) args[0])
+                    .filter(candidate -> Objects.equals(candidate.getCategory(), args[1]))
+                    .toList();
+                case "findByRegionAndTimeBlockAndIsActiveTrue/2" -> active(candidates, (String) args[0])
+                    .filter(candidate -> candidate.getTimeBlock() == args[1])
+                    .toList();
+                case "findAll/0" -> candidates;
+                case "count/0" -> (long) candidates.size();
+                case "hashCode/0" -> System.identityHashCode(proxy);
+                case "equals/1" -> proxy == args[0];
+                case "toString/0" -> "SyntheticTravelCandidateRepository(" + candidates.size() + ")";
+                default -> throw new UnsupportedOperationException(
+                    "SyntheticTravelCandidates 저장소가 지원하지 않는 조회: " + method.toGenericString()
+                        + " - 벤치마크 경로가 이 조회를 쓰면 SyntheticTravelCandidates.repositoryOf에 추가하세요");
+            });
+    }
+
+    private static Stream<TravelCandidate> active(List<TravelCandidate> candidates, String region) {
+        return candidates.stream()
+            .filter(candidate -> Boolean.TRUE.equals(candidate.getIsActive()))
+            .filter(candidate -> candidate.getRegion().equals(region));
+    }
+}
@@ -0,0 +1,156 @@
+package com.compass.domain.chat.orchestrator.cache;
+
+import com.compass.domain.chat.model.context.TravelContext;
+import com.compass.domain.chat.model.dto.ConfirmedSchedule;
+import com.compass.domain.chat.model.enums.DocumentType;
+import com.compass.domain.chat.model.enums.TravelPhase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 컨텍스트 필드 인코딩/디코딩 CPU 비용과 스레드 1만 개 기준 저장 크기 비교 (JSON / Smile / Smile+LZ4)
+// 저장 크기는 값 바이트 합계만 센다 - Redis 해시 엔트리 오버헤드는 형식과 무관하게 같다
+// (encodeContext 결과에 보조 카운터 StoredSize로 함께 나온다)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ContextCodecBenchmark {
+
+    private static final int ACTIVE_THREADS = 10_000;
+    private static final int MESSAGES = 30;
+    private static final int TRIP_DAYS = 3;
+    private static final int PLACES_PER_DAY = 8;
+
+    @Param({"json", "smile", "smile-lz4"})
+    private String format;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private VersionedContextCodec codec;
+    private TravelContext context;
+    private Map<String, byte[]> encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        codec = new VersionedContextCodec(objectMapper);
+        ReflectionTestUtils.setField(codec, "format", format.startsWith("smile") ? "smile" : "json");
+        ReflectionTestUtils.setField(codec, "compressionThreshold", format.equals("smile-lz4") ? 512 : Integer.MAX_VALUE);
+        codec.init();
+
+        context = travelContext();
+        encoded = encodeAll();
+    }
+
+    // 인코딩한 컨텍스트 크기 - 반복마다 같은 값을 다시 넣어 JMH 결과에 형식별 크기로 표시된다
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredSize {
+        public long bytesPerThread;
+        public long kilobytesForActiveThreads;
+
+        @Setup(Level.Iteration)
+        public void record(ContextCodecBenchmark benchmark) {
+            bytesPerThread = benchmark.encoded.values().stream().mapToLong(value -> value.length).sum();
+            kilobytesForActiveThreads = bytesPerThread * ACTIVE_THREADS / 1024;
+        }
+    }
+
+    // 전체 저장 (put) 경로
+    @Benchmark
+    public Map<String, byte[]> encodeContext(StoredSize size) throws IOException {
+        return encodeAll();
+    }
+
+    private Map<String, byte[]> encodeAll() throws IOException {
+        Map<String, byte[]> fields = new LinkedHashMap<>();
+        for (String field : ContextFields.ALL) {
+            fields.put(field, codec.encode(ContextFields.valueOf(context, field)));
+        }
+        return fields;
+    }
+
+    // 전체 조회 (get) 경로 - RedisContextCacheImpl.assemble과 같은 방식
+    @Benchmark
+    public TravelContext decodeContext() throws IOException {
+        ObjectNode node = objectMapper.createObjectNode();
+        for (Map.Entry<String, byte[]> field : encoded.entrySet()) {
+            node.set(field.getKey(), codec.decode(field.getValue()));
+        }
+        return objectMapper.treeToValue(node, TravelContext.class);
+    }
+
+    // 일정 생성까지 끝난 대화 - 대화 30턴, 3일 x 8곳 여행 계획, OCR 일정 2건
+    private TravelContext travelContext() {
+        LocalDate startDate = LocalDate.of(2026, 11, 2);
+        TravelContext travelContext = TravelContext.builder()
+            .threadId("thread-benchmark")
+            .userId("user-benchmark")
+            .currentPhase(TravelPhase.FEEDBACK_REFINEMENT.name())
+            .build();
+
+        travelContext.updateCollectedInfo(TravelContext.KEY_DESTINATIONS, List.of("제주"));
+        travelContext.updateCollectedInfo(TravelContext.KEY_DEPARTURE, "서울");
+        travelContext.updateCollectedInfo(TravelContext.KEY_START_DATE, startDate.toString());
+        travelContext.updateCollectedInfo(TravelContext.KEY_END_DATE, startDate.plusDays(TRIP_DAYS - 1).toString());
+        travelContext.updateCollectedInfo(TravelContext.KEY_BUDGET, 800000);
+        travelContext.updateCollectedInfo(TravelContext.KEY_TRAVEL_STYLE, List.of("culture", "food"));
+        travelContext.updateCollectedInfo(TravelContext.KEY_COMPANIONS, "friends");
+        travelContext.updateCollectedInfo(TravelContext.KEY_TRANSPORTATION_TYPE, "자차");
+
+        for (int i = 0; i < MESSAGES; i++) {
+            travelContext.addMessage(i % 2 == 0 ? "user" : "assistant",
+                i % 2 == 0
+                    ? "둘째 날 오후에 " + i + "번 장소 대신 바다가 보이는 카페를 넣어 줄 수 있을까요?"
+                    : "둘째 날 오후 일정을 바꿨어요. 애월 해안도로를 따라 이동하면 이동 시간이 20분 정도 줄어듭니다. " + i);
+        }
+
+        List<Map<String, Object>> days = new ArrayList<>();
+        for (int day = 1; day <= TRIP_DAYS; day++) {
+            List<Map<String, Object>> places = new ArrayList<>();
+            for (int p = 0; p < PLACES_PER_DAY; p++) {
+                places.add(Map.of(
+                    "placeId", "place-" + day + "-" + p,
+                    "name", "제주 관광지 " + day + "-" + p,
+                    "category", p % 3 == 0 ? "맛집" : "관광지",
+                    "address", "제주특별자치도 제주시 애월읍 애월해안로 " + (100 + p),
+                    "latitude", 33.46 + p * 0.01,
+                    "longitude", 126.31 + day * 0.02,
+                    "timeBlock", p < 3 ? "MORNING_ACTIVITY" : "AFTERNOON_ACTIVITY",
+                    "rating", 4.3
+                ));
+            }
+            days.add(Map.of("dayNumber", day, "date", startDate.plusDays(day - 1).toString(), "places", places));
+        }
+        travelContext.setTravelPlan(Map.of("days", days, "totalDistance", 142.7));
+
+        travelContext.addOcrSchedule(ConfirmedSchedule.flight(
+            startDate.atTime(8, 30), startDate.atTime(9, 40), "KE1201", "GMP", "CJU",
+            "대한항공 KE1201 김포 08:30 출발 제주 09:40 도착", "https://example.com/ocr/flight.png"));
+        travelContext.addOcrSchedule(ConfirmedSchedule.hotel(
+            startDate.atTime(15, 0), startDate.plusDays(TRIP_DAYS - 1).atTime(11, 0), "제주 오션뷰 호텔",
+            "제주특별자치도 제주시 탑동로 1", "제주 오션뷰 호텔 체크인 15:00", "https://example.com/ocr/hotel.png"));
+        travelContext.addOcrRawText(DocumentType.FLIGHT_RESERVATION, "대한항공 KE1201 김포 08:30 출발 제주 09:40 도착 좌석 32A");
+        travelContext.setUpdatedAt(LocalDateTime.of(2026, 10, 16, 12, 0));
+        return travelContext;
+    }
+}
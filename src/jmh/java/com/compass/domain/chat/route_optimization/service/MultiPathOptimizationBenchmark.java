@@ -0,0 +1,71 @@
+package com.compass.domain.chat.route_optimization.service;
+
+import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
+import com.compass.domain.chat.route_optimization.client.KakaoMobilityClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 시간블록 경로 선택 - 정확한 Viterbi DP와 기존 Beam Search(BEAM_WIDTH=3) 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiPathOptimizationBenchmark {
+
+    private static final List<String> TIME_BLOCKS = List.of(
+        "BREAKFAST", "MORNING_ACTIVITY", "LUNCH",
+        "AFTERNOON_ACTIVITY", "DINNER", "EVENING_ACTIVITY"
+    );
+    private static final KakaoMobilityClient.TransportMode MODE = KakaoMobilityClient.TransportMode.CAR;
+
+    @Param({"5", "20", "80"})
+    private int candidatesPerBlock;
+
+    private MultiPathOptimizationService service;
+    private Map<String, List<TourPlace>> candidates;
+
+    @Setup
+    public void setUp() {
+        service = new MultiPathOptimizationService(new KakaoMobilityClient(null, new ObjectMapper()));
+
+        Random random = new Random(42);
+        candidates = new LinkedHashMap<>();
+        for (String block : TIME_BLOCKS) {
+            List<TourPlace> places = new ArrayList<>(candidatesPerBlock);
+            for (int i = 0; i < candidatesPerBlock; i++) {
+                places.add(TourPlace.builder()
+                    .id(block + "-" + i)
+                    .name(block + " " + i)
+                    .timeBlock(block)
+                    .latitude(33.2 + random.nextDouble() * 0.4)
+                    .longitude(126.2 + random.nextDouble() * 0.7)
+                    .rating(3.0 + random.nextDouble() * 2.0)
+                    .build());
+            }
+            candidates.put(block, places);
+        }
+    }
+
+    @Benchmark
+    public List<TourPlace> dynamicProgramming() {
+        return service.dynamicProgrammingOptimization(candidates, TIME_BLOCKS, MODE);
+    }
+
+    @Benchmark
+    public List<TourPlace> beamSearch() {
+        return service.beamSearchOptimization(candidates, TIME_BLOCKS, MODE);
+    }
+}
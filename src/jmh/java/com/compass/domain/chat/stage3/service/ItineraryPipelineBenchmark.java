@@ -0,0 +1,185 @@
+package com.compass.domain.chat.stage3.service;
+
+import com.compass.domain.chat.benchmark.SyntheticTravelCandidates;
+import com.compass.domain.chat.common.snapshot.TravelCandidateSnapshotService;
+import com.compass.domain.chat.entity.TravelCandidate;
+import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
+import com.compass.domain.chat.model.TravelPlace;
+import com.compass.domain.chat.model.context.TravelContext;
+import com.compass.domain.chat.repository.TravelCandidateRepository;
+import com.compass.domain.chat.route_optimization.client.KakaoMobilityClient;
+import com.compass.domain.chat.route_optimization.service.MultiPathOptimizationService;
+import com.compass.domain.chat.stage3.dto.OptimizedRoute;
+import com.compass.domain.chat.stage3.dto.Stage3Output;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 일정 생성 파이프라인 기준 성능 측정 - 지역당 200 / 2천 / 2만 개 합성 후보지 (고정 시드)
+// 알고리즘 변경 전후를 같은 데이터로 비교하기 위한 기준선 (./gradlew jmh)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ItineraryPipelineBenchmark {
+
+    private static final int TRIP_DAYS = 3;
+    private static final int DAY_PLACES = 12;
+    private static final int USER_SELECTED_PLACES = 6;
+    private static final int PLACES_PER_BLOCK = 3;
+    private static final LocalDate START_DATE = LocalDate.of(2026, 11, 2);
+    private static final long SNAPSHOT_TTL_MINUTES = 10;
+
+    @Param({"200", "2000", "20000"})
+    private int placesPerRegion;
+
+    private Stage3IntegrationService integrationService;
+    private Stage3KMeansClusteringService kMeansClusteringService;
+    private Stage3RouteOptimizationService routeOptimizationService;
+    private MultiPathOptimizationService multiPathOptimizationService;
+    private TimeBlockRecommendationService timeBlockRecommendationService;
+
+    private TravelContext context;
+    private List<TravelCandidate> candidates;
+    private List<TravelPlace> places;
+    private List<TravelPlace> dayPlaces;
+    private Map<String, List<TourPlace>> timeBlockCandidates;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        candidates = SyntheticTravelCandidates.generate(placesPerRegion);
+        TravelCandidateRepository repository = SyntheticTravelCandidates.repositoryOf(candidates);
+
+        // Spring 없이 만들므로 @Value 기본값을 직접 넣는다
+        // - 스냅샷 TTL이 0이면 매 호출마다 지역 전체를 다시 읽어 스냅샷 캐시가 없는 것처럼 측정된다
+        TravelCandidateSnapshotService snapshotService = new TravelCandidateSnapshotService(repository);
+        ReflectionTestUtils.setField(snapshotService, "ttlMinutes", SNAPSHOT_TTL_MINUTES);
+
+        kMeansClusteringService = new Stage3KMeansClusteringService();
+        routeOptimizationService = new Stage3RouteOptimizationService();
+        ReflectionTestUtils.setField(routeOptimizationService, "timeWindowSolverEnabled", true);
+        timeBlockRecommendationService = new TimeBlockRecommendationService();
+        multiPathOptimizationService = new MultiPathOptimizationService(new KakaoMobilityClient(null, new ObjectMapper()));
+        integrationService = new Stage3IntegrationService(
+            repository,
+            snapshotService,
+            new Stage3TravelCandidateEnrichmentService(repository),
+            new PlaceScoreCalculationService(),
+            routeOptimizationService,
+            kMeansClusteringService,
+            timeBlockRecommendationService
+        );
+
+        places = candidates.stream().map(TravelCandidate::toTravelPlace).toList();
+        dayPlaces = dayPlaces(new Random(SyntheticTravelCandidates.SEED));
+        timeBlockCandidates = timeBlockCandidates();
+        context = travelContext(new Random(SyntheticTravelCandidates.SEED));
+    }
+
+    @Benchmark
+    public Stage3Output processWithTravelContext() {
+        return integrationService.processWithTravelContext(context);
+    }
+
+    @Benchmark
+    public Map<Integer, List<TravelPlace>> clusterPlaces() {
+        return kMeansClusteringService.clusterPlaces(places, TRIP_DAYS);
+    }
+
+    // 하루 일정 크기(고정 일정 2개 포함 12곳) - 후보 수와 무관하게 하루 단위로 호출되는 경로
+    @Benchmark
+    public OptimizedRoute optimize() {
+        return routeOptimizationService.optimize(dayPlaces, "자차", null);
+    }
+
+    @Benchmark
+    public List<TourPlace> findOptimalPath() {
+        return multiPathOptimizationService.findOptimalPath(timeBlockCandidates, KakaoMobilityClient.TransportMode.CAR);
+    }
+
+    @Benchmark
+    public Map<String, List<TravelPlace>> recommendByTimeBlocks() {
+        return timeBlockRecommendationService.recommendByTimeBlocks(candidates, List.of(), "culture", PLACES_PER_BLOCK);
+    }
+
+    private List<TravelPlace> dayPlaces(Random random) {
+        List<TravelCandidate> shuffled = new ArrayList<>(candidates);
+        Collections.shuffle(shuffled, random);
+        List<TravelPlace> day = new ArrayList<>(DAY_PLACES);
+        for (int i = 0; i < Math.min(DAY_PLACES, shuffled.size()); i++) {
+            TravelPlace place = shuffled.get(i).toTravelPlace();
+            if (i < 2) {
+                place.setIsFixed(true);
+                place.setFixedTime(START_DATE.atTime(i == 0 ? 11 : 16, 0));
+            }
+            day.add(place);
+        }
+        return day;
+    }
+
+    // TimeBlock별 후보 (findOptimalPath 입력 형식)
+    private Map<String, List<TourPlace>> timeBlockCandidates() {
+        Map<String, List<TourPlace>> byBlock = new LinkedHashMap<>();
+        for (TravelCandidate candidate : candidates) {
+            byBlock.computeIfAbsent(candidate.getTimeBlock().name(), block -> new ArrayList<>())
+                .add(TourPlace.builder()
+                    .id(candidate.getPlaceId())
+                    .name(candidate.getName())
+                    .timeBlock(candidate.getTimeBlock().name())
+                    .latitude(candidate.getLatitude())
+                    .longitude(candidate.getLongitude())
+                    .category(candidate.getCategory())
+                    .rating(candidate.getRating())
+                    .build());
+        }
+        return byBlock;
+    }
+
+    // 3일 일정 + 사용자 선택 장소 6곳, 출발지/OCR 일정 없음
+    private TravelContext travelContext(Random random) {
+        List<Map<String, Object>> selected = new ArrayList<>();
+        for (int i = 0; i < USER_SELECTED_PLACES; i++) {
+            TravelCandidate candidate = candidates.get(random.nextInt(candidates.size()));
+            selected.add(Map.of(
+                "placeId", candidate.getPlaceId(),
+                "placeName", candidate.getName(),
+                "category", candidate.getCategory(),
+                "address", candidate.getAddress(),
+                "latitude", candidate.getLatitude(),
+                "longitude", candidate.getLongitude(),
+                "rating", candidate.getRating()
+            ));
+        }
+
+        TravelContext travelContext = TravelContext.builder()
+            .threadId("benchmark")
+            .userId("benchmark")
+            .createdAt(LocalDateTime.of(2026, 10, 1, 0, 0))
+            .build();
+        travelContext.getCollectedInfo().put(TravelContext.KEY_DESTINATIONS, List.of(SyntheticTravelCandidates.REGION));
+        travelContext.getCollectedInfo().put(TravelContext.KEY_START_DATE, START_DATE);
+        travelContext.getCollectedInfo().put(TravelContext.KEY_END_DATE, START_DATE.plusDays(TRIP_DAYS - 1));
+        travelContext.getCollectedInfo().put(TravelContext.KEY_TRAVEL_STYLE, List.of("culture"));
+        travelContext.getCollectedInfo().put(TravelContext.KEY_COMPANIONS, "friends");
+        travelContext.getCollectedInfo().put(TravelContext.KEY_TRANSPORTATION_TYPE, "자차");
+        travelContext.getMetadata().put("userSelectedPlaces", selected);
+        return travelContext;
+    }
+}
@@ -0,0 +1,101 @@
+package com.compass.domain.chat.stage3.service;
+
+import com.compass.domain.chat.model.TravelPlace;
+import com.compass.domain.chat.stage3.dto.OptimizedRoute;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 하루 경로 배치 - 시간 창 배치(고정 일정 시각 + 영업시간)와 기존 구간별 탐욕 배치 비교
+// 위반 수 비교는 Stage3RouteOptimizationServiceTest, 실행 시간은 여기서 측정한다
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Stage3RouteOptimizationBenchmark {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 10, 16, 0, 0);
+    private static final int SCENARIOS = 50;
+
+    private Stage3RouteOptimizationService greedy;
+    private Stage3RouteOptimizationService timeWindowSolver;
+    private List<List<TravelPlace>> scenarios;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        greedy = new Stage3RouteOptimizationService();
+        ReflectionTestUtils.setField(greedy, "timeWindowSolverEnabled", false);
+        timeWindowSolver = new Stage3RouteOptimizationService();
+        ReflectionTestUtils.setField(timeWindowSolver, "timeWindowSolverEnabled", true);
+
+        Random random = new Random(7);
+        scenarios = new ArrayList<>(SCENARIOS);
+        for (int i = 0; i < SCENARIOS; i++) {
+            scenarios.add(scenario(random));
+        }
+    }
+
+    @Benchmark
+    public OptimizedRoute greedy() {
+        return greedy.optimize(nextScenario(), "자차", null);
+    }
+
+    @Benchmark
+    public OptimizedRoute timeWindowSolver() {
+        return timeWindowSolver.optimize(nextScenario(), "자차", null);
+    }
+
+    private List<TravelPlace> nextScenario() {
+        List<TravelPlace> scenario = scenarios.get(next);
+        next = (next + 1) % SCENARIOS;
+        return scenario;
+    }
+
+    // 10시/15시 고정 일정 2개 + 점심 영업 2곳, 낮 영업 1곳, 저녁 영업 2곳 (반경 약 2km, 순서는 섞음)
+    private static List<TravelPlace> scenario(Random random) {
+        List<TravelPlace> places = new ArrayList<>();
+        places.add(fixed("호텔 체크인 전 투어", random, DAY.withHour(10)));
+        places.add(fixed("공연 관람", random, DAY.withHour(15)));
+        places.add(flexible("점심 식당", random, "11:00~14:30"));
+        places.add(flexible("브런치 카페", random, "11:00~14:30"));
+        places.add(flexible("박물관", random, "09:00~18:00"));
+        places.add(flexible("야시장", random, "17:00~22:00"));
+        places.add(flexible("루프탑 바", random, "17:00~22:00"));
+        Collections.shuffle(places, random);
+        return places;
+    }
+
+    private static TravelPlace fixed(String name, Random random, LocalDateTime time) {
+        return TravelPlace.builder()
+            .placeId(name)
+            .name(name)
+            .latitude(37.55 + random.nextDouble() * 0.02)
+            .longitude(126.97 + random.nextDouble() * 0.02)
+            .isFixed(true)
+            .fixedTime(time)
+            .build();
+    }
+
+    private static TravelPlace flexible(String name, Random random, String businessHours) {
+        return TravelPlace.builder()
+            .placeId(name)
+            .name(name)
+            .latitude(37.55 + random.nextDouble() * 0.02)
+            .longitude(126.97 + random.nextDouble() * 0.02)
+            .isFixed(false)
+            .businessHours(businessHours)
+            .build();
+    }
+}
@@ -1,10 +1,14 @@
 package com.compass.config;
 
+import com.compass.domain.chat.orchestrator.cache.TwoTierContextCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -25,4 +29,28 @@ public class RedisConfig {
 
         return template;
     }
-}
\ No newline at end of file
+
+    // TravelContext 캐시 전용 - 값은 ContextCodec이 인코딩한 바이트를 그대로 저장
+    @Bean
+    public RedisTemplate<String, byte[]> contextRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setHashKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+
+        return template;
+    }
+
+    // 다른 노드가 보낸 Context L1 캐시 무효화 메시지 구독
+    @Bean
+    public RedisMessageListenerContainer contextInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, TwoTierContextCache contextCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(contextCache, new ChannelTopic(contextCache.getInvalidationChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,418 @@
+package com.compass.domain.chat.common.cluster;
+
+import com.compass.domain.chat.common.geo.GeoMath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 위경도 좌표용 K-means 공통 엔진 (K-means++ 초기화 + Haversine 거리)
+// 원시 배열만 사용해 반복 중 컬렉션을 만들지 않고, 같은 시드면 항상 같은 결과를 낸다
+// 좌표가 없는 항목은 호출자가 미리 걸러서 넘긴다
+public final class KMeansEngine {
+
+    public static final long DEFAULT_SEED = 42L;
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+    public static final double DEFAULT_CONVERGENCE_KM = 0.001;
+
+    private KMeansEngine() {
+    }
+
+    // 도 단위 좌표 배열을 k개로 클러스터링 (k가 점 개수보다 크면 점 개수로 줄인다, 빈 입력은 빈 결과)
+    public static Result cluster(double[] latitudes, double[] longitudes, int k, Options options) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도/경도 배열 길이가 다릅니다");
+        }
+        if (k <= 0) {
+            throw new IllegalArgumentException("클러스터 수는 1 이상이어야 합니다: k=" + k);
+        }
+        int n = latitudes.length;
+        int clusterCount = Math.min(k, n);
+        if (clusterCount == 0) {
+            return new Result(new int[0], new double[0], new double[0], 0.0, 0);
+        }
+
+        Points points = new Points(latitudes, longitudes);
+        if (options.restarts() <= 1) {
+            return run(points, clusterCount, options, options.seed());
+        }
+
+        // 멀티 스타트: 첫 시드는 호출 스레드에서, 나머지 시드는 전용 풀에서 실행하고 관성(inertia)이 가장 작은 결과 선택
+        // 시드 순서대로 비교해 동률이면 앞선 시드를 유지하므로 병렬 실행이어도 결과는 결정적이다
+        List<Future<Result>> others = new ArrayList<>(options.restarts() - 1);
+        for (int i = 1; i < options.restarts(); i++) {
+            long seed = options.seed() + i;
+            others.add(RestartPool.EXECUTOR.submit(() -> run(points, clusterCount, options, seed)));
+        }
+        Result best = run(points, clusterCount, options, options.seed());
+        for (Future<Result> other : others) {
+            Result result = await(other);
+            if (result.inertia() < best.inertia()) {
+                best = result;
+            }
+        }
+        return best;
+    }
+
+    public static Result cluster(double[] latitudes, double[] longitudes, int k) {
+        return cluster(latitudes, longitudes, k, Options.defaults());
+    }
+
+    private static Result await(Future<Result> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("K-means 실행이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("K-means 실행 실패", e.getCause());
+        }
+    }
+
+    private static Result run(Points points, int k, Options options, long seed) {
+        int n = points.size();
+        double[] centerLat = new double[k];
+        double[] centerLng = new double[k];
+        seedCenters(points, k, new Random(seed), centerLat, centerLng);
+
+        Centers centers = new Centers(k);
+        centers.update(centerLat, centerLng);
+
+        int[] assignments = new int[n];
+        Arrays.fill(assignments, -1);
+        double[] sumLat = new double[k];
+        double[] sumLng = new double[k];
+        int[] counts = new int[k];
+        Balancer balancer = options.balanced() ? new Balancer(n, k) : null;
+
+        int iterations = 0;
+        while (iterations < options.maxIterations()) {
+            boolean changed = balancer != null
+                ? balancer.assign(points, centers, assignments)
+                : assignNearest(points, centers, assignments);
+            iterations++;
+
+            // 새 중심점 계산 (빈 클러스터는 이전 중심점 유지)
+            Arrays.fill(sumLat, 0.0);
+            Arrays.fill(sumLng, 0.0);
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                int c = assignments[i];
+                sumLat[c] += points.lat[i];
+                sumLng[c] += points.lng[i];
+                counts[c]++;
+            }
+            double maxShift = 0.0;
+            for (int c = 0; c < k; c++) {
+                if (counts[c] == 0) {
+                    continue;
+                }
+                double newLat = sumLat[c] / counts[c];
+                double newLng = sumLng[c] / counts[c];
+                maxShift = Math.max(maxShift, GeoMath.haversineKm(centerLat[c], centerLng[c], newLat, newLng));
+                centerLat[c] = newLat;
+                centerLng[c] = newLng;
+            }
+            centers.update(centerLat, centerLng);
+
+            // 할당이 그대로이거나 중심점 이동이 임계값 이하이면 조기 종료
+            if (!changed || maxShift <= options.convergenceKm()) {
+                break;
+            }
+        }
+
+        double inertia = 0.0;
+        for (int i = 0; i < n; i++) {
+            double distance = points.distanceTo(i, centers, assignments[i]);
+            inertia += distance * distance;
+        }
+        return new Result(assignments, centerLat, centerLng, inertia, iterations);
+    }
+
+    // K-means++ 초기화: 가장 가까운 중심점까지 거리 제곱에 비례하는 확률로 다음 중심점 선택
+    private static void seedCenters(Points points, int k, Random random, double[] centerLat, double[] centerLng) {
+        int n = points.size();
+        int first = random.nextInt(n);
+        centerLat[0] = points.lat[first];
+        centerLng[0] = points.lng[first];
+
+        double[] minDistSq = new double[n];
+        Arrays.fill(minDistSq, Double.MAX_VALUE);
+        int last = first;
+        for (int c = 1; c < k; c++) {
+            double total = 0.0;
+            for (int i = 0; i < n; i++) {
+                double distance = points.distance(i, last);
+                minDistSq[i] = Math.min(minDistSq[i], distance * distance);
+                total += minDistSq[i];
+            }
+
+            int next = n - 1;
+            if (total > 0.0) {
+                double target = random.nextDouble() * total;
+                double cumulative = 0.0;
+                for (int i = 0; i < n; i++) {
+                    cumulative += minDistSq[i];
+                    if (cumulative >= target && minDistSq[i] > 0.0) {
+                        next = i;
+                        break;
+                    }
+                }
+            } else {
+                // 모든 점이 기존 중심점과 겹치는 경우
+                next = random.nextInt(n);
+            }
+            centerLat[c] = points.lat[next];
+            centerLng[c] = points.lng[next];
+            last = next;
+        }
+    }
+
+    // 각 점을 가장 가까운 중심점에 할당 (변경 여부 반환)
+    private static boolean assignNearest(Points points, Centers centers, int[] assignments) {
+        boolean changed = false;
+        for (int i = 0; i < points.size(); i++) {
+            int nearest = 0;
+            double best = Double.MAX_VALUE;
+            for (int c = 0; c < centers.size(); c++) {
+                double distance = points.distanceTo(i, centers, c);
+                if (distance < best) {
+                    best = distance;
+                    nearest = c;
+                }
+            }
+            if (assignments[i] != nearest) {
+                assignments[i] = nearest;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    // 멀티 스타트 전용 풀 - 요청 처리 중에 공용 ForkJoinPool(parallel stream, CompletableFuture 기본값)을 점유하지 않는다
+    // 스레드 수는 코어 수로, 대기 큐는 크기를 제한하고 가득 차면 호출 스레드가 직접 실행한다 (동시 요청이 몰려도 스레드가 늘지 않는다)
+    private static final class RestartPool {
+
+        private static final int THREADS = Math.max(1, Runtime.getRuntime().availableProcessors());
+        private static final int QUEUE_CAPACITY = THREADS * 8;
+        private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ThreadPoolExecutor createExecutor() {
+            AtomicInteger sequence = new AtomicInteger();
+            ThreadFactory threads = runnable -> {
+                Thread thread = new Thread(runnable, "kmeans-restart-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                THREADS, THREADS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                threads,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    // 클러스터 크기 차이가 최대 1이 되도록 하는 용량 제한 할당
+    // 1순위와 2순위 중심점 거리 차이(regret)가 큰 점부터 남은 용량이 있는 가장 가까운 중심점에 배정
+    // 탐욕 배정은 진동할 수 있으므로 배정 비용이 더 줄지 않으면 변경 없음으로 보고 종료시킨다
+    private static final class Balancer {
+
+        private final int k;
+        private final int baseCapacity;
+        private final int extraSlots;
+        private final double[] distances;
+        private final double[] regret;
+        private final Integer[] order;
+        private final int[] counts;
+        private double lastCost = Double.MAX_VALUE;
+
+        private Balancer(int n, int k) {
+            this.k = k;
+            this.baseCapacity = n / k;
+            this.extraSlots = n % k;
+            this.distances = new double[n * k];
+            this.regret = new double[n];
+            this.order = new Integer[n];
+            this.counts = new int[k];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+        }
+
+        private boolean assign(Points points, Centers centers, int[] assignments) {
+            int n = points.size();
+            for (int i = 0; i < n; i++) {
+                double best = Double.MAX_VALUE;
+                double second = Double.MAX_VALUE;
+                for (int c = 0; c < k; c++) {
+                    double distance = points.distanceTo(i, centers, c);
+                    distances[i * k + c] = distance;
+                    if (distance < best) {
+                        second = best;
+                        best = distance;
+                    } else if (distance < second) {
+                        second = distance;
+                    }
+                }
+                regret[i] = k > 1 ? second - best : 0.0;
+            }
+            Arrays.sort(order, (a, b) -> regret[a] != regret[b]
+                ? Double.compare(regret[b], regret[a])
+                : Integer.compare(a, b));
+
+            Arrays.fill(counts, 0);
+            int extraLeft = extraSlots;
+            boolean changed = false;
+            double cost = 0.0;
+            for (Integer boxed : order) {
+                int i = boxed;
+                int chosen = -1;
+                double best = Double.MAX_VALUE;
+                for (int c = 0; c < k; c++) {
+                    boolean full = counts[c] > baseCapacity || (counts[c] == baseCapacity && extraLeft == 0);
+                    if (!full && distances[i * k + c] < best) {
+                        best = distances[i * k + c];
+                        chosen = c;
+                    }
+                }
+                if (counts[chosen] == baseCapacity) {
+                    extraLeft--;
+                }
+                counts[chosen]++;
+                cost += best;
+                if (assignments[i] != chosen) {
+                    assignments[i] = chosen;
+                    changed = true;
+                }
+            }
+            boolean improved = cost < lastCost - 1e-9;
+            lastCost = Math.min(lastCost, cost);
+            return changed && improved;
+        }
+    }
+
+    // 입력 좌표 (도 단위 원본 + 라디안/cos 캐시)
+    private static final class Points {
+
+        private final double[] lat;
+        private final double[] lng;
+        private final double[] latRad;
+        private final double[] lngRad;
+        private final double[] cosLat;
+
+        private Points(double[] latitudes, double[] longitudes) {
+            int n = latitudes.length;
+            this.lat = latitudes.clone();
+            this.lng = longitudes.clone();
+            this.latRad = new double[n];
+            this.lngRad = new double[n];
+            this.cosLat = new double[n];
+            for (int i = 0; i < n; i++) {
+                if (Double.isNaN(lat[i]) || Double.isNaN(lng[i])) {
+                    throw new IllegalArgumentException("좌표가 없는 항목은 클러스터링할 수 없습니다: index=" + i);
+                }
+                latRad[i] = Math.toRadians(lat[i]);
+                lngRad[i] = Math.toRadians(lng[i]);
+                cosLat[i] = Math.cos(latRad[i]);
+            }
+        }
+
+        private int size() {
+            return lat.length;
+        }
+
+        private double distance(int i, int j) {
+            return GeoMath.haversineKmRad(latRad[i], lngRad[i], cosLat[i], latRad[j], lngRad[j], cosLat[j]);
+        }
+
+        private double distanceTo(int i, Centers centers, int c) {
+            return GeoMath.haversineKmRad(latRad[i], lngRad[i], cosLat[i],
+                centers.latRad[c], centers.lngRad[c], centers.cosLat[c]);
+        }
+    }
+
+    // 현재 중심점 (라디안/cos 캐시, 반복마다 값만 갱신)
+    private static final class Centers {
+
+        private final double[] latRad;
+        private final double[] lngRad;
+        private final double[] cosLat;
+
+        private Centers(int k) {
+            this.latRad = new double[k];
+            this.lngRad = new double[k];
+            this.cosLat = new double[k];
+        }
+
+        private int size() {
+            return latRad.length;
+        }
+
+        private void update(double[] latitudes, double[] longitudes) {
+            for (int c = 0; c < latRad.length; c++) {
+                latRad[c] = Math.toRadians(latitudes[c]);
+                lngRad[c] = Math.toRadians(longitudes[c]);
+                cosLat[c] = Math.cos(latRad[c]);
+            }
+        }
+    }
+
+    // 실행 옵션
+    public record Options(long seed, int maxIterations, double convergenceKm, boolean balanced, int restarts) {
+
+        public static Options defaults() {
+            return new Options(DEFAULT_SEED, DEFAULT_MAX_ITERATIONS, DEFAULT_CONVERGENCE_KM, false, 1);
+        }
+
+        public Options withSeed(long seed) {
+            return new Options(seed, maxIterations, convergenceKm, balanced, restarts);
+        }
+
+        // 클러스터 크기를 균등하게 (크기 차이 최대 1) - 일자별 균등 분배용
+        public Options withBalanced(boolean balanced) {
+            return new Options(seed, maxIterations, convergenceKm, balanced, restarts);
+        }
+
+        // 시드를 seed, seed+1, ... 로 바꿔가며 restarts번 실행
+        public Options withRestarts(int restarts) {
+            return new Options(seed, maxIterations, convergenceKm, balanced, restarts);
+        }
+    }
+
+    // 클러스터링 결과 (assignments[i]는 i번째 점의 클러스터 번호, 중심점은 도 단위)
+    public record Result(int[] assignments, double[] centroidLatitudes, double[] centroidLongitudes,
+                         double inertia, int iterations) {
+
+        public int k() {
+            return centroidLatitudes.length;
+        }
+
+        // 입력과 같은 순서의 items를 클러스터별 목록으로 분할 (빈 클러스터는 빈 목록)
+        public <T> List<List<T>> partition(List<T> items) {
+            if (items.size() != assignments.length) {
+                throw new IllegalArgumentException("입력 항목 수와 할당 수가 다릅니다");
+            }
+            List<List<T>> groups = new ArrayList<>(k());
+            for (int c = 0; c < k(); c++) {
+                groups.add(new ArrayList<>());
+            }
+            for (int i = 0; i < assignments.length; i++) {
+                groups.get(assignments[i]).add(items.get(i));
+            }
+            return groups;
+        }
+    }
+}
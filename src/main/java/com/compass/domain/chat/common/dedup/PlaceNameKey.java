@@ -0,0 +1,58 @@
+package com.compass.domain.chat.common.dedup;
+
+import java.util.regex.Pattern;
+
+// 장소명 정규화 키 - 중복 판단에 쓰는 정규화 이름(소문자, 공백 제거)과 핵심 이름을 한 번만 계산해 보관
+public record PlaceNameKey(String normalized, String core) {
+
+    private static final PlaceNameKey EMPTY = new PlaceNameKey("", "");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern SEOUL_TOWER = Pattern.compile(
+        "(n서울타워|남산서울타워|남산 서울타워|남산타워|남산 타워|n 서울타워)");
+    private static final Pattern LOTTE_WORLD = Pattern.compile(
+        "(롯데월드타워|롯데타워|롯데 타워|롯데월드어드벤처|롯데월드 어드벤처|롯데 월드)");
+    private static final Pattern NATIONAL_MUSEUM = Pattern.compile(
+        "(국립중앙박물관|국립 중앙 박물관|중앙박물관|중앙 박물관)");
+    private static final Pattern MODIFIERS = Pattern.compile(
+        "\\s*(야경|야간개장|전망대|플라자|어드벤처|야간|주간|특별|이벤트|입장|체험|관람|투어|방문)\\s*");
+
+    public static PlaceNameKey of(String name) {
+        if (name == null || name.isBlank()) {
+            return EMPTY;
+        }
+        return new PlaceNameKey(normalize(name), extractCore(name));
+    }
+
+    public boolean isEmpty() {
+        return normalized.isEmpty();
+    }
+
+    // 소문자 + 공백 제거
+    public static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        return WHITESPACE.matcher(name.toLowerCase()).replaceAll("");
+    }
+
+    // 장소명에서 핵심 이름만 추출 (변형 통일 → 수식어 제거 → 공백 제거)
+    public static String extractCore(String name) {
+        if (name == null) {
+            return "";
+        }
+
+        String cleaned = name.toLowerCase();
+
+        // 1단계: 변형들을 먼저 통일 (공백이 있는 상태에서)
+        cleaned = SEOUL_TOWER.matcher(cleaned).replaceAll("서울타워");
+        cleaned = LOTTE_WORLD.matcher(cleaned).replaceAll("롯데월드");
+        cleaned = NATIONAL_MUSEUM.matcher(cleaned).replaceAll("국립중앙박물관");
+
+        // 2단계: 수식어구 제거 (공백 포함 패턴)
+        cleaned = MODIFIERS.matcher(cleaned).replaceAll(" ");
+
+        // 3단계: 공백 제거
+        return WHITESPACE.matcher(cleaned).replaceAll("");
+    }
+}
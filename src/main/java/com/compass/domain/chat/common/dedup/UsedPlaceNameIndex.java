@@ -0,0 +1,79 @@
+package com.compass.domain.chat.common.dedup;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// 이미 사용된 장소명 인덱스 - 사용된 이름 전체와 쌍으로 비교하지 않고 해시 조회로 유사 장소를 판단한다
+// 유사 판단 기준: 정규화 이름 일치, 핵심 이름 일치, 또는 (둘 다 3자 이상인) 핵심 이름 간 포함 관계
+// 한 번의 일정 생성 요청 안에서만 사용하는 용도이므로 스레드 안전하지 않다
+public class UsedPlaceNameIndex {
+
+    private static final int MIN_CONTAINMENT_LENGTH = 3;
+
+    private final Set<String> normalizedNames = new HashSet<>();
+    private final Set<String> coreNames = new HashSet<>();
+    // 3자 이상 핵심 이름들의 모든 3자 이상 부분 문자열 ("사용된 이름이 후보를 포함" 판단용)
+    private final Set<String> coreSubstrings = new HashSet<>();
+
+    public void add(String name) {
+        add(PlaceNameKey.of(name));
+    }
+
+    public void add(PlaceNameKey key) {
+        if (key.isEmpty()) {
+            return;
+        }
+        normalizedNames.add(key.normalized());
+
+        String core = key.core();
+        if (core.isEmpty() || !coreNames.add(core) || core.length() < MIN_CONTAINMENT_LENGTH) {
+            return;
+        }
+        for (int start = 0; start <= core.length() - MIN_CONTAINMENT_LENGTH; start++) {
+            for (int end = start + MIN_CONTAINMENT_LENGTH; end <= core.length(); end++) {
+                coreSubstrings.add(core.substring(start, end));
+            }
+        }
+    }
+
+    // 정규화 이름이 정확히 일치하는 사용 이력이 있는지
+    public boolean containsNormalized(PlaceNameKey key) {
+        return !key.isEmpty() && normalizedNames.contains(key.normalized());
+    }
+
+    // 사용된 이름 중 유사한 장소가 있는지
+    public boolean containsSimilar(PlaceNameKey key) {
+        if (containsNormalized(key)) {
+            return true;
+        }
+
+        String core = key.core();
+        if (core.isEmpty()) {
+            return false;
+        }
+        if (coreNames.contains(core)) {
+            return true;
+        }
+        if (core.length() < MIN_CONTAINMENT_LENGTH) {
+            return false;
+        }
+
+        // 사용된 핵심 이름이 후보를 포함
+        if (coreSubstrings.contains(core)) {
+            return true;
+        }
+        // 후보가 사용된 핵심 이름(3자 이상)을 포함
+        for (int start = 0; start <= core.length() - MIN_CONTAINMENT_LENGTH; start++) {
+            for (int end = start + MIN_CONTAINMENT_LENGTH; end <= core.length(); end++) {
+                if (coreNames.contains(core.substring(start, end))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return normalizedNames.size();
+    }
+}
@@ -0,0 +1,50 @@
+package com.compass.domain.chat.common.geo;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 대칭 거리 행렬 (km, float[n*n] 행 우선) - 하루 일정 단위로 한 번 만들어 최적화 반복에서 재사용한다
+public final class DistanceMatrix {
+
+    private final int size;
+    private final float[] km;
+
+    private DistanceMatrix(int size, float[] km) {
+        this.size = size;
+        this.km = km;
+    }
+
+    public static DistanceMatrix of(GeoPoints points) {
+        int n = points.size();
+        float[] km = new float[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                float distance = (float) points.distanceKm(i, j);
+                km[i * n + j] = distance;
+                km[j * n + i] = distance;
+            }
+        }
+        return new DistanceMatrix(n, km);
+    }
+
+    public static <T> DistanceMatrix of(List<T> items, Function<T, Double> latitude, Function<T, Double> longitude) {
+        return of(GeoPoints.of(items, latitude, longitude));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public float get(int i, int j) {
+        return km[i * size + j];
+    }
+
+    // 방문 순서(order)대로 이동한 총 거리 (km)
+    public double pathLength(int[] order) {
+        double total = 0;
+        for (int i = 0; i < order.length - 1; i++) {
+            total += km[order[i] * size + order[i + 1]];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,38 @@
+package com.compass.domain.chat.common.geo;
+
+// 위경도 거리 계산 공통 커널 (Haversine) - 모든 거리 계산은 이 클래스를 거친다
+// 객체 할당이 없고, 라디안/cos(lat)을 미리 계산해 둔 호출자는 삼각함수를 두 번만 사용한다
+public final class GeoMath {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+    public static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180.0;
+
+    private GeoMath() {
+    }
+
+    // 두 지점 간 거리 (도 단위 입력, km)
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double lat1Rad = Math.toRadians(lat1);
+        double lat2Rad = Math.toRadians(lat2);
+        return haversineKmRad(lat1Rad, Math.toRadians(lng1), Math.cos(lat1Rad),
+            lat2Rad, Math.toRadians(lng2), Math.cos(lat2Rad));
+    }
+
+    // 두 지점 간 거리 (라디안 + 미리 계산한 cos(lat) 입력, km)
+    public static double haversineKmRad(double lat1Rad, double lng1Rad, double cosLat1,
+                                        double lat2Rad, double lng2Rad, double cosLat2) {
+        double sinDLat = Math.sin((lat2Rad - lat1Rad) / 2);
+        double sinDLng = Math.sin((lng2Rad - lng1Rad) / 2);
+        double a = sinDLat * sinDLat + cosLat1 * cosLat2 * sinDLng * sinDLng;
+        // 2·atan2(√a, √(1−a))와 동일
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.sqrt(Math.min(1.0, a)));
+    }
+
+    // 좌표 중 하나라도 없으면 0 (기존 서비스들의 null 처리 방식)
+    public static double haversineKmOrZero(Double lat1, Double lng1, Double lat2, Double lng2) {
+        if (lat1 == null || lng1 == null || lat2 == null || lng2 == null) {
+            return 0.0;
+        }
+        return haversineKm(lat1, lng1, lat2, lng2);
+    }
+}
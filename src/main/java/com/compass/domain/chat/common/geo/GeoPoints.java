@@ -0,0 +1,81 @@
+package com.compass.domain.chat.common.geo;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 좌표 배열 (라디안 변환과 cos(lat)을 한 번만 계산해 원시 배열로 보관)
+// 좌표가 없는 항목은 NaN으로 두고, 그 항목이 포함된 거리는 0으로 취급한다
+public final class GeoPoints {
+
+    private final double[] latRad;
+    private final double[] lngRad;
+    private final double[] cosLat;
+
+    private GeoPoints(double[] latRad, double[] lngRad, double[] cosLat) {
+        this.latRad = latRad;
+        this.lngRad = lngRad;
+        this.cosLat = cosLat;
+    }
+
+    public static <T> GeoPoints of(List<T> items, Function<T, Double> latitude, Function<T, Double> longitude) {
+        int n = items.size();
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            T item = items.get(i);
+            Double lat = item != null ? latitude.apply(item) : null;
+            Double lng = item != null ? longitude.apply(item) : null;
+            lats[i] = lat != null && lng != null ? lat : Double.NaN;
+            lngs[i] = lat != null && lng != null ? lng : Double.NaN;
+        }
+        return of(lats, lngs);
+    }
+
+    // 도 단위 좌표 배열로 생성
+    public static GeoPoints of(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("위도/경도 배열 길이가 다릅니다");
+        }
+        int n = latitudes.length;
+        double[] latRad = new double[n];
+        double[] lngRad = new double[n];
+        double[] cosLat = new double[n];
+        for (int i = 0; i < n; i++) {
+            latRad[i] = Math.toRadians(latitudes[i]);
+            lngRad[i] = Math.toRadians(longitudes[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+        return new GeoPoints(latRad, lngRad, cosLat);
+    }
+
+    public int size() {
+        return latRad.length;
+    }
+
+    public boolean hasCoordinates(int i) {
+        return !Double.isNaN(latRad[i]) && !Double.isNaN(lngRad[i]);
+    }
+
+    // i, j 간 거리 (km)
+    public double distanceKm(int i, int j) {
+        if (i == j || !hasCoordinates(i) || !hasCoordinates(j)) {
+            return 0.0;
+        }
+        return GeoMath.haversineKmRad(latRad[i], lngRad[i], cosLat[i], latRad[j], lngRad[j], cosLat[j]);
+    }
+
+    // i와 임의 좌표(도 단위) 간 거리 (km)
+    public double distanceKmTo(int i, double latitude, double longitude) {
+        if (!hasCoordinates(i) || Double.isNaN(latitude) || Double.isNaN(longitude)) {
+            return 0.0;
+        }
+        double targetLatRad = Math.toRadians(latitude);
+        return GeoMath.haversineKmRad(latRad[i], lngRad[i], cosLat[i],
+            targetLatRad, Math.toRadians(longitude), Math.cos(targetLatRad));
+    }
+
+    // 전체 쌍 거리 행렬 (대칭이므로 절반만 계산)
+    public DistanceMatrix distanceMatrix() {
+        return DistanceMatrix.of(this);
+    }
+}
@@ -0,0 +1,283 @@
+package com.compass.domain.chat.common.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// 좌표 기반 균일 격자(uniform grid) 공간 인덱스 - "점 (lat, lng)에서 R km 이내 가장 가까운 k개" 조회용
+// 생성 후에는 불변이므로 여러 요청이 동시에 조회해도 안전하다
+public final class SpatialGridIndex<T> {
+
+    private static final double EARTH_RADIUS_KM = GeoMath.EARTH_RADIUS_KM;
+    private static final double KM_PER_DEGREE = GeoMath.KM_PER_DEGREE;
+    private static final double DEFAULT_CELL_KM = 1.0;
+    private static final int MIN_CELL_BUDGET = 1024;
+    private static final int CELLS_PER_ITEM = 4;
+
+    private final List<T> items;
+    private final double[] latRad;
+    private final double[] lngRad;
+    private final double[] cosLat;
+
+    private final double minLat;
+    private final double minLng;
+    private final double cellLatDeg;
+    private final double cellLngDeg;
+    private final double cellKm;
+    private final int rows;
+    private final int cols;
+
+    // CSR 배치: cellStart[c] ~ cellStart[c + 1] 구간의 cellItems가 셀 c에 속한 항목 인덱스
+    private final int[] cellStart;
+    private final int[] cellItems;
+
+    private SpatialGridIndex(List<T> items, double[] lats, double[] lngs, double requestedCellKm) {
+        int n = items.size();
+        this.items = List.copyOf(items);
+        this.latRad = new double[n];
+        this.lngRad = new double[n];
+        this.cosLat = new double[n];
+
+        double minLatValue = Double.POSITIVE_INFINITY;
+        double maxLatValue = Double.NEGATIVE_INFINITY;
+        double minLngValue = Double.POSITIVE_INFINITY;
+        double maxLngValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            latRad[i] = Math.toRadians(lats[i]);
+            lngRad[i] = Math.toRadians(lngs[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+            minLatValue = Math.min(minLatValue, lats[i]);
+            maxLatValue = Math.max(maxLatValue, lats[i]);
+            minLngValue = Math.min(minLngValue, lngs[i]);
+            maxLngValue = Math.max(maxLngValue, lngs[i]);
+        }
+        if (n == 0) {
+            minLatValue = maxLatValue = minLngValue = maxLngValue = 0.0;
+        }
+        this.minLat = minLatValue;
+        this.minLng = minLngValue;
+
+        // 셀 크기(도)는 효율에만 영향을 주므로 데이터 중앙 위도 기준으로 근사
+        double refCos = Math.max(Math.cos(Math.toRadians((minLatValue + maxLatValue) / 2)), 0.01);
+        int cellBudget = Math.max(MIN_CELL_BUDGET, n * CELLS_PER_ITEM);
+        double cellSizeKm = requestedCellKm > 0 ? requestedCellKm : DEFAULT_CELL_KM;
+        int rowCount;
+        int colCount;
+        while (true) {
+            rowCount = (int) Math.floor((maxLatValue - minLatValue) / (cellSizeKm / KM_PER_DEGREE)) + 1;
+            colCount = (int) Math.floor((maxLngValue - minLngValue) / (cellSizeKm / (KM_PER_DEGREE * refCos))) + 1;
+            if ((long) rowCount * colCount <= cellBudget) {
+                break;
+            }
+            cellSizeKm *= 2;
+        }
+        this.cellKm = cellSizeKm;
+        this.cellLatDeg = cellSizeKm / KM_PER_DEGREE;
+        this.cellLngDeg = cellSizeKm / (KM_PER_DEGREE * refCos);
+        this.rows = rowCount;
+        this.cols = colCount;
+
+        // 카운팅 정렬로 셀별 항목 배치
+        int[] cellOf = new int[n];
+        this.cellStart = new int[rows * cols + 1];
+        for (int i = 0; i < n; i++) {
+            cellOf[i] = cellIndex(rowOf(lats[i]), colOf(lngs[i]));
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < rows * cols; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        this.cellItems = new int[n];
+        int[] cursor = new int[rows * cols];
+        for (int i = 0; i < n; i++) {
+            int c = cellOf[i];
+            cellItems[cellStart[c] + cursor[c]++] = i;
+        }
+    }
+
+    // 좌표가 없는(null) 항목은 제외하고 인덱스 생성
+    public static <T> SpatialGridIndex<T> build(Collection<T> source,
+                                                Function<T, Double> latitude,
+                                                Function<T, Double> longitude) {
+        return build(source, latitude, longitude, DEFAULT_CELL_KM);
+    }
+
+    public static <T> SpatialGridIndex<T> build(Collection<T> source,
+                                                Function<T, Double> latitude,
+                                                Function<T, Double> longitude,
+                                                double cellKm) {
+        List<T> accepted = new ArrayList<>(source.size());
+        double[] lats = new double[source.size()];
+        double[] lngs = new double[source.size()];
+        for (T item : source) {
+            Double lat = latitude.apply(item);
+            Double lng = longitude.apply(item);
+            if (lat == null || lng == null || lat.isNaN() || lng.isNaN()) {
+                continue;
+            }
+            lats[accepted.size()] = lat;
+            lngs[accepted.size()] = lng;
+            accepted.add(item);
+        }
+        return new SpatialGridIndex<>(accepted,
+            Arrays.copyOf(lats, accepted.size()),
+            Arrays.copyOf(lngs, accepted.size()),
+            cellKm);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    // 좌표가 있는 인덱스 대상 항목 전체
+    public List<T> items() {
+        return items;
+    }
+
+    // 반경 radiusKm 이내에서 filter를 통과한 항목 중 가까운 순 최대 k개 (동일 거리면 tieBreaker 순)
+    public List<Hit<T>> nearest(double lat, double lng, double radiusKm, int k,
+                                Predicate<? super T> filter, Comparator<? super T> tieBreaker) {
+        if (k <= 0 || items.isEmpty() || Double.isNaN(lat) || Double.isNaN(lng)) {
+            return List.of();
+        }
+
+        Comparator<Hit<T>> order = hitOrder(tieBreaker);
+        // 최대 힙(가장 먼 항목이 머리)으로 상위 k개만 유지
+        PriorityQueue<Hit<T>> heap = new PriorityQueue<>(k + 1, order.reversed());
+        visitWithinRadius(lat, lng, radiusKm, filter, hit -> {
+            if (heap.size() < k) {
+                heap.add(hit);
+            } else if (order.compare(hit, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(hit);
+            }
+        });
+
+        List<Hit<T>> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    public List<Hit<T>> nearest(double lat, double lng, double radiusKm, int k) {
+        return nearest(lat, lng, radiusKm, k, item -> true, null);
+    }
+
+    // 반경 제한 없이 가장 가까운 k개 - 반경을 두 배씩 넓혀가며 조회
+    public List<Hit<T>> nearest(double lat, double lng, int k, Predicate<? super T> filter) {
+        if (k <= 0 || items.isEmpty()) {
+            return List.of();
+        }
+        double maxSpanKm = Math.PI * EARTH_RADIUS_KM;
+        for (double radius = cellKm; radius < maxSpanKm; radius *= 2) {
+            List<Hit<T>> hits = nearest(lat, lng, radius, k, filter, null);
+            if (hits.size() >= k) {
+                return hits;
+            }
+        }
+        return nearest(lat, lng, Double.POSITIVE_INFINITY, k, filter, null);
+    }
+
+    // 반경 이내 모든 항목 (거리 오름차순)
+    public List<Hit<T>> withinRadius(double lat, double lng, double radiusKm, Predicate<? super T> filter) {
+        List<Hit<T>> hits = new ArrayList<>();
+        visitWithinRadius(lat, lng, radiusKm, filter, hits::add);
+        hits.sort(hitOrder(null));
+        return hits;
+    }
+
+    private void visitWithinRadius(double lat, double lng, double radiusKm,
+                                   Predicate<? super T> filter, Consumer<Hit<T>> sink) {
+        double qLat = Math.toRadians(lat);
+        double qLng = Math.toRadians(lng);
+        double qCos = Math.cos(qLat);
+
+        int rowFrom = 0;
+        int rowTo = rows - 1;
+        int colFrom = 0;
+        int colTo = cols - 1;
+
+        if (!Double.isInfinite(radiusKm)) {
+            // 정확한 경계 상자: 위도는 r/R, 경도는 asin(sin(r/R) / cos(lat))
+            double angular = radiusKm / EARTH_RADIUS_KM;
+            double dLatDeg = Math.toDegrees(angular);
+            rowFrom = Math.max(0, rowOf(lat - dLatDeg));
+            rowTo = Math.min(rows - 1, rowOf(lat + dLatDeg));
+
+            double maxLat = Math.toDegrees(qLat + angular);
+            double minLatQ = Math.toDegrees(qLat - angular);
+            if (maxLat < 90 && minLatQ > -90) {
+                double ratio = Math.sin(angular) / qCos;
+                if (ratio < 1.0) {
+                    double dLngDeg = Math.toDegrees(Math.asin(ratio));
+                    colFrom = Math.max(0, colOf(lng - dLngDeg));
+                    colTo = Math.min(cols - 1, colOf(lng + dLngDeg));
+                }
+            }
+            if (rowFrom > rowTo || colFrom > colTo) {
+                return;
+            }
+        }
+
+        long cellsInBox = (long) (rowTo - rowFrom + 1) * (colTo - colFrom + 1);
+        if (cellsInBox > items.size()) {
+            // 셀 순회가 전체 스캔보다 비싸면 선형 스캔
+            for (int i = 0; i < items.size(); i++) {
+                acceptIfWithin(i, qLat, qLng, qCos, radiusKm, filter, sink);
+            }
+            return;
+        }
+
+        for (int r = rowFrom; r <= rowTo; r++) {
+            for (int c = colFrom; c <= colTo; c++) {
+                int cell = cellIndex(r, c);
+                for (int p = cellStart[cell]; p < cellStart[cell + 1]; p++) {
+                    acceptIfWithin(cellItems[p], qLat, qLng, qCos, radiusKm, filter, sink);
+                }
+            }
+        }
+    }
+
+    private void acceptIfWithin(int i, double qLat, double qLng, double qCos, double radiusKm,
+                                Predicate<? super T> filter, Consumer<Hit<T>> sink) {
+        double distance = GeoMath.haversineKmRad(qLat, qLng, qCos, latRad[i], lngRad[i], cosLat[i]);
+        if (distance <= radiusKm) {
+            T item = items.get(i);
+            if (filter == null || filter.test(item)) {
+                sink.accept(new Hit<>(item, distance));
+            }
+        }
+    }
+
+    private Comparator<Hit<T>> hitOrder(Comparator<? super T> tieBreaker) {
+        Comparator<Hit<T>> byDistance = Comparator.comparingDouble(hit -> hit.distanceKm());
+        if (tieBreaker == null) {
+            return byDistance;
+        }
+        return byDistance.thenComparing((a, b) -> tieBreaker.compare(a.item(), b.item()));
+    }
+
+    private int rowOf(double lat) {
+        return clamp((int) Math.floor((lat - minLat) / cellLatDeg), rows);
+    }
+
+    private int colOf(double lng) {
+        return clamp((int) Math.floor((lng - minLng) / cellLngDeg), cols);
+    }
+
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    private int cellIndex(int row, int col) {
+        return row * cols + col;
+    }
+
+    // 조회 결과 (항목 + 조회 지점으로부터의 거리 km)
+    public record Hit<T>(T item, double distanceKm) {}
+}
@@ -0,0 +1,105 @@
+package com.compass.domain.chat.common.route;
+
+import java.time.DayOfWeek;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// TravelCandidate.businessHours 문자열을 요일별 시간 창으로 변환
+// Google weekday_text("월요일: 오전 9:00~오후 6:00 | ...")와 TourAPI 이용시간("09:00~18:00") 형식을 지원한다
+// 브레이크 타임처럼 구간이 여러 개면 첫 시작 ~ 마지막 종료를 하나의 창으로 본다
+public final class BusinessHours {
+
+    private static final String TIME = "(?:(오전|오후|AM|PM)\\s*)?(\\d{1,2}):(\\d{2})(?:\\s*(AM|PM))?";
+    private static final Pattern RANGE = Pattern.compile(TIME + "\\s*[~\\-–〜]\\s*" + TIME, Pattern.CASE_INSENSITIVE);
+    private static final Pattern ALL_DAY = Pattern.compile("24\\s*시간|open 24 hours", Pattern.CASE_INSENSITIVE);
+    private static final Pattern CLOSED = Pattern.compile("휴무|휴일|closed", Pattern.CASE_INSENSITIVE);
+
+    private static final Map<DayOfWeek, String[]> DAY_NAMES = Map.of(
+        DayOfWeek.MONDAY, new String[]{"월요일", "monday"},
+        DayOfWeek.TUESDAY, new String[]{"화요일", "tuesday"},
+        DayOfWeek.WEDNESDAY, new String[]{"수요일", "wednesday"},
+        DayOfWeek.THURSDAY, new String[]{"목요일", "thursday"},
+        DayOfWeek.FRIDAY, new String[]{"금요일", "friday"},
+        DayOfWeek.SATURDAY, new String[]{"토요일", "saturday"},
+        DayOfWeek.SUNDAY, new String[]{"일요일", "sunday"}
+    );
+
+    private BusinessHours() {
+    }
+
+    // 해당 요일의 영업 시간 창 (정보가 없거나 해석할 수 없으면 null)
+    public static TimeWindow windowOn(String businessHours, DayOfWeek day) {
+        if (businessHours == null || businessHours.isBlank()) {
+            return null;
+        }
+        String text = dayEntry(businessHours, day);
+        if (text == null) {
+            return null;
+        }
+
+        Matcher matcher = RANGE.matcher(text);
+        int open = Integer.MAX_VALUE;
+        int close = Integer.MIN_VALUE;
+        while (matcher.find()) {
+            String openMeridiem = meridiem(matcher.group(1), matcher.group(4));
+            String closeMeridiem = meridiem(matcher.group(5), matcher.group(8));
+            int start = toMinutes(openMeridiem, matcher.group(2), matcher.group(3));
+            int end = toMinutes(closeMeridiem != null ? closeMeridiem : openMeridiem, matcher.group(6), matcher.group(7));
+            if (end <= start) {
+                // 자정을 넘기는 영업은 그날 자정까지로 본다
+                end = TimeWindow.MINUTES_PER_DAY;
+            }
+            open = Math.min(open, start);
+            close = Math.max(close, end);
+        }
+        if (open != Integer.MAX_VALUE) {
+            return new TimeWindow(open, Math.min(close, TimeWindow.MINUTES_PER_DAY));
+        }
+        if (ALL_DAY.matcher(text).find()) {
+            return TimeWindow.ALL_DAY;
+        }
+        if (CLOSED.matcher(text).find()) {
+            return TimeWindow.CLOSED;
+        }
+        return null;
+    }
+
+    // 요일별 항목이 있으면 해당 요일 부분만, 요일 구분이 없으면 전체 문자열
+    private static String dayEntry(String businessHours, DayOfWeek day) {
+        String lower = businessHours.toLowerCase();
+        boolean hasDayNames = DAY_NAMES.values().stream()
+            .anyMatch(names -> lower.contains(names[0]) || lower.contains(names[1]));
+        if (!hasDayNames) {
+            return businessHours;
+        }
+        for (String entry : businessHours.split("\\|")) {
+            String entryLower = entry.trim().toLowerCase();
+            for (String name : DAY_NAMES.get(day)) {
+                if (entryLower.startsWith(name)) {
+                    return entry.substring(entry.indexOf(':') + 1);
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String meridiem(String prefix, String suffix) {
+        String value = prefix != null ? prefix : suffix;
+        if (value == null) {
+            return null;
+        }
+        return value.equals("오후") || value.equalsIgnoreCase("PM") ? "PM" : "AM";
+    }
+
+    private static int toMinutes(String meridiem, String hourText, String minuteText) {
+        int hour = Integer.parseInt(hourText);
+        int minute = Integer.parseInt(minuteText);
+        if ("PM".equals(meridiem) && hour < 12) {
+            hour += 12;
+        } else if ("AM".equals(meridiem) && hour == 12) {
+            hour = 0;
+        }
+        return Math.min(hour * 60 + minute, TimeWindow.MINUTES_PER_DAY);
+    }
+}
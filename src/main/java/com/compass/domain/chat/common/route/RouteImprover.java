@@ -0,0 +1,323 @@
+package com.compass.domain.chat.common.route;
+
+import com.compass.domain.chat.common.geo.DistanceMatrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleBiFunction;
+
+// 열린 경로(출발점 고정) 개선 엔진 - 2-opt + Or-opt 지역 탐색
+// 방문 순서를 int 배열로 다루고 구간 뒤집기/이동을 배열 안에서 처리해 개선마다 리스트를 새로 만들지 않는다
+// 각 지점의 k-최근접 이웃만 후보로 보고(don't-look bit로 개선 여지가 없는 지점은 건너뜀) 시간 예산 안에서 멈춘다
+public final class RouteImprover {
+
+    public static final int DEFAULT_NEIGHBORS = 8;
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 20;
+    private static final int MAX_SEGMENT_LENGTH = 3;
+    private static final double EPSILON = 1e-9;
+
+    private RouteImprover() {
+    }
+
+    // from → to 이동 비용 (노드 번호 기준)
+    @FunctionalInterface
+    public interface ArcCost {
+        double cost(int from, int to);
+    }
+
+    // 거리 행렬 인덱스로 된 방문 순서 개선
+    public static int[] improve(DistanceMatrix matrix, int[] order, Options options) {
+        return improve(matrix::get, true, order, options);
+    }
+
+    // 임의 비용 함수로 방문 순서 개선 (비대칭 비용이면 symmetric=false - 뒤집힌 구간 내부 비용까지 반영)
+    public static int[] improve(ArcCost cost, boolean symmetric, int[] order, Options options) {
+        if (order.length < 3) {
+            return order.clone();
+        }
+        return new Search(cost, symmetric, order, options).run();
+    }
+
+    // 객체 목록을 그대로 개선 (목록 순서가 초기 경로)
+    public static <T> List<T> improve(List<T> route, ToDoubleBiFunction<? super T, ? super T> cost,
+                                      boolean symmetric, Options options) {
+        if (route.size() < 3) {
+            return new ArrayList<>(route);
+        }
+        int[] order = new int[route.size()];
+        Arrays.setAll(order, i -> i);
+        int[] improved = improve((from, to) -> cost.applyAsDouble(route.get(from), route.get(to)),
+            symmetric, order, options);
+
+        List<T> result = new ArrayList<>(improved.length);
+        for (int index : improved) {
+            result.add(route.get(index));
+        }
+        return result;
+    }
+
+    // 한 번의 탐색 상태 (경로 위치 인덱스 기준으로 노드를 다시 번호 매겨 중복 노드도 허용)
+    private static final class Search {
+
+        private final int[] nodes;
+        private final double[] d;
+        private final boolean symmetric;
+        private final int m;
+        private final int lo;
+        private final int hi;
+        private final int[][] neighbors;
+        private final long deadline;
+
+        private final int[] route;
+        private final int[] pos;
+        private final int[] queue;
+        private final boolean[] queued;
+        private int head;
+        private int size;
+
+        private Search(ArcCost cost, boolean symmetric, int[] order, Options options) {
+            this.nodes = order.clone();
+            this.m = order.length;
+            this.symmetric = symmetric;
+            this.lo = options.fixStart() ? 1 : 0;
+            this.hi = options.fixEnd() ? m - 2 : m - 1;
+            this.deadline = System.nanoTime() + options.timeBudgetMillis() * 1_000_000L;
+
+            this.d = new double[m * m];
+            for (int u = 0; u < m; u++) {
+                for (int v = 0; v < m; v++) {
+                    d[u * m + v] = u == v ? 0.0 : cost.cost(nodes[u], nodes[v]);
+                }
+            }
+            this.neighbors = buildNeighbors(Math.max(1, Math.min(options.neighbors(), m - 1)));
+
+            this.route = new int[m];
+            this.pos = new int[m];
+            for (int p = 0; p < m; p++) {
+                route[p] = p;
+                pos[p] = p;
+            }
+            this.queue = new int[m];
+            this.queued = new boolean[m];
+            for (int p = 0; p < m; p++) {
+                push(p);
+            }
+        }
+
+        private int[][] buildNeighbors(int k) {
+            int[][] result = new int[m][];
+            Integer[] candidates = new Integer[m];
+            for (int u = 0; u < m; u++) {
+                for (int v = 0; v < m; v++) {
+                    candidates[v] = v;
+                }
+                int from = u;
+                Arrays.sort(candidates, (a, b) -> Double.compare(
+                    Math.min(d[from * m + a], d[a * m + from]),
+                    Math.min(d[from * m + b], d[b * m + from])));
+                result[u] = new int[k];
+                int filled = 0;
+                for (int i = 0; i < m && filled < k; i++) {
+                    if (candidates[i] != u) {
+                        result[u][filled++] = candidates[i];
+                    }
+                }
+            }
+            return result;
+        }
+
+        private int[] run() {
+            while (size > 0 && System.nanoTime() < deadline) {
+                int a = pop();
+                if (!improveTwoOpt(a)) {
+                    improveOrOpt(a);
+                }
+            }
+
+            int[] result = new int[m];
+            for (int p = 0; p < m; p++) {
+                result[p] = nodes[route[p]];
+            }
+            return result;
+        }
+
+        // a와 이웃 b가 이웃하도록 만드는 두 가지 구간 뒤집기 중 개선되는 첫 번째를 적용
+        private boolean improveTwoOpt(int a) {
+            for (int b : neighbors[a]) {
+                int p = Math.min(pos[a], pos[b]);
+                int q = Math.max(pos[a], pos[b]);
+                if (tryReverse(p + 1, q) || tryReverse(p, q - 1)) {
+                    push(a);
+                    push(b);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean tryReverse(int s, int e) {
+            if (s >= e || s < lo || e > hi) {
+                return false;
+            }
+            double delta = arc(s - 1, route[e]) + arcFrom(route[s], e + 1)
+                - arc(s - 1, route[s]) - arcFrom(route[e], e + 1)
+                + reversalDelta(s, e);
+            if (delta >= -EPSILON) {
+                return false;
+            }
+            pushBoundary(s - 1, e + 1);
+            reverse(s, e);
+            return true;
+        }
+
+        // a에서 시작하는 길이 1~3 구간을 이웃 b 앞뒤 빈자리로 옮기기 (정방향/역방향)
+        private boolean improveOrOpt(int a) {
+            int i = pos[a];
+            for (int length = 1; length <= MAX_SEGMENT_LENGTH; length++) {
+                int last = i + length - 1;
+                if (i < lo || last > hi) {
+                    break;
+                }
+                for (int b : neighbors[a]) {
+                    int j = pos[b];
+                    if (j >= i && j <= last) {
+                        continue;
+                    }
+                    if (tryMove(i, length, j) || tryMove(i, length, j - 1)) {
+                        push(a);
+                        push(b);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        // 구간 [i, i+length-1]을 위치 gap과 gap+1 사이로 이동
+        private boolean tryMove(int i, int length, int gap) {
+            int last = i + length - 1;
+            if (gap >= i - 1 && gap <= last) {
+                return false;
+            }
+            if (gap < i ? gap + 1 < lo : gap > hi) {
+                return false;
+            }
+
+            int first = route[i];
+            int tail = route[last];
+            double removed = arc(i - 1, first) + arcFrom(tail, last + 1) - between(i - 1, last + 1);
+            double gapCost = between(gap, gap + 1);
+            double forward = arc(gap, first) + arcFrom(tail, gap + 1) - gapCost;
+            double reversed = arc(gap, tail) + arcFrom(first, gap + 1) - gapCost + reversalDelta(i, last);
+
+            boolean reverseSegment = reversed < forward;
+            if (Math.min(forward, reversed) - removed >= -EPSILON) {
+                return false;
+            }
+
+            pushBoundary(i - 1, last + 1);
+            pushBoundary(gap, gap + 1);
+            int newStart;
+            if (gap > last) {
+                swapBlocks(i, last, gap);
+                newStart = gap - length + 1;
+            } else {
+                swapBlocks(gap + 1, i - 1, last);
+                newStart = gap + 1;
+            }
+            if (reverseSegment) {
+                reverse(newStart, newStart + length - 1);
+            }
+            return true;
+        }
+
+        // 인접한 두 블록 [s, mid] [mid+1, e]의 순서를 맞바꿈 (세 번 뒤집기)
+        private void swapBlocks(int s, int mid, int e) {
+            reverse(s, mid);
+            reverse(mid + 1, e);
+            reverse(s, e);
+        }
+
+        private void reverse(int s, int e) {
+            while (s < e) {
+                int tmp = route[s];
+                route[s] = route[e];
+                route[e] = tmp;
+                pos[route[s]] = s;
+                pos[route[e]] = e;
+                s++;
+                e--;
+            }
+        }
+
+        // 비대칭 비용일 때 구간 [s, e]를 뒤집으면 달라지는 내부 비용
+        private double reversalDelta(int s, int e) {
+            if (symmetric) {
+                return 0.0;
+            }
+            double delta = 0.0;
+            for (int p = s; p < e; p++) {
+                delta += d[route[p + 1] * m + route[p]] - d[route[p] * m + route[p + 1]];
+            }
+            return delta;
+        }
+
+        // 위치 p의 노드 → v (p가 경로 밖이면 0)
+        private double arc(int p, int v) {
+            return p < 0 || p >= m ? 0.0 : d[route[p] * m + v];
+        }
+
+        // u → 위치 p의 노드 (p가 경로 밖이면 0)
+        private double arcFrom(int u, int p) {
+            return p < 0 || p >= m ? 0.0 : d[u * m + route[p]];
+        }
+
+        // 위치 p → 위치 q (어느 한쪽이 경로 밖이면 0)
+        private double between(int p, int q) {
+            return p < 0 || p >= m || q < 0 || q >= m ? 0.0 : d[route[p] * m + route[q]];
+        }
+
+        private void pushBoundary(int p, int q) {
+            if (p >= 0 && p < m) {
+                push(route[p]);
+            }
+            if (q >= 0 && q < m) {
+                push(route[q]);
+            }
+        }
+
+        private void push(int node) {
+            if (!queued[node]) {
+                queued[node] = true;
+                queue[(head + size) % m] = node;
+                size++;
+            }
+        }
+
+        private int pop() {
+            int node = queue[head];
+            head = (head + 1) % m;
+            size--;
+            queued[node] = false;
+            return node;
+        }
+    }
+
+    // 실행 옵션 (fixStart: 첫 지점 고정, fixEnd: 마지막 지점 고정)
+    public record Options(boolean fixStart, boolean fixEnd, int neighbors, long timeBudgetMillis) {
+
+        // 출발점만 고정된 열린 경로
+        public static Options openPath() {
+            return new Options(true, false, DEFAULT_NEIGHBORS, DEFAULT_TIME_BUDGET_MILLIS);
+        }
+
+        public Options withFixedEnd(boolean fixEnd) {
+            return new Options(fixStart, fixEnd, neighbors, timeBudgetMillis);
+        }
+
+        public Options withTimeBudgetMillis(long timeBudgetMillis) {
+            return new Options(fixStart, fixEnd, neighbors, timeBudgetMillis);
+        }
+    }
+}
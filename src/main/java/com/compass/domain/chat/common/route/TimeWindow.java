@@ -0,0 +1,13 @@
+package com.compass.domain.chat.common.route;
+
+// 하루 중 방문 가능 시간 창 (자정 기준 분, [openMinute, closeMinute])
+public record TimeWindow(int openMinute, int closeMinute) {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final TimeWindow ALL_DAY = new TimeWindow(0, MINUTES_PER_DAY);
+    public static final TimeWindow CLOSED = new TimeWindow(0, 0);
+
+    public boolean isClosed() {
+        return closeMinute <= openMinute;
+    }
+}
@@ -0,0 +1,363 @@
+package com.compass.domain.chat.common.route;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 시간 제약 경로 솔버 (차량 1대짜리 VRPTW)
+// 고정 일정(앵커)은 정해진 시각에 방문하고, 자유 일정은 영업시간 창을 지키며 앵커 사이 빈 시간에 끼워 넣는다
+// 후회 기반 삽입 → 못 넣은 일정은 이미 넣은 일정 하나를 밀어내 자리 교환 → 재배치/구간 뒤집기 지역 탐색 순으로 진행
+public final class TimeWindowRouteSolver {
+
+    private static final int MAX_IMPROVEMENT_ROUNDS = 50;
+    private static final int INFEASIBLE = -1;
+
+    // from → to 이동 시간 (분, 노드 번호 기준)
+    @FunctionalInterface
+    public interface TravelTime {
+        int minutes(int from, int to);
+    }
+
+    // 고정 일정: node를 time(자정 기준 분)에 시작해 serviceMinutes 동안 머문다
+    public record Anchor(int node, int time, int serviceMinutes) {}
+
+    // 자유 일정: window 안에서 serviceMinutes 동안 머물러야 한다 (목록 순서가 우선순위)
+    public record Stop(int node, TimeWindow window, int serviceMinutes) {}
+
+    // anchors는 시각 순, 자유 일정은 dayStart ~ dayEnd 안에서만 배치
+    public record Problem(TravelTime travelTime, List<Anchor> anchors, List<Stop> stops, int dayStart, int dayEnd) {}
+
+    public record ScheduledStop(int node, boolean fixed, int arrival, int start, int departure) {}
+
+    // 앵커 사이 구간의 여유 시간 (fromNode/toNode가 -1이면 하루 시작/끝)
+    public record SegmentSlack(int fromNode, int toNode, int slackMinutes) {}
+
+    // unscheduled: 어느 빈 시간에도 넣을 수 없었던 자유 일정 (stops 인덱스)
+    public record Result(List<ScheduledStop> route, List<SegmentSlack> slacks, List<Integer> unscheduled,
+                         int travelMinutes) {}
+
+    private TimeWindowRouteSolver() {
+    }
+
+    public static Result solve(Problem problem) {
+        return new Search(problem).run();
+    }
+
+    // 경로는 항목 번호 배열 - 0 ~ anchorCount-1은 앵커, 그 이후는 자유 일정
+    private static final class Search {
+
+        private final TravelTime travelTime;
+        private final List<Anchor> anchors;
+        private final List<Stop> stops;
+        private final int anchorCount;
+        private final int dayStart;
+        private final int[] anchorDeadline;
+        private final int endDeadline;
+
+        private final int[] route;
+        private int length;
+        private int travel;
+        private final boolean[] scheduled;
+
+        private Search(Problem problem) {
+            this.travelTime = problem.travelTime();
+            this.anchors = problem.anchors();
+            this.stops = problem.stops();
+            this.anchorCount = anchors.size();
+            this.dayStart = problem.dayStart();
+            this.route = new int[anchorCount + stops.size()];
+            this.scheduled = new boolean[stops.size()];
+
+            for (int k = 0; k < anchorCount; k++) {
+                route[length++] = k;
+            }
+
+            // 앵커끼리만으로도 늦는 경우 그 지각은 허용 (자유 일정 삽입으로 더 늦어지지만 않으면 된다)
+            this.anchorDeadline = new int[anchorCount];
+            for (int k = 0; k < anchorCount; k++) {
+                anchorDeadline[k] = Integer.MAX_VALUE;
+            }
+            int[] arrival = new int[route.length];
+            int[] departure = new int[route.length];
+            schedule(route, length, arrival, departure);
+            for (int k = 0; k < anchorCount; k++) {
+                anchorDeadline[k] = Math.max(anchors.get(k).time(), arrival[k]);
+            }
+            this.endDeadline = Math.max(problem.dayEnd(), length > 0 ? departure[length - 1] : 0);
+            this.travel = schedule(route, length, arrival, departure);
+        }
+
+        private Result run() {
+            insertAll();
+            repairUnscheduled();
+            for (int round = 0; round < MAX_IMPROVEMENT_ROUNDS; round++) {
+                boolean improved = relocate() | reverseRuns();
+                if (!improved) {
+                    break;
+                }
+                insertAll();
+            }
+            return toResult();
+        }
+
+        // 후회(regret) 기반 삽입 - 최선/차선 위치의 이동 시간 차이가 큰(넣을 곳이 적은) 자유 일정부터 하나씩 삽입
+        // 같은 후회값이면 이동 시간 증가가 작은 쪽, 그다음은 목록 순서(우선순위)
+        private void insertAll() {
+            int[] trial = new int[route.length];
+            while (true) {
+                int bestStop = -1;
+                int bestPosition = -1;
+                int bestTravel = Integer.MAX_VALUE;
+                long bestRegret = -1;
+                for (int s = 0; s < stops.size(); s++) {
+                    if (scheduled[s] || stops.get(s).window().isClosed()) {
+                        continue;
+                    }
+                    int first = Integer.MAX_VALUE;
+                    int second = Integer.MAX_VALUE;
+                    int firstPosition = -1;
+                    for (int p = 0; p <= length; p++) {
+                        insertInto(trial, p, anchorCount + s);
+                        int cost = schedule(trial, length + 1, null, null);
+                        if (cost == INFEASIBLE) {
+                            continue;
+                        }
+                        if (cost < first) {
+                            second = first;
+                            first = cost;
+                            firstPosition = p;
+                        } else if (cost < second) {
+                            second = cost;
+                        }
+                    }
+                    if (firstPosition < 0) {
+                        continue;
+                    }
+                    long regret = second == Integer.MAX_VALUE ? Integer.MAX_VALUE : (long) second - first;
+                    if (regret > bestRegret || (regret == bestRegret && first < bestTravel)) {
+                        bestRegret = regret;
+                        bestTravel = first;
+                        bestStop = s;
+                        bestPosition = firstPosition;
+                    }
+                }
+                if (bestStop < 0) {
+                    return;
+                }
+                insertInto(trial, bestPosition, anchorCount + bestStop);
+                System.arraycopy(trial, 0, route, 0, length + 1);
+                length++;
+                travel = bestTravel;
+                scheduled[bestStop] = true;
+            }
+        }
+
+        // 못 넣은 자유 일정마다 이미 배치된 자유 일정 하나를 빼고 그 자리에 넣은 뒤, 뺀 일정을 다른 곳에 다시 넣어본다
+        // (하루 종일 여는 곳이 점심 영업만 하는 곳의 유일한 빈 시간을 먼저 차지한 경우를 풀어준다)
+        private void repairUnscheduled() {
+            int[] without = new int[route.length];
+            int[] saved = new int[route.length];
+            for (int s = 0; s < stops.size(); s++) {
+                if (scheduled[s] || stops.get(s).window().isClosed()) {
+                    continue;
+                }
+                System.arraycopy(route, 0, saved, 0, length);
+                int savedLength = length;
+                int savedTravel = travel;
+                for (int p = 0; p < savedLength && !scheduled[s]; p++) {
+                    int ejected = saved[p];
+                    if (ejected < anchorCount) {
+                        continue;
+                    }
+                    System.arraycopy(saved, 0, without, 0, p);
+                    System.arraycopy(saved, p + 1, without, p, savedLength - p - 1);
+                    System.arraycopy(without, 0, route, 0, savedLength - 1);
+                    length = savedLength - 1;
+                    if (insertBest(anchorCount + s) && insertBest(ejected)) {
+                        scheduled[s] = true;
+                    } else {
+                        System.arraycopy(saved, 0, route, 0, savedLength);
+                        length = savedLength;
+                        travel = savedTravel;
+                    }
+                }
+            }
+        }
+
+        // item을 이동 시간 증가가 가장 작은 가능한 위치에 삽입 (넣을 곳이 없으면 false)
+        private boolean insertBest(int item) {
+            int[] trial = new int[route.length];
+            int bestPosition = -1;
+            int bestTravel = Integer.MAX_VALUE;
+            for (int p = 0; p <= length; p++) {
+                insertInto(trial, p, item);
+                int cost = schedule(trial, length + 1, null, null);
+                if (cost != INFEASIBLE && cost < bestTravel) {
+                    bestTravel = cost;
+                    bestPosition = p;
+                }
+            }
+            if (bestPosition < 0) {
+                return false;
+            }
+            insertInto(trial, bestPosition, item);
+            System.arraycopy(trial, 0, route, 0, length + 1);
+            length++;
+            travel = bestTravel;
+            return true;
+        }
+
+        // 자유 일정 하나를 빼서 이동 시간이 가장 줄어드는 다른 위치로 옮기기
+        private boolean relocate() {
+            boolean improved = false;
+            int[] without = new int[route.length];
+            int[] trial = new int[route.length];
+            for (int p = 0; p < length; p++) {
+                int item = route[p];
+                if (item < anchorCount) {
+                    continue;
+                }
+                System.arraycopy(route, 0, without, 0, p);
+                System.arraycopy(route, p + 1, without, p, length - p - 1);
+
+                int bestPosition = -1;
+                int bestTravel = travel;
+                for (int q = 0; q < length; q++) {
+                    if (q == p) {
+                        continue;
+                    }
+                    System.arraycopy(without, 0, trial, 0, q);
+                    trial[q] = item;
+                    System.arraycopy(without, q, trial, q + 1, length - 1 - q);
+                    int cost = schedule(trial, length, null, null);
+                    if (cost != INFEASIBLE && cost < bestTravel) {
+                        bestTravel = cost;
+                        bestPosition = q;
+                    }
+                }
+                if (bestPosition >= 0) {
+                    System.arraycopy(without, 0, route, 0, bestPosition);
+                    route[bestPosition] = item;
+                    System.arraycopy(without, bestPosition, route, bestPosition + 1, length - 1 - bestPosition);
+                    travel = bestTravel;
+                    improved = true;
+                }
+            }
+            return improved;
+        }
+
+        // 앵커 사이 자유 일정 구간 안에서 2-opt 뒤집기
+        private boolean reverseRuns() {
+            boolean improved = false;
+            for (int i = 0; i < length; i++) {
+                if (route[i] < anchorCount) {
+                    continue;
+                }
+                for (int j = i + 1; j < length && route[j] >= anchorCount; j++) {
+                    reverse(route, i, j);
+                    int cost = schedule(route, length, null, null);
+                    if (cost != INFEASIBLE && cost < travel) {
+                        travel = cost;
+                        improved = true;
+                    } else {
+                        reverse(route, i, j);
+                    }
+                }
+            }
+            return improved;
+        }
+
+        // 도착/출발 시각을 앞에서부터 전파하며 총 이동 시간 계산 (제약 위반이면 INFEASIBLE)
+        private int schedule(int[] sequence, int size, int[] arrival, int[] departure) {
+            int time = dayStart;
+            int previousNode = -1;
+            int total = 0;
+            for (int p = 0; p < size; p++) {
+                int item = sequence[p];
+                boolean anchor = item < anchorCount;
+                int node = anchor ? anchors.get(item).node() : stops.get(item - anchorCount).node();
+
+                int move = previousNode < 0 ? 0 : travelTime.minutes(previousNode, node);
+                total += move;
+                int arrive;
+                int begin;
+                int service;
+                if (anchor) {
+                    Anchor fixed = anchors.get(item);
+                    arrive = previousNode < 0 ? fixed.time() : time + move;
+                    if (arrive > anchorDeadline[item]) {
+                        return INFEASIBLE;
+                    }
+                    begin = Math.max(arrive, fixed.time());
+                    service = fixed.serviceMinutes();
+                } else {
+                    Stop stop = stops.get(item - anchorCount);
+                    arrive = time + move;
+                    begin = Math.max(arrive, stop.window().openMinute());
+                    service = stop.serviceMinutes();
+                    if (begin + service > stop.window().closeMinute() || begin + service > endDeadline) {
+                        return INFEASIBLE;
+                    }
+                }
+                time = begin + service;
+                if (arrival != null) {
+                    arrival[p] = arrive;
+                    departure[p] = time;
+                }
+                previousNode = node;
+            }
+            return total;
+        }
+
+        private void insertInto(int[] target, int position, int item) {
+            System.arraycopy(route, 0, target, 0, position);
+            target[position] = item;
+            System.arraycopy(route, position, target, position + 1, length - position);
+        }
+
+        private static void reverse(int[] sequence, int i, int j) {
+            while (i < j) {
+                int tmp = sequence[i];
+                sequence[i] = sequence[j];
+                sequence[j] = tmp;
+                i++;
+                j--;
+            }
+        }
+
+        private Result toResult() {
+            int[] arrival = new int[length];
+            int[] departure = new int[length];
+            schedule(route, length, arrival, departure);
+
+            List<ScheduledStop> visits = new ArrayList<>(length);
+            List<SegmentSlack> slacks = new ArrayList<>();
+            int previousAnchorNode = -1;
+            for (int p = 0; p < length; p++) {
+                int item = route[p];
+                boolean anchor = item < anchorCount;
+                int node = anchor ? anchors.get(item).node() : stops.get(item - anchorCount).node();
+                int start = anchor
+                    ? Math.max(arrival[p], anchors.get(item).time())
+                    : Math.max(arrival[p], stops.get(item - anchorCount).window().openMinute());
+                visits.add(new ScheduledStop(node, anchor, arrival[p], start, departure[p]));
+
+                if (anchor) {
+                    // 첫 방문지가 앵커면 도착 시각이 곧 고정 시각이므로 여유는 dayStart 기준으로 계산
+                    int reached = p == 0 ? Math.min(dayStart, anchors.get(item).time()) : arrival[p];
+                    slacks.add(new SegmentSlack(previousAnchorNode, node, anchors.get(item).time() - reached));
+                    previousAnchorNode = node;
+                }
+            }
+            int finished = length > 0 ? departure[length - 1] : dayStart;
+            slacks.add(new SegmentSlack(previousAnchorNode, -1, endDeadline - finished));
+
+            List<Integer> unscheduled = new ArrayList<>();
+            for (int s = 0; s < stops.size(); s++) {
+                if (!scheduled[s]) {
+                    unscheduled.add(s);
+                }
+            }
+            return new Result(visits, slacks, unscheduled, travel);
+        }
+    }
+}
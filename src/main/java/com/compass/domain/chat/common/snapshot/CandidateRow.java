@@ -0,0 +1,117 @@
+package com.compass.domain.chat.common.snapshot;
+
+import com.compass.domain.chat.common.dedup.PlaceNameKey;
+import com.compass.domain.chat.entity.TravelCandidate;
+import com.compass.domain.chat.entity.TravelCandidate.TimeBlock;
+import com.compass.domain.chat.model.TravelPlace;
+
+// 스냅샷에 보관되는 TravelCandidate 읽기 전용 행 (Stage 1/2/3에서 사용하는 필드만 유지)
+public record CandidateRow(
+    Long id,
+    String placeId,
+    String name,
+    String region,
+    String category,
+    TimeBlock timeBlock,
+    Double latitude,
+    Double longitude,
+    String address,
+    String description,
+    Double rating,
+    Integer reviewCount,
+    Integer priceLevel,
+    String photoUrl,
+    Boolean openNow,
+    String phoneNumber,
+    String website,
+    Double qualityScore,
+    String googlePlaceId,
+    String businessHours,
+    PlaceNameKey nameKey
+) {
+
+    // 엔티티 → 스냅샷 행 변환
+    public static CandidateRow from(TravelCandidate candidate) {
+        return new CandidateRow(
+            candidate.getId(),
+            candidate.getPlaceId(),
+            candidate.getName(),
+            candidate.getRegion(),
+            candidate.getCategory(),
+            candidate.getTimeBlock(),
+            candidate.getLatitude(),
+            candidate.getLongitude(),
+            candidate.getAddress(),
+            candidate.getDescription(),
+            candidate.getRating(),
+            candidate.getReviewCount(),
+            candidate.getPriceLevel(),
+            candidate.getPhotoUrl(),
+            candidate.getOpenNow(),
+            candidate.getPhoneNumber(),
+            candidate.getWebsite(),
+            candidate.getQualityScore(),
+            candidate.getGooglePlaceId(),
+            candidate.getBusinessHours(),
+            // 중복 판단용 정규화 이름은 스냅샷 로드 시 한 번만 계산
+            PlaceNameKey.of(candidate.getName())
+        );
+    }
+
+    public boolean hasCoordinates() {
+        return latitude != null && longitude != null;
+    }
+
+    public double qualityOrZero() {
+        return qualityScore != null ? qualityScore : 0.0;
+    }
+
+    // TravelPlace로 변환 (TravelCandidate.toTravelPlace와 동일한 매핑)
+    public TravelPlace toTravelPlace() {
+        return TravelPlace.builder()
+            .placeId(placeId)
+            .name(name)
+            .category(category)
+            .latitude(latitude)
+            .longitude(longitude)
+            .address(address)
+            .description(description)
+            .rating(rating)
+            .reviewCount(reviewCount)
+            .priceLevel(priceLevel)
+            .photoUrl(photoUrl)
+            .openNow(Boolean.TRUE.equals(openNow))
+            .phoneNumber(phoneNumber)
+            .website(website)
+            .businessHours(businessHours)
+            .isUserSelected(false)
+            .build();
+    }
+
+    // 엔티티 타입을 요구하는 기존 서비스(스코어링 등)를 위한 분리된(detached) 복사본
+    public TravelCandidate toDetachedCandidate() {
+        return TravelCandidate.builder()
+            .id(id)
+            .placeId(placeId)
+            .name(name)
+            .region(region)
+            .category(category)
+            .timeBlock(timeBlock)
+            .latitude(latitude)
+            .longitude(longitude)
+            .address(address)
+            .description(description)
+            .rating(rating)
+            .reviewCount(reviewCount)
+            .priceLevel(priceLevel)
+            .photoUrl(photoUrl)
+            .openNow(openNow)
+            .phoneNumber(phoneNumber)
+            .website(website)
+            .qualityScore(qualityScore)
+            .googlePlaceId(googlePlaceId)
+            .businessHours(businessHours)
+            .isActive(true)
+            .build();
+    }
+}
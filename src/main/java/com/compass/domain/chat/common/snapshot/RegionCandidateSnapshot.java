@@ -0,0 +1,118 @@
+package com.compass.domain.chat.common.snapshot;
+
+import com.compass.domain.chat.common.geo.SpatialGridIndex;
+import com.compass.domain.chat.entity.TravelCandidate.TimeBlock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 지역 단위 활성 후보지 스냅샷 (불변) - 카테고리/시간블록/품질 인덱스를 미리 계산해 둔다
+public final class RegionCandidateSnapshot {
+
+    // 품질 점수 → 리뷰 수 → 평점 내림차순 (TravelCandidateRepositoryImpl 정렬과 동일)
+    public static final Comparator<CandidateRow> QUALITY_ORDER = Comparator
+        .comparing(CandidateRow::qualityScore, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(CandidateRow::reviewCount, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(CandidateRow::rating, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final String region;
+    private final long version;
+    private final Instant loadedAt;
+    private final List<CandidateRow> rows;
+    private final List<CandidateRow> byQuality;
+    private final Map<String, List<CandidateRow>> byCategory;
+    private final Map<TimeBlock, List<CandidateRow>> byTimeBlock;
+    private final SpatialGridIndex<CandidateRow> spatialIndex;
+
+    private RegionCandidateSnapshot(String region, long version, Instant loadedAt, List<CandidateRow> rows) {
+        this.region = region;
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.rows = List.copyOf(rows);
+
+        List<CandidateRow> sorted = new ArrayList<>(rows);
+        sorted.sort(QUALITY_ORDER);
+        this.byQuality = Collections.unmodifiableList(sorted);
+
+        // 품질 순서를 유지한 채 그룹화해 두면 인덱스 조회 결과도 바로 정렬된 상태가 된다
+        Map<String, List<CandidateRow>> categories = new LinkedHashMap<>();
+        Map<TimeBlock, List<CandidateRow>> timeBlocks = new EnumMap<>(TimeBlock.class);
+        for (CandidateRow row : sorted) {
+            if (row.category() != null) {
+                categories.computeIfAbsent(row.category(), k -> new ArrayList<>()).add(row);
+            }
+            if (row.timeBlock() != null) {
+                timeBlocks.computeIfAbsent(row.timeBlock(), k -> new ArrayList<>()).add(row);
+            }
+        }
+        categories.replaceAll((k, v) -> List.copyOf(v));
+        timeBlocks.replaceAll((k, v) -> List.copyOf(v));
+        this.byCategory = Collections.unmodifiableMap(categories);
+        this.byTimeBlock = Collections.unmodifiableMap(timeBlocks);
+        this.spatialIndex = SpatialGridIndex.build(sorted, CandidateRow::latitude, CandidateRow::longitude);
+    }
+
+    public static RegionCandidateSnapshot of(String region, long version, List<CandidateRow> rows) {
+        return new RegionCandidateSnapshot(region, version, Instant.now(), rows);
+    }
+
+    public static RegionCandidateSnapshot empty(String region) {
+        return new RegionCandidateSnapshot(region, 0L, Instant.now(), List.of());
+    }
+
+    public String region() {
+        return region;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    // DB 조회 순서 그대로의 전체 행
+    public List<CandidateRow> rows() {
+        return rows;
+    }
+
+    // 품질 점수 내림차순 전체 행
+    public List<CandidateRow> byQuality() {
+        return byQuality;
+    }
+
+    // 카테고리별 행 (품질 내림차순)
+    public Map<String, List<CandidateRow>> byCategory() {
+        return byCategory;
+    }
+
+    public List<CandidateRow> byCategory(String category) {
+        return byCategory.getOrDefault(category, List.of());
+    }
+
+    // 시간블록별 행 (품질 내림차순)
+    public List<CandidateRow> byTimeBlock(TimeBlock timeBlock) {
+        return byTimeBlock.getOrDefault(timeBlock, List.of());
+    }
+
+    // 좌표 기반 격자 인덱스 (좌표 없는 행 제외) - 근처 장소 검색용
+    public SpatialGridIndex<CandidateRow> spatialIndex() {
+        return spatialIndex;
+    }
+
+    public boolean isExpired(Duration ttl) {
+        return loadedAt.plus(ttl).isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,51 @@
+package com.compass.domain.chat.common.snapshot;
+
+import com.compass.domain.chat.entity.TravelCandidate;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// TravelCandidate JPA 엔티티 리스너 - 보강/임포트 쓰기 시 해당 지역 스냅샷 무효화 이벤트 발행
+// (Spring Boot의 SpringBeanContainer를 통해 빈으로 생성된다)
+// 무효화는 커밋 후에 한 번이면 되므로 트랜잭션 안에서는 지역당 이벤트를 한 번만 발행한다 (대량 저장 시 행마다 발행하지 않도록)
+@Component
+@RequiredArgsConstructor
+public class TravelCandidateChangeListener {
+
+    private final ApplicationEventPublisher publisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(TravelCandidate candidate) {
+        String region = candidate.getRegion();
+        if (TransactionSynchronizationManager.isSynchronizationActive() && !publishedRegions().add(region)) {
+            return;
+        }
+        publisher.publishEvent(new TravelCandidateChangedEvent(region));
+    }
+
+    // 현재 트랜잭션에서 이미 이벤트를 발행한 지역 - 동기화 객체에 담아 트랜잭션(REQUIRES_NEW 포함)마다 따로 둔다
+    private Set<String> publishedRegions() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PublishedRegions published) {
+                return published.regions;
+            }
+        }
+        PublishedRegions published = new PublishedRegions();
+        TransactionSynchronizationManager.registerSynchronization(published);
+        return published.regions;
+    }
+
+    private static final class PublishedRegions implements TransactionSynchronization {
+        private final Set<String> regions = new HashSet<>();
+    }
+}
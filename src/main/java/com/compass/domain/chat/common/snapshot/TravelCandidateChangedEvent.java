@@ -0,0 +1,9 @@
+package com.compass.domain.chat.common.snapshot;
+
+// 후보지 데이터 변경 이벤트 (region이 null이면 전체 지역 무효화)
+public record TravelCandidateChangedEvent(String region) {
+
+    public static TravelCandidateChangedEvent allRegions() {
+        return new TravelCandidateChangedEvent(null);
+    }
+}
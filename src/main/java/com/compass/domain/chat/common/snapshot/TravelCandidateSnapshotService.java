@@ -0,0 +1,143 @@
+package com.compass.domain.chat.common.snapshot;
+
+import com.compass.domain.chat.repository.TravelCandidateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 지역별 활성 후보지 스냅샷 제공 서비스
+// Stage 1/2/3이 같은 지역을 반복해서 전체 조회하지 않도록 지역당 한 번만 로드해 공유한다
+// 로드는 맵 잠금 밖에서 하고, 같은 지역을 동시에 요청하면 먼저 온 요청의 로드 결과를 함께 기다린다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TravelCandidateSnapshotService {
+
+    private final TravelCandidateRepository travelCandidateRepository;
+
+    private final Map<String, RegionCandidateSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<RegionCandidateSnapshot>> loading = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong();
+    // 무효화 횟수 - 로드 중에 무효화되면 그 로드 결과는 변경 전 데이터일 수 있어 캐시하지 않는다
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // 다른 노드에서 발생한 쓰기는 이벤트로 전달되지 않으므로 TTL로 최신성을 보장
+    @Value("${travel-candidate.snapshot.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    // 지역 스냅샷 조회 (없거나 만료되었으면 다시 로드)
+    public RegionCandidateSnapshot getSnapshot(String region) {
+        if (!StringUtils.hasText(region)) {
+            return RegionCandidateSnapshot.empty(region);
+        }
+
+        String key = region.trim();
+        Duration ttl = Duration.ofMinutes(ttlMinutes);
+
+        RegionCandidateSnapshot current = snapshots.get(key);
+        if (current != null && !current.isExpired(ttl)) {
+            return current;
+        }
+
+        CompletableFuture<RegionCandidateSnapshot> mine = new CompletableFuture<>();
+        CompletableFuture<RegionCandidateSnapshot> inFlight = loading.putIfAbsent(key, mine);
+        if (inFlight != null) {
+            return join(inFlight);
+        }
+
+        try {
+            RegionCandidateSnapshot loaded = loadAndCache(key, ttl);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    // 여러 지역 스냅샷 조회
+    public List<RegionCandidateSnapshot> getSnapshots(List<String> regions) {
+        if (regions == null || regions.isEmpty()) {
+            return List.of();
+        }
+        return regions.stream()
+            .filter(StringUtils::hasText)
+            .distinct()
+            .map(this::getSnapshot)
+            .toList();
+    }
+
+    // 특정 지역 스냅샷 무효화 (다음 조회 시 재로드)
+    public void invalidate(String region) {
+        if (!StringUtils.hasText(region)) {
+            invalidateAll();
+            return;
+        }
+        invalidations.incrementAndGet();
+        if (snapshots.remove(region.trim()) != null) {
+            log.debug("후보지 스냅샷 무효화: region={}", region);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        snapshots.clear();
+        log.debug("후보지 스냅샷 전체 무효화");
+    }
+
+    // 보강/임포트 트랜잭션이 커밋된 뒤 무효화 (트랜잭션 밖 쓰기도 즉시 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateChanged(TravelCandidateChangedEvent event) {
+        invalidate(event.region());
+    }
+
+    // 로드 권한을 얻은 요청만 호출 - 그사이 다른 요청이 새 스냅샷을 넣었으면 그것을 쓴다
+    private RegionCandidateSnapshot loadAndCache(String region, Duration ttl) {
+        RegionCandidateSnapshot current = snapshots.get(region);
+        if (current != null && !current.isExpired(ttl)) {
+            return current;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        RegionCandidateSnapshot loaded = load(region);
+        snapshots.put(region, loaded);
+        if (invalidations.get() != invalidationsBefore) {
+            // 로드 중 커밋된 변경이 있음 - 이번 요청에는 돌려주되 다음 조회가 다시 읽도록 지운다
+            snapshots.remove(region, loaded);
+        }
+        return loaded;
+    }
+
+    private static RegionCandidateSnapshot join(CompletableFuture<RegionCandidateSnapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    private RegionCandidateSnapshot load(String region) {
+        long startedAt = System.currentTimeMillis();
+        List<CandidateRow> rows = travelCandidateRepository.findByRegionAndIsActiveTrue(region).stream()
+            .map(CandidateRow::from)
+            .toList();
+
+        RegionCandidateSnapshot snapshot = RegionCandidateSnapshot.of(region, versionSequence.incrementAndGet(), rows);
+        log.info("후보지 스냅샷 로드: region={}, rows={}, version={}, {}ms",
+            region, rows.size(), snapshot.version(), System.currentTimeMillis() - startedAt);
+        return snapshot;
+    }
+}
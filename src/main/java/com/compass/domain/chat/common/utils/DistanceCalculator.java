@@ -1,5 +1,6 @@
 package com.compass.domain.chat.common.utils;
 
+import com.compass.domain.chat.common.geo.GeoMath;
 import com.compass.domain.chat.model.TravelPlace;
 import org.springframework.stereotype.Component;
 
@@ -9,20 +10,9 @@ import java.util.List;
 @Component
 public class DistanceCalculator {
 
-    private static final double EARTH_RADIUS_KM = 6371.0; // 지구 반경
-
     // 두 지점 간 거리 계산 (Haversine 공식)
     public double calculate(double lat1, double lon1, double lat2, double lon2) {
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                  Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                  Math.sin(dLon / 2) * Math.sin(dLon / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return EARTH_RADIUS_KM * c;
+        return GeoMath.haversineKm(lat1, lon1, lat2, lon2);
     }
 
     // TravelPlace 객체 간 거리 계산
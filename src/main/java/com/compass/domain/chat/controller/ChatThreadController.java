@@ -3,10 +3,11 @@ package com.compass.domain.chat.controller;
 import com.compass.config.jwt.JwtTokenProvider;
 import com.compass.domain.chat.entity.ChatMessage;
 import com.compass.domain.chat.entity.ChatThread;
+import com.compass.domain.chat.model.dto.ChatMessageView;
+import com.compass.domain.chat.model.dto.MessageHistoryPage;
 import com.compass.domain.chat.model.request.ChatRequest;
 import com.compass.domain.chat.model.response.ChatResponse;
 import com.compass.domain.chat.orchestrator.MainLLMOrchestrator;
-import com.compass.domain.chat.repository.ChatMessageRepository;
 import com.compass.domain.chat.repository.ChatThreadRepository;
 import com.compass.domain.chat.service.ChatThreadService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -34,7 +35,6 @@ public class ChatThreadController {
 
     private final ChatThreadService chatThreadService;
     private final ChatThreadRepository chatThreadRepository;
-    private final ChatMessageRepository chatMessageRepository;
     private final MainLLMOrchestrator mainLLMOrchestrator;
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -62,6 +62,8 @@ public class ChatThreadController {
                       String model,
                       Map<String, Object> followUpQuestion) {}
 
+    record MessagePageDto(List<MessageDto> messages, String nextCursor) {}
+
     @PostMapping
     public ResponseEntity<ThreadDto> createThread(@RequestBody CreateThreadRequest request,
                                                   HttpServletRequest httpRequest,
@@ -104,22 +106,32 @@ public class ChatThreadController {
         return ResponseEntity.ok(items);
     }
 
+    // 기존 응답 형식(메시지 배열) 유지 - 스레드의 처음 limit개 메시지를 시간순으로
     @GetMapping("/{threadId}/messages")
-    @Transactional(readOnly = true)
     public ResponseEntity<List<MessageDto>> getMessages(@PathVariable String threadId,
                                                         @RequestParam(defaultValue = "50") int limit) {
-        List<ChatMessage> messages = chatMessageRepository.findByThreadIdOrderByTimestampDesc(threadId);
-        List<MessageDto> payload = messages.stream()
-            .sorted(Comparator.comparing(ChatMessage::getTimestamp))
-            .limit(limit)
+        List<MessageDto> payload = chatThreadService.getFirstMessages(threadId, limit).stream()
             .map(this::toMessageDto)
             .collect(Collectors.toList());
 
         return ResponseEntity.ok(payload);
     }
 
+    // 최신 메시지부터 limit개씩 (응답 안에서는 시간순) - 더 이전 메시지는 nextCursor를 cursor로 넘겨 조회
+    @GetMapping("/{threadId}/messages/page")
+    public ResponseEntity<MessagePageDto> getMessagePage(@PathVariable String threadId,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(defaultValue = "50") int limit) {
+        MessageHistoryPage page = chatThreadService.getHistoryPage(threadId, cursor, limit);
+        List<MessageDto> payload = page.messages().stream()
+            .map(this::toMessageDto)
+            .collect(Collectors.toList());
+
+        return ResponseEntity.ok(new MessagePageDto(payload, page.nextCursor()));
+    }
+
+    // 트랜잭션은 턴 저장(ChatThreadService.saveTurn)에서만 연다 - LLM 호출 동안 DB 연결을 잡고 있지 않도록
     @PostMapping("/{threadId}/messages")
-    @Transactional
     public ResponseEntity<List<MessageDto>> sendMessage(@PathVariable String threadId,
                                                         @RequestBody MessageRequest request,
                                                         HttpServletRequest httpRequest,
@@ -132,13 +144,11 @@ public class ChatThreadController {
         String userIdValue = userId != null ? userId.toString() : "anonymous";
 
         ChatRequest chatRequest = new ChatRequest(request.content(), threadId, userIdValue, request.metadata());
-        ChatResponse chatResponse = mainLLMOrchestrator.processChat(chatRequest);
+        MainLLMOrchestrator.TurnResult turn = mainLLMOrchestrator.processChatTurn(chatRequest);
+        ChatResponse chatResponse = turn.response();
 
-        // Fetch the latest two messages (user + assistant) to return to frontend
-        List<ChatMessage> ordered = chatMessageRepository.findByThreadIdOrderByTimestampDesc(threadId)
-            .stream()
-            .sorted(Comparator.comparing(ChatMessage::getTimestamp))
-            .collect(Collectors.toList());
+        // 이번 턴에 저장된 메시지(user + assistant)를 다시 조회하지 않고 그대로 반환
+        List<ChatMessage> ordered = turn.messages();
 
         int size = ordered.size();
         List<ChatMessage> recentMessages = size <= 2
@@ -184,19 +194,11 @@ public class ChatThreadController {
         );
     }
 
+    // 목록 조회마다 스레드별 메시지를 읽지 않도록 스레드에 저장된 마지막 메시지 미리보기 사용
     private ThreadDto toThreadDto(ChatThread thread, String fallbackMessage) {
-        String lastMessage = fallbackMessage;
+        String lastMessage = fallbackMessage != null ? fallbackMessage : thread.getLastMessagePreview();
         LocalDateTime lastMessageAt = thread.getLastMessageAt();
 
-        if (lastMessage == null) {
-            List<ChatMessage> messages = chatMessageRepository.findByThreadIdOrderByTimestampDesc(thread.getId());
-            if (!messages.isEmpty()) {
-                ChatMessage latest = messages.get(0);
-                lastMessage = latest.getContent();
-                lastMessageAt = latest.getTimestamp();
-            }
-        }
-
         return new ThreadDto(
             thread.getId(),
             thread.getUser().getId(),
@@ -208,6 +210,22 @@ public class ChatThreadController {
         );
     }
 
+    private MessageDto toMessageDto(ChatMessageView message) {
+        return new MessageDto(
+            message.id(),
+            message.threadId(),
+            message.role(),
+            message.content(),
+            message.timestamp(),
+            null,
+            null,
+            null,
+            null,
+            null,
+            null
+        );
+    }
+
     private MessageDto toMessageDto(ChatMessage message) {
         return new MessageDto(
             message.getId(),
@@ -1,6 +1,8 @@
 package com.compass.domain.chat.controller;
 
+import com.compass.domain.chat.entity.EnrichmentJob;
 import com.compass.domain.chat.service.*;
+import com.compass.domain.chat.service.enrichment.EnrichmentJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -25,6 +27,7 @@ public class EnrichmentController {
     private final TourApiEnrichmentService tourApiService;
     private final AiEnrichmentService aiService;
     private final GeminiDescriptionService geminiDescriptionService;
+    private final EnrichmentJobService enrichmentJobService;
 
     // ========== 새로운 전체 보강 (리팩토링된 서비스) ==========
 
@@ -145,6 +148,47 @@ public class EnrichmentController {
         ));
     }
 
+    // ========== 청크 작업 (체크포인트, 재개/취소) ==========
+
+    // 청크 단위 보강 작업 시작 (provider: GooglePlacesEnrichment, KakaoMapEnrichment, TourApiEnrichment, AiEnrichment)
+    @PostMapping("/jobs")
+    public ResponseEntity<Map<String, Object>> startEnrichmentJob(
+            @RequestParam String provider,
+            @RequestParam(required = false) Integer chunkSize) {
+        log.info("청크 보강 작업 시작 요청: provider={}, chunkSize={}", provider, chunkSize);
+
+        EnrichmentJob job = enrichmentJobService.start(provider, chunkSize);
+        return ResponseEntity.accepted().body(enrichmentJobService.getProgress(job));
+    }
+
+    @GetMapping("/jobs")
+    public ResponseEntity<List<Map<String, Object>>> getEnrichmentJobs() {
+        return ResponseEntity.ok(enrichmentJobService.getRecentProgress());
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getEnrichmentJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(enrichmentJobService.getProgress(enrichmentJobService.findJob(jobId)));
+    }
+
+    // 실패/취소된 작업을 마지막 체크포인트부터 재개
+    @PostMapping("/jobs/{jobId}/resume")
+    public ResponseEntity<Map<String, Object>> resumeEnrichmentJob(@PathVariable Long jobId) {
+        log.info("청크 보강 작업 재개 요청: jobId={}", jobId);
+
+        EnrichmentJob job = enrichmentJobService.resume(jobId);
+        return ResponseEntity.accepted().body(enrichmentJobService.getProgress(job));
+    }
+
+    // 실행 중인 작업 취소 (진행 중인 청크가 끝나면 멈춤)
+    @PostMapping("/jobs/{jobId}/cancel")
+    public ResponseEntity<Map<String, Object>> cancelEnrichmentJob(@PathVariable Long jobId) {
+        log.info("청크 보강 작업 취소 요청: jobId={}", jobId);
+
+        EnrichmentJob job = enrichmentJobService.cancel(jobId);
+        return ResponseEntity.ok(enrichmentJobService.getProgress(job));
+    }
+
     // ========== Google Places API ==========
 
     @PostMapping("/google/all")
@@ -168,6 +168,41 @@ public class PreStageController {
         }
     }
 
+    // 특정 CSV 파일 스트리밍 임포트 (COPY + 일괄 upsert, 거부된 행은 줄 번호와 함께 반환)
+    @PostMapping("/import-csv/{fileName}/stream")
+    public ResponseEntity<Map<String, Object>> importSingleCSVFileStreaming(@PathVariable String fileName) {
+        log.info("특정 CSV 파일 스트리밍 임포트 요청: {}", fileName);
+
+        try {
+            String filePath = "/Users/kmj/Documents/GitHub/AIBE2_FinalProject_Compass_BE/list/" + fileName;
+            CSVImportService.StreamingImportResult result = csvImportService.importCSVFileStreaming(filePath);
+
+            Map<String, Object> response = Map.of(
+                "fileName", fileName,
+                "importedCount", result.imported(),
+                "rejectedCount", result.rejectedCount(),
+                "rejectedRows", result.rejectedRows(),
+                "message", String.format("%s 파일 임포트 완료: %d개 데이터 저장, %d행 거부",
+                    fileName, result.imported(), result.rejectedCount()),
+                "status", "success"
+            );
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("CSV 파일 {} 스트리밍 임포트 실패: {}", fileName, e.getMessage(), e);
+
+            Map<String, Object> errorResponse = Map.of(
+                "fileName", fileName,
+                "error", String.valueOf(e.getMessage()),
+                "message", "CSV 파일 임포트 중 오류가 발생했습니다",
+                "status", "error"
+            );
+
+            return ResponseEntity.internalServerError().body(errorResponse);
+        }
+    }
+
     // 모든 travel_candidates 데이터의 주소 정보 업데이트
     @PostMapping("/enrich-addresses")
     public ResponseEntity<Map<String, Object>> enrichAllAddresses() {
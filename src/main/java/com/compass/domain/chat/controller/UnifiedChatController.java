@@ -12,10 +12,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 // jakarta.validation.Valid를 import 리스트에서 제거
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.UUID;
 
@@ -42,23 +46,7 @@ public class UnifiedChatController {
             threadId = UUID.randomUUID().toString();
         }
 
-        String userId = null;
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            String token = authHeader.substring(7);
-            try {
-                userId = jwtTokenProvider.getUserId(token);
-            } catch (Exception e) {
-                log.warn("JWT 파싱 실패: {}", e.getMessage());
-            }
-        }
-
-        if (userId == null && userDetails != null) {
-            // UserDetails에서 userId를 가져오는 로직이 필요하다면 여기에 추가
-        }
-
-        if (userId == null) {
-            userId = "test-user"; // Fallback
-        }
+        String userId = resolveUserId(authHeader, userDetails);
 
         // [수정] record의 불변성을 위해 setUserId와 setThreadId의 반환값을 다시 할당합니다.
         request = request.setUserId(userId);
@@ -89,6 +77,122 @@ public class UnifiedChatController {
         }
     }
 
+    // 통합 채팅의 SSE 스트리밍 버전 - 일반 대화의 LLM 응답을 토큰 단위로 바로 보낸다
+    // 이벤트: token({"text": ...}, 0개 이상) → response(최종 ChatResponse) 또는 error
+    // Stage/폼 제출처럼 스트리밍하지 않는 응답은 token 없이 response만 온다. 메시지는 응답이 끝난 뒤 한 번에 저장된다
+    @PostMapping(value = "/unified/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "통합 채팅 스트리밍 처리 (SSE)", security = @SecurityRequirement(name = "bearerAuth"))
+    public Flux<ServerSentEvent<Object>> streamChat(
+            @RequestBody ChatRequest request,
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestHeader(value = "Thread-Id", required = false) String threadId,
+            @RequestHeader(value = "Authorization", required = false) String authHeader
+    ) {
+        String resolvedThreadId = threadId == null || threadId.trim().isEmpty() ? UUID.randomUUID().toString() : threadId;
+        String userId = resolveUserId(authHeader, userDetails);
+
+        if (request.getMessage() == null || request.getMessage().trim().isEmpty()) {
+            return Flux.just(event("error", ChatResponse.builder().content("메시지를 입력해주세요.").type("ERROR").build()));
+        }
+        ChatRequest streamRequest = request.setUserId(userId).setThreadId(resolvedThreadId);
+
+        // 오케스트레이터는 응답이 끝날 때까지 블록되므로 요청 스레드가 아닌 별도 스레드에서 실행
+        // 클라이언트가 연결을 끊으면(구독 취소) 실행 중인 스레드를 중단시켜 대화 순서 대기와 LLM 스트리밍을 끝내고 대화 락을 놓게 한다
+        return Flux.<ServerSentEvent<Object>>create(sink -> {
+            var cancellation = new StreamCancellation();
+            sink.onCancel(cancellation::cancel);
+            if (!cancellation.start()) {
+                return;
+            }
+            try {
+                var turn = mainLLMOrchestrator.processChatStream(streamRequest,
+                    token -> sink.next(event("token", new StreamToken(token))));
+                ChatResponse response = turn.response();
+                response.setThreadId(resolvedThreadId);
+                if (response.getPhase() != null) {
+                    response.setCurrentPhase(response.getPhase());
+                }
+                sink.next(event("response", response));
+            } catch (Exception e) {
+                if (cancellation.isCancelled()) {
+                    log.info("스트리밍 취소됨: threadId={}, userId={}", resolvedThreadId, userId);
+                } else {
+                    log.error("스트리밍 처리 중 오류: userId={}", userId, e);
+                    sink.next(event("error", ChatResponse.builder()
+                        .content("처리 중 오류가 발생했습니다.")
+                        .type("ERROR")
+                        .threadId(resolvedThreadId)
+                        .phase("INITIAL")
+                        .currentPhase("INITIAL")
+                        .build()));
+                }
+            } finally {
+                cancellation.finish();
+            }
+            sink.complete();
+        }).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // 스트리밍 작업 스레드와 구독 취소 사이의 중단 전달
+    // 작업이 끝난 뒤에는 중단하지 않고, 남은 중단 플래그도 지워 풀 스레드의 다음 작업에 새지 않게 한다
+    static final class StreamCancellation {
+        private Thread worker;
+        private boolean cancelled;
+
+        // 이미 취소됐으면 false (작업을 시작하지 않는다)
+        synchronized boolean start() {
+            if (cancelled) {
+                return false;
+            }
+            worker = Thread.currentThread();
+            return true;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (worker != null) {
+                worker.interrupt();
+            }
+        }
+
+        synchronized boolean isCancelled() {
+            return cancelled;
+        }
+
+        synchronized void finish() {
+            worker = null;
+            Thread.interrupted();
+        }
+    }
+
+    // 토큰 이벤트 본문 - 줄바꿈이 있는 토큰도 SSE data 한 줄로 보내기 위해 JSON으로 감싼다
+    record StreamToken(String text) {}
+
+    private static ServerSentEvent<Object> event(String name, Object data) {
+        return ServerSentEvent.builder(data).event(name).build();
+    }
+
+    private String resolveUserId(String authHeader, UserDetails userDetails) {
+        String userId = null;
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            String token = authHeader.substring(7);
+            try {
+                userId = jwtTokenProvider.getUserId(token);
+            } catch (Exception e) {
+                log.warn("JWT 파싱 실패: {}", e.getMessage());
+            }
+        }
+
+        if (userId == null && userDetails != null) {
+            // UserDetails에서 userId를 가져오는 로직이 필요하다면 여기에 추가
+        }
+
+        if (userId == null) {
+            userId = "test-user"; // Fallback
+        }
+        return userId;
+    }
+
     @DeleteMapping("/unified/context")
     @Operation(summary = "대화 컨텍스트 초기화", security = @SecurityRequirement(name = "bearerAuth"))
     public ResponseEntity<Void> resetContext(
@@ -16,7 +16,7 @@ import java.util.Map;
 @Table(name = "chat_messages", indexes = {
     @Index(name = "idx_chat_message_thread_id", columnList = "thread_id"),
     @Index(name = "idx_chat_message_timestamp", columnList = "timestamp DESC"),
-    @Index(name = "idx_chat_message_thread_timestamp", columnList = "thread_id, timestamp DESC")
+    @Index(name = "idx_chat_message_thread_timestamp_id", columnList = "thread_id, timestamp DESC, id DESC")
 })
 @Getter
 @Setter
@@ -25,8 +25,13 @@ import java.util.Map;
 @Builder
 public class ChatMessage {
     
+    // id 시퀀스 - 한 턴의 메시지를 JDBC 배치 INSERT로 저장하도록 IDENTITY 대신 50개씩 미리 할당 (pooled)
+    public static final String ID_SEQUENCE = "chat_messages_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "chat_message_seq")
+    @SequenceGenerator(name = "chat_message_seq", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -24,6 +24,9 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class ChatThread {
+
+    private static final int TITLE_LENGTH = 50;
+    private static final int PREVIEW_LENGTH = 100;
     
     @Id
     @GeneratedValue(generator = "uuid2")
@@ -46,6 +49,14 @@ public class ChatThread {
     
     @Column(name = "last_message_at")
     private LocalDateTime lastMessageAt;
+
+    // 메시지 수와 마지막 메시지 미리보기 - 메시지를 추가할 때 UPDATE 한 번으로 함께 갱신 (메시지 컬렉션을 읽지 않는다)
+    @Column(name = "message_count", nullable = false, columnDefinition = "integer not null default 0")
+    @Builder.Default
+    private int messageCount = 0;
+
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
     
     @Column(name = "travel_plan_data", columnDefinition = "TEXT")
     private String travelPlanData;
@@ -97,7 +108,7 @@ public class ChatThread {
         message.setThread(this);
         this.lastMessageAt = message.getTimestamp();
     }
-    
+
     /**
      * Get the latest message preview for display
      */
@@ -115,11 +126,31 @@ public class ChatThread {
      * Update thread title based on first message
      */
     public void updateTitleFromFirstMessage(String firstMessage) {
-        if (firstMessage != null && !firstMessage.isEmpty()) {
-            // Take first 50 characters of the message as title
-            this.title = firstMessage.length() > 50 
-                ? firstMessage.substring(0, 50) + "..." 
-                : firstMessage;
+        String newTitle = titleOf(firstMessage);
+        if (newTitle != null) {
+            this.title = newTitle;
+        }
+    }
+
+    /**
+     * Title derived from the first user message (first 50 characters), or null for an empty message
+     */
+    public static String titleOf(String firstMessage) {
+        if (firstMessage == null || firstMessage.isEmpty()) {
+            return null;
+        }
+        return firstMessage.length() > TITLE_LENGTH
+            ? firstMessage.substring(0, TITLE_LENGTH) + "..."
+            : firstMessage;
+    }
+
+    /**
+     * Preview stored in last_message_preview (first 100 characters)
+     */
+    public static String previewOf(String content) {
+        if (content == null) {
+            return null;
         }
+        return content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) : content;
     }
 }
\ No newline at end of file
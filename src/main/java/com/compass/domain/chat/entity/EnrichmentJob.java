@@ -0,0 +1,102 @@
+package com.compass.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보강 작업 체크포인트
+ * travel_candidates를 id 순 청크로 처리하며 청크가 끝날 때마다 마지막 id와 누적 건수를 기록한다.
+ * 작업이 중간에 실패하거나 서버가 재시작돼도 last_candidate_id 다음부터 이어서 처리할 수 있다.
+ */
+@Entity
+@Table(name = "enrichment_jobs", indexes = {
+    @Index(name = "idx_enrichment_job_status", columnList = "status"),
+    @Index(name = "idx_enrichment_job_provider", columnList = "provider")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EnrichmentJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 보강 서비스 이름 (EnrichmentService.getServiceName)
+    @Column(nullable = false, length = 50)
+    private String provider;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    // 작업을 실행 중인 인스턴스의 점유 토큰 - 시작/재개할 때마다 새로 발급하고, 청크 기록/종료/heartbeat는 토큰이 같을 때만 반영
+    // 오래 걸리는 청크를 처리하는 동안 다른 인스턴스가 재개로 점유하면 원래 실행자의 쓰기는 모두 0건이 되어 멈춘다
+    @Column(name = "lease_token", length = 36)
+    private String leaseToken;
+
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+
+    // 마지막으로 처리를 마친 청크의 마지막 후보 id (다음 청크는 이 값보다 큰 id부터)
+    @Column(name = "last_candidate_id", nullable = false)
+    @Builder.Default
+    private Long lastCandidateId = 0L;
+
+    @Column(name = "processed_count", nullable = false)
+    @Builder.Default
+    private int processedCount = 0;
+
+    @Column(name = "success_count", nullable = false)
+    @Builder.Default
+    private int successCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private int failedCount = 0;
+
+    @Column(name = "skipped_count", nullable = false)
+    @Builder.Default
+    private int skippedCount = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    // 청크 기록과 실행 중 heartbeat마다 갱신 - RUNNING인데 오래 갱신되지 않았으면 실행하던 서버가 죽은 것으로 본다
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+
+    public static EnrichmentJob start(String provider, int chunkSize) {
+        LocalDateTime now = LocalDateTime.now();
+        return EnrichmentJob.builder()
+            .provider(provider)
+            .status(Status.RUNNING)
+            .leaseToken(newLeaseToken())
+            .chunkSize(chunkSize)
+            .startedAt(now)
+            .updatedAt(now)
+            .build();
+    }
+
+    public static String newLeaseToken() {
+        return UUID.randomUUID().toString();
+    }
+}
@@ -1,5 +1,6 @@
 package com.compass.domain.chat.entity;
 
+import com.compass.domain.chat.common.snapshot.TravelCandidateChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
  * Pre-Stage에서 수집되어 DB에 저장되는 여행 후보지 정보
  */
 @Entity
+@EntityListeners(TravelCandidateChangeListener.class)
 @Table(name = "travel_candidates",
     indexes = {
         @Index(name = "idx_place_id", columnList = "place_id"),
@@ -20,7 +22,8 @@ import java.time.LocalDateTime;
         @Index(name = "idx_time_block", columnList = "time_block"),
         @Index(name = "idx_rating", columnList = "rating DESC"),
         @Index(name = "idx_review_count", columnList = "review_count DESC"),
-        @Index(name = "idx_quality_score", columnList = "quality_score DESC")
+        @Index(name = "idx_quality_score", columnList = "quality_score DESC"),
+        @Index(name = "idx_region_lat_lng", columnList = "region, latitude, longitude")
     },
     uniqueConstraints = {
         @UniqueConstraint(columnNames = {"place_id", "region"})
@@ -34,8 +37,14 @@ import java.time.LocalDateTime;
 @ToString(exclude = {"photoUrl", "description"})
 public class TravelCandidate {
 
+    // id 시퀀스 - DB 시퀀스의 INCREMENT BY와 allocationSize가 같아야 pooled 할당 구간이 겹치지 않는다
+    public static final String ID_SEQUENCE = "travel_candidates_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY는 Hibernate JDBC 배치 INSERT를 막으므로 시퀀스에서 50개씩 미리 할당 (pooled)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "travel_candidate_seq")
+    @SequenceGenerator(name = "travel_candidate_seq", sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     // Google Place ID (고유 식별자)
@@ -302,6 +311,7 @@ public class TravelCandidate {
             .openNow(this.openNow)
             .phoneNumber(this.phoneNumber)
             .website(this.website)
+            .businessHours(this.businessHours)
             .isUserSelected(false)
             .build();
     }
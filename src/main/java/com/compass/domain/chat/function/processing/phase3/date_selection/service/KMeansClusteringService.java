@@ -1,5 +1,6 @@
 package com.compass.domain.chat.function.processing.phase3.date_selection.service;
 
+import com.compass.domain.chat.common.cluster.KMeansEngine;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.cluster.Cluster;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.cluster.Point;
@@ -16,9 +17,7 @@ import java.util.stream.Collectors;
 @Service
 public class KMeansClusteringService {
 
-    private static final int MAX_ITERATIONS = 100;
     private static final double ELBOW_THRESHOLD = 0.2;  // 20% 미만 감소시 최적점
-    private final Random random = new Random();
 
     // Elbow Method로 최적 클러스터 수 결정
     public int determineOptimalClusters(List<TourPlace> places, int tripDays) {
@@ -54,104 +53,33 @@ public class KMeansClusteringService {
         return optimalK;
     }
 
-    // K-Means 클러스터링 수행
+    // K-Means 클러스터링 수행 (공통 엔진 위임, 고정 시드라 Elbow 비교가 실행마다 흔들리지 않는다)
     public List<Cluster> performKMeansClustering(List<TourPlace> places, int k) {
-        if (places.isEmpty()) {
+        List<TourPlace> validPlaces = places.stream()
+            .filter(p -> p.latitude() != null && p.longitude() != null)
+            .toList();
+        if (validPlaces.isEmpty()) {
             return new ArrayList<>();
         }
 
-        log.debug("K-Means 클러스터링 시작: k={}, places={}", k, places.size());
+        log.debug("K-Means 클러스터링 시작: k={}, places={}", k, validPlaces.size());
 
-        // 1. 초기 중심점 설정 (K-Means++ 알고리즘)
-        List<Point> centroids = initializeCentroidsKMeansPlusPlus(places, k);
+        double[] latitudes = validPlaces.stream().mapToDouble(TourPlace::latitude).toArray();
+        double[] longitudes = validPlaces.stream().mapToDouble(TourPlace::longitude).toArray();
+        KMeansEngine.Result result = KMeansEngine.cluster(latitudes, longitudes, k);
 
-        // 2. 클러스터 초기화
         List<Cluster> clusters = new ArrayList<>();
-        for (Point centroid : centroids) {
-            clusters.add(new Cluster(centroid));
+        List<List<TourPlace>> groups = result.partition(validPlaces);
+        for (int i = 0; i < groups.size(); i++) {
+            Cluster cluster = new Cluster(new Point(result.centroidLatitudes()[i], result.centroidLongitudes()[i]));
+            groups.get(i).forEach(cluster::addPlace);
+            clusters.add(cluster);
         }
 
-        // 3. 반복적으로 클러스터 할당 및 중심점 업데이트
-        boolean changed = true;
-        int iteration = 0;
-
-        while (changed && iteration < MAX_ITERATIONS) {
-            // 이전 할당 초기화
-            for (Cluster cluster : clusters) {
-                cluster.clearPlaces();
-            }
-
-            changed = false;
-
-            // 각 장소를 가장 가까운 클러스터에 할당
-            for (TourPlace place : places) {
-                Cluster nearest = DistanceUtils.findNearestCluster(place, clusters);
-                nearest.addPlace(place);
-                changed = true;
-            }
-
-            // 클러스터 중심점 재계산
-            for (Cluster cluster : clusters) {
-                cluster.recalculateCenter();
-            }
-
-            iteration++;
-        }
-
-        log.debug("K-Means 클러스터링 완료: iterations={}", iteration);
+        log.debug("K-Means 클러스터링 완료: iterations={}", result.iterations());
         return clusters;
     }
 
-    // K-Means++ 초기화 (더 나은 초기 중심점 선택)
-    private List<Point> initializeCentroidsKMeansPlusPlus(List<TourPlace> places, int k) {
-        List<Point> centroids = new ArrayList<>();
-
-        // 첫 번째 중심점은 랜덤 선택
-        TourPlace first = places.get(random.nextInt(places.size()));
-        centroids.add(new Point(first.latitude(), first.longitude()));
-
-        // 나머지 중심점은 거리 비례 확률로 선택
-        for (int i = 1; i < k; i++) {
-            double[] distances = new double[places.size()];
-            double totalDistance = 0;
-
-            // 각 장소에서 가장 가까운 중심점까지의 거리 계산
-            for (int j = 0; j < places.size(); j++) {
-                TourPlace place = places.get(j);
-                double minDist = Double.MAX_VALUE;
-
-                for (Point centroid : centroids) {
-                    double dist = DistanceUtils.calculateDistance(
-                        place.latitude(), place.longitude(),
-                        centroid.getLat(), centroid.getLng()
-                    );
-                    minDist = Math.min(minDist, dist);
-                }
-
-                distances[j] = minDist * minDist; // 거리 제곱
-                totalDistance += distances[j];
-            }
-
-            // 거리 비례 확률로 다음 중심점 선택
-            double randomValue = random.nextDouble() * totalDistance;
-            double cumulative = 0;
-
-            for (int j = 0; j < places.size(); j++) {
-                cumulative += distances[j];
-                if (cumulative >= randomValue) {
-                    TourPlace selected = places.get(j);
-                    centroids.add(new Point(
-                        selected.latitude(),
-                        selected.longitude()
-                    ));
-                    break;
-                }
-            }
-        }
-
-        return centroids;
-    }
-
     // Within-Cluster Sum of Squares 계산
     private double calculateWCSS(List<Cluster> clusters) {
         double totalWCSS = 0.0;
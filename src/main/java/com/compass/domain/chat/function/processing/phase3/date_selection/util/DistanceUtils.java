@@ -1,5 +1,6 @@
 package com.compass.domain.chat.function.processing.phase3.date_selection.util;
 
+import com.compass.domain.chat.common.geo.GeoMath;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.cluster.Cluster;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.cluster.Point;
@@ -10,20 +11,9 @@ import java.util.List;
 // 거리 계산 유틸리티
 public class DistanceUtils {
 
-    private static final double EARTH_RADIUS_KM = 6371; // 지구 반지름 (km)
-
     // Haversine 공식으로 두 지점 간 거리 계산 (km)
     public static double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lngDistance = Math.toRadians(lng2 - lng1);
-
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-            * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return EARTH_RADIUS_KM * c;
+        return GeoMath.haversineKm(lat1, lng1, lat2, lng2);
     }
 
     // 장소와 점 사이의 거리 계산
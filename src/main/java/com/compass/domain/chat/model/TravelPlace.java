@@ -28,6 +28,7 @@ public class TravelPlace {
     private boolean openNow;          // 현재 영업 여부
     private String phoneNumber;       // 전화번호
     private String website;           // 웹사이트
+    private String businessHours;     // 영업시간 (TravelCandidate.businessHours 원문)
 
     // Stage 3 추가 필드
     private Boolean isFixed;          // 고정 일정 여부 (호텔 체크인, 항공 등)
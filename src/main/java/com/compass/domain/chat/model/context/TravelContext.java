@@ -92,6 +92,10 @@ public class TravelContext implements Serializable {
     @Builder.Default
     private Map<DocumentType, String> ocrRawTexts = new ConcurrentHashMap<>();
 
+    // 저장 버전 - 캐시에 쓸 때마다 1씩 증가 (동시 수정 감지용 compare-and-set)
+    @Builder.Default
+    private long version = 0L;
+
     // 대화 횟수 증가
     public void incrementConversation() {
         this.conversationCount++;
@@ -0,0 +1,13 @@
+package com.compass.domain.chat.model.dto;
+
+import java.time.LocalDateTime;
+
+// 대화 기록 조회용 메시지 프로젝션 - 엔티티(스레드 프록시, metadata JSONB)를 만들지 않고 필요한 컬럼만 읽는다
+public record ChatMessageView(
+        Long id,
+        String threadId,
+        String role,
+        String content,
+        LocalDateTime timestamp
+) {
+}
@@ -0,0 +1,35 @@
+package com.compass.domain.chat.model.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 대화 기록 키셋 페이지 위치 - 이 메시지(timestamp, id)보다 이전 메시지부터 읽는다
+// 클라이언트에는 "timestamp|id"를 URL-safe Base64로 감싼 불투명한 문자열로 전달
+public record MessageCursor(LocalDateTime timestamp, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static MessageCursor of(ChatMessageView message) {
+        return new MessageCursor(message.timestamp(), message.id());
+    }
+
+    public String encode() {
+        String raw = timestamp + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MessageCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new MessageCursor(
+                LocalDateTime.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            // Base64 디코딩 오류, 구분자 없음, 숫자 형식 오류
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.compass.domain.chat.model.dto;
+
+import java.util.List;
+
+// 대화 기록 한 페이지 - messages는 시간순, nextCursor는 더 이전 메시지를 읽을 커서 (없으면 null)
+public record MessageHistoryPage(
+        List<ChatMessageView> messages,
+        String nextCursor
+) {
+}
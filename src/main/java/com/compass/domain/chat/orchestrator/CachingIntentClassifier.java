@@ -0,0 +1,189 @@
+package com.compass.domain.chat.orchestrator;
+
+import com.compass.domain.chat.model.enums.Intent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+// Intent 분류 결과 캐시 - LlmIntentClassifier를 감싸 같은 메시지("부산 가고 싶어", "추천해줘")의 LLM 재호출을 막는다
+// 키는 정규화한 메시지(앞뒤 공백 제거, 연속 공백 하나로, 소문자) + 확인 대기 여부
+// 노드별 메모리(Caffeine, 크기/TTL 제한)를 먼저 보고, 설정하면 Redis를 공유 캐시로 함께 쓴다
+// LLM 호출이 실패했거나 응답을 해석하지 못한 결과(기본값)는 저장하지 않는다
+// 같은 키의 동시 미스는 하나의 분류로 합친다 - 먼저 온 요청이 분류하고 나머지는 그 결과를 기다린다
+@Slf4j
+@Primary
+@Component
+public class CachingIntentClassifier implements IntentClassifier {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final String INTENT_KIND = "intent";
+    private static final String SPECIFIC_KIND = "specific";
+
+    private final LlmIntentClassifier delegate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${intent.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${intent.cache.max-size:10000}")
+    private long maxSize = 10_000;
+
+    @Value("${intent.cache.ttl-minutes:60}")
+    private long ttlMinutes = 60;
+
+    // 긴 메시지는 다시 올 가능성이 낮으므로 캐시하지 않는다
+    @Value("${intent.cache.max-message-length:200}")
+    private int maxMessageLength = 200;
+
+    @Value("${intent.cache.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${intent.cache.redis.key-prefix:intent:cache:}")
+    private String redisKeyPrefix = "intent:cache:";
+
+    private AsyncCache<String, String> localCache;
+
+    public CachingIntentClassifier(LlmIntentClassifier delegate, RedisTemplate<String, String> redisTemplate,
+                                   MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+            .buildAsync();
+        log.info("Intent 캐시 초기화: enabled={}, maxSize={}, ttl={}분, redis={}", enabled, maxSize, ttlMinutes, redisEnabled);
+    }
+
+    @Override
+    public Intent classify(String message, boolean isWaitingForConfirmation) {
+        if (!cacheable(message)) {
+            return delegate.classify(message, isWaitingForConfirmation);
+        }
+
+        String key = INTENT_KIND + ":" + isWaitingForConfirmation + ":" + normalize(message);
+        try {
+            String intent = getOrLoad(INTENT_KIND, key,
+                () -> delegate.classifyOrThrow(message, isWaitingForConfirmation).name());
+            return Intent.valueOf(intent);
+        } catch (Exception e) {
+            log.error("Intent 분류 실패 - 메시지: '{}', 에러: {}", message, e.getMessage());
+            return Intent.GENERAL_QUESTION;
+        }
+    }
+
+    @Override
+    public boolean isSpecificTravelQuery(String message) {
+        if (!cacheable(message)) {
+            return delegate.isSpecificTravelQuery(message);
+        }
+
+        String key = SPECIFIC_KIND + ":" + normalize(message);
+        try {
+            return Boolean.parseBoolean(getOrLoad(SPECIFIC_KIND, key,
+                () -> String.valueOf(delegate.isSpecificTravelQueryOrThrow(message))));
+        } catch (Exception e) {
+            log.error("구체적 여행 질문 판단 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    static String normalize(String message) {
+        return WHITESPACE.matcher(message.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    private boolean cacheable(String message) {
+        return enabled && message != null && !message.isBlank() && message.length() <= maxMessageLength;
+    }
+
+    // 키마다 하나의 future만 캐시에 올리고, 그 future를 올린 요청이 직접 분류해 완료한다
+    // (분류는 캐시 잠금 밖에서 호출 스레드가 하고, 같은 키의 다른 요청은 그 future를 기다린다)
+    // 실패로 끝난 future는 Caffeine이 캐시에서 지우므로 다음 요청이 다시 분류한다
+    private String getOrLoad(String kind, String key, Supplier<String> loader) {
+        CompletableFuture<String> loading = new CompletableFuture<>();
+        CompletableFuture<String> cached = localCache.get(key, (k, executor) -> loading);
+        if (cached != loading) {
+            count(kind, "hit", "local");
+            return join(cached);
+        }
+
+        try {
+            loading.complete(load(kind, key, loader));
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+        }
+        return join(loading);
+    }
+
+    private String load(String kind, String key, Supplier<String> loader) {
+        if (redisEnabled) {
+            String shared = readRedis(key);
+            if (shared != null) {
+                count(kind, "hit", "redis");
+                return shared;
+            }
+        }
+
+        count(kind, "miss", "none");
+        String loaded = loader.get();
+        if (redisEnabled) {
+            writeRedis(key, loaded);
+        }
+        return loaded;
+    }
+
+    private static String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    // Redis 오류는 캐시 미스로 보고 분류를 계속한다
+    private String readRedis(String key) {
+        try {
+            return redisTemplate.opsForValue().get(redisKeyPrefix + key);
+        } catch (Exception e) {
+            log.warn("Intent 캐시 Redis 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, String value) {
+        try {
+            redisTemplate.opsForValue().set(redisKeyPrefix + key, value, Duration.ofMinutes(ttlMinutes));
+        } catch (Exception e) {
+            log.warn("Intent 캐시 Redis 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void count(String kind, String result, String tier) {
+        Counter.builder("chat.intent.cache")
+            .description("Intent 분류 캐시 조회 결과")
+            .tag("kind", kind)
+            .tag("result", result)
+            .tag("tier", tier)
+            .register(meterRegistry)
+            .increment();
+    }
+}
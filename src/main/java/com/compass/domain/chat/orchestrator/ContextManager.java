@@ -4,10 +4,17 @@ import com.compass.domain.chat.model.context.TravelContext;
 import com.compass.domain.chat.model.enums.TravelPhase;
 import com.compass.domain.chat.model.request.ChatRequest;
 import com.compass.domain.chat.orchestrator.cache.ContextCache;
+import com.compass.domain.chat.orchestrator.cache.ContextFields;
+import com.compass.domain.chat.orchestrator.cache.PartialContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -15,6 +22,9 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class ContextManager {
 
+    // 버전 충돌 시 다시 읽어 병합하고 저장을 재시도하는 최대 횟수
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
     private final ContextCache contextCache;
 
     public TravelContext getOrCreateContext(String threadId, String userId) {
@@ -27,7 +37,7 @@ public class ContextManager {
             if (existing.getUserId() == null && userId != null) {
                 log.warn("기존 컨텍스트에 userId가 없어 현재 요청의 userId({})로 업데이트합니다.", userId);
                 existing.setUserId(userId);
-                contextCache.put(threadId, existing);
+                writeWithMerge(existing, List.of(ContextFields.USER_ID));
             } else if (existing.getUserId() != null && !existing.getUserId().equals(userId)) {
                 log.error("권한 없는 접근 시도: threadId={}, requestUserId={}, ownerUserId={}",
                         threadId, userId, existing.getUserId());
@@ -38,7 +48,12 @@ public class ContextManager {
         }
 
         var newContext = createNewContext(threadId, userId);
-        contextCache.put(threadId, newContext);
+        if (!contextCache.compareAndSet(threadId, newContext, ContextFields.ALL)
+                && contextCache.get(threadId).isPresent()) {
+            // 같은 스레드를 동시에 만든 요청(폼 중복 제출 등)이 먼저 저장함 - 저장된 컨텍스트를 사용
+            log.info("동시에 생성된 컨텍스트 사용: threadId={}", threadId);
+            return getOrCreateContext(threadId, userId);
+        }
         return newContext;
     }
 
@@ -75,14 +90,106 @@ public class ContextManager {
             }
         }
 
-        contextCache.put(context.getThreadId(), context);
+        writeWithMerge(context, ContextFields.ALL);
+    }
+
+    // 변경된 필드(ContextFields)만 저장 - Phase 전환, 확인 플래그처럼 컨텍스트 일부만 바뀐 경우
+    public void patchContext(TravelContext context, String userId, String... fields) {
+        if (!isValidContext(context)) {
+            log.warn("유효하지 않은 컨텍스트 부분 업데이트 시도");
+            return;
+        }
+
+        var existingOpt = contextCache.getFields(context.getThreadId(), List.of(ContextFields.USER_ID));
+        if (existingOpt.isPresent()) {
+            var ownerUserId = existingOpt.get().getUserId();
+            if (ownerUserId != null && !ownerUserId.equals(userId)) {
+                log.error("권한 없는 업데이트 시도: threadId={}, requestUserId={}, ownerUserId={}",
+                        context.getThreadId(), userId, ownerUserId);
+                throw new SecurityException("다른 사용자의 컨텍스트를 수정할 수 없습니다.");
+            }
+        }
+
+        writeWithMerge(context, List.of(fields));
     }
 
     public void resetContext(String threadId, String userIdOrEmail) {
         if (threadId == null) return;
+        // 초기화는 병합 없이 덮어쓰되, 저장된 버전을 이어받아 동시 쓰기와는 버전으로 구분한다
         var newContext = createNewContext(threadId, userIdOrEmail);
-        contextCache.put(threadId, newContext);
-        log.info("✅ 컨텍스트 초기화 완료: threadId={}, userId={}", threadId, userIdOrEmail);
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            newContext.setVersion(contextCache.getFields(threadId, List.of(ContextFields.VERSION))
+                    .map(PartialContext::getVersion)
+                    .orElse(0L));
+            if (contextCache.compareAndSet(threadId, newContext, ContextFields.ALL)) {
+                log.info("✅ 컨텍스트 초기화 완료: threadId={}, userId={}", threadId, userIdOrEmail);
+                return;
+            }
+        }
+        log.error("컨텍스트 초기화 재시도 초과: threadId={}", threadId);
+        throw new IllegalStateException("같은 대화를 동시에 수정하는 요청이 있습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 버전이 맞을 때만 저장하고, 그사이 다른 요청이 저장했으면 최신 컨텍스트를 병합해 다시 시도
+    // 분산 락 대신 낙관적 동시성 - 충돌하지 않는 대부분의 요청은 Redis 호출 한 번으로 끝난다
+    private void writeWithMerge(TravelContext context, Collection<String> fields) {
+        var threadId = context.getThreadId();
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            if (contextCache.compareAndSet(threadId, context, fields)) {
+                return;
+            }
+            var latest = contextCache.get(threadId);
+            if (latest.isPresent()) {
+                mergeConcurrentChanges(context, latest.get());
+                log.info("컨텍스트 동시 수정 병합: threadId={}, attempt={}, version={}",
+                        threadId, attempt, context.getVersion());
+            }
+        }
+
+        log.error("컨텍스트 저장 재시도 초과: threadId={}, fields={}", threadId, fields);
+        throw new IllegalStateException("같은 대화를 동시에 수정하는 요청이 있습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 최신 컨텍스트에만 있는 항목을 현재 컨텍스트에 합친다 (같은 키는 현재 요청의 값이 우선)
+    // 수집 정보/메타데이터는 키 단위, OCR 일정과 대화 내역은 항목 단위로 합친다
+    private void mergeConcurrentChanges(TravelContext context, TravelContext latest) {
+        if (latest.getCollectedInfo() != null) {
+            latest.getCollectedInfo().forEach((key, value) -> {
+                if (context.getCollectedInfo() == null || !context.getCollectedInfo().containsKey(key)) {
+                    context.updateCollectedInfo(key, value);
+                }
+            });
+        }
+        if (latest.getMetadata() != null) {
+            if (context.getMetadata() == null) {
+                context.setMetadata(new HashMap<>());
+            }
+            latest.getMetadata().forEach(context.getMetadata()::putIfAbsent);
+        }
+        if (latest.getOcrConfirmedSchedules() != null) {
+            latest.getOcrConfirmedSchedules().forEach(context::addOcrSchedule);
+        }
+        if (latest.getOcrRawTexts() != null) {
+            latest.getOcrRawTexts().forEach((type, text) -> {
+                if (context.getOcrRawTexts() == null || !context.getOcrRawTexts().containsKey(type)) {
+                    context.addOcrRawText(type, text);
+                }
+            });
+        }
+        if (latest.getMessageHistory() != null) {
+            if (context.getMessageHistory() == null) {
+                context.setMessageHistory(new ArrayList<>());
+            }
+            var missing = latest.getMessageHistory().stream()
+                    .filter(message -> !context.getMessageHistory().contains(message))
+                    .toList();
+            if (!missing.isEmpty()) {
+                context.getMessageHistory().addAll(missing);
+                context.getMessageHistory().sort(Comparator.comparing(
+                        TravelContext.MessageHistory::getTimestamp, Comparator.nullsFirst(Comparator.naturalOrder())));
+            }
+        }
+        context.setVersion(latest.getVersion());
     }
 
     private TravelContext createNewContext(String threadId, String userId) {
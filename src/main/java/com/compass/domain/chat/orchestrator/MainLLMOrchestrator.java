@@ -1,5 +1,6 @@
 package com.compass.domain.chat.orchestrator;
 
+import com.compass.domain.chat.entity.ChatMessage;
 import com.compass.domain.chat.function.collection.ContinueFollowUpFunction;
 import com.compass.domain.chat.function.collection.StartFollowUpFunction;
 import com.compass.domain.chat.function.collection.SubmitTravelFormFunction;
@@ -11,7 +12,9 @@ import com.compass.domain.chat.model.enums.TravelPhase;
 import com.compass.domain.chat.model.request.ChatRequest;
 import com.compass.domain.chat.model.response.FollowUpResponse;
 import com.compass.domain.chat.model.response.ChatResponse;
+import com.compass.domain.chat.orchestrator.cache.ContextFields;
 import com.compass.domain.chat.service.ChatThreadService;
+import com.compass.domain.chat.service.ChatTurn;
 import com.compass.domain.chat.service.TravelFormWorkflowService;
 import com.compass.domain.chat.service.TravelPlanGenerationService;
 import com.compass.domain.chat.collection.service.FormDataConverter;
@@ -23,6 +26,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -39,17 +43,71 @@ public class MainLLMOrchestrator {
     private final TravelFormWorkflowService travelFormWorkflowService;
     private final TravelPlanGenerationService travelPlanGenerationService;
     private final StageIntegrationService stageIntegrationService;
+    private final ThreadRequestSerializer threadRequestSerializer;
 
     private final SubmitTravelFormFunction submitTravelFormFunction;
     private final StartFollowUpFunction startFollowUpFunction;
     private final RecommendDestinationsFunction recommendDestinationsFunction;
     private final ContinueFollowUpFunction continueFollowUpFunction;
 
+    // 턴 처리 결과 - 응답과 이번 턴에 저장된 메시지(시간순)
+    public record TurnResult(ChatResponse response, List<ChatMessage> messages) {}
+
     /**
      * 모든 채팅 요청의 메인 진입점.
      * 요청에 폼 데이터가 포함되어 있는지 여부에 따라 처리를 분기합니다.
+     * 같은 스레드의 요청은 도착 순서대로 하나씩 처리되어 컨텍스트 쓰기가 섞이지 않습니다.
      */
     public ChatResponse processChat(ChatRequest request) {
+        return processChatTurn(request).response();
+    }
+
+    /**
+     * processChat과 같지만 이번 턴에 저장된 메시지도 함께 반환합니다.
+     * 스레드는 턴 시작 시 바로 만들고, 턴 동안의 메시지와 Phase 저장은 모아 두었다가 턴이 끝날 때 한 트랜잭션으로 저장합니다.
+     */
+    public TurnResult processChatTurn(ChatRequest request) {
+        return threadRequestSerializer.execute(request.getThreadId(), () -> runTurn(request, null));
+    }
+
+    /**
+     * processChatTurn과 같지만 일반 대화의 응답 토큰을 생성되는 대로 tokenListener에 전달합니다 (SSE 스트리밍용).
+     * 응답이 끝날 때까지 호출 스레드를 점유하며, 턴 저장(사용자/어시스턴트 메시지, Phase)은 스트림이 끝난 뒤 한 번에 합니다.
+     * Stage/폼 제출/정보 수집처럼 LLM 스트리밍이 없는 요청은 토큰 없이 완성된 응답만 반환합니다.
+     */
+    public TurnResult processChatStream(ChatRequest request, Consumer<String> tokenListener) {
+        return threadRequestSerializer.execute(request.getThreadId(), () -> runTurn(request, tokenListener));
+    }
+
+    private TurnResult runTurn(ChatRequest request, Consumer<String> tokenListener) {
+        if (request.getThreadId() == null) {
+            return new TurnResult(processChatInOrder(request, tokenListener), List.of());
+        }
+
+        var turn = ChatTurn.begin(request.getThreadId(), request.getUserId());
+        ChatResponse response;
+        try {
+            response = processChatInOrder(request, tokenListener);
+        } catch (RuntimeException e) {
+            // 실패한 턴도 그때까지 기록된 메시지(사용자 메시지 등)는 남긴다
+            turn.end();
+            saveTurnQuietly(turn);
+            throw e;
+        } finally {
+            turn.end();
+        }
+        return new TurnResult(response, chatThreadService.saveTurn(turn));
+    }
+
+    private void saveTurnQuietly(ChatTurn turn) {
+        try {
+            chatThreadService.saveTurn(turn);
+        } catch (Exception e) {
+            log.error("실패한 턴 저장 실패: threadId={}, error={}", turn.getThreadId(), e.getMessage());
+        }
+    }
+
+    private ChatResponse processChatInOrder(ChatRequest request, Consumer<String> tokenListener) {
         // MDC를 사용하여 로그에 컨텍스트 정보(threadId, userId)를 추가합니다.
         MDC.put("threadId", request.getThreadId());
         MDC.put("userId", request.getUserId());
@@ -74,7 +132,7 @@ public class MainLLMOrchestrator {
             }
 
             // 3. 폼 데이터가 없는 일반 대화 요청을 처리합니다.
-            return handleGeneralChatMessage(request);
+            return handleGeneralChatMessage(request, tokenListener);
 
         } finally {
             // 요청 처리가 끝나면 MDC에서 정보를 제거합니다.
@@ -317,7 +375,7 @@ public class MainLLMOrchestrator {
     /**
      * 일반적인 대화 메시지를 처리하는 메서드입니다.
      */
-    private ChatResponse handleGeneralChatMessage(ChatRequest request) {
+    private ChatResponse handleGeneralChatMessage(ChatRequest request, Consumer<String> tokenListener) {
         var context = contextManager.getOrCreateContext(request);
         context.incrementConversation();
 
@@ -338,7 +396,8 @@ public class MainLLMOrchestrator {
 
             if (TravelPhase.PLAN_GENERATION.name().equals(functionResponse.getPhase())) {
                 context.setCurrentPhase(TravelPhase.PLAN_GENERATION.name());
-                contextManager.updateContext(context, context.getUserId());
+                contextManager.patchContext(context, context.getUserId(),
+                        ContextFields.CURRENT_PHASE, ContextFields.CONVERSATION_COUNT, ContextFields.UPDATED_AT);
             }
 
             saveSystemMessage(request.getThreadId(), functionResponse.getContent());
@@ -353,7 +412,9 @@ public class MainLLMOrchestrator {
         var nextPhase = handlePhaseTransition(currentPhase, intent, context);
         handleConfirmationStatus(intent, context);
 
-        var response = responseGenerator.generateResponse(request, intent, nextPhase, context, promptBuilder);
+        var response = tokenListener == null
+                ? responseGenerator.generateResponse(request, intent, nextPhase, context, promptBuilder)
+                : responseGenerator.generateResponse(request, intent, nextPhase, context, promptBuilder, tokenListener);
         saveSystemMessage(request.getThreadId(), response.getContent());
         // Phase와 ThreadId 정보 추가
         response.setPhase(nextPhase.name());
@@ -371,7 +432,8 @@ public class MainLLMOrchestrator {
                 log.info("║ 다른 의도 감지 (Intent: {}) - 확인 대기 상태 해제", intent);
                 context.setWaitingForTravelConfirmation(false);
             }
-            contextManager.updateContext(context, context.getUserId());
+            contextManager.patchContext(context, context.getUserId(),
+                    ContextFields.WAITING_FOR_TRAVEL_CONFIRMATION, ContextFields.CONVERSATION_COUNT, ContextFields.UPDATED_AT);
         }
     }
 
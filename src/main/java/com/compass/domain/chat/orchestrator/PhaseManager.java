@@ -5,6 +5,7 @@ import com.compass.domain.chat.model.dto.ConfirmedSchedule;
 import com.compass.domain.chat.model.enums.DocumentType;
 import com.compass.domain.chat.model.enums.Intent;
 import com.compass.domain.chat.model.enums.TravelPhase;
+import com.compass.domain.chat.orchestrator.cache.ContextFields;
 import com.compass.domain.chat.orchestrator.cache.PhaseCache;
 import com.compass.domain.chat.orchestrator.persistence.PhasePersistence;
 import com.compass.domain.chat.orchestrator.strategy.PhaseLoadStrategy;
@@ -161,7 +162,7 @@ public class PhaseManager {
         if (intent == Intent.TRAVEL_PLANNING) {
             log.info("TRAVEL_PLANNING Intent로 INFORMATION_COLLECTION 전환");
             context.setWaitingForTravelConfirmation(false);
-            contextManager.updateContext(context, context.getUserId());
+            contextManager.patchContext(context, context.getUserId(), ContextFields.WAITING_FOR_TRAVEL_CONFIRMATION);
             return TravelPhase.INFORMATION_COLLECTION;
         }
 
@@ -170,8 +171,8 @@ public class PhaseManager {
             context.getConversationCount() >= 2) {
             log.debug("여행 관련 대화 지속 - 확인 대기");
             context.setWaitingForTravelConfirmation(true);
-            // ContextManager를 통해 변경사항 저장
-            contextManager.updateContext(context, context.getUserId());
+            // ContextManager를 통해 변경사항 저장 (확인 대기 플래그만)
+            contextManager.patchContext(context, context.getUserId(), ContextFields.WAITING_FOR_TRAVEL_CONFIRMATION);
             return currentPhase; // INITIALIZATION 유지
         }
 
@@ -357,8 +358,9 @@ public class PhaseManager {
                 savePhase(threadId, TravelPhase.INFORMATION_COLLECTION);
             }
 
-            // Context 저장
-            contextManager.updateContext(context, context.getUserId());
+            // Context 저장 (OCR 일정 필드만)
+            contextManager.patchContext(context, context.getUserId(),
+                    ContextFields.OCR_CONFIRMED_SCHEDULES, ContextFields.UPDATED_AT);
 
             log.info("OCR 일정 저장 완료 - 총 {}개의 확정 일정",
                     context.getOcrConfirmedSchedules().size());
@@ -383,7 +385,7 @@ public class PhaseManager {
 
             // OCR 원본 텍스트 저장
             context.addOcrRawText(type, text);
-            contextManager.updateContext(context, context.getUserId());
+            contextManager.patchContext(context, context.getUserId(), ContextFields.OCR_RAW_TEXTS, ContextFields.UPDATED_AT);
 
             log.info("OCR 원본 텍스트 저장 완료");
         } finally {
@@ -18,6 +18,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 // 응답 생성기 - Intent와 Phase에 따른 적절한 응답 생성
 @Slf4j
@@ -34,6 +36,14 @@ public class ResponseGenerator {
     // 통합 응답 생성 (PromptBuilder 추가)
     public ChatResponse generateResponse(ChatRequest request, Intent intent, TravelPhase phase,
                                         TravelContext context, PromptBuilder promptBuilder) {
+        return generateResponse(request, intent, phase, context, promptBuilder, null);
+    }
+
+    // 스트리밍 응답 생성 - LLM 응답은 토큰(청크)을 받는 대로 tokenListener에 전달하고,
+    // LLM을 거치지 않는 응답(폼 안내, Mock 등)은 완성된 내용을 한 번에 전달한다. 반환값은 전체 내용을 담은 응답
+    public ChatResponse generateResponse(ChatRequest request, Intent intent, TravelPhase phase,
+                                        TravelContext context, PromptBuilder promptBuilder,
+                                        Consumer<String> tokenListener) {
         MDC.put("intent", intent.name());
         MDC.put("phase", phase.name());
 
@@ -48,6 +58,11 @@ public class ResponseGenerator {
         // QUICK_FORM인 경우 간단한 폼 안내 메시지만 생성 (LLM 호출 안 함)
         String content;
         boolean requiresConfirmation = shouldAskForConfirmation(phase);
+        var streamed = new AtomicBoolean(false);
+        Consumer<String> contentListener = tokenListener == null ? null : token -> {
+            streamed.set(true);
+            tokenListener.accept(token);
+        };
 
         if ("QUICK_FORM".equals(responseType)) {
             log.debug("QUICK_FORM 타입 - 폼 안내 메시지 반환");
@@ -56,15 +71,23 @@ public class ResponseGenerator {
         } else {
             log.debug("일반 응답 생성 - ResponseType: {}", responseType);
             // QUICK_FORM이 아닌 경우에만 LLM 응답 생성
-            content = generateContent(request, intent, phase, context, promptBuilder);
+            content = generateContent(request, intent, phase, context, promptBuilder, contentListener);
 
             // 확인 프롬프트 추가
             if (requiresConfirmation && phase == TravelPhase.INITIALIZATION) {
                 // INITIALIZATION 단계에서는 사용자 의사 확인 필요
-                content += generateConfirmationPrompt(phase);
+                String confirmationPrompt = generateConfirmationPrompt(phase);
+                content += confirmationPrompt;
+                if (streamed.get()) {
+                    contentListener.accept(confirmationPrompt);
+                }
             }
         }
 
+        if (tokenListener != null && !streamed.get()) {
+            tokenListener.accept(content);
+        }
+
         // 응답 데이터 구성
         var responseData = buildResponseData(intent, phase, context);
         log.debug("ResponseData 존재: {}", responseData != null);
@@ -97,7 +120,8 @@ public class ResponseGenerator {
 
     // 콘텐츠 생성 (PromptBuilder 활용)
     private String generateContent(ChatRequest request, Intent intent, TravelPhase phase,
-                                  TravelContext context, PromptBuilder promptBuilder) {
+                                  TravelContext context, PromptBuilder promptBuilder,
+                                  Consumer<String> tokenListener) {
         // QUICK_FORM 타입인 경우 간단한 안내 메시지만 반환
         String responseType = determineResponseType(intent, phase, context);
         log.debug("Content 생성 - ResponseType: {}", responseType);
@@ -116,7 +140,7 @@ public class ResponseGenerator {
 
         // ChatModel이 설정되어 있으면 LLM 사용, 아니면 Mock 응답
         if (chatModel != null) {
-            return generateLLMResponse(request, intent, phase, context, promptBuilder);
+            return generateLLMResponse(request, intent, phase, context, promptBuilder, tokenListener);
         } else {
             log.debug("ChatModel 없음 - Mock 응답 반환");
             return generateMockResponse(request, intent, phase);
@@ -125,12 +149,19 @@ public class ResponseGenerator {
 
     // 오버로드 메소드 (이전 버전 호환성)
     private String generateContent(ChatRequest request, Intent intent, TravelPhase phase, TravelContext context) {
-        return generateContent(request, intent, phase, context, null);
+        return generateContent(request, intent, phase, context, null, null);
     }
 
     // LLM을 통한 응답 생성 (PromptBuilder 활용)
     public String generateLLMResponse(ChatRequest request, Intent intent, TravelPhase phase,
                                      TravelContext context, PromptBuilder promptBuilder) {
+        return generateLLMResponse(request, intent, phase, context, promptBuilder, null);
+    }
+
+    // tokenListener가 있으면 스트리밍 호출
+    private String generateLLMResponse(ChatRequest request, Intent intent, TravelPhase phase,
+                                      TravelContext context, PromptBuilder promptBuilder,
+                                      Consumer<String> tokenListener) {
         try {
             // PromptBuilder를 사용한 정교한 프롬프트 생성
             String prompt;
@@ -146,8 +177,9 @@ public class ResponseGenerator {
 
             // LLM 응답 요청
             log.debug("LLM 응답 요청 - Intent: {}, Phase: {}", intent, phase);
-            String llmResponse = getBasicLLMResponse(prompt);
-            return llmResponse;
+            return tokenListener == null
+                ? getBasicLLMResponse(prompt)
+                : getStreamingLLMResponse(prompt, tokenListener);
         } catch (Exception e) {
             log.error("LLM 응답 생성 실패", e);
             return generateMockResponse(request, intent, phase);
@@ -207,6 +239,35 @@ public class ResponseGenerator {
         }
     }
 
+    // 스트리밍 LLM 호출 - 청크를 받는 대로 전달하고 이어 붙인 전체 응답을 반환
+    // 중간에 실패하면 이미 전달한 부분까지를 응답으로 본다 (저장되는 내용과 사용자가 본 내용이 같도록)
+    // 스트리밍 요청이 취소되어 스레드가 중단되면 반복이 끝나면서 LLM 스트림 구독도 취소된다 (역시 전달한 부분까지 저장)
+    private String getStreamingLLMResponse(String prompt, Consumer<String> tokenListener) {
+        var content = new StringBuilder();
+        try {
+            for (var chunk : chatModel.stream(new Prompt(prompt)).toIterable()) {
+                String token = textOf(chunk);
+                if (token != null && !token.isEmpty()) {
+                    content.append(token);
+                    tokenListener.accept(token);
+                }
+            }
+            log.debug("LLM 스트리밍 응답 완료: {}자", content.length());
+            return content.toString();
+        } catch (Exception e) {
+            log.error("LLM 스트리밍 호출 실패 - 전달된 길이: {}자", content.length(), e);
+            return content.length() > 0 ? content.toString() : "죄송합니다, 일시적인 오류가 발생했습니다.";
+        }
+    }
+
+    // 스트림 청크의 텍스트 (메타데이터만 담긴 마지막 청크는 null)
+    private String textOf(org.springframework.ai.chat.model.ChatResponse chunk) {
+        if (chunk == null || chunk.getResult() == null || chunk.getResult().getOutput() == null) {
+            return null;
+        }
+        return chunk.getResult().getOutput().getContent();
+    }
+
     // Mock 응답 생성 (ChatModel 없을 때)
     private String generateMockResponse(ChatRequest request, Intent intent, TravelPhase phase) {
         log.debug("Mock 응답 생성 - Intent: {}, Phase: {}", intent, phase);
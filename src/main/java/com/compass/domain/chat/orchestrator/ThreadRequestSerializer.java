@@ -0,0 +1,96 @@
+package com.compass.domain.chat.orchestrator;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// threadId별 요청 직렬화 - 같은 대화의 요청은 도착 순서대로 하나씩, 다른 대화의 요청은 서로 기다리지 않고 병렬로 처리
+// 별도 작업 스레드 없이 요청 스레드가 대화별 공정(FIFO) 락을 잡고 실행하며, 대기 중인 요청이 없어지면 락도 제거한다
+@Slf4j
+@Component
+public class ThreadRequestSerializer {
+
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final Timer waitTimer;
+
+    // 앞선 요청(LLM 호출 포함)을 기다리는 최대 시간 - 넘기면 409로 응답
+    @Value("${chat.thread-serializer.max-wait-seconds:120}")
+    private long maxWaitSeconds = 120;
+
+    public ThreadRequestSerializer(MeterRegistry meterRegistry) {
+        this.waitTimer = Timer.builder("chat.thread.queue.wait")
+            .description("같은 대화의 앞선 요청이 끝나기를 기다린 시간")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("chat.thread.queue.depth", waiting, AtomicInteger::get)
+            .description("앞선 요청을 기다리는 요청 수")
+            .register(meterRegistry);
+        Gauge.builder("chat.thread.lanes.active", lanes, Map::size)
+            .description("처리 중이거나 대기 중인 요청이 있는 대화 수")
+            .register(meterRegistry);
+    }
+
+    // 같은 threadId의 앞선 요청이 모두 끝난 뒤 task 실행 (threadId가 없으면 바로 실행)
+    public <T> T execute(String threadId, Supplier<T> task) {
+        if (threadId == null) {
+            return task.get();
+        }
+
+        Lane lane = lanes.compute(threadId, (key, existing) -> {
+            Lane joined = existing != null ? existing : new Lane();
+            joined.users++;
+            return joined;
+        });
+        try {
+            acquire(threadId, lane);
+            try {
+                return task.get();
+            } finally {
+                lane.lock.unlock();
+            }
+        } finally {
+            lanes.computeIfPresent(threadId, (key, joined) -> --joined.users == 0 ? null : joined);
+        }
+    }
+
+    int activeLanes() {
+        return lanes.size();
+    }
+
+    private void acquire(String threadId, Lane lane) {
+        long start = System.nanoTime();
+        waiting.incrementAndGet();
+        boolean acquired;
+        try {
+            acquired = lane.lock.tryLock(maxWaitSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이전 요청을 기다리는 중 중단되었습니다.", e);
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            log.warn("같은 대화의 이전 요청 대기 시간 초과: threadId={}, maxWait={}초", threadId, maxWaitSeconds);
+            throw new IllegalStateException("같은 대화의 이전 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 대화별 공정 락 + 참조 수 (참조 수는 lanes의 compute 안에서만 바꾼다)
+    private static final class Lane {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int users;
+    }
+}
@@ -1,6 +1,7 @@
 package com.compass.domain.chat.orchestrator.cache;
 
 import com.compass.domain.chat.model.context.TravelContext;
+import java.util.Collection;
 import java.util.Optional;
 
 // 컨텍스트 캐시 인터페이스
@@ -9,9 +10,28 @@ public interface ContextCache {
     // 캐시에서 컨텍스트 조회
     Optional<TravelContext> get(String threadId);
 
+    // 필요한 필드(ContextFields)만 조회 - 읽지 않은 필드는 꺼낼 수 없는 PartialContext로 돌려준다
+    // (TravelContext로 돌려주면 나머지 필드가 기본값인 채로 put/patch되어 저장된 값을 지울 수 있다)
+    default Optional<PartialContext> getFields(String threadId, Collection<String> fields) {
+        return get(threadId).map(PartialContext::full);
+    }
+
     // 캐시에 컨텍스트 저장
     void put(String threadId, TravelContext context);
 
+    // 변경된 필드(ContextFields)만 저장
+    default void patch(String threadId, TravelContext context, Collection<String> fields) {
+        put(threadId, context);
+    }
+
+    // 저장된 버전이 context.getVersion()과 같을 때만 필드를 저장하고 버전을 1 올린다
+    // 다른 쓰기가 먼저 끝나 버전이 달라졌으면 저장하지 않고 false (context의 버전도 그대로)
+    default boolean compareAndSet(String threadId, TravelContext context, Collection<String> fields) {
+        context.setVersion(context.getVersion() + 1);
+        patch(threadId, context, fields);
+        return true;
+    }
+
     // 캐시에서 컨텍스트 삭제
     void evict(String threadId);
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.compass.domain.chat.orchestrator.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+
+// 컨텍스트 필드 값 <-> Redis 저장 바이트 변환 (RedisContextCacheImpl에서 사용)
+public interface ContextCodec {
+
+    // 필드 값을 저장 형식으로 인코딩
+    byte[] encode(Object value) throws IOException;
+
+    // 저장된 바이트를 JSON 트리로 디코딩 - 이전에 저장된 JSON 텍스트도 읽을 수 있어야 한다
+    JsonNode decode(byte[] bytes) throws IOException;
+}
@@ -0,0 +1,57 @@
+package com.compass.domain.chat.orchestrator.cache;
+
+import com.compass.domain.chat.model.context.TravelContext;
+
+import java.util.List;
+
+// TravelContext를 Redis 해시로 저장할 때의 필드 이름 (TravelContext JSON 프로퍼티 이름과 같다)
+// TravelContext에 저장 대상 필드를 추가하면 ALL과 valueOf에도 추가해야 한다
+public final class ContextFields {
+
+    public static final String THREAD_ID = "threadId";
+    public static final String USER_ID = "userId";
+    public static final String CURRENT_PHASE = "currentPhase";
+    public static final String CURRENT_INTENT = "currentIntent";
+    public static final String COLLECTED_INFO = "collectedInfo";
+    public static final String TRAVEL_PLAN = "travelPlan";
+    public static final String MESSAGE_HISTORY = "messageHistory";
+    public static final String CONVERSATION_COUNT = "conversationCount";
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
+    public static final String METADATA = "metadata";
+    public static final String WAITING_FOR_TRAVEL_CONFIRMATION = "waitingForTravelConfirmation";
+    public static final String OCR_CONFIRMED_SCHEDULES = "ocrConfirmedSchedules";
+    public static final String OCR_RAW_TEXTS = "ocrRawTexts";
+    public static final String VERSION = "version";
+
+    public static final List<String> ALL = List.of(
+        THREAD_ID, USER_ID, CURRENT_PHASE, CURRENT_INTENT, COLLECTED_INFO, TRAVEL_PLAN, MESSAGE_HISTORY,
+        CONVERSATION_COUNT, CREATED_AT, UPDATED_AT, METADATA, WAITING_FOR_TRAVEL_CONFIRMATION,
+        OCR_CONFIRMED_SCHEDULES, OCR_RAW_TEXTS, VERSION
+    );
+
+    private ContextFields() {
+    }
+
+    // 필드 이름에 해당하는 값
+    public static Object valueOf(TravelContext context, String field) {
+        return switch (field) {
+            case THREAD_ID -> context.getThreadId();
+            case USER_ID -> context.getUserId();
+            case CURRENT_PHASE -> context.getCurrentPhase();
+            case CURRENT_INTENT -> context.getCurrentIntent();
+            case COLLECTED_INFO -> context.getCollectedInfo();
+            case TRAVEL_PLAN -> context.getTravelPlan();
+            case MESSAGE_HISTORY -> context.getMessageHistory();
+            case CONVERSATION_COUNT -> context.getConversationCount();
+            case CREATED_AT -> context.getCreatedAt();
+            case UPDATED_AT -> context.getUpdatedAt();
+            case METADATA -> context.getMetadata();
+            case WAITING_FOR_TRAVEL_CONFIRMATION -> context.isWaitingForTravelConfirmation();
+            case OCR_CONFIRMED_SCHEDULES -> context.getOcrConfirmedSchedules();
+            case OCR_RAW_TEXTS -> context.getOcrRawTexts();
+            case VERSION -> context.getVersion();
+            default -> throw new IllegalArgumentException("알 수 없는 컨텍스트 필드: " + field);
+        };
+    }
+}
@@ -0,0 +1,58 @@
+package com.compass.domain.chat.orchestrator.cache;
+
+import com.compass.domain.chat.model.context.TravelContext;
+
+import java.util.Collection;
+import java.util.Set;
+
+// 일부 필드(ContextFields)만 읽은 컨텍스트 - 소유자 확인, 버전 조회처럼 몇 개 필드만 필요한 경로용
+// 읽지 않은 필드는 기본값이 아니라 "모름"이므로 TravelContext로 돌려주지 않는다 (put/patch에 넘겨 저장된 값을 지우는 일을 막는다)
+// 읽지 않은 필드를 꺼내면 IllegalStateException
+public final class PartialContext {
+
+    private final TravelContext values;
+    private final Set<String> fields;
+
+    private PartialContext(TravelContext values, Collection<String> fields) {
+        this.values = values;
+        this.fields = Set.copyOf(fields);
+    }
+
+    // values에서 fields만 읽은 것으로 본다 (values의 나머지 필드는 쓰지 않는다)
+    public static PartialContext of(TravelContext values, Collection<String> fields) {
+        return new PartialContext(values, fields);
+    }
+
+    // 전체 컨텍스트를 읽은 경우 (L1 적중, 이전 형식 키)
+    public static PartialContext full(TravelContext context) {
+        return new PartialContext(context, ContextFields.ALL);
+    }
+
+    public boolean contains(String field) {
+        return fields.contains(field);
+    }
+
+    public Set<String> fields() {
+        return fields;
+    }
+
+    public Object value(String field) {
+        if (!fields.contains(field)) {
+            throw new IllegalStateException("읽지 않은 컨텍스트 필드입니다: " + field + " (읽은 필드: " + fields + ")");
+        }
+        return ContextFields.valueOf(values, field);
+    }
+
+    public String getThreadId() {
+        return (String) value(ContextFields.THREAD_ID);
+    }
+
+    public String getUserId() {
+        return (String) value(ContextFields.USER_ID);
+    }
+
+    // 저장된 버전 필드가 없으면(버전 도입 전 해시) 0
+    public long getVersion() {
+        return fields.contains(ContextFields.VERSION) ? values.getVersion() : 0L;
+    }
+}
@@ -2,57 +2,116 @@ package com.compass.domain.chat.orchestrator.cache;
 
 import com.compass.domain.chat.model.context.TravelContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 // Redis 기반 Context 캐시 구현체
+// 컨텍스트를 필드(ContextFields)별 값을 가진 해시로 저장해 Phase/확인 플래그 같은 작은 변경은 해당 필드만 쓴다
+// 필드 값의 저장 형식(Smile/LZ4, JSON)은 ContextCodec이 정한다
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisContextCacheImpl implements ContextCache {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    // 해시가 있을 때만 필드를 덮어쓰고 TTL 갱신 (만료된 컨텍스트에 일부 필드만 남지 않도록)
+    private static final RedisScript<Long> PATCH_IF_EXISTS = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end " +
+        "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+        "return 1",
+        Long.class);
+
+    // 저장된 버전(없으면 0)이 기대 버전과 같을 때만 필드를 덮어쓴다 - 1: 저장, 0: 버전 충돌, -1: 해시 없음(부분 저장일 때)
+    // ARGV = [TTL(초), 기대 버전, 해시 필요 여부(1/0), 필드1, 값1, ...]
+    private static final RedisScript<Long> COMPARE_AND_SET = new DefaultRedisScript<>(
+        "local exists = redis.call('EXISTS', KEYS[1]) == 1 " +
+        "if not exists and ARGV[3] == '1' then return -1 end " +
+        "if exists and (tonumber(redis.call('HGET', KEYS[1], '" + ContextFields.VERSION + "')) or 0) ~= tonumber(ARGV[2]) then return 0 end " +
+        "for i = 4, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+        "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+        "return 1",
+        Long.class);
+
+    private final RedisTemplate<String, byte[]> contextRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final ContextCodec codec;
 
+    // 이전 형식(컨텍스트 전체 JSON 문자열) 키 - 남아 있는 동안 읽기만 한다
     @Value("${context.cache.key-prefix:context:thread:}")
     private String keyPrefix;
 
+    @Value("${context.cache.hash-key-prefix:context:hash:}")
+    private String hashKeyPrefix;
+
     @Value("${context.cache.ttl-hours:24}")
     private long ttlHours;
 
     @Override
     public Optional<TravelContext> get(String threadId) {
-        String key = keyPrefix + threadId;
-        String contextJson = redisTemplate.opsForValue().get(key);
-
-        if (contextJson != null) {
-            try {
-                TravelContext context = objectMapper.readValue(contextJson, TravelContext.class);
-                log.debug("Redis 캐시 적중: threadId={}, userId={}, phase={}, waitingForConfirmation={}",
-                    threadId, context.getUserId(), context.getCurrentPhase(), context.isWaitingForTravelConfirmation());
-                return Optional.of(context);
-            } catch (Exception e) {
-                log.error("컨텍스트 역직렬화 실패: threadId={}, error={}", threadId, e.getMessage());
-                return Optional.empty();
-            }
+        Map<String, byte[]> entries = hashOperations().entries(hashKeyPrefix + threadId);
+        if (entries.isEmpty()) {
+            return getLegacy(threadId);
         }
+        return assemble(threadId, entries);
+    }
+
+    @Override
+    public Optional<PartialContext> getFields(String threadId, Collection<String> fields) {
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add(ContextFields.THREAD_ID);
+        requested.add(ContextFields.USER_ID);
+        requested.addAll(fields);
+        List<String> keys = new ArrayList<>(requested);
 
-        log.debug("Redis 캐시 미스: threadId={}", threadId);
-        return Optional.empty();
+        List<byte[]> values = hashOperations().multiGet(hashKeyPrefix + threadId, keys);
+        Map<String, byte[]> found = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (values.get(i) != null) {
+                found.put(keys.get(i), values.get(i));
+            }
+        }
+        if (found.isEmpty()) {
+            return getLegacy(threadId).map(PartialContext::full);
+        }
+        return assemble(threadId, found).map(context -> PartialContext.of(context, found.keySet()));
     }
 
     @Override
     public void put(String threadId, TravelContext context) {
-        String key = keyPrefix + threadId;
+        String key = hashKeyPrefix + threadId;
         try {
-            String contextJson = objectMapper.writeValueAsString(context);
-            redisTemplate.opsForValue().set(key, contextJson, Duration.ofHours(ttlHours));
+            Map<String, byte[]> fields = serialize(context, ContextFields.ALL);
+            Duration ttl = Duration.ofHours(ttlHours);
+            contextRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, byte[]> ops = (RedisOperations<String, byte[]>) operations;
+                    ops.opsForHash().putAll(key, fields);
+                    ops.expire(key, ttl);
+                    return null;
+                }
+            });
             log.debug("Redis 캐시 저장: threadId={}, userId={}, phase={}, waitingForConfirmation={}",
                 threadId, context.getUserId(), context.getCurrentPhase(), context.isWaitingForTravelConfirmation());
         } catch (Exception e) {
@@ -60,10 +119,127 @@ public class RedisContextCacheImpl implements ContextCache {
         }
     }
 
+    @Override
+    public void patch(String threadId, TravelContext context, Collection<String> fields) {
+        try {
+            Map<String, byte[]> changed = serialize(context, fields);
+            List<byte[]> args = new ArrayList<>(changed.size() * 2 + 1);
+            args.add(utf8(String.valueOf(Duration.ofHours(ttlHours).toSeconds())));
+            changed.forEach((field, value) -> {
+                args.add(utf8(field));
+                args.add(value);
+            });
+
+            Long applied = contextRedisTemplate.execute(PATCH_IF_EXISTS, List.of(hashKeyPrefix + threadId), args.toArray());
+            if (applied == null || applied == 0L) {
+                // 해시가 없으면(만료 또는 이전 형식) 전체 저장
+                put(threadId, context);
+                return;
+            }
+            log.debug("Redis 캐시 부분 저장: threadId={}, fields={}", threadId, changed.keySet());
+        } catch (Exception e) {
+            log.error("컨텍스트 부분 저장 실패: threadId={}, fields={}, error={}", threadId, fields, e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean compareAndSet(String threadId, TravelContext context, Collection<String> fields) {
+        long expectedVersion = context.getVersion();
+        context.setVersion(expectedVersion + 1);
+        try {
+            Set<String> written = new LinkedHashSet<>(fields);
+            written.add(ContextFields.VERSION);
+            boolean partial = !written.containsAll(ContextFields.ALL);
+
+            long result = executeCompareAndSet(threadId, context, written, expectedVersion, partial);
+            if (result < 0) {
+                // 해시가 없으면(만료 또는 이전 형식) 전체 저장
+                result = executeCompareAndSet(threadId, context, ContextFields.ALL, expectedVersion, false);
+            }
+            if (result == 1L) {
+                log.debug("Redis 캐시 저장: threadId={}, version={}, fields={}", threadId, context.getVersion(), written);
+                return true;
+            }
+            context.setVersion(expectedVersion);
+            log.debug("컨텍스트 버전 충돌: threadId={}, expectedVersion={}", threadId, expectedVersion);
+            return false;
+        } catch (Exception e) {
+            // 저장되지 않았으므로 false - 호출자가 다시 읽고 재시도하며, 재시도를 넘기면 실패를 드러낸다
+            // (true를 돌려주면 저장되지 않은 컨텍스트가 L1에 올라가고 다른 노드에 무효화가 발행된다)
+            context.setVersion(expectedVersion);
+            log.error("컨텍스트 저장 실패: threadId={}, fields={}, error={}", threadId, fields, e.getMessage());
+            return false;
+        }
+    }
+
     @Override
     public void evict(String threadId) {
-        String key = keyPrefix + threadId;
-        redisTemplate.delete(key);
+        contextRedisTemplate.delete(List.of(hashKeyPrefix + threadId, keyPrefix + threadId));
         log.debug("Redis 캐시 삭제: threadId={}", threadId);
     }
-}
\ No newline at end of file
+
+    private long executeCompareAndSet(String threadId, TravelContext context, Collection<String> fields,
+                                      long expectedVersion, boolean requireExisting) throws Exception {
+        Map<String, byte[]> changed = serialize(context, fields);
+        List<byte[]> args = new ArrayList<>(changed.size() * 2 + 3);
+        args.add(utf8(String.valueOf(Duration.ofHours(ttlHours).toSeconds())));
+        args.add(utf8(String.valueOf(expectedVersion)));
+        args.add(utf8(requireExisting ? "1" : "0"));
+        changed.forEach((field, value) -> {
+            args.add(utf8(field));
+            args.add(value);
+        });
+
+        Long result = contextRedisTemplate.execute(COMPARE_AND_SET, List.of(hashKeyPrefix + threadId), args.toArray());
+        return result == null ? 0L : result;
+    }
+
+    private HashOperations<String, String, byte[]> hashOperations() {
+        return contextRedisTemplate.opsForHash();
+    }
+
+    private Map<String, byte[]> serialize(TravelContext context, Collection<String> fields) throws Exception {
+        Map<String, byte[]> serialized = new LinkedHashMap<>();
+        for (String field : fields) {
+            // 버전은 Lua 스크립트가 비교할 수 있도록 숫자 문자열 그대로 저장 (JSON으로도 읽힌다)
+            serialized.put(field, ContextFields.VERSION.equals(field)
+                ? utf8(String.valueOf(context.getVersion()))
+                : codec.encode(ContextFields.valueOf(context, field)));
+        }
+        return serialized;
+    }
+
+    // 필드별 값을 하나의 JSON 트리로 모아 역직렬화 (전체 JSON을 읽던 때와 같은 규칙)
+    private Optional<TravelContext> assemble(String threadId, Map<String, byte[]> fields) {
+        try {
+            ObjectNode node = objectMapper.createObjectNode();
+            for (Map.Entry<String, byte[]> field : fields.entrySet()) {
+                node.set(field.getKey(), codec.decode(field.getValue()));
+            }
+            TravelContext context = objectMapper.treeToValue(node, TravelContext.class);
+            log.debug("Redis 캐시 적중: threadId={}, fields={}, phase={}", threadId, fields.size(), context.getCurrentPhase());
+            return Optional.of(context);
+        } catch (Exception e) {
+            log.error("컨텍스트 역직렬화 실패: threadId={}, error={}", threadId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Optional<TravelContext> getLegacy(String threadId) {
+        byte[] contextJson = contextRedisTemplate.opsForValue().get(keyPrefix + threadId);
+        if (contextJson == null) {
+            log.debug("Redis 캐시 미스: threadId={}", threadId);
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(contextJson, TravelContext.class));
+        } catch (Exception e) {
+            log.error("컨텍스트 역직렬화 실패: threadId={}, error={}", threadId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
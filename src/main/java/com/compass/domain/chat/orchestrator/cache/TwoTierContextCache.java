@@ -0,0 +1,197 @@
+package com.compass.domain.chat.orchestrator.cache;
+
+import com.compass.domain.chat.model.context.TravelContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 2단 Context 캐시 - 노드별 메모리 L1(Caffeine) + Redis L2(RedisContextCacheImpl)
+// 한 턴에서 여러 번 하는 조회는 L1에서 끝나고, 다른 노드의 쓰기는 Redis pub/sub 무효화 메시지로 L1에서 제거된다
+// L1은 인코딩된 바이트(ContextCodec)를 들고 조회마다 새 인스턴스로 복원한다
+// 호출자(비동기 OCR 리스너, 실패한 턴 포함)가 돌려받은 컨텍스트를 고쳐도 저장 전까지는 L1에 반영되지 않는다
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class TwoTierContextCache implements ContextCache, MessageListener {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final RedisContextCacheImpl redisCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ContextCodec codec;
+    private final ObjectMapper objectMapper;
+
+    // 노드 식별자 - 자기가 보낸 무효화 메시지는 무시
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // threadId 해시 구간별 무효화 세대 - L2 조회 중에 무효화가 오면 읽은 값을 L1에 넣지 않는다
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    @Value("${context.cache.l1.max-size:10000}")
+    private long maxSize;
+
+    // pub/sub 메시지가 유실돼도 오래된 컨텍스트가 계속 남지 않도록 마지막 접근 기준 만료
+    @Value("${context.cache.l1.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    @Value("${context.cache.invalidation-channel:context:invalidate}")
+    private String invalidationChannel;
+
+    private Cache<String, byte[]> localCache;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterAccess(Duration.ofMinutes(ttlMinutes))
+            .build();
+        log.info("Context L1 캐시 초기화: nodeId={}, maxSize={}, ttl={}분", nodeId, maxSize, ttlMinutes);
+    }
+
+    @Override
+    public Optional<TravelContext> get(String threadId) {
+        Optional<TravelContext> cached = getLocal(threadId);
+        if (cached.isPresent()) {
+            log.debug("L1 캐시 적중: threadId={}", threadId);
+            return cached;
+        }
+
+        long generation = generations.get(stripeOf(threadId));
+        Optional<TravelContext> loaded = redisCache.get(threadId);
+        loaded.ifPresent(context -> {
+            if (generations.get(stripeOf(threadId)) == generation) {
+                putLocal(threadId, context);
+            }
+        });
+        return loaded;
+    }
+
+    // L1에 있으면 전체 컨텍스트, 없으면 요청한 필드만 L2에서 읽는다 (일부 필드만 가진 값은 L1에 넣지 않음)
+    @Override
+    public Optional<PartialContext> getFields(String threadId, Collection<String> fields) {
+        Optional<TravelContext> cached = getLocal(threadId);
+        if (cached.isPresent()) {
+            return cached.map(PartialContext::full);
+        }
+        return redisCache.getFields(threadId, fields);
+    }
+
+    @Override
+    public void put(String threadId, TravelContext context) {
+        // 이 노드에서 진행 중인 L2 조회가 쓰기 이전 값으로 L1을 덮어쓰지 않도록 세대를 올린다
+        generations.incrementAndGet(stripeOf(threadId));
+        putLocal(threadId, context);
+        redisCache.put(threadId, context);
+        publishInvalidation(threadId);
+    }
+
+    @Override
+    public void patch(String threadId, TravelContext context, Collection<String> fields) {
+        generations.incrementAndGet(stripeOf(threadId));
+        putLocal(threadId, context);
+        redisCache.patch(threadId, context, fields);
+        publishInvalidation(threadId);
+    }
+
+    // 충돌하면 L1을 비워 다음 조회(병합용)가 L2의 최신 값을 읽게 한다
+    @Override
+    public boolean compareAndSet(String threadId, TravelContext context, Collection<String> fields) {
+        generations.incrementAndGet(stripeOf(threadId));
+        boolean applied = redisCache.compareAndSet(threadId, context, fields);
+        if (applied) {
+            putLocal(threadId, context);
+            publishInvalidation(threadId);
+        } else {
+            invalidateLocal(threadId);
+        }
+        return applied;
+    }
+
+    @Override
+    public void evict(String threadId) {
+        invalidateLocal(threadId);
+        redisCache.evict(threadId);
+        publishInvalidation(threadId);
+    }
+
+    // 다른 노드의 쓰기/삭제 알림 - "nodeId:threadId"
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("잘못된 컨텍스트 무효화 메시지: {}", body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, separator))) {
+            return;
+        }
+        invalidateLocal(body.substring(separator + 1));
+    }
+
+    public String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    // 세대를 먼저 올린 뒤 제거해야 동시에 진행 중인 L2 조회가 옛 값을 다시 넣지 않는다
+    void invalidateLocal(String threadId) {
+        generations.incrementAndGet(stripeOf(threadId));
+        localCache.invalidate(threadId);
+        log.debug("L1 캐시 무효화: threadId={}", threadId);
+    }
+
+    // 저장 시점의 스냅샷을 바이트로 보관 - 이후 호출자가 인스턴스를 고쳐도 L1은 바뀌지 않는다
+    private void putLocal(String threadId, TravelContext context) {
+        try {
+            localCache.put(threadId, codec.encode(context));
+        } catch (Exception e) {
+            localCache.invalidate(threadId);
+            log.warn("L1 캐시 인코딩 실패, L2로 조회합니다: threadId={}, error={}", threadId, e.getMessage());
+        }
+    }
+
+    // 조회마다 새 인스턴스로 복원해 호출자끼리 컬렉션/버전 필드를 공유하지 않는다
+    private Optional<TravelContext> getLocal(String threadId) {
+        byte[] encoded = localCache.getIfPresent(threadId);
+        if (encoded == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.treeToValue(codec.decode(encoded), TravelContext.class));
+        } catch (Exception e) {
+            localCache.invalidate(threadId);
+            log.warn("L1 캐시 복원 실패, L2로 조회합니다: threadId={}, error={}", threadId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void publishInvalidation(String threadId) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, nodeId + ":" + threadId);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 L1 만료 시각까지 이전 값을 볼 수 있다
+            log.error("컨텍스트 무효화 발행 실패: threadId={}, error={}", threadId, e.getMessage());
+        }
+    }
+
+    private static int stripeOf(String threadId) {
+        return Math.floorMod(threadId.hashCode(), GENERATION_STRIPES);
+    }
+}
@@ -0,0 +1,108 @@
+package com.compass.domain.chat.orchestrator.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+// 형식 헤더가 붙은 컨텍스트 코덱 - [MAGIC][형식 버전][(LZ4) 원본 길이 4바이트][본문]
+// 기본은 Jackson Smile(바이너리 JSON)이고, 임계값보다 큰 값(대화 내역, 여행 계획 등)은 LZ4로 압축한다
+// 헤더가 없는 값은 이전 형식(JSON 텍스트)으로 읽으며, format=json이면 헤더 없이 JSON 텍스트로 쓴다 (롤백용)
+@Slf4j
+@Component
+public class VersionedContextCodec implements ContextCodec {
+
+    // JSON 텍스트는 ASCII 문자로 시작하므로 0x80 이상 바이트로 구분한다
+    static final byte MAGIC = (byte) 0xCC;
+    static final byte FORMAT_SMILE = 1;
+    static final byte FORMAT_SMILE_LZ4 = 2;
+
+    private static final int HEADER_SIZE = 2;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final LZ4Compressor compressor;
+    private final LZ4FastDecompressor decompressor;
+
+    @Value("${context.cache.codec.format:smile}")
+    private String format = "smile";
+
+    // 이 크기(바이트) 이상인 Smile 본문만 압축 - 작은 값은 압축 이득보다 CPU 비용이 크다
+    @Value("${context.cache.codec.compression-threshold-bytes:512}")
+    private int compressionThreshold = 512;
+
+    private boolean writeSmile = true;
+
+    public VersionedContextCodec(ObjectMapper objectMapper) {
+        this.jsonMapper = objectMapper;
+        // 같은 모듈/설정(JavaTimeModule 등)을 유지한 채 Smile 형식으로
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        LZ4Factory lz4 = LZ4Factory.fastestInstance();
+        this.compressor = lz4.fastCompressor();
+        this.decompressor = lz4.fastDecompressor();
+    }
+
+    @PostConstruct
+    void init() {
+        writeSmile = !"json".equalsIgnoreCase(format);
+        log.info("컨텍스트 코덱 초기화: format={}, compressionThreshold={}", writeSmile ? "smile" : "json", compressionThreshold);
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        if (!writeSmile) {
+            return jsonMapper.writeValueAsBytes(value);
+        }
+
+        byte[] body = smileMapper.writeValueAsBytes(value);
+        if (body.length < compressionThreshold) {
+            return withHeader(body);
+        }
+
+        byte[] compressed = new byte[compressor.maxCompressedLength(body.length)];
+        int compressedLength = compressor.compress(body, 0, body.length, compressed, 0);
+        if (compressedLength + LENGTH_SIZE >= body.length) {
+            // 이미 압축된 것과 다름없는 값(긴 OCR 원문 등)은 그대로 저장
+            return withHeader(body);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + LENGTH_SIZE + compressedLength);
+        buffer.put(MAGIC).put(FORMAT_SMILE_LZ4).putInt(body.length).put(compressed, 0, compressedLength);
+        return buffer.array();
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes) throws IOException {
+        if (bytes.length == 0 || bytes[0] != MAGIC) {
+            return jsonMapper.readTree(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new IOException("컨텍스트 값 헤더가 잘렸습니다");
+        }
+
+        byte version = bytes[1];
+        if (version == FORMAT_SMILE) {
+            return smileMapper.readTree(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        }
+        if (version == FORMAT_SMILE_LZ4) {
+            int originalLength = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+            byte[] body = new byte[originalLength];
+            decompressor.decompress(bytes, HEADER_SIZE + LENGTH_SIZE, body, 0, originalLength);
+            return smileMapper.readTree(body);
+        }
+        throw new IOException("지원하지 않는 컨텍스트 형식 버전: " + version);
+    }
+
+    private static byte[] withHeader(byte[] body) {
+        return ByteBuffer.allocate(HEADER_SIZE + body.length).put(MAGIC).put(FORMAT_SMILE).put(body).array();
+    }
+}
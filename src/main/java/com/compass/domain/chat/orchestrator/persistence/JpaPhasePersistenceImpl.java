@@ -3,6 +3,7 @@ package com.compass.domain.chat.orchestrator.persistence;
 import com.compass.domain.chat.entity.ChatThread;
 import com.compass.domain.chat.model.enums.TravelPhase;
 import com.compass.domain.chat.repository.ChatThreadRepository;
+import com.compass.domain.chat.service.ChatTurn;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -28,9 +29,17 @@ public class JpaPhasePersistenceImpl implements PhasePersistence {
                 .map(TravelPhase::valueOf);
     }
 
+    // 채팅 턴(ChatTurn) 안에서는 턴에 모아 두었다가 메시지와 함께 저장
     @Override
     @Transactional
     public void save(String threadId, TravelPhase phase) {
+        var turn = ChatTurn.current(threadId);
+        if (turn.isPresent()) {
+            turn.get().recordPhase(phase);
+            log.debug("Phase 저장 대기 (턴 종료 시 저장): threadId={}, phase={}", threadId, phase);
+            return;
+        }
+
         chatThreadRepository.findById(threadId).ifPresent(thread -> {
             thread.setCurrentPhase(phase.name());
             thread.setPhaseUpdatedAt(LocalDateTime.now());
@@ -39,9 +48,17 @@ public class JpaPhasePersistenceImpl implements PhasePersistence {
         });
     }
 
+    // 턴 안에서는 초기화도 턴에 기록 - 바로 지우면 앞서 턴에 기록된 Phase가 턴 종료 시 다시 저장돼 초기화를 덮어쓴다
     @Override
     @Transactional
     public void deleteByThreadId(String threadId) {
+        var turn = ChatTurn.current(threadId);
+        if (turn.isPresent()) {
+            turn.get().recordPhase(TravelPhase.INITIALIZATION);
+            log.debug("Phase 초기화 대기 (턴 종료 시 저장): threadId={}", threadId);
+            return;
+        }
+
         chatThreadRepository.findById(threadId).ifPresent(thread -> {
             thread.setCurrentPhase(TravelPhase.INITIALIZATION.name());
             thread.setPhaseUpdatedAt(LocalDateTime.now());
@@ -1,6 +1,7 @@
 package com.compass.domain.chat.repository;
 
 import com.compass.domain.chat.entity.ChatMessage;
+import com.compass.domain.chat.model.dto.ChatMessageView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -59,6 +60,57 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
            nativeQuery = true)
     List<ChatMessage> findLatestMessagesByThreadId(@Param("threadId") String threadId, @Param("limit") int limit);
     
+    /**
+     * Latest messages in a thread as projections, newest first (first page of the keyset pagination)
+     * Reads idx_chat_message_thread_timestamp_id and stops after pageable's page size; no count query is issued
+     * @param threadId Thread ID
+     * @param pageable Page size only (use page 0; the ORDER BY here is fixed)
+     * @return Messages ordered by (timestamp, id) descending
+     */
+    @Query("SELECT new com.compass.domain.chat.model.dto.ChatMessageView(cm.id, cm.thread.id, cm.role, cm.content, cm.timestamp) " +
+           "FROM ChatMessage cm WHERE cm.thread.id = :threadId " +
+           "ORDER BY cm.timestamp DESC, cm.id DESC")
+    List<ChatMessageView> findLatestViews(@Param("threadId") String threadId, Pageable pageable);
+
+    /**
+     * Oldest messages in a thread as projections, oldest first
+     * Reads idx_chat_message_thread_timestamp_id and stops after pageable's page size; no count query is issued
+     * @param threadId Thread ID
+     * @param pageable Page size only (use page 0; the ORDER BY here is fixed)
+     * @return Messages ordered by (timestamp, id) ascending
+     */
+    @Query("SELECT new com.compass.domain.chat.model.dto.ChatMessageView(cm.id, cm.thread.id, cm.role, cm.content, cm.timestamp) " +
+           "FROM ChatMessage cm WHERE cm.thread.id = :threadId " +
+           "ORDER BY cm.timestamp ASC, cm.id ASC")
+    List<ChatMessageView> findFirstViews(@Param("threadId") String threadId, Pageable pageable);
+
+    /**
+     * Messages in a thread strictly older than the keyset (timestamp, id), newest first
+     * @param threadId Thread ID
+     * @param timestamp Timestamp of the last message already returned
+     * @param id ID of the last message already returned (tie-breaker for equal timestamps)
+     * @param pageable Page size only (use page 0; the ORDER BY here is fixed)
+     * @return Messages ordered by (timestamp, id) descending
+     */
+    @Query("SELECT new com.compass.domain.chat.model.dto.ChatMessageView(cm.id, cm.thread.id, cm.role, cm.content, cm.timestamp) " +
+           "FROM ChatMessage cm WHERE cm.thread.id = :threadId " +
+           "AND (cm.timestamp < :timestamp OR (cm.timestamp = :timestamp AND cm.id < :id)) " +
+           "ORDER BY cm.timestamp DESC, cm.id DESC")
+    List<ChatMessageView> findViewsBefore(@Param("threadId") String threadId,
+                                          @Param("timestamp") LocalDateTime timestamp,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+
+    /**
+     * All messages in a thread as projections, oldest first (sorted by the database)
+     * @param threadId Thread ID
+     * @return Messages ordered by (timestamp, id) ascending
+     */
+    @Query("SELECT new com.compass.domain.chat.model.dto.ChatMessageView(cm.id, cm.thread.id, cm.role, cm.content, cm.timestamp) " +
+           "FROM ChatMessage cm WHERE cm.thread.id = :threadId " +
+           "ORDER BY cm.timestamp ASC, cm.id ASC")
+    List<ChatMessageView> findAllViews(@Param("threadId") String threadId);
+    
     /**
      * Count messages in a thread
      * @param threadId Thread ID
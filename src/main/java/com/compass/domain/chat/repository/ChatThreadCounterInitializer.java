@@ -0,0 +1,67 @@
+package com.compass.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스레드 메시지 카운터 백필 (chat_threads.message_count, last_message_preview)
+ * ddl-auto: update는 컬럼을 기본값 0/NULL로만 추가하므로, V5 백필을 수동으로 돌리지 않은 DB에서는
+ * 메시지가 있는 기존 스레드가 빈 스레드처럼 보인다 (목록 미리보기 NULL, 메시지 수 0).
+ * 기동 시 마지막 메시지 시각은 있는데 카운터가 비어 있는 스레드만 골라 V5와 같은 값으로 채운다 (PostgreSQL 전용).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatThreadCounterInitializer {
+
+    // V5 백필과 같은 규칙 - 대상은 카운터가 채워지지 않은 스레드로 한정해 두 번째 기동부터는 거의 읽지 않는다
+    static final String BACKFILL_SQL = """
+        UPDATE chat_threads ct
+        SET message_count = stats.message_count,
+            last_message_at = stats.last_message_at,
+            last_message_preview = LEFT(stats.last_content, 100)
+        FROM (
+            SELECT DISTINCT ON (m.thread_id)
+                   m.thread_id,
+                   COUNT(*) OVER (PARTITION BY m.thread_id) AS message_count,
+                   m.timestamp AS last_message_at,
+                   m.content AS last_content
+            FROM chat_messages m
+            WHERE m.thread_id IN (
+                SELECT t.id FROM chat_threads t
+                WHERE t.last_message_at IS NOT NULL
+                  AND (t.message_count = 0 OR t.last_message_preview IS NULL))
+            ORDER BY m.thread_id, m.timestamp DESC, m.id DESC
+        ) stats
+        WHERE ct.id = stats.thread_id
+          AND ct.message_count < stats.message_count
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        try {
+            if (!isPostgres()) {
+                return;
+            }
+            int updated = jdbcTemplate.update(BACKFILL_SQL);
+            if (updated > 0) {
+                log.info("스레드 메시지 카운터 백필: {}개 스레드", updated);
+            }
+        } catch (DataAccessException e) {
+            log.warn("스레드 메시지 카운터 백필 실패 - V5 마이그레이션을 확인하세요: {}", e.getMessage());
+        }
+    }
+
+    boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    }
+}
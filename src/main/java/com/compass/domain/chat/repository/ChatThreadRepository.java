@@ -4,10 +4,12 @@ import com.compass.domain.chat.entity.ChatThread;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -68,4 +70,67 @@ public interface ChatThreadRepository extends JpaRepository<ChatThread, String>
      */
     @Query("SELECT COUNT(ct) FROM ChatThread ct WHERE ct.user.id = :userId")
     long countByUserId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    /**
+     * Record one appended message on the denormalized counters with a single UPDATE
+     * (the first message also sets the title when firstTitle is given; threads created before the counters
+     * existed may still have messageCount = 0, so a thread with lastMessageAt set is never treated as empty)
+     * @param threadId Thread ID
+     * @param messageAt Message timestamp
+     * @param preview Last message preview
+     * @param firstTitle Title to use if this is the first message, or null
+     * @return Number of updated rows (0 if the thread does not exist)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChatThread ct SET ct.messageCount = ct.messageCount + 1, ct.lastMessageAt = :messageAt, " +
+           "ct.lastMessagePreview = :preview, ct.updatedAt = :messageAt, " +
+           "ct.title = CASE WHEN ct.messageCount = 0 AND ct.lastMessageAt IS NULL " +
+           "THEN COALESCE(:firstTitle, ct.title) ELSE ct.title END " +
+           "WHERE ct.id = :threadId")
+    int recordAppendedMessage(@Param("threadId") String threadId,
+                              @Param("messageAt") LocalDateTime messageAt,
+                              @Param("preview") String preview,
+                              @Param("firstTitle") String firstTitle);
+
+    /**
+     * Record the messages appended by one chat turn (and its phase, if any) on the denormalized counters with a single UPDATE
+     * (counters are incremented in the database so concurrent appends to the same thread are not lost;
+     * the title follows the same empty-thread rule as recordAppendedMessage)
+     * @param threadId Thread ID
+     * @param count Number of appended messages
+     * @param messageAt Timestamp of the last appended message
+     * @param preview Last message preview
+     * @param firstTitle Title to use if the thread was empty, or null
+     * @param phase Phase reached in the turn, or null to keep the current phase
+     * @param phaseUpdatedAt Phase change time, or null to keep the current value
+     * @return Number of updated rows (0 if the thread does not exist)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChatThread ct SET ct.messageCount = ct.messageCount + :count, ct.lastMessageAt = :messageAt, " +
+           "ct.lastMessagePreview = :preview, ct.updatedAt = :messageAt, " +
+           "ct.title = CASE WHEN ct.messageCount = 0 AND ct.lastMessageAt IS NULL " +
+           "THEN COALESCE(:firstTitle, ct.title) ELSE ct.title END, " +
+           "ct.currentPhase = COALESCE(:phase, ct.currentPhase), " +
+           "ct.phaseUpdatedAt = COALESCE(:phaseUpdatedAt, ct.phaseUpdatedAt) " +
+           "WHERE ct.id = :threadId")
+    int recordAppendedTurn(@Param("threadId") String threadId,
+                           @Param("count") int count,
+                           @Param("messageAt") LocalDateTime messageAt,
+                           @Param("preview") String preview,
+                           @Param("firstTitle") String firstTitle,
+                           @Param("phase") String phase,
+                           @Param("phaseUpdatedAt") LocalDateTime phaseUpdatedAt);
+
+    /**
+     * Record a phase change without appended messages
+     * @param threadId Thread ID
+     * @param phase New phase
+     * @param phaseUpdatedAt Phase change time
+     * @return Number of updated rows (0 if the thread does not exist)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ChatThread ct SET ct.currentPhase = :phase, ct.phaseUpdatedAt = :phaseUpdatedAt WHERE ct.id = :threadId")
+    int recordPhase(@Param("threadId") String threadId,
+                    @Param("phase") String phase,
+                    @Param("phaseUpdatedAt") LocalDateTime phaseUpdatedAt);
+}
@@ -0,0 +1,100 @@
+package com.compass.domain.chat.repository;
+
+import com.compass.domain.chat.entity.EnrichmentJob;
+import com.compass.domain.chat.entity.EnrichmentJob.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보강 작업 체크포인트 Repository
+ * 상태 변경은 모두 현재 상태를 조건으로 거는 UPDATE로 처리해, 취소와 청크 기록이 겹쳐도 서로 덮어쓰지 않는다
+ * 실행자의 쓰기(청크 기록/종료/heartbeat)는 점유 토큰(leaseToken)까지 조건으로 걸어, 재개로 점유가 넘어간 뒤에는 반영되지 않는다
+ */
+@Repository
+public interface EnrichmentJobRepository extends JpaRepository<EnrichmentJob, Long> {
+
+    List<EnrichmentJob> findByStatus(Status status);
+
+    List<EnrichmentJob> findTop10ByOrderByIdDesc();
+
+    /**
+     * 청크 결과 기록 - 작업이 아직 RUNNING이고 점유 토큰이 같을 때만 반영 (취소됐거나 다른 인스턴스가 점유했으면 0)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EnrichmentJob j SET j.lastCandidateId = :lastCandidateId, " +
+           "j.processedCount = j.processedCount + :processed, j.successCount = j.successCount + :success, " +
+           "j.failedCount = j.failedCount + :failed, j.skippedCount = j.skippedCount + :skipped, " +
+           "j.updatedAt = :now " +
+           "WHERE j.id = :jobId AND j.leaseToken = :leaseToken " +
+           "AND j.status = com.compass.domain.chat.entity.EnrichmentJob.Status.RUNNING")
+    int recordChunk(@Param("jobId") Long jobId,
+                    @Param("leaseToken") String leaseToken,
+                    @Param("lastCandidateId") Long lastCandidateId,
+                    @Param("processed") int processed,
+                    @Param("success") int success,
+                    @Param("failed") int failed,
+                    @Param("skipped") int skipped,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * 점유한 RUNNING 작업 종료 (완료/실패)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EnrichmentJob j SET j.status = :status, j.lastError = :error, " +
+           "j.updatedAt = :now, j.finishedAt = :now " +
+           "WHERE j.id = :jobId AND j.leaseToken = :leaseToken " +
+           "AND j.status = com.compass.domain.chat.entity.EnrichmentJob.Status.RUNNING")
+    int finish(@Param("jobId") Long jobId,
+               @Param("leaseToken") String leaseToken,
+               @Param("status") Status status,
+               @Param("error") String error,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * RUNNING 작업 취소 - 어느 인스턴스에서 실행 중이든 취소할 수 있도록 점유 토큰은 보지 않는다
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EnrichmentJob j SET j.status = com.compass.domain.chat.entity.EnrichmentJob.Status.CANCELLED, " +
+           "j.updatedAt = :now, j.finishedAt = :now " +
+           "WHERE j.id = :jobId AND j.status = com.compass.domain.chat.entity.EnrichmentJob.Status.RUNNING")
+    int cancel(@Param("jobId") Long jobId,
+               @Param("now") LocalDateTime now);
+
+    /**
+     * 청크 처리 중 생존 신호 - 점유 중인 RUNNING 작업의 updatedAt만 갱신 (점유를 잃었으면 0)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EnrichmentJob j SET j.updatedAt = :now " +
+           "WHERE j.id = :jobId AND j.leaseToken = :leaseToken " +
+           "AND j.status = com.compass.domain.chat.entity.EnrichmentJob.Status.RUNNING")
+    int heartbeat(@Param("jobId") Long jobId,
+                  @Param("leaseToken") String leaseToken,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 재개할 작업을 새 점유 토큰으로 RUNNING 점유 - 실패/취소된 작업이거나, RUNNING이지만 staleBefore 이후 갱신(청크 기록/heartbeat)이
+     * 없는(실행하던 서버가 죽은) 작업만. 여러 서버가 동시에 재개를 요청해도 하나만 1을 받는다
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EnrichmentJob j SET j.status = com.compass.domain.chat.entity.EnrichmentJob.Status.RUNNING, " +
+           "j.leaseToken = :leaseToken, j.updatedAt = :now, j.finishedAt = NULL " +
+           "WHERE j.id = :jobId AND (j.status IN (com.compass.domain.chat.entity.EnrichmentJob.Status.FAILED, " +
+           "com.compass.domain.chat.entity.EnrichmentJob.Status.CANCELLED) " +
+           "OR (j.status = com.compass.domain.chat.entity.EnrichmentJob.Status.RUNNING AND j.updatedAt < :staleBefore))")
+    int claimForResume(@Param("jobId") Long jobId,
+                       @Param("leaseToken") String leaseToken,
+                       @Param("staleBefore") LocalDateTime staleBefore,
+                       @Param("now") LocalDateTime now);
+}
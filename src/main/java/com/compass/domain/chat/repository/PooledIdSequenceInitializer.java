@@ -0,0 +1,93 @@
+package com.compass.domain.chat.repository;
+
+import com.compass.domain.chat.entity.ChatMessage;
+import com.compass.domain.chat.entity.TravelCandidate;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * pooled 시퀀스 id 정렬 (travel_candidates, chat_messages)
+ * ddl-auto: update는 없는 시퀀스를 1부터 새로 만들기 때문에, 마이그레이션(V7/V8)을 수동으로 돌리지 않은 DB에서는 기존 id와 충돌한다.
+ * 기동 시 시퀀스가 최대 id 뒤에 있는지, 증가폭과 컬럼 기본값이 엔티티 설정과 맞는지 확인하고 어긋난 것만 고친다 (PostgreSQL 전용).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PooledIdSequenceInitializer {
+
+    // 테이블별 id 시퀀스와 엔티티 allocationSize
+    record Target(String table, String sequence, int allocationSize) {}
+
+    static final List<Target> TARGETS = List.of(
+        new Target("travel_candidates", TravelCandidate.ID_SEQUENCE, TravelCandidate.ID_ALLOCATION_SIZE),
+        new Target("chat_messages", ChatMessage.ID_SEQUENCE, ChatMessage.ID_ALLOCATION_SIZE));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void alignOnStartup() {
+        try {
+            if (!isPostgres()) {
+                return;
+            }
+        } catch (DataAccessException e) {
+            log.warn("id 시퀀스 정렬 건너뜀 - DB 확인 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Target target : TARGETS) {
+            try {
+                align(target);
+            } catch (DataAccessException e) {
+                log.warn("{} id 시퀀스 정렬 실패 - 마이그레이션을 확인하세요: {}", target.table(), e.getMessage());
+            }
+        }
+    }
+
+    boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())));
+    }
+
+    void align(Target target) {
+        String table = target.table();
+        String sequence = target.sequence();
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS " + sequence + " INCREMENT BY " + target.allocationSize());
+
+        Long increment = jdbcTemplate.queryForObject(
+            "SELECT increment_by FROM pg_sequences WHERE sequencename = ?", Long.class, sequence);
+        if (increment == null || increment != target.allocationSize()) {
+            log.info("{} 증가폭 {} -> {}", sequence, increment, target.allocationSize());
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " INCREMENT BY " + target.allocationSize());
+        }
+
+        // pooled 할당은 nextval 값을 구간의 끝으로 쓰므로, 시퀀스가 최대 id 이상이면 새 구간이 기존 id와 겹치지 않는다
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+        if (maxId != null && lastValue != null && lastValue < maxId) {
+            log.info("{} 위치 {} -> {} (기존 최대 id)", sequence, lastValue, maxId);
+            jdbcTemplate.queryForObject("SELECT setval(?::regclass, ?)", Long.class, sequence, maxId);
+        }
+
+        // 네이티브 INSERT(id 생략)도 같은 시퀀스를 쓰도록 컬럼 기본값을 맞춘다
+        Map<String, Object> column = jdbcTemplate.queryForMap(
+            "SELECT is_identity, column_default FROM information_schema.columns " +
+            "WHERE table_name = ? AND column_name = 'id'", table);
+        Object columnDefault = column.get("column_default");
+        if ("YES".equals(column.get("is_identity")) || columnDefault == null || !columnDefault.toString().contains(sequence)) {
+            log.info("{}.id 기본값을 {}로 전환", table, sequence);
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT nextval('" + sequence + "')");
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " OWNED BY " + table + ".id");
+        }
+    }
+}
@@ -2,7 +2,10 @@ package com.compass.domain.chat.repository;
 
 import com.compass.domain.chat.entity.TravelCandidate;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 public interface TravelCandidateQueryRepository {
 
@@ -13,4 +16,35 @@ public interface TravelCandidateQueryRepository {
     List<TravelCandidate> findActiveByRegionsAndTimeBlock(List<String> regions,
                                                           TravelCandidate.TimeBlock timeBlock,
                                                           int limit);
+
+    // 좌표 (latitude, longitude)에서 radiusKm 이내 활성 후보지를 가까운 순으로 최대 limit개 조회
+    // minQualityScore / minRating이 null이면 해당 조건은 적용하지 않는다
+    List<TravelCandidate> findActiveWithinRadius(String region,
+                                                 double latitude,
+                                                 double longitude,
+                                                 double radiusKm,
+                                                 Double minQualityScore,
+                                                 Double minRating,
+                                                 int limit);
+
+    // 위경도 경계 상자 안의 활성 후보지를 품질 점수 순으로 최대 limit개 조회
+    List<TravelCandidate> findActiveInBoundingBox(String region,
+                                                  double minLatitude,
+                                                  double minLongitude,
+                                                  double maxLatitude,
+                                                  double maxLongitude,
+                                                  Double minQualityScore,
+                                                  Double minRating,
+                                                  int limit);
+
+    // 체크포인트(afterId)별로 그보다 큰 id 수를 한 번의 쿼리로 센다 (보강 작업 진행률 목록용)
+    Map<Long, Long> countIdsGreaterThan(Collection<Long> afterIds);
+
+    // (place_id, region) 기준 bulk upsert - INSERT ... ON CONFLICT DO UPDATE를 JDBC 배치로 실행 (PostgreSQL 전용)
+    // 엔티티 리스너를 거치지 않으므로 스냅샷 무효화 이벤트는 호출하는 쪽에서 발행한다. 반영된 행 수를 반환
+    int upsertAll(List<TravelCandidate> candidates);
+
+    // PostgreSQL COPY로 staging 임시 테이블에 스트리밍한 뒤 한 번의 INSERT ... SELECT ... ON CONFLICT로 병합
+    // 이터레이터를 한 행씩 소비하므로 입력 크기와 무관하게 메모리 사용량이 일정하다. 병합된 행 수를 반환
+    int copyUpsert(Iterator<TravelCandidate> candidates);
 }
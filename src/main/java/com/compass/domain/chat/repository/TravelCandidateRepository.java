@@ -29,6 +29,12 @@ public interface TravelCandidateRepository extends JpaRepository<TravelCandidate
     // 지역별 모든 데이터 조회
     List<TravelCandidate> findByRegion(String region);
 
+    // id 기준 keyset 청크 조회 (보강 작업용) - pageable은 크기만 사용 (page 0, 정렬은 id 오름차순 고정)
+    @Query("SELECT tc FROM TravelCandidate tc WHERE tc.id > :afterId ORDER BY tc.id ASC")
+    List<TravelCandidate> findChunkAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    long countByIdGreaterThan(Long id);
+
     // 지역별 조회 (품질점수 높은 순)
     @Query("SELECT tc FROM TravelCandidate tc WHERE tc.region = :region AND tc.isActive = true " +
            "ORDER BY tc.qualityScore DESC")
@@ -1,18 +1,103 @@
 package com.compass.domain.chat.repository;
 
+import com.compass.domain.chat.common.geo.GeoMath;
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.entity.QTravelCandidate;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @RequiredArgsConstructor
 public class TravelCandidateRepositoryImpl implements TravelCandidateQueryRepository {
 
+    private static final double EARTH_RADIUS_KM = GeoMath.EARTH_RADIUS_KM;
+    private static final double KM_PER_DEGREE = GeoMath.KM_PER_DEGREE;
+
+    private static final int UPSERT_BATCH_SIZE = 500;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    // (place_id, region) 충돌 시 CSV가 소유한 컬럼만 갱신 - 좌표/평점/리뷰 수/가격/설명/주소/점수는
+    // Google Places·Kakao·AI 보강이 채우는 값이므로 재임포트(임시 값 포함)로 덮어쓰지 않는다
+    static final String ON_CONFLICT_UPDATE = """
+        ON CONFLICT (place_id, region) DO UPDATE SET
+            name = EXCLUDED.name,
+            sub_region = EXCLUDED.sub_region,
+            category = EXCLUDED.category,
+            time_block = EXCLUDED.time_block,
+            is_active = EXCLUDED.is_active,
+            updated_at = EXCLUDED.updated_at
+        """;
+
+    // id는 컬럼 기본값(travel_candidates_seq)으로 채운다
+    static final String UPSERT_SQL = """
+        INSERT INTO travel_candidates (place_id, name, region, sub_region, category, time_block,
+            latitude, longitude, address, rating, review_count, price_level, description,
+            quality_score, reliability_level, is_active, enrichment_status, collected_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """ + ON_CONFLICT_UPDATE;
+
+    // COPY 대상 세션 임시 테이블 - 트랜잭션이 끝나면 사라진다 (한 트랜잭션에서 여러 파일을 넣을 수 있도록 먼저 정리)
+    private static final String DROP_STAGING_SQL = "DROP TABLE IF EXISTS pg_temp.travel_candidates_staging";
+    private static final String CREATE_STAGING_SQL = """
+        CREATE TEMP TABLE travel_candidates_staging (
+            seq BIGINT, place_id VARCHAR(255), name VARCHAR(255), region VARCHAR(50), sub_region VARCHAR(100),
+            category VARCHAR(50), time_block VARCHAR(30), latitude DOUBLE PRECISION, longitude DOUBLE PRECISION,
+            address VARCHAR(500), rating DOUBLE PRECISION, review_count INTEGER, price_level INTEGER,
+            description TEXT, quality_score DOUBLE PRECISION, reliability_level VARCHAR(20), is_active BOOLEAN
+        ) ON COMMIT DROP
+        """;
+    private static final String COPY_STAGING_SQL = "COPY pg_temp.travel_candidates_staging FROM STDIN WITH (FORMAT csv)";
+
+    // 같은 키가 여러 번 들어왔으면 마지막 행만 반영 (ON CONFLICT는 한 문장에서 같은 행을 두 번 갱신할 수 없다)
+    static final String MERGE_STAGING_SQL = """
+        INSERT INTO travel_candidates (place_id, name, region, sub_region, category, time_block,
+            latitude, longitude, address, rating, review_count, price_level, description,
+            quality_score, reliability_level, is_active, enrichment_status, collected_at, updated_at)
+        SELECT DISTINCT ON (place_id, region) place_id, name, region, sub_region, category, time_block,
+            latitude, longitude, address, rating, review_count, price_level, description,
+            quality_score, reliability_level, is_active, 0, LOCALTIMESTAMP, LOCALTIMESTAMP
+        FROM pg_temp.travel_candidates_staging
+        ORDER BY place_id, region, seq DESC
+        """ + ON_CONFLICT_UPDATE;
+
     private final JPAQueryFactory queryFactory;
+    private final EntityManager entityManager;
+
+    // earthdistance 확장 사용 가능 여부 (최초 조회 시 한 번만 확인)
+    private volatile Boolean earthDistanceAvailable;
 
     @Override
     public List<TravelCandidate> findTopActiveByRegionAndCategoryKeywords(String region,
@@ -64,6 +149,363 @@ public class TravelCandidateRepositoryImpl implements TravelCandidateQueryReposi
             .fetch();
     }
 
+    @Override
+    public List<TravelCandidate> findActiveWithinRadius(String region,
+                                                        double latitude,
+                                                        double longitude,
+                                                        double radiusKm,
+                                                        Double minQualityScore,
+                                                        Double minRating,
+                                                        int limit) {
+        if (radiusKm <= 0) {
+            return List.of();
+        }
+        if (isEarthDistanceAvailable()) {
+            return findWithinRadiusByEarthDistance(region, latitude, longitude, radiusKm,
+                minQualityScore, minRating, limit);
+        }
+
+        QTravelCandidate candidate = QTravelCandidate.travelCandidate;
+
+        // 경계 상자로 (region, latitude, longitude) 인덱스 범위 조회 후 평면 근사 거리로 반경 필터/정렬
+        // (도시 규모 반경에서 Haversine 대비 오차 0.1% 미만)
+        double cosLat = Math.cos(Math.toRadians(latitude));
+        double radiusDeg = radiusKm / KM_PER_DEGREE;
+        NumberExpression<Double> latDiff = candidate.latitude.subtract(latitude);
+        NumberExpression<Double> lngDiff = candidate.longitude.subtract(longitude).multiply(cosLat);
+        NumberExpression<Double> squaredDistance = latDiff.multiply(latDiff).add(lngDiff.multiply(lngDiff));
+
+        BooleanExpression predicate = buildGeoPredicate(candidate, region, minQualityScore, minRating)
+            .and(boundingBox(candidate, latitude, longitude, radiusKm))
+            .and(squaredDistance.loe(radiusDeg * radiusDeg));
+
+        long fetchLimit = limit > 0 ? limit : Long.MAX_VALUE;
+
+        return queryFactory.selectFrom(candidate)
+            .where(predicate)
+            .orderBy(squaredDistance.asc(), candidate.qualityScore.desc().nullsLast())
+            .limit(fetchLimit)
+            .fetch();
+    }
+
+    @Override
+    public List<TravelCandidate> findActiveInBoundingBox(String region,
+                                                         double minLatitude,
+                                                         double minLongitude,
+                                                         double maxLatitude,
+                                                         double maxLongitude,
+                                                         Double minQualityScore,
+                                                         Double minRating,
+                                                         int limit) {
+        QTravelCandidate candidate = QTravelCandidate.travelCandidate;
+
+        BooleanExpression predicate = buildGeoPredicate(candidate, region, minQualityScore, minRating)
+            .and(candidate.latitude.between(minLatitude, maxLatitude))
+            .and(candidate.longitude.between(minLongitude, maxLongitude));
+
+        long fetchLimit = limit > 0 ? limit : Long.MAX_VALUE;
+
+        return queryFactory.selectFrom(candidate)
+            .where(predicate)
+            .orderBy(candidate.qualityScore.desc().nullsLast(),
+                candidate.reviewCount.desc().nullsLast(),
+                candidate.rating.desc().nullsLast())
+            .limit(fetchLimit)
+            .fetch();
+    }
+
+    // earthdistance 확장이 있으면 GiST 인덱스(ll_to_earth)를 타는 earth_box + earth_distance로 조회
+    @SuppressWarnings("unchecked")
+    private List<TravelCandidate> findWithinRadiusByEarthDistance(String region,
+                                                                  double latitude,
+                                                                  double longitude,
+                                                                  double radiusKm,
+                                                                  Double minQualityScore,
+                                                                  Double minRating,
+                                                                  int limit) {
+        StringBuilder sql = new StringBuilder()
+            .append("SELECT tc.* FROM travel_candidates tc ")
+            .append("WHERE tc.is_active = true ")
+            .append("AND earth_box(ll_to_earth(:lat, :lng), :radius) @> ll_to_earth(tc.latitude, tc.longitude) ")
+            .append("AND earth_distance(ll_to_earth(:lat, :lng), ll_to_earth(tc.latitude, tc.longitude)) <= :radius ");
+        if (StringUtils.hasText(region)) {
+            sql.append("AND tc.region = :region ");
+        }
+        if (minQualityScore != null) {
+            sql.append("AND tc.quality_score >= :minQuality ");
+        }
+        if (minRating != null) {
+            sql.append("AND tc.rating >= :minRating ");
+        }
+        sql.append("ORDER BY earth_distance(ll_to_earth(:lat, :lng), ll_to_earth(tc.latitude, tc.longitude)), ")
+            .append("tc.quality_score DESC NULLS LAST");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), TravelCandidate.class)
+            .setParameter("lat", latitude)
+            .setParameter("lng", longitude)
+            .setParameter("radius", radiusKm * 1000.0);
+        if (StringUtils.hasText(region)) {
+            query.setParameter("region", region);
+        }
+        if (minQualityScore != null) {
+            query.setParameter("minQuality", minQualityScore);
+        }
+        if (minRating != null) {
+            query.setParameter("minRating", minRating);
+        }
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Map<Long, Long> countIdsGreaterThan(Collection<Long> afterIds) {
+        List<Long> checkpoints = afterIds.stream().distinct().sorted().toList();
+        if (checkpoints.isEmpty()) {
+            return Map.of();
+        }
+
+        // 체크포인트마다 SUM(CASE WHEN id > ? THEN 1 ELSE 0 END) - 가장 작은 체크포인트 이후만 스캔
+        QTravelCandidate candidate = QTravelCandidate.travelCandidate;
+        Expression<?>[] counts = checkpoints.stream()
+            .map(afterId -> new CaseBuilder().when(candidate.id.gt(afterId)).then(1L).otherwise(0L).sum())
+            .toArray(Expression[]::new);
+        Tuple row = queryFactory.select(counts)
+            .from(candidate)
+            .where(candidate.id.gt(checkpoints.get(0)))
+            .fetchOne();
+
+        Map<Long, Long> remaining = new LinkedHashMap<>();
+        for (int i = 0; i < checkpoints.size(); i++) {
+            Object count = row == null ? null : row.get(i, Object.class);
+            remaining.put(checkpoints.get(i), count == null ? 0L : ((Number) count).longValue());
+        }
+        return Collections.unmodifiableMap(remaining);
+    }
+
+    @Override
+    public int upsertAll(List<TravelCandidate> candidates) {
+        if (CollectionUtils.isEmpty(candidates)) {
+            return 0;
+        }
+
+        // 같은 문장 안에 같은 키가 두 번 나오면 ON CONFLICT가 실패하므로 마지막 값만 남긴다
+        Map<String, TravelCandidate> unique = new LinkedHashMap<>();
+        for (TravelCandidate candidate : candidates) {
+            unique.put(candidate.getPlaceId() + "|" + candidate.getRegion(), candidate);
+        }
+
+        // 영속성 컨텍스트에 쌓인 변경을 먼저 반영한 뒤 같은 커넥션으로 실행
+        entityManager.flush();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        int written = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            int rows = 0;
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT_SQL)) {
+                int pending = 0;
+                for (TravelCandidate candidate : unique.values()) {
+                    // @PrePersist/@PreUpdate를 거치지 않으므로 점수를 직접 계산
+                    candidate.calculateScores();
+                    bindUpsert(statement, candidate, now);
+                    statement.addBatch();
+                    if (++pending == UPSERT_BATCH_SIZE) {
+                        rows += countRows(statement.executeBatch());
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    rows += countRows(statement.executeBatch());
+                }
+            }
+            return rows;
+        });
+
+        log.debug("TravelCandidate bulk upsert: {}행 (요청 {}개)", written, candidates.size());
+        return written;
+    }
+
+    @Override
+    public int copyUpsert(Iterator<TravelCandidate> candidates) {
+        entityManager.flush();
+
+        int written = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(DROP_STAGING_SQL);
+                statement.execute(CREATE_STAGING_SQL);
+            }
+
+            long copied = copyToStaging(connection.unwrap(PGConnection.class), candidates);
+            if (copied == 0) {
+                return 0;
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                return statement.executeUpdate(MERGE_STAGING_SQL);
+            }
+        });
+
+        log.debug("TravelCandidate COPY upsert: {}행 병합", written);
+        return written;
+    }
+
+    // 이터레이터에서 한 행씩 꺼내 COPY 스트림으로 흘려 보낸다 - 버퍼 크기 이상의 행을 메모리에 들고 있지 않는다
+    private static long copyToStaging(PGConnection connection, Iterator<TravelCandidate> candidates) throws SQLException {
+        PGCopyOutputStream copy = new PGCopyOutputStream(connection, COPY_STAGING_SQL, COPY_BUFFER_SIZE);
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(copy, StandardCharsets.UTF_8));
+            long seq = 0;
+            while (candidates.hasNext()) {
+                TravelCandidate candidate = candidates.next();
+                candidate.calculateScores();
+                writeCopyRow(writer, ++seq, candidate);
+            }
+            writer.flush();
+            return copy.endCopy();
+        } catch (IOException e) {
+            cancelQuietly(copy);
+            throw new SQLException("COPY 스트림 쓰기 실패: " + e.getMessage(), e);
+        } catch (RuntimeException | SQLException e) {
+            cancelQuietly(copy);
+            throw e;
+        }
+    }
+
+    private static void writeCopyRow(Writer writer, long seq, TravelCandidate candidate) throws IOException {
+        Object[] values = {
+            seq, candidate.getPlaceId(), candidate.getName(), candidate.getRegion(), candidate.getSubRegion(),
+            candidate.getCategory(), candidate.getTimeBlock() != null ? candidate.getTimeBlock().name() : null,
+            candidate.getLatitude(), candidate.getLongitude(), candidate.getAddress(), candidate.getRating(),
+            candidate.getReviewCount(), candidate.getPriceLevel(), candidate.getDescription(),
+            candidate.getQualityScore(), candidate.getReliabilityLevel(), !Boolean.FALSE.equals(candidate.getIsActive())
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCopyValue(writer, values[i]);
+        }
+        writer.write('\n');
+    }
+
+    // COPY csv 형식: 따옴표 없는 빈 값은 NULL, 문자열은 항상 따옴표로 감싸 빈 문자열과 구분
+    private static void writeCopyValue(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof String text) {
+            writer.write('"');
+            writer.write(text.replace("\"", "\"\""));
+            writer.write('"');
+            return;
+        }
+        writer.write(value.toString());
+    }
+
+    private static void cancelQuietly(PGCopyOutputStream copy) {
+        try {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        } catch (SQLException e) {
+            log.warn("COPY 취소 실패: {}", e.getMessage());
+        }
+    }
+
+    private static void bindUpsert(PreparedStatement statement, TravelCandidate candidate, Timestamp now) throws SQLException {
+        int i = 1;
+        statement.setString(i++, candidate.getPlaceId());
+        statement.setString(i++, candidate.getName());
+        statement.setString(i++, candidate.getRegion());
+        statement.setString(i++, candidate.getSubRegion());
+        statement.setString(i++, candidate.getCategory());
+        statement.setString(i++, candidate.getTimeBlock() != null ? candidate.getTimeBlock().name() : null);
+        statement.setObject(i++, candidate.getLatitude(), Types.DOUBLE);
+        statement.setObject(i++, candidate.getLongitude(), Types.DOUBLE);
+        statement.setString(i++, candidate.getAddress());
+        statement.setObject(i++, candidate.getRating(), Types.DOUBLE);
+        statement.setObject(i++, candidate.getReviewCount(), Types.INTEGER);
+        statement.setObject(i++, candidate.getPriceLevel(), Types.INTEGER);
+        statement.setString(i++, candidate.getDescription());
+        statement.setObject(i++, candidate.getQualityScore(), Types.DOUBLE);
+        statement.setString(i++, candidate.getReliabilityLevel());
+        statement.setBoolean(i++, !Boolean.FALSE.equals(candidate.getIsActive()));
+        statement.setInt(i++, candidate.getEnrichmentStatus() != null ? candidate.getEnrichmentStatus() : 0);
+        statement.setTimestamp(i++, now);
+        statement.setTimestamp(i, now);
+    }
+
+    // reWriteBatchedInserts 사용 시 드라이버가 행 수 대신 SUCCESS_NO_INFO를 돌려준다
+    private static int countRows(int[] results) {
+        int rows = 0;
+        for (int result : results) {
+            rows += result == Statement.SUCCESS_NO_INFO ? 1 : Math.max(result, 0);
+        }
+        return rows;
+    }
+
+    // 확장 없는 Postgres/H2에서는 false - JDBC로 직접 확인해 실패해도 JPA 트랜잭션에 영향을 주지 않는다
+    private boolean isEarthDistanceAvailable() {
+        Boolean available = earthDistanceAvailable;
+        if (available != null) {
+            return available;
+        }
+
+        try {
+            available = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+                if (!"PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+                    return false;
+                }
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "SELECT COUNT(*) FROM pg_extension WHERE extname IN ('cube', 'earthdistance')");
+                     ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() && resultSet.getInt(1) == 2;
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("earthdistance 확장 확인 실패, 경계 상자 조회로 대체합니다: {}", e.getMessage());
+            available = false;
+        }
+
+        log.info("TravelCandidate 반경 조회 방식: {}", available ? "earthdistance" : "bounding box");
+        earthDistanceAvailable = available;
+        return available;
+    }
+
+    private BooleanExpression buildGeoPredicate(QTravelCandidate candidate,
+                                                String region,
+                                                Double minQualityScore,
+                                                Double minRating) {
+        BooleanExpression predicate = candidate.isActive.isTrue();
+        if (StringUtils.hasText(region)) {
+            predicate = predicate.and(candidate.region.eq(region));
+        }
+        if (minQualityScore != null) {
+            predicate = predicate.and(candidate.qualityScore.goe(minQualityScore));
+        }
+        if (minRating != null) {
+            predicate = predicate.and(candidate.rating.goe(minRating));
+        }
+        return predicate;
+    }
+
+    // 반경을 감싸는 정확한 위경도 경계 상자 (경도 폭은 asin(sin(r/R) / cos(lat)))
+    private BooleanExpression boundingBox(QTravelCandidate candidate,
+                                          double latitude,
+                                          double longitude,
+                                          double radiusKm) {
+        double angular = radiusKm / EARTH_RADIUS_KM;
+        double dLat = Math.toDegrees(angular);
+        BooleanExpression box = candidate.latitude.between(latitude - dLat, latitude + dLat);
+
+        double ratio = Math.sin(angular) / Math.cos(Math.toRadians(latitude));
+        if (Math.abs(latitude) + dLat < 90 && ratio < 1.0) {
+            double dLng = Math.toDegrees(Math.asin(ratio));
+            box = box.and(candidate.longitude.between(longitude - dLng, longitude + dLng));
+        }
+        return box;
+    }
+
     private BooleanExpression buildCategoryExpression(QTravelCandidate candidate,
                                                        List<String> categoryKeywords) {
         if (CollectionUtils.isEmpty(categoryKeywords)) {
@@ -1,5 +1,6 @@
 package com.compass.domain.chat.route_optimization.client;
 
+import com.compass.domain.chat.common.geo.GeoMath;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -287,16 +288,7 @@ public class KakaoMobilityClient {
     private double calculateHaversineDistance(
         double lat1, double lon1, double lat2, double lon2
     ) {
-        double R = 6371; // km
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat/2) * Math.sin(dLat/2) +
-                  Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                  Math.sin(dLon/2) * Math.sin(dLon/2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return R * c;
+        return GeoMath.haversineKm(lat1, lon1, lat2, lon2);
     }
 
     // 이동 수단별 소요 시간 계산
@@ -1,5 +1,6 @@
 package com.compass.domain.chat.route_optimization.controller;
 
+import com.compass.domain.chat.common.geo.GeoMath;
 import com.compass.domain.chat.route_optimization.model.CategoryBasedSelectionRequest;
 import com.compass.domain.chat.route_optimization.model.CategoryBasedSelectionRequest.*;
 import com.compass.domain.chat.route_optimization.service.CategoryBasedDistributionService;
@@ -244,18 +245,7 @@ public class CategoryBasedOptimizationController {
     }
 
     private double calculateDistance(PlaceCandidate p1, PlaceCandidate p2) {
-        double lat1 = Math.toRadians(p1.latitude());
-        double lat2 = Math.toRadians(p2.latitude());
-        double deltaLat = lat2 - lat1;
-        double deltaLng = Math.toRadians(p2.longitude() - p1.longitude());
-
-        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
-                   Math.cos(lat1) * Math.cos(lat2) *
-                   Math.sin(deltaLng / 2) * Math.sin(deltaLng / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return 6371 * c;  // km
+        return GeoMath.haversineKm(p1.latitude(), p1.longitude(), p2.latitude(), p2.longitude());
     }
 
     private int calculateEstimatedTime(List<PlaceCandidate> route) {
@@ -1,5 +1,7 @@
 package com.compass.domain.chat.route_optimization.service;
 
+import com.compass.domain.chat.common.cluster.KMeansEngine;
+import com.compass.domain.chat.common.geo.GeoMath;
 import com.compass.domain.chat.route_optimization.model.CategoryBasedSelectionRequest;
 import com.compass.domain.chat.route_optimization.model.CategoryBasedSelectionRequest.*;
 import com.compass.domain.chat.service.MealAreaRecommendationService;
@@ -82,7 +84,7 @@ public class CategoryBasedDistributionService {
     }
 
     /**
-     * K-means 클러스터링
+     * K-means 클러스터링 (일자별 장소 수가 고르도록 균등 크기 클러스터)
      */
     private Map<Integer, List<PlaceCandidate>> performKMeansClustering(
             List<PlaceCandidate> places, int k) {
@@ -91,163 +93,28 @@ public class CategoryBasedDistributionService {
             return new HashMap<>();
         }
 
-        // 간단한 K-means 구현
-        Map<Integer, List<PlaceCandidate>> clusters = new HashMap<>();
-
-        // 초기 중심점 선택 (K-means++ 알고리즘)
-        List<PlaceCandidate> centroids = selectInitialCentroids(places, k);
-
-        boolean changed = true;
-        int iteration = 0;
-        int maxIterations = 100;
-
-        while (changed && iteration < maxIterations) {
-            changed = false;
-            clusters.clear();
-
-            // 각 장소를 가장 가까운 중심점에 할당
-            for (PlaceCandidate place : places) {
-                int nearestCluster = findNearestCentroid(place, centroids);
-                clusters.computeIfAbsent(nearestCluster, key -> new ArrayList<>())
-                       .add(place);
-            }
+        double[] latitudes = places.stream().mapToDouble(PlaceCandidate::latitude).toArray();
+        double[] longitudes = places.stream().mapToDouble(PlaceCandidate::longitude).toArray();
+        KMeansEngine.Result result = KMeansEngine.cluster(latitudes, longitudes, k,
+            KMeansEngine.Options.defaults().withBalanced(true));
 
-            // 새로운 중심점 계산
-            List<PlaceCandidate> newCentroids = new ArrayList<>();
-            for (int i = 0; i < k; i++) {
-                List<PlaceCandidate> clusterPlaces = clusters.getOrDefault(i, new ArrayList<>());
-                if (!clusterPlaces.isEmpty()) {
-                    PlaceCandidate newCentroid = calculateCentroid(clusterPlaces);
-                    newCentroids.add(newCentroid);
-                } else {
-                    // 빈 클러스터의 경우 기존 중심점 유지
-                    newCentroids.add(centroids.get(i));
-                }
-            }
-
-            // 중심점 변화 확인
-            if (!centroids.equals(newCentroids)) {
-                changed = true;
-                centroids = newCentroids;
+        Map<Integer, List<PlaceCandidate>> clusters = new HashMap<>();
+        List<List<PlaceCandidate>> groups = result.partition(places);
+        for (int i = 0; i < groups.size(); i++) {
+            if (!groups.get(i).isEmpty()) {
+                clusters.put(i, groups.get(i));
             }
-
-            iteration++;
         }
 
-        log.info("K-means clustering completed in {} iterations", iteration);
+        log.info("K-means clustering completed in {} iterations", result.iterations());
         return clusters;
     }
 
-    /**
-     * K-means++ 초기 중심점 선택
-     */
-    private List<PlaceCandidate> selectInitialCentroids(List<PlaceCandidate> places, int k) {
-        List<PlaceCandidate> centroids = new ArrayList<>();
-        Random random = new Random();
-
-        // 첫 번째 중심점은 무작위 선택
-        centroids.add(places.get(random.nextInt(places.size())));
-
-        // 나머지 중심점은 기존 중심점과의 거리에 비례하여 선택
-        for (int i = 1; i < k && i < places.size(); i++) {
-            PlaceCandidate nextCentroid = selectNextCentroid(places, centroids);
-            if (nextCentroid != null) {
-                centroids.add(nextCentroid);
-            }
-        }
-
-        return centroids;
-    }
-
-    /**
-     * 거리 기반 다음 중심점 선택
-     */
-    private PlaceCandidate selectNextCentroid(
-            List<PlaceCandidate> places,
-            List<PlaceCandidate> existingCentroids) {
-
-        double maxMinDistance = 0;
-        PlaceCandidate bestCandidate = null;
-
-        for (PlaceCandidate candidate : places) {
-            if (existingCentroids.contains(candidate)) continue;
-
-            double minDistance = Double.MAX_VALUE;
-            for (PlaceCandidate centroid : existingCentroids) {
-                double distance = calculateDistance(candidate, centroid);
-                minDistance = Math.min(minDistance, distance);
-            }
-
-            if (minDistance > maxMinDistance) {
-                maxMinDistance = minDistance;
-                bestCandidate = candidate;
-            }
-        }
-
-        return bestCandidate;
-    }
-
-    /**
-     * 가장 가까운 중심점 찾기
-     */
-    private int findNearestCentroid(PlaceCandidate place, List<PlaceCandidate> centroids) {
-        int nearest = 0;
-        double minDistance = Double.MAX_VALUE;
-
-        for (int i = 0; i < centroids.size(); i++) {
-            double distance = calculateDistance(place, centroids.get(i));
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearest = i;
-            }
-        }
-
-        return nearest;
-    }
-
-    /**
-     * 클러스터 중심점 계산
-     */
-    private PlaceCandidate calculateCentroid(List<PlaceCandidate> places) {
-        double avgLat = places.stream()
-            .mapToDouble(PlaceCandidate::latitude)
-            .average()
-            .orElse(0);
-
-        double avgLng = places.stream()
-            .mapToDouble(PlaceCandidate::longitude)
-            .average()
-            .orElse(0);
-
-        // 가상의 중심점 생성
-        return new PlaceCandidate(
-            "centroid",
-            "Centroid",
-            "centroid",
-            avgLat,
-            avgLng,
-            "AFTERNOON_ACTIVITY",
-            3,
-            0
-        );
-    }
-
     /**
      * 두 장소 간 거리 계산 (Haversine formula)
      */
     private double calculateDistance(PlaceCandidate p1, PlaceCandidate p2) {
-        double lat1 = Math.toRadians(p1.latitude());
-        double lat2 = Math.toRadians(p2.latitude());
-        double deltaLat = lat2 - lat1;
-        double deltaLng = Math.toRadians(p2.longitude() - p1.longitude());
-
-        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
-                   Math.cos(lat1) * Math.cos(lat2) *
-                   Math.sin(deltaLng / 2) * Math.sin(deltaLng / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return 6371 * c;  // 지구 반지름 (km)
+        return GeoMath.haversineKm(p1.latitude(), p1.longitude(), p2.latitude(), p2.longitude());
     }
 
     /**
@@ -4,6 +4,7 @@ import com.compass.domain.chat.function.processing.phase3.date_selection.model.T
 import com.compass.domain.chat.route_optimization.client.KakaoMobilityClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -11,7 +12,8 @@ import java.util.stream.Collectors;
 
 /**
  * 시간블록별 여러 후보 중 최적 경로를 선택하는 서비스
- * Dynamic Programming with Beam Search 방식 사용
+ * 전이 비용이 직전 장소에만 의존하므로 시간블록을 층으로 보는 최단 경로(Viterbi DP)로 정확한 해를 구한다
+ * 후보가 아주 많은 경우에만 설정으로 Beam Search를 사용
  */
 @Slf4j
 @Service
@@ -26,6 +28,10 @@ public class MultiPathOptimizationService {
     private static final double TIME_WEIGHT = 0.3;
     private static final double RATING_WEIGHT = 0.3;
 
+    // 한 시간블록 후보 수가 이 값을 넘으면 Beam Search 사용 (0이면 항상 DP)
+    @Value("${route-optimization.multi-path.beam-search-threshold:0}")
+    private int beamSearchThreshold = 0;
+
     /**
      * 시간블록별 후보들 중에서 최적 경로 선택
      * @param timeBlockCandidates 시간블록별 후보 리스트 맵
@@ -54,8 +60,16 @@ public class MultiPathOptimizationService {
             return List.of();
         }
 
-        // Dynamic Programming with Beam Search
-        return beamSearchOptimization(
+        int largestBlock = activeTimeBlocks.stream()
+            .mapToInt(block -> timeBlockCandidates.get(block).size())
+            .max()
+            .orElse(0);
+        if (beamSearchThreshold > 0 && largestBlock > beamSearchThreshold) {
+            log.info("시간블록 후보 {} 개가 임계값 {} 초과 - Beam Search 사용", largestBlock, beamSearchThreshold);
+            return beamSearchOptimization(timeBlockCandidates, activeTimeBlocks, transportMode);
+        }
+
+        return dynamicProgrammingOptimization(
             timeBlockCandidates,
             activeTimeBlocks,
             transportMode
@@ -63,9 +77,78 @@ public class MultiPathOptimizationService {
     }
 
     /**
-     * Beam Search를 이용한 경로 최적화
+     * 시간블록 층별 Viterbi DP를 이용한 경로 최적화
+     * cost[j] = 현재 블록 j번 후보에서 끝나는 최소 누적 비용, back[i][j] = 그때 직전 블록 후보 번호
+     * 경로 복사 없이 O(블록 수 × 후보 수²)로 최적 경로를 구한 뒤 역추적
+     */
+    List<TourPlace> dynamicProgrammingOptimization(
+        Map<String, List<TourPlace>> candidates,
+        List<String> timeBlocks,
+        KakaoMobilityClient.TransportMode transportMode
+    ) {
+        int layers = timeBlocks.size();
+        List<List<TourPlace>> layerCandidates = new ArrayList<>(layers);
+        for (String block : timeBlocks) {
+            List<TourPlace> blockCandidates = candidates.get(block);
+            if (blockCandidates == null || blockCandidates.isEmpty()) {
+                return List.of();
+            }
+            layerCandidates.add(blockCandidates);
+        }
+
+        // 첫 시간블록은 비용 0에서 시작
+        double[] cost = new double[layerCandidates.get(0).size()];
+        int[][] back = new int[layers][];
+
+        for (int i = 1; i < layers; i++) {
+            List<TourPlace> previous = layerCandidates.get(i - 1);
+            List<TourPlace> current = layerCandidates.get(i);
+            double[] next = new double[current.size()];
+            back[i] = new int[current.size()];
+
+            for (int j = 0; j < current.size(); j++) {
+                TourPlace candidate = current.get(j);
+                double best = Double.POSITIVE_INFINITY;
+                int bestFrom = 0;
+                for (int k = 0; k < previous.size(); k++) {
+                    double total = cost[k] + calculateTransitionCost(previous.get(k), candidate, transportMode);
+                    if (total < best) {
+                        best = total;
+                        bestFrom = k;
+                    }
+                }
+                next[j] = best;
+                back[i][j] = bestFrom;
+            }
+            cost = next;
+
+            log.debug("시간블록 {} 처리 완료: {} 개 후보", timeBlocks.get(i), current.size());
+        }
+
+        // 마지막 블록의 최소 비용 후보에서 역추적
+        int last = 0;
+        for (int j = 1; j < cost.length; j++) {
+            if (cost[j] < cost[last]) {
+                last = j;
+            }
+        }
+        log.info("최적 경로 선택 완료: 총 비용 {}", cost[last]);
+
+        TourPlace[] path = new TourPlace[layers];
+        int index = last;
+        for (int i = layers - 1; i >= 0; i--) {
+            path[i] = layerCandidates.get(i).get(index);
+            if (i > 0) {
+                index = back[i][index];
+            }
+        }
+        return List.of(path);
+    }
+
+    /**
+     * Beam Search를 이용한 경로 최적화 (근사 - 블록당 BEAM_WIDTH 개 경로만 유지)
      */
-    private List<TourPlace> beamSearchOptimization(
+    List<TourPlace> beamSearchOptimization(
         Map<String, List<TourPlace>> candidates,
         List<String> timeBlocks,
         KakaoMobilityClient.TransportMode transportMode
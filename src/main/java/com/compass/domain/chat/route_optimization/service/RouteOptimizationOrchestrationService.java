@@ -1,5 +1,7 @@
 package com.compass.domain.chat.route_optimization.service;
 
+import com.compass.domain.chat.common.geo.GeoMath;
+import com.compass.domain.chat.common.route.RouteImprover;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
 import com.compass.domain.chat.model.dto.ConfirmedSchedule;
 import com.compass.domain.chat.model.context.TravelContext;
@@ -491,82 +493,19 @@ public class RouteOptimizationOrchestrationService {
         return ordered;
     }
 
-    // 2-opt 알고리즘으로 경로 개선
+    // 2-opt + Or-opt로 경로 개선 (출발점 고정)
     private List<TourPlace> twoOptImprovement(List<TourPlace> route) {
-        if (route.size() < 4) return route;  // 최소 4개 노드 필요
-
-        List<TourPlace> improved = new ArrayList<>(route);
-        boolean improvement = true;
-        int iterations = 0;
-        int maxIterations = 100;  // 무한 루프 방지
-
-        while (improvement && iterations < maxIterations) {
-            improvement = false;
-            iterations++;
-
-            for (int i = 1; i < improved.size() - 2; i++) {
-                for (int j = i + 1; j < improved.size(); j++) {
-                    // 현재 거리: (i-1 -> i) + (j -> j+1)
-                    double currentDistance = 0;
-                    if (i > 0) {
-                        currentDistance += calculateDistance(improved.get(i-1), improved.get(i));
-                    }
-                    if (j < improved.size() - 1) {
-                        currentDistance += calculateDistance(improved.get(j), improved.get((j+1) % improved.size()));
-                    }
-
-                    // 교체 후 거리: (i-1 -> j) + (i -> j+1)
-                    double newDistance = 0;
-                    if (i > 0) {
-                        newDistance += calculateDistance(improved.get(i-1), improved.get(j));
-                    }
-                    if (j < improved.size() - 1) {
-                        newDistance += calculateDistance(improved.get(i), improved.get((j+1) % improved.size()));
-                    }
-
-                    // 개선되면 경로 교체
-                    if (newDistance < currentDistance) {
-                        // i부터 j까지 역순으로 변경
-                        reverseSubRoute(improved, i, j);
-                        improvement = true;
-                        log.debug("2-opt 개선: {}번째 반복, 구간 [{}, {}] 역순 처리", iterations, i, j);
-                    }
-                }
-            }
-        }
-
-        log.info("2-opt 최적화 완료: {} 반복, 최종 경로 크기: {}", iterations, improved.size());
+        List<TourPlace> improved = RouteImprover.improve(route, this::calculateDistance, true,
+            RouteImprover.Options.openPath());
+        log.info("경로 개선 완료: 최종 경로 크기: {}", improved.size());
         return improved;
     }
 
-    // 부분 경로 역순 처리
-    private void reverseSubRoute(List<TourPlace> route, int start, int end) {
-        while (start < end) {
-            TourPlace temp = route.get(start);
-            route.set(start, route.get(end));
-            route.set(end, temp);
-            start++;
-            end--;
-        }
-    }
-
     // Haversine 공식으로 거리 계산
     private double calculateDistance(TourPlace from, TourPlace to) {
         if (from.latitude() == null || to.latitude() == null) return 5.0;
 
-        double lat1 = from.latitude();
-        double lon1 = from.longitude();
-        double lat2 = to.latitude();
-        double lon2 = to.longitude();
-
-        double R = 6371; // km
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat/2) * Math.sin(dLat/2) +
-                  Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                  Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return R * c;
+        return GeoMath.haversineKm(from.latitude(), from.longitude(), to.latitude(), to.longitude());
     }
 
     // 이동수단별 소요시간 계산
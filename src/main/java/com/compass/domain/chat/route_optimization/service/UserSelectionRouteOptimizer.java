@@ -1,5 +1,6 @@
 package com.compass.domain.chat.route_optimization.service;
 
+import com.compass.domain.chat.common.geo.GeoMath;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
 import com.compass.domain.chat.route_optimization.client.KakaoMobilityClient;
 import lombok.RequiredArgsConstructor;
@@ -299,10 +300,7 @@ public class UserSelectionRouteOptimizer {
     }
 
     private double calculateDistance(TourPlace from, TourPlace to) {
-        // 간단한 유클리드 거리 (실제로는 Haversine 공식 사용)
-        double latDiff = from.latitude() - to.latitude();
-        double lngDiff = from.longitude() - to.longitude();
-        return Math.sqrt(latDiff * latDiff + lngDiff * lngDiff) * 111.0; // km 근사
+        return GeoMath.haversineKm(from.latitude(), from.longitude(), to.latitude(), to.longitude());
     }
 
     private DayRoute createDayRoute(List<TourPlace> route, int dayNumber) {
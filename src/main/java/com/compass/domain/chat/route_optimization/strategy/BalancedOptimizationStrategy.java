@@ -1,5 +1,7 @@
 package com.compass.domain.chat.route_optimization.strategy;
 
+import com.compass.domain.chat.common.geo.GeoMath;
+import com.compass.domain.chat.common.route.RouteImprover;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -183,49 +185,9 @@ public class BalancedOptimizationStrategy implements OptimizationStrategy {
         return costAfter - costBefore;
     }
 
-    // 2-opt 미세 조정
+    // 2-opt + Or-opt 미세 조정 (비용이 방향에 따라 다르므로 비대칭으로 평가)
     private List<TourPlace> twoOptRefinement(List<TourPlace> route) {
-        if (route.size() < 4) return route;
-
-        List<TourPlace> improved = new ArrayList<>(route);
-        boolean improvement = true;
-        int iterations = 0;
-
-        while (improvement && iterations < 50) {
-            improvement = false;
-            iterations++;
-
-            for (int i = 1; i < improved.size() - 2; i++) {
-                for (int j = i + 1; j < improved.size(); j++) {
-                    if (shouldSwap(improved, i, j)) {
-                        reverseSubRoute(improved, i, j);
-                        improvement = true;
-                    }
-                }
-            }
-        }
-
-        return improved;
-    }
-
-    // 교체 여부 판단
-    private boolean shouldSwap(List<TourPlace> route, int i, int j) {
-        double currentCost = calculateCost(route.get(i-1), route.get(i)) +
-                            calculateCost(route.get(j), route.get((j+1) % route.size()));
-
-        double newCost = calculateCost(route.get(i-1), route.get(j)) +
-                        calculateCost(route.get(i), route.get((j+1) % route.size()));
-
-        return newCost < currentCost;
-    }
-
-    // 부분 경로 역순 처리
-    private void reverseSubRoute(List<TourPlace> route, int start, int end) {
-        while (start < end) {
-            Collections.swap(route, start, end);
-            start++;
-            end--;
-        }
+        return RouteImprover.improve(route, this::calculateCost, false, RouteImprover.Options.openPath());
     }
 
     // 시간 비용 계산
@@ -265,18 +227,6 @@ public class BalancedOptimizationStrategy implements OptimizationStrategy {
     private double calculateDistance(TourPlace from, TourPlace to) {
         if (from.latitude() == null || to.latitude() == null) return 5.0;
 
-        double lat1 = from.latitude();
-        double lon1 = from.longitude();
-        double lat2 = to.latitude();
-        double lon2 = to.longitude();
-
-        double R = 6371;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat/2) * Math.sin(dLat/2) +
-                  Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                  Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return R * c;
+        return GeoMath.haversineKm(from.latitude(), from.longitude(), to.latitude(), to.longitude());
     }
 }
\ No newline at end of file
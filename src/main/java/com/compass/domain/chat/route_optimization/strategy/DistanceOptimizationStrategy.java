@@ -1,5 +1,7 @@
 package com.compass.domain.chat.route_optimization.strategy;
 
+import com.compass.domain.chat.common.geo.GeoMath;
+import com.compass.domain.chat.common.route.RouteImprover;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -64,61 +66,15 @@ public class DistanceOptimizationStrategy implements OptimizationStrategy {
         return ordered;
     }
 
-    // 2-opt 알고리즘
+    // 2-opt + Or-opt 개선 (출발점 고정)
     private List<TourPlace> twoOptImprovement(List<TourPlace> route) {
-        if (route.size() < 4) return route;
-
-        List<TourPlace> improved = new ArrayList<>(route);
-        boolean improvement = true;
-        int iterations = 0;
-
-        while (improvement && iterations < 100) {
-            improvement = false;
-            iterations++;
-
-            for (int i = 1; i < improved.size() - 2; i++) {
-                for (int j = i + 1; j < improved.size(); j++) {
-                    double currentCost = calculateCost(improved.get(i-1), improved.get(i)) +
-                                        calculateCost(improved.get(j), improved.get((j+1) % improved.size()));
-
-                    double newCost = calculateCost(improved.get(i-1), improved.get(j)) +
-                                    calculateCost(improved.get(i), improved.get((j+1) % improved.size()));
-
-                    if (newCost < currentCost) {
-                        reverseSubRoute(improved, i, j);
-                        improvement = true;
-                    }
-                }
-            }
-        }
-
-        return improved;
-    }
-
-    private void reverseSubRoute(List<TourPlace> route, int start, int end) {
-        while (start < end) {
-            Collections.swap(route, start, end);
-            start++;
-            end--;
-        }
+        return RouteImprover.improve(route, this::calculateCost, true, RouteImprover.Options.openPath());
     }
 
     // Haversine 거리 계산
     private double calculateDistance(TourPlace from, TourPlace to) {
         if (from.latitude() == null || to.latitude() == null) return 5.0;
 
-        double lat1 = from.latitude();
-        double lon1 = from.longitude();
-        double lat2 = to.latitude();
-        double lon2 = to.longitude();
-
-        double R = 6371;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat/2) * Math.sin(dLat/2) +
-                  Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                  Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return R * c;
+        return GeoMath.haversineKm(from.latitude(), from.longitude(), to.latitude(), to.longitude());
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.compass.domain.chat.route_optimization.strategy;
 
+import com.compass.domain.chat.common.geo.GeoMath;
 import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -186,18 +187,6 @@ public class TimeOptimizationStrategy implements OptimizationStrategy {
     private double calculateDistance(TourPlace from, TourPlace to) {
         if (from.latitude() == null || to.latitude() == null) return 5.0;
 
-        double lat1 = from.latitude();
-        double lon1 = from.longitude();
-        double lat2 = to.latitude();
-        double lon2 = to.longitude();
-
-        double R = 6371;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat/2) * Math.sin(dLat/2) +
-                  Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                  Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return R * c;
+        return GeoMath.haversineKm(from.latitude(), from.longitude(), to.latitude(), to.longitude());
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.compass.domain.chat.service;
 
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,7 +20,9 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
@@ -31,6 +33,7 @@ public class AiEnrichmentService {
     private final TravelCandidateRepository travelCandidateRepository;
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final EnrichmentExecutor enrichmentExecutor;
 
     @Value("${perplexity.api.key:}")
     private String perplexityApiKey;
@@ -38,6 +41,7 @@ public class AiEnrichmentService {
     @Value("${openai.api.key:}")
     private String openaiApiKey;
 
+    private static final String RATE_LIMIT_KEY = "perplexity";
     private static final String PERPLEXITY_API_URL = "https://api.perplexity.ai/chat/completions";
     private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
 
@@ -62,55 +66,56 @@ public class AiEnrichmentService {
 
         log.info("AI 보강 대상: {} 개", topPlaces.size());
 
-        topPlaces.forEach(candidate -> {
+        Queue<TravelCandidate> enrichedCandidates = new ConcurrentLinkedQueue<>();
+
+        // API 비용 관리 (분당 3개)는 ApiRateLimiter 허가로 처리
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, topPlaces, candidate -> {
             try {
                 boolean enriched = enrichWithAI(candidate);
                 if (enriched) {
                     candidate.setEnrichmentStatus(2);
-                    travelCandidateRepository.save(candidate);
+                    enrichedCandidates.add(candidate);
                     successCount.incrementAndGet();
                     log.debug("AI 보강 성공: {}", candidate.getName());
                 } else {
                     failCount.incrementAndGet();
                 }
 
-                // API 비용 관리 (분당 3개)
-                Thread.sleep(20000);
-
             } catch (Exception e) {
                 log.error("AI 보강 실패 - {}: {}", candidate.getName(), e.getMessage());
                 failCount.incrementAndGet();
             }
         });
 
+        travelCandidateRepository.saveAll(enrichedCandidates);
+
         log.info("AI 보강 완료 - 성공: {}, 실패: {}", successCount.get(), failCount.get());
         return successCount.get();
     }
 
-    // 비동기 AI 보강
-    @Async
-    @Transactional
+    // 비동기 AI 보강 - 보강 전용 스레드에서 실행하고 각 작업이 짧은 트랜잭션으로 바로 저장
     public CompletableFuture<Integer> enrichBatchWithAIAsync(List<Long> candidateIds) {
         log.info("비동기 AI 보강 시작 - {} 개", candidateIds.size());
 
-        AtomicInteger successCount = new AtomicInteger(0);
-        List<TravelCandidate> candidates = travelCandidateRepository.findAllById(candidateIds);
-
-        candidates.forEach(candidate -> {
-            try {
-                boolean enriched = enrichWithAI(candidate);
-                if (enriched) {
-                    candidate.setEnrichmentStatus(2);
-                    travelCandidateRepository.save(candidate);
-                    successCount.incrementAndGet();
+        return enrichmentExecutor.dispatchAsync(() -> {
+            AtomicInteger successCount = new AtomicInteger(0);
+            List<TravelCandidate> candidates = travelCandidateRepository.findAllById(candidateIds);
+
+            enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, candidates, candidate -> {
+                try {
+                    boolean enriched = enrichWithAI(candidate);
+                    if (enriched) {
+                        candidate.setEnrichmentStatus(2);
+                        travelCandidateRepository.save(candidate);
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    log.error("비동기 AI 보강 실패: {}", e.getMessage());
                 }
-                Thread.sleep(20000);
-            } catch (Exception e) {
-                log.error("비동기 AI 보강 실패: {}", e.getMessage());
-            }
-        });
+            });
 
-        return CompletableFuture.completedFuture(successCount.get());
+            return successCount.get();
+        });
     }
 
     // 개별 AI 보강
@@ -1,22 +1,31 @@
 package com.compass.domain.chat.service;
 
+import com.compass.domain.chat.common.snapshot.TravelCandidateChangedEvent;
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.entity.TravelCandidate.TimeBlock;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
 import com.opencsv.CSVReader;
 import com.opencsv.exceptions.CsvException;
+import com.opencsv.exceptions.CsvValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
@@ -31,6 +40,10 @@ import java.util.stream.Stream;
 public class CSVImportService {
 
     private final TravelCandidateRepository travelCandidateRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 스트리밍 임포트 결과에 담을 거부 행 최대 개수 (전체 거부 수는 따로 센다)
+    private static final int MAX_REPORTED_REJECTIONS = 1000;
 
     // CSV 파일이 저장된 디렉토리
     private static final String CSV_DIRECTORY = "/Users/kmj/Documents/GitHub/AIBE2_FinalProject_Compass_BE/list/";
@@ -97,11 +110,16 @@ public class CSVImportService {
                 }
             }
 
-            // 배치 저장
-            List<TravelCandidate> saved = travelCandidateRepository.saveAll(candidates);
-            log.info("{}개 데이터 저장 완료", saved.size());
+            // (place_id, region) 기준 bulk upsert - 같은 파일을 다시 임포트하면 기존 행을 갱신
+            int saved = travelCandidateRepository.upsertAll(candidates);
+            // 네이티브 쓰기는 엔티티 리스너를 거치지 않으므로 스냅샷을 직접 무효화
+            candidates.stream()
+                .map(TravelCandidate::getRegion)
+                .distinct()
+                .forEach(region -> eventPublisher.publishEvent(new TravelCandidateChangedEvent(region)));
+            log.info("{}개 데이터 저장 완료", saved);
 
-            return saved.size();
+            return saved;
 
         } catch (IOException | CsvException e) {
             log.error("CSV 파일 읽기 실패: {}", e.getMessage(), e);
@@ -109,6 +127,30 @@ public class CSVImportService {
         }
     }
 
+    /**
+     * 특정 CSV 파일 스트리밍 임포트
+     * 한 행씩 읽어 PostgreSQL COPY로 staging 테이블에 흘려 넣고 한 번의 upsert로 병합 - 파일 크기와 무관하게 메모리 사용량 일정
+     * 거부된 행은 줄 번호와 사유를 최대 MAX_REPORTED_REJECTIONS개까지 돌려준다
+     */
+    @Transactional
+    public StreamingImportResult importCSVFileStreaming(String filePath) {
+        log.info("CSV 파일 스트리밍 임포트 시작: {}", filePath);
+
+        try (CSVReader reader = new CSVReader(Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8))) {
+            CsvRowIterator rows = new CsvRowIterator(reader);
+            int imported = travelCandidateRepository.copyUpsert(rows);
+
+            // COPY/네이티브 병합은 엔티티 리스너를 거치지 않으므로 스냅샷을 직접 무효화
+            rows.regions.forEach(region -> eventPublisher.publishEvent(new TravelCandidateChangedEvent(region)));
+            log.info("{}개 데이터 저장 완료 (거부 {}행)", imported, rows.rejectedCount);
+
+            return new StreamingImportResult(imported, rows.rejectedCount, rows.rejectedRows);
+        } catch (IOException | UncheckedIOException e) {
+            log.error("CSV 파일 읽기 실패: {}", e.getMessage(), e);
+            throw new IllegalStateException("CSV 파일 읽기 실패: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * CSV 행을 TravelCandidate 엔티티로 변환
      */
@@ -129,6 +171,21 @@ public class CSVImportService {
         }
     }
 
+    /**
+     * db.csv 행 검증 - 문제가 있으면 거부 사유, 없으면 null
+     * (스트리밍 임포트는 한 행이라도 컬럼 제약을 어기면 COPY 전체가 실패하므로 미리 걸러낸다)
+     */
+    private String rejectReason(TravelCandidate candidate) {
+        if (candidate.getName().isBlank()) return "이름 누락";
+        if (candidate.getRegion().isBlank()) return "지역 누락";
+        if (candidate.getCategory().isBlank()) return "카테고리 누락";
+        if (candidate.getName().length() > 255) return "이름이 너무 깁니다 (최대 255자)";
+        if (candidate.getRegion().length() > 50) return "지역이 너무 깁니다 (최대 50자)";
+        if (candidate.getCategory().length() > 50) return "카테고리가 너무 깁니다 (최대 50자)";
+        if (candidate.getAddress().length() > 500) return "주소가 너무 깁니다 (최대 500자)";
+        return null;
+    }
+
     /**
      * db.csv 형식 파싱
      */
@@ -177,7 +234,7 @@ public class CSVImportService {
         }
 
         TravelCandidate candidate = TravelCandidate.builder()
-            .placeId(generatePlaceId())
+            .placeId(generatePlaceId(row[3], row[2], address))
             .name(row[2])  // 이름
             .region(row[3])  // 지역
             .subRegion(subRegion)
@@ -302,6 +359,8 @@ public class CSVImportService {
     public void clearAllData() {
         log.info("기존 TravelCandidate 데이터 모두 삭제");
         travelCandidateRepository.deleteAllData();
+        // 벌크 DELETE는 엔티티 리스너를 거치지 않으므로 스냅샷을 직접 무효화
+        eventPublisher.publishEvent(TravelCandidateChangedEvent.allRegions());
         log.info("데이터 삭제 완료");
     }
 
@@ -312,6 +371,15 @@ public class CSVImportService {
         return "csv_" + UUID.randomUUID().toString().substring(0, 8);
     }
 
+    /**
+     * 지역/이름/주소로 고정된 Place ID 생성 - 재임포트 시 같은 장소가 같은 키로 upsert되도록
+     * 잘라 쓰면 서로 다른 장소가 충돌해 합쳐지므로 128비트 UUID 전체를 쓴다 (V7 백필과 같은 규칙)
+     */
+    static String generatePlaceId(String region, String name, String address) {
+        String key = String.join("|", region, name, address);
+        return "csv_" + UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8));
+    }
+
     /**
      * 문자열을 Double로 파싱
      */
@@ -339,4 +407,101 @@ public class CSVImportService {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    // 스트리밍 임포트 결과 (rejectedRows는 최대 MAX_REPORTED_REJECTIONS개, rejectedCount는 전체 거부 수)
+    public record StreamingImportResult(int imported, long rejectedCount, List<RejectedRow> rejectedRows) {
+    }
+
+    // 거부된 CSV 행 (lineNumber는 파일 기준 1부터 시작하는 줄 번호)
+    public record RejectedRow(long lineNumber, String reason) {
+    }
+
+    /**
+     * CSV를 한 행씩 읽어 유효한 행만 엔티티로 돌려주는 이터레이터
+     * 파일 전체를 읽어 두지 않으며, 거부된 행은 줄 번호와 사유만 기록한다
+     */
+    private class CsvRowIterator implements Iterator<TravelCandidate> {
+
+        private final CSVReader reader;
+        private final Set<String> regions = new HashSet<>();
+        private final List<RejectedRow> rejectedRows = new ArrayList<>();
+        private long rejectedCount;
+        private boolean headerSkipped;
+        private TravelCandidate next;
+
+        private CsvRowIterator(CSVReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = readNextValid();
+            }
+            return next != null;
+        }
+
+        @Override
+        public TravelCandidate next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            TravelCandidate candidate = next;
+            next = null;
+            return candidate;
+        }
+
+        private TravelCandidate readNextValid() {
+            while (true) {
+                // 여러 줄에 걸친 행도 시작 줄 번호로 보고
+                long lineNumber = reader.getLinesRead() + 1;
+                String[] row;
+                try {
+                    row = reader.readNext();
+                } catch (CsvValidationException e) {
+                    reject(lineNumber, "CSV 형식 오류: " + e.getMessage());
+                    continue;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                if (row == null) {
+                    return null;
+                }
+                if (!headerSkipped) {
+                    headerSkipped = true;
+                    log.info("헤더 스킵: {}", String.join(", ", row));
+                    continue;
+                }
+                if (row.length == 1 && row[0].isBlank()) {
+                    continue;
+                }
+                if (row.length < 6) {
+                    reject(lineNumber, String.format("컬럼 수 부족: %d개 (최소 6개)", row.length));
+                    continue;
+                }
+
+                try {
+                    TravelCandidate candidate = parseDbCsvRow(row);
+                    String reason = rejectReason(candidate);
+                    if (reason != null) {
+                        reject(lineNumber, reason);
+                        continue;
+                    }
+                    regions.add(candidate.getRegion());
+                    return candidate;
+                } catch (RuntimeException e) {
+                    reject(lineNumber, "파싱 실패: " + e.getMessage());
+                }
+            }
+        }
+
+        private void reject(long lineNumber, String reason) {
+            rejectedCount++;
+            if (rejectedRows.size() < MAX_REPORTED_REJECTIONS) {
+                rejectedRows.add(new RejectedRow(lineNumber, reason));
+            }
+            log.debug("CSV {}행 거부: {}", lineNumber, reason);
+        }
+    }
+}
@@ -4,15 +4,23 @@ import com.compass.domain.auth.entity.User;
 import com.compass.domain.auth.repository.UserRepository;
 import com.compass.domain.chat.entity.ChatMessage;
 import com.compass.domain.chat.entity.ChatThread;
+import com.compass.domain.chat.model.dto.ChatMessageView;
+import com.compass.domain.chat.model.dto.MessageCursor;
+import com.compass.domain.chat.model.dto.MessageHistoryPage;
 import com.compass.domain.chat.repository.ChatMessageRepository;
 import com.compass.domain.chat.repository.ChatThreadRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 // 대화 스레드 관리, 메시지 저장/조회, 상태 관리를 담당하는 서비스
@@ -27,6 +35,8 @@ public class ChatThreadService {
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 200;
+
     // --- DTO 정의 ---
 
     // 메시지 저장 요청 DTO
@@ -54,6 +64,7 @@ public class ChatThreadService {
     }
 
     // ChatThread 존재 확인 및 생성 (첫 대화 시작 시점에 호출)
+    // 채팅 턴(ChatTurn) 안에서도 바로 생성한다 - 같은 턴의 Stage 3 저장 등이 스레드를 조회하므로 미루지 않는다
     @Transactional
     public void ensureThreadExists(String threadId, String userIdOrEmail) {
         // Thread가 이미 존재하는지 확인
@@ -62,8 +73,64 @@ public class ChatThreadService {
             return;
         }
 
-        log.info("🔧 [TX] Creating new thread: threadId={}, userIdOrEmail={}", threadId, userIdOrEmail);
+        ChatThread savedThread = chatThreadRepository.save(newThread(threadId, findUser(userIdOrEmail)));
+        chatThreadRepository.flush(); // 강제로 DB에 즉시 반영
+        log.info("✅ [TX] ChatThread created and flushed: threadId={}, userId={}, userEmail={}",
+            savedThread.getId(), savedThread.getUser().getId(), savedThread.getUser().getEmail());
+    }
+
+    // 채팅 턴에서 모인 쓰기를 한 트랜잭션으로 저장 - 스레드 조회 1회, 메시지 일괄 저장(JDBC 배치), 스레드 갱신(카운터/Phase) 1회
+    // 스레드는 ensureThreadExists가 턴 시작 시 만들어 두며, 없을 때만 여기서 만든다
+    // 저장된 메시지를 시간순으로 반환하므로 호출자는 다시 조회할 필요가 없다
+    @Transactional
+    public List<ChatMessage> saveTurn(ChatTurn turn) {
+        ChatThread thread = chatThreadRepository.findById(turn.getThreadId())
+                .orElseGet(() -> chatThreadRepository.save(newThread(turn.getThreadId(), findUser(turn.getUserIdOrEmail()))));
+
+        List<ChatMessage> messages = turn.getMessages().stream()
+                .map(pending -> ChatMessage.builder()
+                        .thread(thread)
+                        .role(pending.sender())
+                        .content(pending.content())
+                        .timestamp(pending.timestamp())
+                        .build())
+                .toList();
+
+        List<ChatMessage> saved = chatMessageRepository.saveAll(messages);
+
+        // 스레드 카운터/Phase는 읽어 온 엔티티를 고치지 않고 UPDATE 한 번으로 DB에서 더한다
+        // (@Version이 없고 ThreadRequestSerializer는 JVM 단위라, 엔티티를 고치면 다른 인스턴스의 동시 추가가 덮어써진다)
+        String phase = turn.getPhase() != null ? turn.getPhase().name() : null;
+        LocalDateTime phaseUpdatedAt = phase != null ? LocalDateTime.now() : null;
+        if (!saved.isEmpty()) {
+            ChatMessage last = saved.get(saved.size() - 1);
+            String firstTitle = saved.stream()
+                    .filter(message -> "user".equals(message.getRole()))
+                    .findFirst()
+                    .map(first -> ChatThread.titleOf(first.getContent()))
+                    .orElse(null);
+            chatThreadRepository.recordAppendedTurn(turn.getThreadId(), saved.size(), last.getTimestamp(),
+                    ChatThread.previewOf(last.getContent()), firstTitle, phase, phaseUpdatedAt);
+        } else if (phase != null) {
+            chatThreadRepository.recordPhase(turn.getThreadId(), phase, phaseUpdatedAt);
+        }
+
+        log.debug("✅ [TX] 턴 저장 완료 - threadId: {}, messages: {}, phase: {}",
+            turn.getThreadId(), saved.size(), turn.getPhase());
+        return saved;
+    }
+
+    private ChatThread newThread(String threadId, User user) {
+        log.info("🔧 [TX] Creating new thread: threadId={}, userId={}", threadId, user.getId());
+        return ChatThread.builder()
+                .id(threadId)
+                .user(user)
+                .title("새 대화")
+                .currentPhase("INITIALIZATION")
+                .build();
+    }
 
+    private User findUser(String userIdOrEmail) {
         // 사용자 조회 - userId(숫자)로 먼저 시도, 실패하면 email로 시도
         User user = null;
 
@@ -91,82 +158,101 @@ public class ChatThreadService {
                                                 .orElseThrow(() -> new IllegalStateException("No users found in database"))));
                     });
         }
-
-        // 새 Thread 생성
-        ChatThread newThread = ChatThread.builder()
-                .id(threadId)
-                .user(user)
-                .title("새 대화")
-                .currentPhase("INITIALIZATION")
-                .build();
-
-        ChatThread savedThread = chatThreadRepository.save(newThread);
-        chatThreadRepository.flush(); // 강제로 DB에 즉시 반영
-        log.info("✅ [TX] ChatThread created and flushed: threadId={}, userId={}, userEmail={}",
-            savedThread.getId(), user.getId(), user.getEmail());
+        return user;
     }
 
     // 대화 메시지 저장 (Thread 없으면 자동 생성)
+    // 바로 저장했으면 저장된 메시지, 채팅 턴(ChatTurn) 안이라 턴에 모아 두었으면 empty - 저장된 메시지는 saveTurn이 반환한다
     @Transactional
-    public ChatMessage saveMessage(MessageSaveRequest request) {
+    public Optional<ChatMessage> saveMessage(MessageSaveRequest request) {
+        var turn = ChatTurn.current(request.threadId());
+        if (turn.isPresent()) {
+            turn.get().recordMessage(request.sender(), request.content());
+            return Optional.empty();
+        }
+
         log.debug("💾 [TX] saveMessage 시작 - threadId: {}, sender: {}", request.threadId(), request.sender());
 
-        // Thread가 없으면 자동 생성 (UUID를 ID로 사용)
-        ChatThread thread = chatThreadRepository.findById(request.threadId())
-                .orElseGet(() -> {
-                    log.warn("⚠️ [TX] Thread 없음, 자동 생성 시도 - threadId: {}", request.threadId());
-                    // Thread ID로 사용자 정보 추출이 어려우므로 임시 처리
-                    // 실제로는 request에 userId를 포함시키거나 SecurityContext에서 가져와야 함
-                    User defaultUser = userRepository.findByEmail("test-user@test.com")
-                            .orElse(userRepository.findAll().stream().findFirst()
-                                    .orElseThrow(() -> new IllegalStateException("No users found in database")));
-
-                    ChatThread newThread = ChatThread.builder()
-                            .id(request.threadId())  // UUID를 그대로 ID로 사용
-                            .user(defaultUser)
-                            .title("새 대화")
-                            .currentPhase("INITIALIZATION")
-                            .build();
-
-                    ChatThread saved = chatThreadRepository.save(newThread);
-                    log.info("✅ [TX] Thread 자동 생성 완료 - threadId: {}", saved.getId());
-                    return saved;
-                });
-
-        boolean hadMessages = thread.getMessages() != null && !thread.getMessages().isEmpty();
-
-        ChatMessage message = ChatMessage.builder()
+        LocalDateTime messageAt = LocalDateTime.now();
+        String preview = ChatThread.previewOf(request.content());
+        String firstTitle = "user".equals(request.sender()) ? ChatThread.titleOf(request.content()) : null;
+
+        // 스레드 카운터(메시지 수, 마지막 메시지, 첫 메시지 제목)를 UPDATE 한 번으로 갱신
+        // 메시지 컬렉션을 읽지 않으므로 스레드 길이와 무관하게 UPDATE 1회 + INSERT 1회
+        int updated = chatThreadRepository.recordAppendedMessage(request.threadId(), messageAt, preview, firstTitle);
+
+        ChatThread thread;
+        if (updated > 0) {
+            thread = chatThreadRepository.getReferenceById(request.threadId());
+        } else {
+            // Thread가 없으면 자동 생성 (UUID를 ID로 사용)
+            log.warn("⚠️ [TX] Thread 없음, 자동 생성 시도 - threadId: {}", request.threadId());
+            // Thread ID로 사용자 정보 추출이 어려우므로 임시 처리
+            // 실제로는 request에 userId를 포함시키거나 SecurityContext에서 가져와야 함
+            User defaultUser = userRepository.findByEmail("test-user@test.com")
+                    .orElse(userRepository.findAll().stream().findFirst()
+                            .orElseThrow(() -> new IllegalStateException("No users found in database")));
+
+            thread = chatThreadRepository.save(ChatThread.builder()
+                    .id(request.threadId())  // UUID를 그대로 ID로 사용
+                    .user(defaultUser)
+                    .title(firstTitle != null ? firstTitle : "새 대화")
+                    .currentPhase("INITIALIZATION")
+                    .messageCount(1)
+                    .lastMessageAt(messageAt)
+                    .lastMessagePreview(preview)
+                    .build());
+            log.info("✅ [TX] Thread 자동 생성 완료 - threadId: {}", thread.getId());
+        }
+
+        ChatMessage savedMessage = chatMessageRepository.save(ChatMessage.builder()
                 .thread(thread)
                 .role(request.sender())
                 .content(request.content())
-                .build();
-
-        ChatMessage savedMessage = chatMessageRepository.save(message);
+                .timestamp(messageAt)
+                .build());
         log.debug("✅ [TX] 메시지 저장 완료 - messageId: {}, role: {}", savedMessage.getId(), savedMessage.getRole());
 
-        thread.addMessage(savedMessage);
-
-        if (!hadMessages && "user".equals(request.sender())) {
-            thread.updateTitleFromFirstMessage(request.content());
-            log.debug("📝 [TX] 제목 업데이트 - title: {}", thread.getTitle());
-        }
-
-        chatThreadRepository.save(thread);
-        log.debug("✅ [TX] Thread 업데이트 완료 - threadId: {}, messageCount: {}",
-            thread.getId(), thread.getMessages().size());
-
-        return savedMessage;
+        return Optional.of(savedMessage);
     }
 
     // 특정 스레드의 대화 기록 조회
     public List<MessageResponse> getHistory(String threadId) {
-        // findByThreadIdOrderByTimestampDesc는 최신순으로 가져오므로, 서비스에서는 시간순으로 변환하여 반환할 수 있습니다.
-        // 또는 리포지토리에 시간 오름차순 메서드를 추가할 수 있습니다. 여기서는 stream().sorted()를 사용합니다.
-        List<ChatMessage> messages = chatMessageRepository.findByThreadIdOrderByTimestampDesc(threadId);
-
-        return messages.stream()
-                .sorted((m1, m2) -> m1.getTimestamp().compareTo(m2.getTimestamp())) // 시간 오름차순으로 정렬
-                .map(msg -> new MessageResponse(msg.getId(), msg.getRole(), msg.getContent(), msg.getTimestamp()))
+        // 정렬은 DB에서 (timestamp, id) 오름차순으로 - 엔티티 대신 프로젝션으로 읽는다
+        return chatMessageRepository.findAllViews(threadId).stream()
+                .map(msg -> new MessageResponse(msg.id(), msg.role(), msg.content(), msg.timestamp()))
                 .collect(Collectors.toList());
     }
+
+    // 스레드의 처음 limit개 메시지를 시간순으로 (메시지 배열을 돌려주던 기존 조회 API용)
+    // 전체를 읽어 자르지 않고 (thread_id, timestamp, id) 인덱스를 따라 limit행만 읽는다
+    @Transactional(readOnly = true)
+    public List<ChatMessageView> getFirstMessages(String threadId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return chatMessageRepository.findFirstViews(threadId, PageRequest.of(0, limit));
+    }
+
+    // 대화 기록 키셋 페이지 조회 - 커서가 없으면 최신 메시지부터, 있으면 커서 메시지보다 이전 메시지를 limit개
+    // (thread_id, timestamp, id) 인덱스를 따라 limit + 1행만 읽어 다음 페이지 여부를 판단한다
+    @Transactional(readOnly = true)
+    public MessageHistoryPage getHistoryPage(String threadId, String cursor, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_HISTORY_PAGE_SIZE));
+        Pageable fetch = PageRequest.of(0, pageSize + 1);
+
+        List<ChatMessageView> newestFirst;
+        if (cursor == null || cursor.isBlank()) {
+            newestFirst = chatMessageRepository.findLatestViews(threadId, fetch);
+        } else {
+            MessageCursor position = MessageCursor.decode(cursor);
+            newestFirst = chatMessageRepository.findViewsBefore(threadId, position.timestamp(), position.id(), fetch);
+        }
+
+        boolean hasMore = newestFirst.size() > pageSize;
+        List<ChatMessageView> page = new ArrayList<>(newestFirst.subList(0, Math.min(pageSize, newestFirst.size())));
+        String nextCursor = hasMore ? MessageCursor.of(page.get(page.size() - 1)).encode() : null;
+        Collections.reverse(page);
+        return new MessageHistoryPage(page, nextCursor);
+    }
 }
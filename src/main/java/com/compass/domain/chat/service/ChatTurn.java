@@ -0,0 +1,79 @@
+package com.compass.domain.chat.service;
+
+import com.compass.domain.chat.model.enums.TravelPhase;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+// 한 번의 채팅 턴에서 생기는 DB 쓰기(사용자/어시스턴트 메시지, Phase 변경)를 모아 두는 작업 단위
+// 요청 스레드에 묶이며(ThreadLocal), 턴이 열려 있는 동안 ChatThreadService/PhasePersistence의 쓰기는 여기에 쌓였다가
+// 턴이 끝날 때 ChatThreadService.saveTurn으로 한 트랜잭션에 저장된다. 턴 밖의 쓰기는 기존처럼 바로 저장된다.
+// 스레드 생성은 같은 턴의 다른 저장(Stage 3 등)이 스레드를 조회하므로 모으지 않고 바로 한다.
+public final class ChatTurn {
+
+    private static final ThreadLocal<ChatTurn> CURRENT = new ThreadLocal<>();
+
+    // 메시지 저장 시각은 기록한 순서 그대로 유지 (flush 시점이 아니라 실제 발생 시점)
+    public record PendingMessage(String sender, String content, LocalDateTime timestamp) {}
+
+    private final String threadId;
+    private final String userIdOrEmail;
+    private final List<PendingMessage> messages = new ArrayList<>();
+    private TravelPhase phase;
+
+    private ChatTurn(String threadId, String userIdOrEmail) {
+        this.threadId = threadId;
+        this.userIdOrEmail = userIdOrEmail;
+    }
+
+    // 턴 시작 - 한 요청 스레드에서 턴은 하나만 열 수 있다
+    public static ChatTurn begin(String threadId, String userIdOrEmail) {
+        if (CURRENT.get() != null) {
+            throw new IllegalStateException("이미 진행 중인 채팅 턴이 있습니다: " + CURRENT.get().threadId);
+        }
+        ChatTurn turn = new ChatTurn(threadId, userIdOrEmail);
+        CURRENT.set(turn);
+        return turn;
+    }
+
+    // 이 스레드의 요청에서 threadId에 대한 턴이 열려 있으면 반환
+    public static Optional<ChatTurn> current(String threadId) {
+        ChatTurn current = CURRENT.get();
+        return current != null && current.threadId.equals(threadId) ? Optional.of(current) : Optional.empty();
+    }
+
+    // 턴 종료 - 이후의 쓰기는 바로 저장된다 (쌓인 내용은 그대로 남아 saveTurn에 넘길 수 있다)
+    public void end() {
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    public void recordMessage(String sender, String content) {
+        messages.add(new PendingMessage(sender, content, LocalDateTime.now()));
+    }
+
+    // 한 턴에서 Phase가 여러 번 바뀌거나 초기화되면 마지막 값만 저장 (기록 순서가 곧 반영 순서)
+    public void recordPhase(TravelPhase phase) {
+        this.phase = phase;
+    }
+
+    public String getThreadId() {
+        return threadId;
+    }
+
+    public String getUserIdOrEmail() {
+        return userIdOrEmail;
+    }
+
+    public List<PendingMessage> getMessages() {
+        return Collections.unmodifiableList(messages);
+    }
+
+    public TravelPhase getPhase() {
+        return phase;
+    }
+}
@@ -1,5 +1,6 @@
 package com.compass.domain.chat.service;
 
+import com.compass.domain.chat.service.enrichment.EnrichmentJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -22,6 +23,7 @@ public class EnrichmentOrchestrationService {
     private final KakaoMapEnrichmentService kakaoMapService;
     private final TourApiEnrichmentService tourApiService;
     private final AiEnrichmentService aiService;
+    private final EnrichmentJobService enrichmentJobService;
 
     // 진행 상태 추적
     private final Map<String, Object> currentStatus = new HashMap<>();
@@ -226,6 +228,9 @@ public class EnrichmentOrchestrationService {
         status.put("tourStats", tourApiService.getTourApiStatistics());
         status.put("aiStats", aiService.getAIEnrichmentStatistics());
 
+        // 청크 작업 진행 상황 (enrichment_jobs 체크포인트 기준 - 다른 서버에서 실행 중인 작업 포함)
+        status.put("jobs", enrichmentJobService.getRecentProgress());
+
         return status;
     }
 
@@ -2,6 +2,7 @@ package com.compass.domain.chat.service;
 
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import com.compass.domain.chat.service.enrichment.EnrichmentUtils;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.model.ChatModel;
@@ -13,6 +14,8 @@ import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 // Gemini를 활용해 장소 설명을 재생성하는 서비스
@@ -22,13 +25,18 @@ public class GeminiDescriptionService {
 
     private final TravelCandidateRepository travelCandidateRepository;
     private final ChatModel chatModel;
+    private final EnrichmentExecutor enrichmentExecutor;
+
+    private static final String RATE_LIMIT_KEY = "gemini";
 
     public GeminiDescriptionService(
         TravelCandidateRepository travelCandidateRepository,
-        @Autowired(required = false) ChatModel chatModel
+        @Autowired(required = false) ChatModel chatModel,
+        EnrichmentExecutor enrichmentExecutor
     ) {
         this.travelCandidateRepository = travelCandidateRepository;
         this.chatModel = chatModel;
+        this.enrichmentExecutor = enrichmentExecutor;
     }
 
     // 장소 설명을 Gemini로 재생성 (기존 내용 포함 덮어쓰기)
@@ -44,29 +52,31 @@ public class GeminiDescriptionService {
             return 0;
         }
 
+        List<TravelCandidate> targets = candidates.stream()
+            .filter(candidate -> !onlyIfEmpty || candidate.getDescription() == null || candidate.getDescription().isBlank())
+            .toList();
+
         AtomicInteger updated = new AtomicInteger(0);
+        Queue<TravelCandidate> updatedCandidates = new ConcurrentLinkedQueue<>();
 
-        candidates.forEach(candidate -> {
+        // API 호출 간격은 ApiRateLimiter 허가로 유지
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, targets, candidate -> {
             try {
-                if (onlyIfEmpty && candidate.getDescription() != null && !candidate.getDescription().isBlank()) {
-                    return;
-                }
-
                 String description = generateDescription(candidate);
                 if (description != null && !description.isBlank()) {
                     candidate.setDescription(description);
                     candidate.setAiEnriched(Boolean.TRUE);
-                    travelCandidateRepository.save(candidate);
+                    updatedCandidates.add(candidate);
                     updated.incrementAndGet();
                 }
 
-                Thread.sleep(100); // API 호출 간 간격 유지
-
             } catch (Exception e) {
                 log.error("Gemini 설명 재생성 실패 - {}: {}", candidate.getName(), e.getMessage());
             }
         });
 
+        travelCandidateRepository.saveAll(updatedCandidates);
+
         log.info("Gemini 설명 재생성 완료 - 업데이트된 장소: {}개", updated.get());
         return updated.get();
     }
@@ -2,6 +2,7 @@ package com.compass.domain.chat.service;
 
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import com.compass.domain.chat.service.enrichment.EnrichmentUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,7 +18,6 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
@@ -27,7 +27,9 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
@@ -38,19 +40,24 @@ public class GooglePlacesEnrichmentService {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final ChatModel chatModel;
+    private final EnrichmentExecutor enrichmentExecutor;
 
     public GooglePlacesEnrichmentService(
         TravelCandidateRepository travelCandidateRepository,
         RestTemplate restTemplate,
         ObjectMapper objectMapper,
-        @Autowired(required = false) @Qualifier("vertexAiGeminiChat") ChatModel chatModel
+        @Autowired(required = false) @Qualifier("vertexAiGeminiChat") ChatModel chatModel,
+        EnrichmentExecutor enrichmentExecutor
     ) {
         this.travelCandidateRepository = travelCandidateRepository;
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
         this.chatModel = chatModel;
+        this.enrichmentExecutor = enrichmentExecutor;
     }
 
+    private static final String RATE_LIMIT_KEY = "google_places";
+
     @Value("${google.places.api.key:}")
     private String googleApiKey;
 
@@ -69,26 +76,28 @@ public class GooglePlacesEnrichmentService {
         List<TravelCandidate> candidates = travelCandidateRepository.findAll();
         log.info("보강 대상 전체 수: {}", candidates.size());
 
-        candidates.forEach(candidate -> {
+        Queue<TravelCandidate> enrichedCandidates = new ConcurrentLinkedQueue<>();
+
+        // API 할당량 제한 (QPS: 10)은 ApiRateLimiter 허가로 처리
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, candidates, candidate -> {
             try {
                 boolean enriched = enrichSingleCandidate(candidate);
                 if (enriched) {
-                    travelCandidateRepository.save(candidate);
+                    enrichedCandidates.add(candidate);
                     successCount.incrementAndGet();
                     log.debug("Google Places 보강 성공: {}", candidate.getName());
                 } else {
                     failCount.incrementAndGet();
                 }
 
-                // API 할당량 제한 (QPS: 10)
-                Thread.sleep(100);
-
             } catch (Exception e) {
                 log.error("Google Places 보강 실패 - {}: {}", candidate.getName(), e.getMessage());
                 failCount.incrementAndGet();
             }
         });
 
+        travelCandidateRepository.saveAll(enrichedCandidates);
+
         log.info("Google Places 보강 완료 - 성공: {}, 실패: {}", successCount.get(), failCount.get());
         return successCount.get();
     }
@@ -101,46 +110,48 @@ public class GooglePlacesEnrichmentService {
 
         AtomicInteger successCount = new AtomicInteger(0);
 
-        page.getContent().forEach(candidate -> {
+        Queue<TravelCandidate> enrichedCandidates = new ConcurrentLinkedQueue<>();
+
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, page.getContent(), candidate -> {
             try {
                 boolean enriched = enrichSingleCandidate(candidate);
                 if (enriched) {
-                    travelCandidateRepository.save(candidate);
+                    enrichedCandidates.add(candidate);
                     successCount.incrementAndGet();
                 }
-                Thread.sleep(100);
             } catch (Exception e) {
                 log.error("페이지 보강 실패: {}", e.getMessage());
             }
         });
 
+        travelCandidateRepository.saveAll(enrichedCandidates);
+
         log.info("페이지 {} 보강 완료 - 성공: {}/{}", pageNumber, successCount.get(), page.getContent().size());
         return successCount.get();
     }
 
-    // 비동기 배치 보강
-    @Async
-    @Transactional
+    // 비동기 배치 보강 - 보강 전용 스레드에서 실행하고 각 작업이 짧은 트랜잭션으로 바로 저장
     public CompletableFuture<Integer> enrichBatchAsync(List<Long> candidateIds) {
         log.info("비동기 Google Places 보강 시작 - {} 개", candidateIds.size());
 
-        AtomicInteger successCount = new AtomicInteger(0);
-        List<TravelCandidate> candidates = travelCandidateRepository.findAllById(candidateIds);
+        return enrichmentExecutor.dispatchAsync(() -> {
+            AtomicInteger successCount = new AtomicInteger(0);
+            List<TravelCandidate> candidates = travelCandidateRepository.findAllById(candidateIds);
 
-        candidates.forEach(candidate -> {
-            try {
-                boolean enriched = enrichSingleCandidate(candidate);
-                if (enriched) {
-                    travelCandidateRepository.save(candidate);
-                    successCount.incrementAndGet();
+            enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, candidates, candidate -> {
+                try {
+                    boolean enriched = enrichSingleCandidate(candidate);
+                    if (enriched) {
+                        travelCandidateRepository.save(candidate);
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    log.error("비동기 보강 실패: {}", e.getMessage());
                 }
-                Thread.sleep(100);
-            } catch (Exception e) {
-                log.error("비동기 보강 실패: {}", e.getMessage());
-            }
-        });
+            });
 
-        return CompletableFuture.completedFuture(successCount.get());
+            return successCount.get();
+        });
     }
 
     // Google Places로 채울 수 있는 빈 필드 우선 보강
@@ -157,28 +168,30 @@ public class GooglePlacesEnrichmentService {
         AtomicInteger successCount = new AtomicInteger(0);
         AtomicInteger skipCount = new AtomicInteger(0);
 
-        for (TravelCandidate candidate : candidates) {
-            if (!hasMissingFields(candidate)) {
-                skipCount.incrementAndGet();
-                continue;
-            }
+        List<TravelCandidate> targets = candidates.stream()
+            .filter(this::hasMissingFields)
+            .toList();
+        skipCount.addAndGet(candidates.size() - targets.size());
+
+        Queue<TravelCandidate> enrichedCandidates = new ConcurrentLinkedQueue<>();
 
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, targets, candidate -> {
             try {
                 boolean enriched = enrichSingleCandidate(candidate);
                 if (enriched) {
-                    travelCandidateRepository.save(candidate);
+                    enrichedCandidates.add(candidate);
                     successCount.incrementAndGet();
                 } else {
                     skipCount.incrementAndGet();
                 }
 
-                Thread.sleep(100);
-
             } catch (Exception e) {
                 log.error("Google Places 빈 필드 보강 실패 - {}: {}", candidate.getName(), e.getMessage());
                 skipCount.incrementAndGet();
             }
-        }
+        });
+
+        travelCandidateRepository.saveAll(enrichedCandidates);
 
         log.info("Google Places 빈 필드 보강 완료 - 성공: {}, 건너뜀: {}",
             successCount.get(), skipCount.get());
@@ -401,25 +414,26 @@ public class GooglePlacesEnrichmentService {
         AtomicInteger unchangedCount = new AtomicInteger(0);
         AtomicInteger failedCount = new AtomicInteger(0);
 
-        for (TravelCandidate candidate : candidates) {
-            String placeId = candidate.getGooglePlaceId();
-            if (placeId == null || placeId.isBlank()) {
-                continue;
-            }
+        List<TravelCandidate> targets = candidates.stream()
+            .filter(candidate -> candidate.getGooglePlaceId() != null && !candidate.getGooglePlaceId().isBlank())
+            .toList();
+        Queue<TravelCandidate> updatedCandidates = new ConcurrentLinkedQueue<>();
 
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, targets, candidate -> {
+            String placeId = candidate.getGooglePlaceId();
             try {
                 Map<String, Object> details = getPlaceDetails(placeId);
                 if (details == null || details.isEmpty()) {
                     log.debug("세부 정보를 가져오지 못했습니다: {} (placeId={})", candidate.getName(), placeId);
                     failedCount.incrementAndGet();
-                    continue;
+                    return;
                 }
 
                 boolean updated = updateCoreMetrics(candidate, details);
 
                 if (updated) {
                     candidate.calculateScores();
-                    travelCandidateRepository.save(candidate);
+                    updatedCandidates.add(candidate);
                     updatedCount.incrementAndGet();
                 } else {
                     unchangedCount.incrementAndGet();
@@ -429,15 +443,9 @@ public class GooglePlacesEnrichmentService {
                 log.error("Google Places 평점/리뷰 갱신 실패 - {}: {}", candidate.getName(), e.getMessage());
                 failedCount.incrementAndGet();
             }
+        });
 
-            try {
-                Thread.sleep(100);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
-                log.warn("Google Place 평점 갱신이 인터럽트되어 중단되었습니다");
-                break;
-            }
-        }
+        travelCandidateRepository.saveAll(updatedCandidates);
 
         log.info("Google Place ID 기반 핵심 지표 갱신 완료 - 성공: {}, 변화 없음: {}, 실패: {}",
             updatedCount.get(), unchangedCount.get(), failedCount.get());
@@ -2,19 +2,21 @@ package com.compass.domain.chat.service;
 
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
@@ -24,10 +26,12 @@ public class KakaoMapEnrichmentService {
 
     private final TravelCandidateRepository travelCandidateRepository;
     private final WebClient webClient;
+    private final EnrichmentExecutor enrichmentExecutor;
 
     @Value("${kakao.rest.key:}")
     private String kakaoRestKey;
 
+    private static final String RATE_LIMIT_KEY = "kakao_map";
     private static final String KAKAO_SEARCH_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
     private static final String KAKAO_CATEGORY_URL = "https://dapi.kakao.com/v2/local/search/category.json";
     private static final String KAKAO_COORD_URL = "https://dapi.kakao.com/v2/local/geo/coord2address.json";
@@ -43,26 +47,28 @@ public class KakaoMapEnrichmentService {
         List<TravelCandidate> candidates = travelCandidateRepository.findAll();
         log.info("카카오맵 보강 대상: {} 개", candidates.size());
 
-        candidates.forEach(candidate -> {
+        Queue<TravelCandidate> enrichedCandidates = new ConcurrentLinkedQueue<>();
+
+        // API 제한 (초당 30건)은 ApiRateLimiter 허가로 처리
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, candidates, candidate -> {
             try {
                 boolean enriched = enrichWithKakaoData(candidate);
                 if (enriched) {
-                    travelCandidateRepository.save(candidate);
+                    enrichedCandidates.add(candidate);
                     successCount.incrementAndGet();
                     log.debug("카카오맵 보강 성공: {}", candidate.getName());
                 } else {
                     failCount.incrementAndGet();
                 }
 
-                // API 제한 (초당 30건)
-                Thread.sleep(35);
-
             } catch (Exception e) {
                 log.error("카카오맵 보강 실패 - {}: {}", candidate.getName(), e.getMessage());
                 failCount.incrementAndGet();
             }
         });
 
+        travelCandidateRepository.saveAll(enrichedCandidates);
+
         log.info("카카오맵 보강 완료 - 성공: {}, 실패: {}", successCount.get(), failCount.get());
         return successCount.get();
     }
@@ -75,46 +81,49 @@ public class KakaoMapEnrichmentService {
         AtomicInteger successCount = new AtomicInteger(0);
         List<TravelCandidate> candidates = travelCandidateRepository.findByRegion(region);
 
-        candidates.forEach(candidate -> {
+        Queue<TravelCandidate> enrichedCandidates = new ConcurrentLinkedQueue<>();
+
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, candidates, candidate -> {
             try {
                 boolean enriched = enrichWithKakaoData(candidate);
                 if (enriched) {
-                    travelCandidateRepository.save(candidate);
+                    enrichedCandidates.add(candidate);
                     successCount.incrementAndGet();
                 }
-                Thread.sleep(35);
             } catch (Exception e) {
                 log.error("지역별 보강 실패: {}", e.getMessage());
             }
         });
 
+        travelCandidateRepository.saveAll(enrichedCandidates);
+
         log.info("{} 지역 보강 완료: {} 개", region, successCount.get());
         return successCount.get();
     }
 
-    // 비동기 배치 보강
-    @Async
-    @Transactional
+    // 비동기 배치 보강 - 공용 ForkJoinPool 대신 카카오맵 전용 풀에서 실행하고 각 작업이 짧은 트랜잭션으로 바로 저장
     public CompletableFuture<Integer> enrichBatchAsync(List<Long> candidateIds) {
         log.info("비동기 카카오맵 보강 시작 - {} 개", candidateIds.size());
 
-        AtomicInteger successCount = new AtomicInteger(0);
-        List<TravelCandidate> candidates = travelCandidateRepository.findAllById(candidateIds);
-
-        candidates.parallelStream().forEach(candidate -> {
-            try {
-                boolean enriched = enrichWithKakaoData(candidate);
-                if (enriched) {
-                    travelCandidateRepository.save(candidate);
-                    successCount.incrementAndGet();
+        return enrichmentExecutor.dispatchAsync(() -> {
+            AtomicInteger successCount = new AtomicInteger(0);
+            List<TravelCandidate> candidates = travelCandidateRepository.findAllById(candidateIds);
+
+            // API 제한 (초당 30건)은 ApiRateLimiter 허가로 처리
+            enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, candidates, candidate -> {
+                try {
+                    boolean enriched = enrichWithKakaoData(candidate);
+                    if (enriched) {
+                        travelCandidateRepository.save(candidate);
+                        successCount.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    log.error("비동기 보강 실패: {}", e.getMessage());
                 }
-                Thread.sleep(35);
-            } catch (Exception e) {
-                log.error("비동기 보강 실패: {}", e.getMessage());
-            }
-        });
+            });
 
-        return CompletableFuture.completedFuture(successCount.get());
+            return successCount.get();
+        });
     }
 
     // 개별 데이터 보강
@@ -1,5 +1,6 @@
 package com.compass.domain.chat.service;
 
+import com.compass.domain.chat.common.geo.SpatialGridIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -20,6 +21,8 @@ public class MealAreaRecommendationService {
 
     // MVP는 서울 지역만 지원
     private static final Map<String, List<MealArea>> REGION_MEAL_AREAS = new HashMap<>();
+    // 지역별 식사 거리 격자 인덱스 (가장 가까운 식사 지역 조회용)
+    private static final Map<String, SpatialGridIndex<MealArea>> REGION_MEAL_AREA_INDEXES = new HashMap<>();
 
     static {
         // 서울 지역 식사 거리 데이터 (MVP 버전)
@@ -37,6 +40,9 @@ public class MealAreaRecommendationService {
             new MealArea("여의도 먹자골목", "직장인들이 즐겨 찾는 점심 맛집 거리", "영등포구", 37.5219, 126.9245),
             new MealArea("망원동 맛집거리", "로컬 맛집과 카페가 어우러진 힙한 동네", "마포구", 37.5556, 126.9019)
         ));
+
+        REGION_MEAL_AREAS.forEach((region, areas) -> REGION_MEAL_AREA_INDEXES.put(region,
+            SpatialGridIndex.build(areas, area -> area.latitude, area -> area.longitude)));
     }
 
     /**
@@ -44,21 +50,18 @@ public class MealAreaRecommendationService {
      */
     public MealAreaRecommendation recommendMealArea(String region, String timeBlock,
                                                     double currentLat, double currentLng) {
-        List<MealArea> availableAreas = REGION_MEAL_AREAS.getOrDefault(region,
-            REGION_MEAL_AREAS.get("서울"));
+        SpatialGridIndex<MealArea> areaIndex = REGION_MEAL_AREA_INDEXES.getOrDefault(region,
+            REGION_MEAL_AREA_INDEXES.get("서울"));
 
-        if (availableAreas.isEmpty()) {
+        if (areaIndex.size() == 0) {
             return getDefaultRecommendation(timeBlock);
         }
 
-        // 현재 위치에서 가까운 식사 지역들을 거리순으로 정렬
-        MealArea nearestArea = availableAreas.stream()
-            .min((a1, a2) -> {
-                double dist1 = calculateDistance(currentLat, currentLng, a1.latitude, a1.longitude);
-                double dist2 = calculateDistance(currentLat, currentLng, a2.latitude, a2.longitude);
-                return Double.compare(dist1, dist2);
-            })
-            .orElse(availableAreas.get(0));
+        // 현재 위치에서 가장 가까운 식사 지역
+        MealArea nearestArea = areaIndex.nearest(currentLat, currentLng, 1, area -> true).stream()
+            .findFirst()
+            .map(hit -> hit.item())
+            .orElse(areaIndex.items().get(0));
 
         String recommendation = generateRecommendation(timeBlock, nearestArea);
 
@@ -93,22 +96,6 @@ public class MealAreaRecommendationService {
         return timeSpecificMessage;
     }
 
-    /**
-     * 두 지점 간 거리 계산 (Haversine formula)
-     */
-    private double calculateDistance(double lat1, double lng1, double lat2, double lng2) {
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lngDistance = Math.toRadians(lng2 - lng1);
-
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lngDistance / 2) * Math.sin(lngDistance / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return 6371 * c; // 거리 (km)
-    }
-
     /**
      * 기본 추천 (지역 정보가 없을 때)
      */
@@ -2,6 +2,7 @@ package com.compass.domain.chat.service;
 
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,8 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
@@ -25,10 +28,12 @@ public class TourApiEnrichmentService {
     private final TravelCandidateRepository travelCandidateRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final EnrichmentExecutor enrichmentExecutor;
 
     @Value("${tour.api.key:}")
     private String tourApiKey;
 
+    private static final String RATE_LIMIT_KEY = "tour_api";
     private static final String TOUR_BASE_URL = "http://apis.data.go.kr/B551011/KorService1";
     private static final String SEARCH_KEYWORD_PATH = "/searchKeyword1";
     private static final String LOCATION_BASED_PATH = "/locationBasedList1";
@@ -50,26 +55,28 @@ public class TourApiEnrichmentService {
 
         log.info("Tour API 보강 대상: {} 개", candidates.size());
 
-        candidates.forEach(candidate -> {
+        Queue<TravelCandidate> enrichedCandidates = new ConcurrentLinkedQueue<>();
+
+        // API 제한 (초당 5건)은 ApiRateLimiter 허가로 처리
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, candidates, candidate -> {
             try {
                 boolean enriched = enrichWithTourData(candidate);
                 if (enriched) {
-                    travelCandidateRepository.save(candidate);
+                    enrichedCandidates.add(candidate);
                     successCount.incrementAndGet();
                     log.debug("Tour API 보강 성공: {}", candidate.getName());
                 } else {
                     failCount.incrementAndGet();
                 }
 
-                // API 제한 (초당 5건)
-                Thread.sleep(200);
-
             } catch (Exception e) {
                 log.error("Tour API 보강 실패 - {}: {}", candidate.getName(), e.getMessage());
                 failCount.incrementAndGet();
             }
         });
 
+        travelCandidateRepository.saveAll(enrichedCandidates);
+
         log.info("Tour API 보강 완료 - 성공: {}, 실패: {}", successCount.get(), failCount.get());
         return successCount.get();
     }
@@ -91,20 +98,23 @@ public class TourApiEnrichmentService {
 
         log.info("관광지 보강 대상: {} 개", attractions.size());
 
-        attractions.forEach(candidate -> {
+        Queue<TravelCandidate> enrichedCandidates = new ConcurrentLinkedQueue<>();
+
+        enrichmentExecutor.runThrottled(RATE_LIMIT_KEY, attractions, candidate -> {
             try {
                 boolean enriched = enrichWithTourData(candidate);
                 if (enriched) {
                     candidate.setEnrichmentStatus(1);
-                    travelCandidateRepository.save(candidate);
+                    enrichedCandidates.add(candidate);
                     successCount.incrementAndGet();
                 }
-                Thread.sleep(200);
             } catch (Exception e) {
                 log.error("관광지 보강 실패: {}", e.getMessage());
             }
         });
 
+        travelCandidateRepository.saveAll(enrichedCandidates);
+
         log.info("관광지 보강 완료: {} 개", successCount.get());
         return successCount.get();
     }
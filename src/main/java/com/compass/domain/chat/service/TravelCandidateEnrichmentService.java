@@ -2,6 +2,8 @@ package com.compass.domain.chat.service;
 
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
+import com.compass.domain.chat.service.enrichment.ApiRateLimiter;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -19,7 +21,10 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 여행 후보지 데이터 보강 서비스
@@ -34,6 +39,8 @@ public class TravelCandidateEnrichmentService {
     private final TravelCandidateRepository travelCandidateRepository;
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final EnrichmentExecutor enrichmentExecutor;
+    private final ApiRateLimiter rateLimiter;
 
     @Value("${tour.api.key:dummy-key}")
     private String tourApiKey;
@@ -41,6 +48,8 @@ public class TravelCandidateEnrichmentService {
     @Value("${perplexity.api.key:dummy-key}")
     private String perplexityApiKey;
 
+    private static final String TOUR_RATE_LIMIT_KEY = "tour_api";
+    private static final String PERPLEXITY_RATE_LIMIT_KEY = "perplexity";
     private static final String TOUR_API_BASE_URL = "http://apis.data.go.kr/B551011/KorService1";
     private static final String PERPLEXITY_API_URL = "https://api.perplexity.ai/chat/completions";
 
@@ -62,20 +71,24 @@ public class TravelCandidateEnrichmentService {
             .limit(50) // API 제한을 고려하여 배치 처리
             .toList();
 
-        int enrichedCount = 0;
+        AtomicInteger enrichedCount = new AtomicInteger(0);
+        Queue<TravelCandidate> processedCandidates = new ConcurrentLinkedQueue<>();
 
-        for (TravelCandidate candidate : candidates) {
+        // API Rate Limit은 호출 직전에 API별 허가로 처리 (동시 요청 수는 Tour API 기준)
+        enrichmentExecutor.run(TOUR_RATE_LIMIT_KEY, candidates, candidate -> {
             try {
                 // Step 1: Tour API로 데이터 보강
+                rateLimiter.acquire(TOUR_RATE_LIMIT_KEY);
                 boolean tourEnriched = enrichWithTourAPI(candidate);
 
                 if (tourEnriched) {
                     candidate.setEnrichmentStatus(1);
-                    enrichedCount++;
+                    enrichedCount.incrementAndGet();
                 }
 
                 // Step 2: 아직 빈 컬럼이 있으면 Perplexity로 보강
                 if (hasEmptyFields(candidate)) {
+                    rateLimiter.acquire(PERPLEXITY_RATE_LIMIT_KEY);
                     boolean perplexityEnriched = enrichWithPerplexity(candidate);
 
                     if (perplexityEnriched) {
@@ -83,20 +96,19 @@ public class TravelCandidateEnrichmentService {
                     }
                 }
 
-                // 저장
-                travelCandidateRepository.save(candidate);
+                processedCandidates.add(candidate);
                 log.debug("데이터 보강 완료: {} (상태: {})", candidate.getName(), candidate.getEnrichmentStatus());
 
-                // API Rate Limit 고려
-                Thread.sleep(500); // 0.5초 대기
-
             } catch (Exception e) {
                 log.error("데이터 보강 실패 - {}: {}", candidate.getName(), e.getMessage());
             }
-        }
+        });
 
-        log.info("=== {} 지역 데이터 보강 완료: {}개 ===", region, enrichedCount);
-        return enrichedCount;
+        // 저장
+        travelCandidateRepository.saveAll(processedCandidates);
+
+        log.info("=== {} 지역 데이터 보강 완료: {}개 ===", region, enrichedCount.get());
+        return enrichedCount.get();
     }
 
     /**
@@ -455,9 +467,6 @@ public class TravelCandidateEnrichmentService {
             try {
                 int enriched = enrichRegionData(region);
                 log.info("{} 지역 보강 완료: {}개", region, enriched);
-
-                // API 제한 고려
-                Thread.sleep(2000);
             } catch (Exception e) {
                 log.error("{} 지역 보강 실패: {}", region, e.getMessage());
             }
@@ -6,8 +6,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,14 +20,19 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Slf4j
 public abstract class AbstractEnrichmentService implements EnrichmentService {
 
+    private static final int ALL_CHUNK_SIZE = 500;
+
     protected final TravelCandidateRepository travelCandidateRepository;
+    protected final EnrichmentExecutor enrichmentExecutor;
 
-    protected AbstractEnrichmentService(TravelCandidateRepository travelCandidateRepository) {
+    protected AbstractEnrichmentService(
+            TravelCandidateRepository travelCandidateRepository,
+            EnrichmentExecutor enrichmentExecutor) {
         this.travelCandidateRepository = travelCandidateRepository;
+        this.enrichmentExecutor = enrichmentExecutor;
     }
 
     @Override
-    @Transactional
     public EnrichmentResult enrichAll() {
         log.info("{} 전체 데이터 보강 시작", getServiceName());
 
@@ -38,198 +41,109 @@ public abstract class AbstractEnrichmentService implements EnrichmentService {
             .startTime(LocalDateTime.now())
             .build();
 
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failedCount = new AtomicInteger(0);
-        AtomicInteger skippedCount = new AtomicInteger(0);
-
-        List<TravelCandidate> candidates = travelCandidateRepository.findAll();
-        result.setTotalProcessed(candidates.size());
-
-        candidates.forEach(candidate -> {
-            try {
-                if (!isEligible(candidate)) {
-                    skippedCount.incrementAndGet();
-                    return;
-                }
-
-                boolean enriched = enrichSingle(candidate);
-                if (enriched) {
-                    travelCandidateRepository.save(candidate);
-                    successCount.incrementAndGet();
-                    log.debug("{} 보강 성공: {}", getServiceName(), candidate.getName());
-                } else {
-                    failedCount.incrementAndGet();
-                    result.addWarning(String.format("보강 실패: %s", candidate.getName()));
-                }
-
-                // API 제한
-                Thread.sleep(getRateLimitDelay());
-
-            } catch (Exception e) {
-                failedCount.incrementAndGet();
-                String errorMsg = String.format("%s 보강 실패 - %s: %s",
-                    getServiceName(), candidate.getName(), e.getMessage());
-                log.error(errorMsg, e);
-                result.addError(errorMsg);
+        // 전체를 한 번에 읽지 않고 id 순 청크로 나눠 처리 (청크마다 읽기/쓰기 트랜잭션이 따로 끝난다)
+        long afterId = 0L;
+        while (true) {
+            EnrichmentResult chunk = enrichChunk(afterId, ALL_CHUNK_SIZE);
+            if (chunk.getTotalProcessed() == 0) {
+                break;
             }
-        });
+            result.merge(chunk);
+            afterId = chunk.getLastCandidateId();
+        }
 
         result.setEndTime(LocalDateTime.now());
-        result.setSuccessCount(successCount.get());
-        result.setFailedCount(failedCount.get());
-        result.setSkippedCount(skippedCount.get());
-        result.setStatus(determineStatus(successCount.get(), failedCount.get(), skippedCount.get()));
+        result.setStatus(determineStatus(result.getSuccessCount(), result.getFailedCount(), result.getSkippedCount()));
 
         log.info("{} 보강 완료 - 성공: {}, 실패: {}, 건너뜀: {}",
-            getServiceName(), successCount.get(), failedCount.get(), skippedCount.get());
+            getServiceName(), result.getSuccessCount(), result.getFailedCount(), result.getSkippedCount());
+
+        return result;
+    }
+
+    @Override
+    public EnrichmentResult enrichChunk(long afterId, int chunkSize) {
+        List<TravelCandidate> chunk = travelCandidateRepository.findChunkAfterId(afterId, PageRequest.of(0, chunkSize));
 
+        EnrichmentResult result = enrichCandidates(chunk);
+        result.setLastCandidateId(chunk.isEmpty() ? afterId : chunk.get(chunk.size() - 1).getId());
         return result;
     }
 
     @Override
-    @Transactional
     public EnrichmentResult enrichByPage(int pageNumber, int pageSize) {
         log.info("{} 페이지 {} 보강 시작 (크기: {})", getServiceName(), pageNumber, pageSize);
 
-        EnrichmentResult result = EnrichmentResult.builder()
-            .serviceName(getServiceName())
-            .startTime(LocalDateTime.now())
-            .build();
-
         Pageable pageable = PageRequest.of(pageNumber, pageSize);
         Page<TravelCandidate> page = travelCandidateRepository.findAll(pageable);
 
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failedCount = new AtomicInteger(0);
-        AtomicInteger skippedCount = new AtomicInteger(0);
-
-        result.setTotalProcessed(page.getContent().size());
-
-        page.getContent().forEach(candidate -> {
-            try {
-                if (!isEligible(candidate)) {
-                    skippedCount.incrementAndGet();
-                    return;
-                }
-
-                boolean enriched = enrichSingle(candidate);
-                if (enriched) {
-                    travelCandidateRepository.save(candidate);
-                    successCount.incrementAndGet();
-                } else {
-                    failedCount.incrementAndGet();
-                }
-
-                Thread.sleep(getRateLimitDelay());
-
-            } catch (Exception e) {
-                failedCount.incrementAndGet();
-                result.addError(String.format("페이지 보강 실패: %s", e.getMessage()));
-            }
-        });
-
-        result.setEndTime(LocalDateTime.now());
-        result.setSuccessCount(successCount.get());
-        result.setFailedCount(failedCount.get());
-        result.setSkippedCount(skippedCount.get());
-        result.setStatus(determineStatus(successCount.get(), failedCount.get(), skippedCount.get()));
+        EnrichmentResult result = enrichCandidates(page.getContent());
 
         log.info("{} 페이지 {} 보강 완료 - 성공: {}/{}",
-            getServiceName(), pageNumber, successCount.get(), page.getContent().size());
+            getServiceName(), pageNumber, result.getSuccessCount(), page.getContent().size());
 
         return result;
     }
 
     @Override
-    @Transactional
     public EnrichmentResult enrichByRegion(String region) {
         log.info("{} {} 지역 보강 시작", getServiceName(), region);
 
-        EnrichmentResult result = EnrichmentResult.builder()
-            .serviceName(getServiceName())
-            .startTime(LocalDateTime.now())
-            .build();
-
-        List<TravelCandidate> candidates = travelCandidateRepository.findByRegion(region);
-        result.setTotalProcessed(candidates.size());
-
-        AtomicInteger successCount = new AtomicInteger(0);
-        AtomicInteger failedCount = new AtomicInteger(0);
-        AtomicInteger skippedCount = new AtomicInteger(0);
-
-        candidates.forEach(candidate -> {
-            try {
-                if (!isEligible(candidate)) {
-                    skippedCount.incrementAndGet();
-                    return;
-                }
-
-                boolean enriched = enrichSingle(candidate);
-                if (enriched) {
-                    travelCandidateRepository.save(candidate);
-                    successCount.incrementAndGet();
-                } else {
-                    failedCount.incrementAndGet();
-                }
-
-                Thread.sleep(getRateLimitDelay());
-
-            } catch (Exception e) {
-                failedCount.incrementAndGet();
-                result.addError(String.format("지역 보강 실패: %s", e.getMessage()));
-            }
-        });
-
-        result.setEndTime(LocalDateTime.now());
-        result.setSuccessCount(successCount.get());
-        result.setFailedCount(failedCount.get());
-        result.setSkippedCount(skippedCount.get());
-        result.setStatus(determineStatus(successCount.get(), failedCount.get(), skippedCount.get()));
+        EnrichmentResult result = enrichCandidates(travelCandidateRepository.findByRegion(region));
 
         log.info("{} {} 지역 보강 완료: {} 개",
-            getServiceName(), region, successCount.get());
+            getServiceName(), region, result.getSuccessCount());
 
         return result;
     }
 
     @Override
-    @Async
-    @Transactional
     public CompletableFuture<EnrichmentResult> enrichBatchAsync(List<Long> candidateIds) {
         log.info("{} 비동기 배치 보강 시작 - {} 개", getServiceName(), candidateIds.size());
 
+        // 공용 ForkJoinPool이 아닌 보강 전용 조율 스레드에서 실행하고, 호출한 스레드는 바로 반환
+        return enrichmentExecutor.dispatchAsync(
+            () -> enrichCandidates(travelCandidateRepository.findAllById(candidateIds)));
+    }
+
+    /**
+     * 후보 목록 보강 공통 처리
+     * API 호출은 EnrichmentExecutor의 API 전용 풀에서 동시에 실행하고(속도는 ApiRateLimiter 허가로만 제한),
+     * 보강된 엔티티는 각 작업 스레드가 짧은 트랜잭션으로 바로 저장한다 (스레드 간 EntityManager 공유 없음)
+     */
+    protected EnrichmentResult enrichCandidates(List<TravelCandidate> candidates) {
         EnrichmentResult result = EnrichmentResult.builder()
             .serviceName(getServiceName())
             .startTime(LocalDateTime.now())
             .build();
-
-        List<TravelCandidate> candidates = travelCandidateRepository.findAllById(candidateIds);
         result.setTotalProcessed(candidates.size());
 
         AtomicInteger successCount = new AtomicInteger(0);
         AtomicInteger failedCount = new AtomicInteger(0);
         AtomicInteger skippedCount = new AtomicInteger(0);
 
-        candidates.parallelStream().forEach(candidate -> {
+        enrichmentExecutor.run(getApiName(), candidates, candidate -> {
             try {
                 if (!isEligible(candidate)) {
                     skippedCount.incrementAndGet();
                     return;
                 }
 
-                boolean enriched = enrichSingle(candidate);
-                if (enriched) {
+                if (enrichSingle(candidate)) {
                     travelCandidateRepository.save(candidate);
                     successCount.incrementAndGet();
+                    log.debug("{} 보강 성공: {}", getServiceName(), candidate.getName());
                 } else {
                     failedCount.incrementAndGet();
+                    result.addWarning(String.format("보강 실패: %s", candidate.getName()));
                 }
 
-                Thread.sleep(getRateLimitDelay());
-
             } catch (Exception e) {
                 failedCount.incrementAndGet();
-                result.addError(String.format("배치 보강 실패: %s", e.getMessage()));
+                String errorMsg = String.format("%s 보강 실패 - %s: %s",
+                    getServiceName(), candidate.getName(), e.getMessage());
+                log.error(errorMsg, e);
+                result.addError(errorMsg);
             }
         });
 
@@ -239,7 +153,7 @@ public abstract class AbstractEnrichmentService implements EnrichmentService {
         result.setSkippedCount(skippedCount.get());
         result.setStatus(determineStatus(successCount.get(), failedCount.get(), skippedCount.get()));
 
-        return CompletableFuture.completedFuture(result);
+        return result;
     }
 
     /**
@@ -265,18 +179,6 @@ public abstract class AbstractEnrichmentService implements EnrichmentService {
         }
     }
 
-    /**
-     * API 호출 헬퍼 메서드
-     */
-    protected void rateLimitDelay() {
-        try {
-            Thread.sleep(getRateLimitDelay());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Rate limit delay interrupted");
-        }
-    }
-
     @Override
     public Map<String, Object> getStatistics() {
         long total = travelCandidateRepository.count();
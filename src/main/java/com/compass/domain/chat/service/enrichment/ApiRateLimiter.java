@@ -24,7 +24,8 @@ public class ApiRateLimiter {
         "kakao_map", 30.0,         // 30 QPS
         "tour_api", 5.0,           // 5 QPS
         "perplexity", 0.05,        // 3/min = 0.05 QPS
-        "openai", 0.833            // 50/min = 0.833 QPS
+        "openai", 0.833,           // 50/min = 0.833 QPS
+        "gemini", 5.0              // 5 QPS
     );
 
     // API별 백오프 전략
@@ -88,6 +89,13 @@ public class ApiRateLimiter {
         log.info("{} API Rate 변경: {} QPS", apiName, qps);
     }
 
+    /**
+     * 특정 API의 현재 QPS
+     */
+    public double getRate(String apiName) {
+        return getLimiter(apiName).getRate();
+    }
+
     /**
      * 백오프 전략 처리
      */
@@ -0,0 +1,202 @@
+package com.compass.domain.chat.service.enrichment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 보강 작업 실행기
+ * Thread.sleep 간격 대신 API별 동시 요청 수(in-flight)만 제한하고, 실제 호출 속도는 ApiRateLimiter 허가로만 조절한다.
+ * 동시 요청 수는 QPS × 예상 응답 시간(Little's law)으로 정해 처리량이 API 할당량에 가깝게 나오도록 한다.
+ * API마다 이름 붙은 전용 스레드 풀과 크기 제한 큐를 두어 공용 ForkJoinPool이나 요청 처리 스레드를 잡아두지 않는다.
+ */
+@Component
+@Slf4j
+public class EnrichmentExecutor {
+
+    private static final String DISPATCH_POOL = "dispatch";
+
+    private final ApiRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, ProviderPool> pools = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor dispatcher;
+
+    // API 한 번 호출에 걸리는 예상 시간 - 동시 요청 수 = ceil(QPS × 이 값)
+    @Value("${enrichment.executor.expected-latency-ms:2000}")
+    private long expectedLatencyMs = 2000;
+
+    // API별 동시 요청 수(= 풀 스레드 수) 상한
+    @Value("${enrichment.executor.max-in-flight:16}")
+    private int maxInFlight = 16;
+
+    // API별 대기 큐 크기 - 가득 차면 제출하는 스레드가 빈 자리를 기다린다
+    @Value("${enrichment.executor.queue-capacity:100}")
+    private int queueCapacity = 100;
+
+    public EnrichmentExecutor(
+            ApiRateLimiter rateLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${enrichment.executor.dispatch-threads:2}") int dispatchThreads,
+            @Value("${enrichment.executor.dispatch-queue-capacity:16}") int dispatchQueueCapacity) {
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+        // 비동기 배치를 조율하는 풀 - 큐가 가득 차면 새 배치 요청은 거절한다
+        this.dispatcher = new ThreadPoolExecutor(
+            dispatchThreads, dispatchThreads, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(dispatchQueueCapacity),
+            namedThreads(DISPATCH_POOL),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.dispatcher.allowCoreThreadTimeOut(true);
+        registerGauges(DISPATCH_POOL, dispatcher);
+    }
+
+    /**
+     * 항목마다 apiName 허가를 받은 뒤 task 실행 (모든 항목이 끝날 때까지 블로킹)
+     */
+    public <T> void runThrottled(String apiName, Collection<T> items, Consumer<T> task) {
+        run(apiName, items, item -> {
+            rateLimiter.acquire(apiName);
+            task.accept(item);
+        });
+    }
+
+    /**
+     * task가 내부에서 직접 ApiRateLimiter 허가를 받는 경우 - 동시 요청 수만 apiName 기준으로 제한
+     * task에서 던진 예외는 로그만 남기고 다른 항목 처리는 계속한다 (실패 집계는 task 책임)
+     */
+    public <T> void run(String apiName, Collection<T> items, Consumer<T> task) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+
+        ProviderPool pool = pools.computeIfAbsent(apiName, this::createPool);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(items.size());
+
+        try {
+            for (T item : items) {
+                futures.add(CompletableFuture.runAsync(() -> pool.runItem(item, task), pool.executor));
+            }
+        } catch (RejectedExecutionException e) {
+            log.warn("{} 보강 작업 제출 중단 - 제출된 {}/{} 개만 처리: {}",
+                apiName, futures.size(), items.size(), e.getMessage());
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+
+    /**
+     * 배치 전체를 전용 조율 스레드에서 실행 - 호출한 요청 스레드는 바로 돌아간다
+     * 조율 큐가 가득 차면 RejectedExecutionException
+     */
+    public <R> CompletableFuture<R> dispatchAsync(Supplier<R> batch) {
+        return CompletableFuture.supplyAsync(batch, dispatcher);
+    }
+
+    int inFlightFor(String apiName) {
+        double qps = rateLimiter.getRate(apiName);
+        long needed = (long) Math.ceil(qps * expectedLatencyMs / 1000.0);
+        return (int) Math.max(1, Math.min(maxInFlight, needed));
+    }
+
+    ThreadPoolExecutor poolFor(String apiName) {
+        return pools.computeIfAbsent(apiName, this::createPool).executor;
+    }
+
+    private ProviderPool createPool(String apiName) {
+        int inFlight = inFlightFor(apiName);
+        log.info("{} 보강 풀 생성 - 동시 요청 수: {}, 큐 크기: {}", apiName, inFlight, queueCapacity);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+            inFlight, inFlight, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            namedThreads(apiName),
+            EnrichmentExecutor::waitForQueueSpace);
+        executor.allowCoreThreadTimeOut(true);
+        registerGauges(apiName, executor);
+
+        return new ProviderPool(apiName, executor,
+            Timer.builder("enrichment.task")
+                .description("보강 작업 한 건 처리 시간")
+                .tag("provider", apiName)
+                .register(meterRegistry),
+            Counter.builder("enrichment.task.failures")
+                .description("예외로 끝난 보강 작업 수")
+                .tag("provider", apiName)
+                .register(meterRegistry));
+    }
+
+    private void registerGauges(String name, ThreadPoolExecutor executor) {
+        Gauge.builder("enrichment.executor.queue.size", executor, e -> e.getQueue().size())
+            .description("실행을 기다리는 보강 작업 수")
+            .tag("provider", name)
+            .register(meterRegistry);
+        Gauge.builder("enrichment.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+            .description("실행 중인 보강 작업 수")
+            .tag("provider", name)
+            .register(meterRegistry);
+    }
+
+    // 큐가 가득 차면 버리지 않고 제출한 스레드가 빈 자리를 기다린다 (배압)
+    private static void waitForQueueSpace(Runnable task, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("보강 풀이 종료되었습니다");
+        }
+        try {
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("보강 작업 제출 대기 중 중단되었습니다", e);
+        }
+    }
+
+    private static ThreadFactory namedThreads(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "enrichment-" + name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        pools.values().forEach(pool -> pool.executor.shutdownNow());
+    }
+
+    // API별 풀 + 작업 지표
+    private record ProviderPool(String apiName, ThreadPoolExecutor executor, Timer taskTimer, Counter failures) {
+
+        <T> void runItem(T item, Consumer<T> task) {
+            long start = System.nanoTime();
+            try {
+                task.accept(item);
+            } catch (Exception e) {
+                failures.increment();
+                log.error("{} 보강 작업 실패: {}", apiName, e.getMessage());
+            } finally {
+                taskTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
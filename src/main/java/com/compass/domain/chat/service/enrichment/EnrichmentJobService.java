@@ -0,0 +1,259 @@
+package com.compass.domain.chat.service.enrichment;
+
+import com.compass.domain.chat.entity.EnrichmentJob;
+import com.compass.domain.chat.entity.EnrichmentJob.Status;
+import com.compass.domain.chat.repository.EnrichmentJobRepository;
+import com.compass.domain.chat.repository.TravelCandidateRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 청크 단위 재시작 가능 보강 작업
+ * travel_candidates를 id 순 keyset 청크로 읽어 보강하고, 청크가 끝날 때마다 enrichment_jobs에 체크포인트를 남긴다.
+ * 실패하거나 서버가 재시작돼도 resume으로 마지막 체크포인트 다음 청크부터 이어서 처리한다.
+ * 실행 중에는 청크가 끝나지 않아도(느린 API는 청크 하나에 수십 분) 주기적으로 heartbeat를 남겨 다른 인스턴스가 죽은 작업으로 오인하지 않게 하고,
+ * 모든 실행자 쓰기는 점유 토큰을 조건으로 걸어 재개로 점유가 넘어간 뒤의 늦은 쓰기를 막는다.
+ */
+@Service
+@Slf4j
+public class EnrichmentJobService {
+
+    private final Map<String, EnrichmentService> providers;
+    private final EnrichmentJobRepository jobRepository;
+    private final TravelCandidateRepository travelCandidateRepository;
+    private final EnrichmentExecutor enrichmentExecutor;
+
+    // 이 서버에서 실행 중인 작업 id -> 점유 토큰
+    private final Map<Long, String> activeJobs = new ConcurrentHashMap<>();
+
+    // 실행 중인 작업의 heartbeat 전용 스레드 - 보강 풀이 가득 차 있어도 생존 신호는 밀리지 않는다
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "enrichment-job-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${enrichment.job.default-chunk-size:200}")
+    private int defaultChunkSize = 200;
+
+    // RUNNING인데 이 시간 동안 체크포인트/heartbeat 갱신이 없으면 실행하던 서버가 죽은 것으로 보고 재개를 허용
+    @Value("${enrichment.job.stale-after-minutes:10}")
+    private long staleAfterMinutes = 10;
+
+    public EnrichmentJobService(
+            List<EnrichmentService> enrichmentServices,
+            EnrichmentJobRepository jobRepository,
+            TravelCandidateRepository travelCandidateRepository,
+            EnrichmentExecutor enrichmentExecutor) {
+        this.providers = enrichmentServices.stream()
+            .collect(Collectors.toMap(EnrichmentService::getServiceName, Function.identity()));
+        this.jobRepository = jobRepository;
+        this.travelCandidateRepository = travelCandidateRepository;
+        this.enrichmentExecutor = enrichmentExecutor;
+    }
+
+    /**
+     * 새 작업 시작 (chunkSize가 없으면 기본값)
+     */
+    public EnrichmentJob start(String provider, Integer chunkSize) {
+        EnrichmentService service = requireProvider(provider);
+        int size = chunkSize != null && chunkSize > 0 ? chunkSize : defaultChunkSize;
+
+        EnrichmentJob job = jobRepository.save(EnrichmentJob.start(provider, size));
+        log.info("보강 작업 {} 시작 - {} (청크 크기: {})", job.getId(), provider, size);
+
+        launch(job.getId(), job.getLeaseToken(), service);
+        return job;
+    }
+
+    /**
+     * 실패/취소되었거나 실행하던 서버가 죽은 작업을 마지막 체크포인트부터 재개
+     */
+    public EnrichmentJob resume(Long jobId) {
+        EnrichmentJob job = findJob(jobId);
+        EnrichmentService service = requireProvider(job.getProvider());
+
+        String leaseToken = EnrichmentJob.newLeaseToken();
+        LocalDateTime now = LocalDateTime.now();
+        if (activeJobs.containsKey(jobId)
+                || jobRepository.claimForResume(jobId, leaseToken, now.minusMinutes(staleAfterMinutes), now) == 0) {
+            throw new IllegalStateException(String.format("재개할 수 없는 보강 작업입니다: %d (%s)", jobId, job.getStatus()));
+        }
+
+        log.info("보강 작업 {} 재개 - {} (후보 id {} 다음부터)", jobId, job.getProvider(), job.getLastCandidateId());
+        launch(jobId, leaseToken, service);
+        return findJob(jobId);
+    }
+
+    /**
+     * 실행 중인 작업 취소 - 진행 중인 청크가 끝나면 멈춘다 (다른 서버에서 실행 중인 작업도 DB 상태로 멈춘다)
+     */
+    public EnrichmentJob cancel(Long jobId) {
+        if (jobRepository.cancel(jobId, LocalDateTime.now()) == 0) {
+            EnrichmentJob job = findJob(jobId);
+            throw new IllegalStateException(String.format("실행 중인 보강 작업이 아닙니다: %d (%s)", jobId, job.getStatus()));
+        }
+
+        log.info("보강 작업 {} 취소 요청", jobId);
+        return findJob(jobId);
+    }
+
+    public EnrichmentJob findJob(Long jobId) {
+        return jobRepository.findById(jobId)
+            .orElseThrow(() -> new IllegalArgumentException("보강 작업을 찾을 수 없습니다: " + jobId));
+    }
+
+    /**
+     * 작업 진행 상황 (남은 후보 수는 체크포인트 이후 id 수)
+     */
+    public Map<String, Object> getProgress(EnrichmentJob job) {
+        long remaining = job.getStatus() == Status.COMPLETED
+            ? 0
+            : travelCandidateRepository.countByIdGreaterThan(job.getLastCandidateId());
+        return toProgress(job, remaining);
+    }
+
+    /**
+     * 최근 작업 10개의 진행 상황 (남은 후보 수는 체크포인트별로 한 번의 쿼리로 센다)
+     */
+    public List<Map<String, Object>> getRecentProgress() {
+        List<EnrichmentJob> jobs = jobRepository.findTop10ByOrderByIdDesc();
+        Map<Long, Long> remainingByCheckpoint = travelCandidateRepository.countIdsGreaterThan(jobs.stream()
+            .filter(job -> job.getStatus() != Status.COMPLETED)
+            .map(EnrichmentJob::getLastCandidateId)
+            .toList());
+        return jobs.stream()
+            .map(job -> toProgress(job, job.getStatus() == Status.COMPLETED
+                ? 0
+                : remainingByCheckpoint.getOrDefault(job.getLastCandidateId(), 0L)))
+            .toList();
+    }
+
+    public Set<String> getProviders() {
+        return providers.keySet();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    private Map<String, Object> toProgress(EnrichmentJob job, long remaining) {
+        long total = job.getProcessedCount() + remaining;
+
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("jobId", job.getId());
+        progress.put("provider", job.getProvider());
+        progress.put("status", job.getStatus());
+        progress.put("activeOnThisInstance", activeJobs.containsKey(job.getId()));
+        progress.put("chunkSize", job.getChunkSize());
+        progress.put("lastCandidateId", job.getLastCandidateId());
+        progress.put("processed", job.getProcessedCount());
+        progress.put("success", job.getSuccessCount());
+        progress.put("failed", job.getFailedCount());
+        progress.put("skipped", job.getSkippedCount());
+        progress.put("remaining", remaining);
+        progress.put("progressRate", total > 0 ? (double) job.getProcessedCount() / total * 100 : 100.0);
+        progress.put("lastError", job.getLastError());
+        progress.put("startedAt", job.getStartedAt());
+        progress.put("updatedAt", job.getUpdatedAt());
+        progress.put("finishedAt", job.getFinishedAt());
+        return progress;
+    }
+
+    private void launch(Long jobId, String leaseToken, EnrichmentService service) {
+        activeJobs.put(jobId, leaseToken);
+        long intervalSeconds = heartbeatInterval().toSeconds();
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(
+            () -> heartbeat(jobId, leaseToken), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        try {
+            enrichmentExecutor.dispatchAsync(() -> runChunks(jobId, leaseToken, service))
+                .whenComplete((ignored, error) -> {
+                    heartbeat.cancel(false);
+                    activeJobs.remove(jobId, leaseToken);
+                });
+        } catch (RejectedExecutionException e) {
+            heartbeat.cancel(false);
+            activeJobs.remove(jobId, leaseToken);
+            jobRepository.finish(jobId, leaseToken, Status.FAILED, "보강 작업 큐가 가득 찼습니다", LocalDateTime.now());
+            throw new IllegalStateException("실행 대기 중인 보강 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+    }
+
+    // heartbeat 간격 - 한두 번 실패(DB 순단)해도 stale 판정 전에 다시 갱신되도록 stale 시간의 1/3
+    private Duration heartbeatInterval() {
+        return Duration.ofSeconds(Math.max(1, TimeUnit.MINUTES.toSeconds(staleAfterMinutes) / 3));
+    }
+
+    // 청크 처리 중에도 updatedAt을 갱신 - 점유를 잃었으면(취소/다른 인스턴스가 재개) 0건이고, 실행자는 다음 청크 기록에서 멈춘다
+    void heartbeat(Long jobId, String leaseToken) {
+        try {
+            if (jobRepository.heartbeat(jobId, leaseToken, LocalDateTime.now()) == 0) {
+                log.debug("보강 작업 {} heartbeat 반영 안 됨 - 취소되었거나 점유가 넘어감", jobId);
+            }
+        } catch (Exception e) {
+            // 예외가 나가면 scheduleAtFixedRate가 이후 실행을 멈추므로 로그만 남긴다
+            log.warn("보강 작업 {} heartbeat 실패: {}", jobId, e.getMessage());
+        }
+    }
+
+    // 체크포인트 다음 청크부터 끝까지 처리 - 청크 기록이 반영되지 않으면(취소됐거나 점유를 잃음) 멈춘다
+    private Void runChunks(Long jobId, String leaseToken, EnrichmentService service) {
+        EnrichmentJob job = findJob(jobId);
+        long afterId = job.getLastCandidateId();
+
+        try {
+            while (true) {
+                EnrichmentResult chunk = service.enrichChunk(afterId, job.getChunkSize());
+                if (chunk.getTotalProcessed() == 0) {
+                    jobRepository.finish(jobId, leaseToken, Status.COMPLETED, null, LocalDateTime.now());
+                    log.info("보강 작업 {} 완료 - {}", jobId, job.getProvider());
+                    return null;
+                }
+
+                afterId = chunk.getLastCandidateId();
+                int recorded = jobRepository.recordChunk(jobId, leaseToken, afterId,
+                    chunk.getTotalProcessed(), chunk.getSuccessCount(), chunk.getFailedCount(), chunk.getSkippedCount(),
+                    LocalDateTime.now());
+                if (recorded == 0) {
+                    log.info("보강 작업 {} 중지 - 후보 id {}까지 처리", jobId, afterId);
+                    return null;
+                }
+
+                log.debug("보강 작업 {} 청크 기록 - 후보 id {}까지, 성공 {}/{}",
+                    jobId, afterId, chunk.getSuccessCount(), chunk.getTotalProcessed());
+            }
+        } catch (Exception e) {
+            log.error("보강 작업 {} 실패 - 후보 id {} 다음 청크", jobId, afterId, e);
+            jobRepository.finish(jobId, leaseToken, Status.FAILED,
+                EnrichmentUtils.truncateString(String.valueOf(e.getMessage()), 500), LocalDateTime.now());
+            return null;
+        }
+    }
+
+    private EnrichmentService requireProvider(String provider) {
+        EnrichmentService service = providers.get(provider);
+        if (service == null) {
+            throw new IllegalArgumentException(
+                String.format("알 수 없는 보강 서비스입니다: %s (사용 가능: %s)", provider, providers.keySet()));
+        }
+        return service;
+    }
+}
@@ -23,6 +23,9 @@ public class EnrichmentResult {
     private int failedCount;
     private int skippedCount;
 
+    // 청크 보강 시 마지막으로 처리한 후보 id (다음 청크의 시작점)
+    private Long lastCandidateId;
+
     @Builder.Default
     private List<String> errors = new ArrayList<>();
 
@@ -50,14 +53,27 @@ public class EnrichmentResult {
         return (double) successCount / totalProcessed * 100;
     }
 
-    public void addError(String error) {
+    public synchronized void addError(String error) {
         if (errors == null) {
             errors = new ArrayList<>();
         }
         errors.add(error);
     }
 
-    public void addWarning(String warning) {
+    /**
+     * 청크 결과 누적 (전체 보강을 청크로 나눠 처리할 때)
+     */
+    public void merge(EnrichmentResult chunk) {
+        totalProcessed += chunk.getTotalProcessed();
+        successCount += chunk.getSuccessCount();
+        failedCount += chunk.getFailedCount();
+        skippedCount += chunk.getSkippedCount();
+        lastCandidateId = chunk.getLastCandidateId();
+        chunk.getErrors().forEach(this::addError);
+        chunk.getWarnings().forEach(this::addWarning);
+    }
+
+    public synchronized void addWarning(String warning) {
         if (warnings == null) {
             warnings = new ArrayList<>();
         }
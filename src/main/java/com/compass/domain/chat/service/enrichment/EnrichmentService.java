@@ -16,11 +16,21 @@ public interface EnrichmentService {
      */
     String getServiceName();
 
+    /**
+     * ApiRateLimiter에 등록된 API 이름 (동시 요청 수 산정 기준)
+     */
+    String getApiName();
+
     /**
      * 전체 데이터 보강
      */
     EnrichmentResult enrichAll();
 
+    /**
+     * id 순 청크 보강 - afterId보다 큰 id부터 chunkSize개 (결과의 lastCandidateId가 다음 청크의 시작점)
+     */
+    EnrichmentResult enrichChunk(long afterId, int chunkSize);
+
     /**
      * 페이지 단위 보강
      */
@@ -4,6 +4,7 @@ import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
 import com.compass.domain.chat.service.enrichment.AbstractEnrichmentService;
 import com.compass.domain.chat.service.enrichment.ApiRateLimiter;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import com.compass.domain.chat.service.enrichment.EnrichmentUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,6 +18,7 @@ import org.springframework.web.client.RestTemplate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * AI API를 활용한 고급 정보 보강 서비스
@@ -43,8 +45,9 @@ public class AiEnrichmentServiceImpl extends AbstractEnrichmentService {
             TravelCandidateRepository travelCandidateRepository,
             RestTemplate restTemplate,
             ApiRateLimiter rateLimiter,
-            ObjectMapper objectMapper) {
-        super(travelCandidateRepository);
+            ObjectMapper objectMapper,
+            EnrichmentExecutor enrichmentExecutor) {
+        super(travelCandidateRepository, enrichmentExecutor);
         this.restTemplate = restTemplate;
         this.rateLimiter = rateLimiter;
         this.objectMapper = objectMapper;
@@ -55,6 +58,11 @@ public class AiEnrichmentServiceImpl extends AbstractEnrichmentService {
         return "AiEnrichment";
     }
 
+    @Override
+    public String getApiName() {
+        return "perplexity";
+    }
+
     @Override
     public int getPriority() {
         return 4; // 가장 낮은 우선순위 (비용 고려)
@@ -254,21 +262,21 @@ public class AiEnrichmentServiceImpl extends AbstractEnrichmentService {
             PageRequest.of(0, limit)
         );
 
-        int enrichedCount = 0;
-        for (TravelCandidate candidate : topPlaces) {
-            if (candidate.getAiEnriched() == null || !candidate.getAiEnriched()) {
-                if (enrichSingle(candidate)) {
-                    travelCandidateRepository.save(candidate);
-                    enrichedCount++;
-                    log.info("AI 보강 완료 ({}/{}): {}", enrichedCount, limit, candidate.getName());
-                }
+        List<TravelCandidate> targets = topPlaces.stream()
+            .filter(candidate -> candidate.getAiEnriched() == null || !candidate.getAiEnriched())
+            .toList();
+
+        AtomicInteger enrichedCount = new AtomicInteger(0);
 
-                // Rate limiting
-                rateLimitDelay();
+        // Rate limiting은 enrichSingle 안의 perplexity/openai 허가로 처리
+        enrichmentExecutor.run(getApiName(), targets, candidate -> {
+            if (enrichSingle(candidate)) {
+                travelCandidateRepository.save(candidate);
+                log.info("AI 보강 완료 ({}/{}): {}", enrichedCount.incrementAndGet(), limit, candidate.getName());
             }
-        }
+        });
 
-        return enrichedCount;
+        return enrichedCount.get();
     }
 
     @Override
@@ -4,6 +4,7 @@ import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
 import com.compass.domain.chat.service.enrichment.AbstractEnrichmentService;
 import com.compass.domain.chat.service.enrichment.ApiRateLimiter;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import com.compass.domain.chat.service.enrichment.EnrichmentUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -44,8 +45,9 @@ public class GooglePlacesEnrichmentServiceImpl extends AbstractEnrichmentService
             TravelCandidateRepository travelCandidateRepository,
             RestTemplate restTemplate,
             ApiRateLimiter rateLimiter,
-            ObjectMapper objectMapper) {
-        super(travelCandidateRepository);
+            ObjectMapper objectMapper,
+            EnrichmentExecutor enrichmentExecutor) {
+        super(travelCandidateRepository, enrichmentExecutor);
         this.restTemplate = restTemplate;
         this.rateLimiter = rateLimiter;
         this.objectMapper = objectMapper;
@@ -56,6 +58,11 @@ public class GooglePlacesEnrichmentServiceImpl extends AbstractEnrichmentService
         return "GooglePlacesEnrichment";
     }
 
+    @Override
+    public String getApiName() {
+        return "google_places";
+    }
+
     @Override
     public int getPriority() {
         return 1; // 최우선순위
@@ -1,9 +1,11 @@
 package com.compass.domain.chat.service.enrichment.impl;
 
+import com.compass.domain.chat.common.geo.GeoMath;
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
 import com.compass.domain.chat.service.enrichment.AbstractEnrichmentService;
 import com.compass.domain.chat.service.enrichment.ApiRateLimiter;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import com.compass.domain.chat.service.enrichment.EnrichmentUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -41,8 +43,9 @@ public class KakaoMapEnrichmentServiceImpl extends AbstractEnrichmentService {
             TravelCandidateRepository travelCandidateRepository,
             RestTemplate restTemplate,
             ApiRateLimiter rateLimiter,
-            ObjectMapper objectMapper) {
-        super(travelCandidateRepository);
+            ObjectMapper objectMapper,
+            EnrichmentExecutor enrichmentExecutor) {
+        super(travelCandidateRepository, enrichmentExecutor);
         this.restTemplate = restTemplate;
         this.rateLimiter = rateLimiter;
         this.objectMapper = objectMapper;
@@ -53,6 +56,11 @@ public class KakaoMapEnrichmentServiceImpl extends AbstractEnrichmentService {
         return "KakaoMapEnrichment";
     }
 
+    @Override
+    public String getApiName() {
+        return "kakao_map";
+    }
+
     @Override
     public int getPriority() {
         return 2; // Google 다음 우선순위
@@ -252,14 +260,7 @@ public class KakaoMapEnrichmentServiceImpl extends AbstractEnrichmentService {
 
     private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
         // 하버사인 공식으로 거리 계산 (km)
-        double R = 6371;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat/2) * Math.sin(dLat/2) +
-                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                   Math.sin(dLon/2) * Math.sin(dLon/2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-        return R * c;
+        return GeoMath.haversineKm(lat1, lon1, lat2, lon2);
     }
 
     @Override
@@ -4,6 +4,7 @@ import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.repository.TravelCandidateRepository;
 import com.compass.domain.chat.service.enrichment.AbstractEnrichmentService;
 import com.compass.domain.chat.service.enrichment.ApiRateLimiter;
+import com.compass.domain.chat.service.enrichment.EnrichmentExecutor;
 import com.compass.domain.chat.service.enrichment.EnrichmentUtils;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -42,8 +43,9 @@ public class TourApiEnrichmentServiceImpl extends AbstractEnrichmentService {
             TravelCandidateRepository travelCandidateRepository,
             RestTemplate restTemplate,
             ApiRateLimiter rateLimiter,
-            ObjectMapper objectMapper) {
-        super(travelCandidateRepository);
+            ObjectMapper objectMapper,
+            EnrichmentExecutor enrichmentExecutor) {
+        super(travelCandidateRepository, enrichmentExecutor);
         this.restTemplate = restTemplate;
         this.rateLimiter = rateLimiter;
         this.objectMapper = objectMapper;
@@ -54,6 +56,11 @@ public class TourApiEnrichmentServiceImpl extends AbstractEnrichmentService {
         return "TourApiEnrichment";
     }
 
+    @Override
+    public String getApiName() {
+        return "tour_api";
+    }
+
     @Override
     public int getPriority() {
         return 3; // Google, Kakao 다음 우선순위
@@ -1,6 +1,9 @@
 package com.compass.domain.chat.stage2.service;
 
 import com.compass.domain.chat.common.constants.StageConstants;
+import com.compass.domain.chat.common.snapshot.CandidateRow;
+import com.compass.domain.chat.common.snapshot.RegionCandidateSnapshot;
+import com.compass.domain.chat.common.snapshot.TravelCandidateSnapshotService;
 import com.compass.domain.chat.common.utils.DistanceCalculator;
 import com.compass.domain.chat.common.utils.PlaceScoreCalculator;
 import com.compass.domain.chat.common.utils.TravelPlaceConverter;
@@ -34,6 +37,7 @@ import java.util.stream.Collectors;
 public class Stage2TimeBlockService {
 
     private final TravelCandidateRepository travelCandidateRepository;
+    private final TravelCandidateSnapshotService candidateSnapshotService;
     private final DistanceCalculator distanceCalculator;
     private final PlaceScoreCalculator scoreCalculator;
     private final TravelPlaceConverter placeConverter;
@@ -178,19 +182,19 @@ public class Stage2TimeBlockService {
 
         int fetchLimit = StageConstants.Limits.PLACES_PER_CLUSTER * Math.max(regions.size(), 1);
 
-        List<TravelCandidate> filtered = travelCandidateRepository.findActiveByRegionsAndTimeBlock(
-            regions,
-            entityTimeBlock,
-            fetchLimit
-        );
+        // 지역 스냅샷의 시간블록 인덱스(품질순)에서 상위 후보만 취합 - 블록/일자마다 DB를 다시 조회하지 않는다
+        List<CandidateRow> filtered = candidateSnapshotService.getSnapshots(regions).stream()
+            .flatMap(snapshot -> snapshot.byTimeBlock(entityTimeBlock).stream().limit(fetchLimit))
+            .sorted(RegionCandidateSnapshot.QUALITY_ORDER)
+            .limit(fetchLimit)
+            .toList();
 
         // 점수 계산 및 정렬
         return filtered.stream()
-            .map(c -> new ScoredCandidate(
-                placeConverter.fromCandidate(c),
-                scoreCalculator.calculateScoreWithMultipleReferences(
-                    placeConverter.fromCandidate(c), references
-                )
+            .map(CandidateRow::toTravelPlace)
+            .map(place -> new ScoredCandidate(
+                place,
+                scoreCalculator.calculateScoreWithMultipleReferences(place, references)
             ))
             .sorted(Comparator.comparing(ScoredCandidate::score).reversed())
             .limit(StageConstants.Limits.PLACES_PER_CLUSTER)
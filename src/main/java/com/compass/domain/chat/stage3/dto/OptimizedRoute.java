@@ -15,6 +15,7 @@ public class OptimizedRoute {
     private final List<RouteSegment> segments;        // 구간별 상세 정보
     private final String transportMode;               // 이동 수단 (자차, 대중교통)
     private final RouteStatistics statistics;         // 경로 통계 정보
+    private final List<SegmentSlack> segmentSlacks;   // 고정 일정 사이 구간별 여유 시간 (시간 제약 배치 시)
 
     // 구간별 경로 정보
     @Getter
@@ -30,6 +31,15 @@ public class OptimizedRoute {
         private final String arrivalTime;             // 도착 시각
     }
 
+    // 고정 일정 사이 구간 여유 시간
+    @Getter
+    @Builder
+    public static class SegmentSlack {
+        private final TravelPlace from;               // 구간 시작 고정 일정 (null이면 하루 시작)
+        private final TravelPlace to;                 // 구간 끝 고정 일정 (null이면 하루 끝)
+        private final long slackMinutes;              // 일정이 밀려도 흡수할 수 있는 시간 (분)
+    }
+
     // 상세 경로 정보 (Kakao Mobility API 응답)
     @Getter
     @Builder
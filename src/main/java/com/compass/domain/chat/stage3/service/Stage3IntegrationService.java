@@ -1,5 +1,11 @@
 package com.compass.domain.chat.stage3.service;
 
+import com.compass.domain.chat.common.dedup.PlaceNameKey;
+import com.compass.domain.chat.common.dedup.UsedPlaceNameIndex;
+import com.compass.domain.chat.common.geo.GeoMath;
+import com.compass.domain.chat.common.snapshot.CandidateRow;
+import com.compass.domain.chat.common.snapshot.RegionCandidateSnapshot;
+import com.compass.domain.chat.common.snapshot.TravelCandidateSnapshotService;
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.model.TravelPlace;
 import com.compass.domain.chat.model.context.TravelContext;
@@ -26,6 +32,7 @@ import java.util.stream.Collectors;
 public class Stage3IntegrationService {
 
     private final TravelCandidateRepository travelCandidateRepository;
+    private final TravelCandidateSnapshotService candidateSnapshotService;
     private final Stage3TravelCandidateEnrichmentService enrichmentService;
     private final PlaceScoreCalculationService scoreCalculationService;
     private final Stage3RouteOptimizationService routeOptimizationService;
@@ -84,8 +91,9 @@ public class Stage3IntegrationService {
         String departureLocation = null;
 
         // 1. travel_candidates에서 해당 지역의 장소들 조회
+        RegionCandidateSnapshot snapshot = candidateSnapshotService.getSnapshot(input.destination());
         List<TravelCandidate> candidates = fetchEnrichedCandidates(
-            input.destination(),
+            snapshot,
             input.startDate(),
             input.endDate()
         );
@@ -99,6 +107,7 @@ public class Stage3IntegrationService {
 
         // 3. 날짜별 일정 생성
         List<DailyItinerary> dailyItineraries = createDailyItineraries(
+            snapshot,
             candidates,
             scoredPlaces,
             input.startDate(),
@@ -138,8 +147,9 @@ public class Stage3IntegrationService {
                 confirmedSchedules.size(), departureLocation);
 
         // 1. travel_candidates에서 해당 지역의 장소들 조회
+        RegionCandidateSnapshot snapshot = candidateSnapshotService.getSnapshot(input.destination());
         List<TravelCandidate> candidates = fetchEnrichedCandidates(
-            input.destination(),
+            snapshot,
             input.startDate(),
             input.endDate()
         );
@@ -154,6 +164,7 @@ public class Stage3IntegrationService {
 
         // 3. OCR 확정 일정을 고려한 날짜별 일정 생성
         List<DailyItinerary> dailyItineraries = createDailyItinerariesWithConfirmedSchedules(
+            snapshot,
             candidates,
             scoredPlaces,
             input.startDate(),
@@ -224,39 +235,26 @@ public class Stage3IntegrationService {
 
     // travel_candidates에서 enriched 데이터 조회
     private List<TravelCandidate> fetchEnrichedCandidates(
-            String destination,
+            RegionCandidateSnapshot snapshot,
             LocalDate startDate,
             LocalDate endDate) {
 
-        // Google Places Enhanced 데이터가 있는 장소들 우선 조회
-        List<TravelCandidate> candidates = travelCandidateRepository
-            .findByRegionAndIsActiveTrue(destination)
+        // Google Places Enhanced 데이터가 있는 장소들 우선 조회 (스냅샷은 이미 품질/리뷰 순으로 정렬됨)
+        List<TravelCandidate> candidates = snapshot.byQuality()
             .stream()
-            .filter(c -> c.getGooglePlaceId() != null) // Google Places 데이터가 있는 것만
-            .filter(c -> c.getQualityScore() >= 0.6) // 품질 점수 임계값
-            .sorted((a, b) -> {
-                // 품질 점수로 정렬
-                int scoreCompare = Double.compare(
-                    b.getQualityScore(),
-                    a.getQualityScore()
-                );
-                if (scoreCompare != 0) return scoreCompare;
-
-                // 리뷰 수로 정렬
-                return Integer.compare(
-                    b.getReviewCount() != null ? b.getReviewCount() : 0,
-                    a.getReviewCount() != null ? a.getReviewCount() : 0
-                );
-            })
+            .filter(this::isEnrichedCandidate)
             .limit(45) // 더 현실적인 수: 일당 15개 * 3일
+            .map(CandidateRow::toDetachedCandidate)
             .collect(Collectors.toList());
 
-        log.info("Fetched {} enriched candidates for {}", candidates.size(), destination);
+        log.info("Fetched {} enriched candidates for {} (snapshot v{})",
+            candidates.size(), snapshot.region(), snapshot.version());
         return candidates;
     }
 
     // 날짜별 일정 생성 (문서 요구사항 반영)
     private List<DailyItinerary> createDailyItineraries(
+            RegionCandidateSnapshot snapshot,
             List<TravelCandidate> candidates,
             List<TravelPlace> scoredPlaces,
             LocalDate startDate,
@@ -306,7 +304,7 @@ public class Stage3IntegrationService {
 
                 // AI 추천 장소 검색 (시간 블록당 최소 1개씩, 총 4-6개)
                 List<TravelPlace> aiRecommended = searchNearbyPlacesWithGlobalTracking(
-                    candidates,
+                    snapshot,
                     centers,
                     globalUsedPlaceIds,
                     travelStyle,
@@ -316,7 +314,7 @@ public class Stage3IntegrationService {
                 // 부족하면 추가 검색
                 if (aiRecommended.size() < 4) {
                     List<TravelPlace> additional = searchAdditionalPlaces(
-                        candidates,
+                        snapshot,
                         scoredPlaces,
                         globalUsedPlaceIds,
                         4 - aiRecommended.size()
@@ -372,7 +370,7 @@ public class Stage3IntegrationService {
             // 이미 사용된 장소는 제외하고 추가
             for (TravelPlace place : plannedDayPlaces) {
                 String placeKey = place.getName() != null ?
-                    place.getName().toLowerCase().replaceAll("\\s+", "") :
+                    PlaceNameKey.normalize(place.getName()) :
                     place.getPlaceId();
 
                 if (placeKey != null && !globalUsedPlaceIds.contains(placeKey)) {
@@ -385,7 +383,7 @@ public class Stage3IntegrationService {
                     }
                     if (place.getName() != null) {
                         globalUsedPlaceIds.add(place.getName());
-                        globalUsedPlaceIds.add(place.getName().toLowerCase().replaceAll("\\s+", ""));
+                        globalUsedPlaceIds.add(PlaceNameKey.normalize(place.getName()));
                     }
                 }
             }
@@ -408,7 +406,7 @@ public class Stage3IntegrationService {
             );
 
             List<TravelPlace> aiRecommended = searchNearbyPlacesWithGlobalTracking(
-                candidates,
+                snapshot,
                 centersForDay,
                 globalUsedPlaceIds,
                 travelStyle,
@@ -537,8 +535,9 @@ public class Stage3IntegrationService {
     }
 
     // 클러스터 중심점 주변에서 AI 추천 장소 검색 (전역 추적 포함 - 이름 기반)
+    // 지역 스냅샷의 격자 인덱스로 중심점 반경 10km 이내 가까운 순 5개만 조회
     private List<TravelPlace> searchNearbyPlacesWithGlobalTracking(
-            List<TravelCandidate> allCandidates,
+            RegionCandidateSnapshot snapshot,
             List<Stage3KMeansClusteringService.ClusterCenter> clusterCenters,
             Set<String> globalUsedPlaceIds,
             String travelStyle,
@@ -546,69 +545,38 @@ public class Stage3IntegrationService {
 
         List<TravelPlace> recommended = new ArrayList<>();
 
-        // 사용된 장소 이름들도 추적 (이름 기반 중복 방지 - 정규화)
-        Set<String> usedPlaceNames = new HashSet<>();
-        globalUsedPlaceIds.forEach(id -> {
-            // ID가 실제 장소명일 수도 있음
-            if (id != null && !id.startsWith("place_")) {
-                // 공백을 제거하여 정규화
-                usedPlaceNames.add(id.toLowerCase().replaceAll("\\s+", ""));
-            }
-        });
+        // 사용된 장소 이름들도 추적 (이름 기반 중복 방지 - 정규화/핵심 이름 인덱스)
+        UsedPlaceNameIndex usedPlaceNames = buildUsedPlaceNameIndex(globalUsedPlaceIds);
+
+        // 동일 거리면 품질 점수 내림차순
+        Comparator<CandidateRow> qualityDesc = Comparator.comparingDouble(CandidateRow::qualityOrZero).reversed();
 
         for (Stage3KMeansClusteringService.ClusterCenter center : clusterCenters) {
-            List<TravelPlace> nearbyPlaces = allCandidates.stream()
-                .filter(candidate -> candidate.getLatitude() != null && candidate.getLongitude() != null)
-                .filter(candidate -> {
+            List<TravelPlace> nearbyPlaces = snapshot.spatialIndex()
+                .nearest(center.getLatitude(), center.getLongitude(), 10.0, 5, candidate -> {
+                    if (!isEnrichedCandidate(candidate)) {
+                        return false;
+                    }
+                    if (candidate.rating() == null || candidate.rating() < 3.5) { // 낮춤
+                        return false;
+                    }
+                    if (!matchesTravelStyle(candidate.category(), candidate.description(), travelStyle)) {
+                        return false;
+                    }
                     // ID 기반 또는 이름 기반 중복 체크
-                    if (candidate.getPlaceId() != null && globalUsedPlaceIds.contains(candidate.getPlaceId())) {
+                    if (candidate.placeId() != null && globalUsedPlaceIds.contains(candidate.placeId())) {
                         return false;
                     }
-                    if (candidate.getName() != null) {
-                        String normalizedName = candidate.getName().toLowerCase().replaceAll("\\s+", "");
-                        if (globalUsedPlaceIds.contains(candidate.getName()) ||
-                            usedPlaceNames.contains(normalizedName)) {
-                            return false;
-                        }
-
-                        // 유사 장소명 체크
-                        for (String usedName : usedPlaceNames) {
-                            if (isSimilarPlace(normalizedName, usedName)) {
-                                return false;
-                            }
-                        }
+                    // 정규화 이름 일치 또는 유사 장소명 체크 (이름 키는 스냅샷 로드 시 계산됨)
+                    if (candidate.name() != null &&
+                        (globalUsedPlaceIds.contains(candidate.name()) ||
+                         usedPlaceNames.containsSimilar(candidate.nameKey()))) {
+                        return false;
                     }
                     return true;
-                })
-                .filter(candidate -> candidate.getQualityScore() != null && candidate.getQualityScore() >= 0.6) // 낮춤
-                .filter(candidate -> candidate.getRating() != null && candidate.getRating() >= 3.5) // 낮춤
-                .filter(candidate -> matchesTravelStyle(candidate, travelStyle))
-                .filter(candidate -> calculateDistance(
-                    center.getLatitude(), center.getLongitude(),
-                    candidate.getLatitude(), candidate.getLongitude()) < 10.0) // 거리 늘림
-                .sorted((a, b) -> {
-                    double distA = calculateDistance(
-                        center.getLatitude(), center.getLongitude(),
-                        a.getLatitude(), a.getLongitude());
-                    double distB = calculateDistance(
-                        center.getLatitude(), center.getLongitude(),
-                        b.getLatitude(), b.getLongitude());
-
-                    int distanceCompare = Double.compare(distA, distB);
-                    if (distanceCompare != 0) {
-                        return distanceCompare;
-                    }
-
-                    double qualityA = a.getQualityScore() != null ? a.getQualityScore() : 0.0;
-                    double qualityB = b.getQualityScore() != null ? b.getQualityScore() : 0.0;
-                    return Double.compare(qualityB, qualityA);
-                })
-                .limit(5) // 각 클러스터 중심점에서 더 많은 장소를 가져옴
-                .map(candidate -> {
-                    TravelPlace place = candidate.toTravelPlace();
-                    place.setIsUserSelected(false);
-                    return place;
-                })
+                }, qualityDesc)
+                .stream()
+                .map(hit -> hit.item().toTravelPlace())
                 .collect(Collectors.toList());
 
             if (nearbyPlaces.size() < 5 && scoredFallback != null) {
@@ -620,19 +588,11 @@ public class Stage3IntegrationService {
                         if (place.getPlaceId() != null && globalUsedPlaceIds.contains(place.getPlaceId())) {
                             return false;
                         }
-                        if (place.getName() != null) {
-                            String normalizedName = place.getName().toLowerCase().replaceAll("\\s+", "");
-                            if (globalUsedPlaceIds.contains(place.getName()) ||
-                                usedPlaceNames.contains(normalizedName)) {
-                                return false;
-                            }
-
-                            // 유사 장소명 체크
-                            for (String usedName : usedPlaceNames) {
-                                if (isSimilarPlace(normalizedName, usedName)) {
-                                    return false;
-                                }
-                            }
+                        // 정규화 이름 일치 또는 유사 장소명 체크
+                        if (place.getName() != null &&
+                            (globalUsedPlaceIds.contains(place.getName()) ||
+                             usedPlaceNames.containsSimilar(PlaceNameKey.of(place.getName())))) {
+                            return false;
                         }
                         return true;
                     })
@@ -653,7 +613,7 @@ public class Stage3IntegrationService {
                 }
                 if (place.getName() != null) {
                     globalUsedPlaceIds.add(place.getName());
-                    usedPlaceNames.add(place.getName().toLowerCase().replaceAll("\\s+", ""));
+                    usedPlaceNames.add(place.getName());
                 }
             });
             recommended.addAll(nearbyPlaces);
@@ -666,7 +626,7 @@ public class Stage3IntegrationService {
 
     // 추가 장소 검색 (조건 완화)
     private List<TravelPlace> searchAdditionalPlaces(
-            List<TravelCandidate> allCandidates,
+            RegionCandidateSnapshot snapshot,
             List<TravelPlace> scoredFallback,
             Set<String> globalUsedPlaceIds,
             int needed) {
@@ -674,42 +634,28 @@ public class Stage3IntegrationService {
         List<TravelPlace> additionalPlaces = new ArrayList<>();
 
         // 사용된 장소 이름들도 추적
-        Set<String> usedPlaceNames = new HashSet<>();
-        globalUsedPlaceIds.forEach(id -> {
-            if (id != null && !id.startsWith("place_")) {
-                usedPlaceNames.add(id.toLowerCase().replaceAll("\\s+", ""));
-            }
-        });
-
-        // 조건을 완화하여 추가 장소 검색
-        List<TravelPlace> candidates = allCandidates.stream()
-            .filter(candidate -> candidate.getLatitude() != null && candidate.getLongitude() != null)
+        UsedPlaceNameIndex usedPlaceNames = buildUsedPlaceNameIndex(globalUsedPlaceIds);
+
+        // 조건을 완화하여 추가 장소 검색 (스냅샷이 이미 품질 순이므로 정렬 없이 앞에서부터 needed개)
+        List<TravelPlace> candidates = snapshot.byQuality().stream()
+            .filter(CandidateRow::hasCoordinates)
+            .filter(candidate -> candidate.googlePlaceId() != null)
+            .filter(candidate -> candidate.qualityScore() != null && candidate.qualityScore() >= 0.5) // 더 낮춤
+            .filter(candidate -> candidate.rating() != null && candidate.rating() >= 3.0) // 더 낮춤
             .filter(candidate -> {
                 // 중복 체크
-                if (candidate.getPlaceId() != null && globalUsedPlaceIds.contains(candidate.getPlaceId())) {
+                if (candidate.placeId() != null && globalUsedPlaceIds.contains(candidate.placeId())) {
                     return false;
                 }
-                if (candidate.getName() != null &&
-                    (globalUsedPlaceIds.contains(candidate.getName()) ||
-                     usedPlaceNames.contains(candidate.getName().toLowerCase().replaceAll("\\s+", "")))) {
+                if (candidate.name() != null &&
+                    (globalUsedPlaceIds.contains(candidate.name()) ||
+                     usedPlaceNames.containsNormalized(candidate.nameKey()))) {
                     return false;
                 }
                 return true;
             })
-            .filter(candidate -> candidate.getQualityScore() != null && candidate.getQualityScore() >= 0.5) // 더 낮춤
-            .filter(candidate -> candidate.getRating() != null && candidate.getRating() >= 3.0) // 더 낮춤
-            .sorted((a, b) -> {
-                // 품질 점수로 정렬
-                double qualityA = a.getQualityScore() != null ? a.getQualityScore() : 0.0;
-                double qualityB = b.getQualityScore() != null ? b.getQualityScore() : 0.0;
-                return Double.compare(qualityB, qualityA);
-            })
             .limit(needed)
-            .map(candidate -> {
-                TravelPlace place = candidate.toTravelPlace();
-                place.setIsUserSelected(false);
-                return place;
-            })
+            .map(CandidateRow::toTravelPlace)
             .collect(Collectors.toList());
 
         additionalPlaces.addAll(candidates);
@@ -724,7 +670,7 @@ public class Stage3IntegrationService {
                     }
                     if (place.getName() != null &&
                         (globalUsedPlaceIds.contains(place.getName()) ||
-                         usedPlaceNames.contains(place.getName().toLowerCase().replaceAll("\\s+", "")))) {
+                         usedPlaceNames.containsNormalized(PlaceNameKey.of(place.getName())))) {
                         return false;
                     }
                     return true;
@@ -742,7 +688,7 @@ public class Stage3IntegrationService {
             }
             if (place.getName() != null) {
                 globalUsedPlaceIds.add(place.getName());
-                usedPlaceNames.add(place.getName().toLowerCase().replaceAll("\\s+", ""));
+                usedPlaceNames.add(place.getName());
             }
         });
 
@@ -752,7 +698,7 @@ public class Stage3IntegrationService {
 
     // 기존 메서드는 다른 곳에서 사용될 수 있으므로 유지
     private List<TravelPlace> searchNearbyPlaces(
-            List<TravelCandidate> allCandidates,
+            RegionCandidateSnapshot snapshot,
             List<Stage3KMeansClusteringService.ClusterCenter> clusterCenters,
             List<TravelPlace> userPlaces,
             String travelStyle,
@@ -763,7 +709,7 @@ public class Stage3IntegrationService {
             .collect(Collectors.toCollection(HashSet::new));
 
         return searchNearbyPlacesWithGlobalTracking(
-            allCandidates,
+            snapshot,
             clusterCenters,
             usedPlaceIds,
             travelStyle,
@@ -773,80 +719,18 @@ public class Stage3IntegrationService {
 
     // Haversine 공식으로 거리 계산
     private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final double R = 6371; // 지구 반지름 (km)
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
+        return GeoMath.haversineKm(lat1, lon1, lat2, lon2);
     }
 
-    // 유사 장소명 체크 메서드 - 더 강력한 중복 검사
-    private boolean isSimilarPlace(String name1, String name2) {
-        if (name1 == null || name2 == null) return false;
-
-        // 빠른 체크: 정규화된 이름이 같은지
-        String normalized1 = name1.toLowerCase().replaceAll("\\s+", "");
-        String normalized2 = name2.toLowerCase().replaceAll("\\s+", "");
-        if (normalized1.equals(normalized2)) {
-            log.debug("Exact match after normalization: {} == {}", name1, name2);
-            return true;
-        }
-
-        // 핵심 장소명 추출하여 비교
-        String core1 = extractCorePlaceName(name1);
-        String core2 = extractCorePlaceName(name2);
-
-        // 빈 문자열 체크
-        if (core1.isEmpty() || core2.isEmpty()) {
-            return false;
-        }
-
-        // 핵심 장소명이 같으면 유사한 장소로 판단
-        if (core1.equals(core2)) {
-            log.debug("Similar places detected: '{}' (core: {}) == '{}' (core: {})", name1, core1, name2, core2);
-            return true;
-        }
-
-        // 길이가 충분히 긴 경우에만 포함 관계 체크 (너무 짧은 단어는 오탐 가능성)
-        if (core1.length() >= 3 && core2.length() >= 3) {
-            if (core1.contains(core2) || core2.contains(core1)) {
-                log.debug("Containment detected: '{}' contains '{}' or vice versa", core1, core2);
-                return true;
+    // 전역 사용 목록으로 이름 인덱스 구성 (ID가 실제 장소명일 수도 있으므로 place_ 접두어가 아닌 값만)
+    private UsedPlaceNameIndex buildUsedPlaceNameIndex(Set<String> globalUsedPlaceIds) {
+        UsedPlaceNameIndex index = new UsedPlaceNameIndex();
+        globalUsedPlaceIds.forEach(id -> {
+            if (id != null && !id.startsWith("place_")) {
+                index.add(id);
             }
-        }
-
-        return false;
-    }
-
-    // 장소명에서 핵심 이름만 추출하는 메서드
-    private String extractCorePlaceName(String name) {
-        if (name == null) return "";
-
-        String cleaned = name.toLowerCase();
-
-        // 1단계: 변형들을 먼저 통일 (공백이 있는 상태에서)
-        // N서울타워 계열
-        cleaned = cleaned.replaceAll("(n서울타워|남산서울타워|남산 서울타워|남산타워|남산 타워|n 서울타워)", "서울타워");
-
-        // 롯데월드 계열
-        cleaned = cleaned.replaceAll("(롯데월드타워|롯데타워|롯데 타워|롯데월드어드벤처|롯데월드 어드벤처|롯데 월드)", "롯데월드");
-
-        // 국립중앙박물관 계열
-        cleaned = cleaned.replaceAll("(국립중앙박물관|국립 중앙 박물관|중앙박물관|중앙 박물관)", "국립중앙박물관");
-
-        // 2단계: 수식어구 제거 (공백 포함 패턴)
-        cleaned = cleaned.replaceAll("\\s*(야경|야간개장|전망대|플라자|어드벤처|야간|주간|특별|이벤트|입장|체험|관람|투어|방문)\\s*", " ");
-
-        // 3단계: 연속된 공백을 단일 공백으로 정리
-        cleaned = cleaned.replaceAll("\\s+", " ").trim();
-
-        // 4단계: 최종적으로 공백 제거
-        cleaned = cleaned.replaceAll("\\s+", "");
-
-        return cleaned;
+        });
+        return index;
     }
 
     // 상세 시간 블록별 장소 배치 (문서 요구사항 반영)
@@ -1123,7 +1007,7 @@ public class Stage3IntegrationService {
         }
         if (place.getName() != null && !place.getName().isEmpty()) {
             // 정규화된 이름 사용 (공백 제거, 소문자)
-            return extractCorePlaceName(place.getName());
+            return PlaceNameKey.extractCore(place.getName());
         }
         // 최후의 수단: 좌표 기반
         if (place.getLatitude() != null && place.getLongitude() != null) {
@@ -1163,7 +1047,7 @@ public class Stage3IntegrationService {
                     }
                     if (place.getName() != null) {
                         globalUsedKeys.add(place.getName());
-                        globalUsedKeys.add(extractCorePlaceName(place.getName()));
+                        globalUsedKeys.add(PlaceNameKey.extractCore(place.getName()));
                     }
                 } else {
                     log.debug("Duplicate detected in {}: {} (key: {})", timeBlock, place.getName(), placeKey);
@@ -1382,6 +1266,7 @@ public class Stage3IntegrationService {
 
     // OCR 확정 일정을 고려한 날짜별 일정 생성
     private List<DailyItinerary> createDailyItinerariesWithConfirmedSchedules(
+            RegionCandidateSnapshot snapshot,
             List<TravelCandidate> candidates,
             List<TravelPlace> scoredPlaces,
             LocalDate startDate,
@@ -1417,7 +1302,7 @@ public class Stage3IntegrationService {
             // 이미 사용된 장소는 제외하고 추가
             for (TravelPlace place : plannedDayPlaces) {
                 String placeKey = place.getName() != null ?
-                    place.getName().toLowerCase().replaceAll("\\s+", "") :
+                    PlaceNameKey.normalize(place.getName()) :
                     place.getPlaceId();
 
                 if (placeKey != null && !globalUsedPlaceIds.contains(placeKey)) {
@@ -1429,7 +1314,7 @@ public class Stage3IntegrationService {
                     }
                     if (place.getName() != null) {
                         globalUsedPlaceIds.add(place.getName());
-                        globalUsedPlaceIds.add(place.getName().toLowerCase().replaceAll("\\s+", ""));
+                        globalUsedPlaceIds.add(PlaceNameKey.normalize(place.getName()));
                     }
                 }
             }
@@ -1470,7 +1355,7 @@ public class Stage3IntegrationService {
                     .filter(place -> {
                         // 정규화된 이름으로 비교
                         String placeKey = place.getName() != null ?
-                            place.getName().toLowerCase().replaceAll("\\s+", "") :
+                            PlaceNameKey.normalize(place.getName()) :
                             place.getPlaceId();
 
                         if (placeKey != null && globalUsedPlaceIds.contains(placeKey)) {
@@ -1493,7 +1378,7 @@ public class Stage3IntegrationService {
                     if (place.getName() != null) {
                         globalUsedPlaceIds.add(place.getName());
                         // 정규화된 이름도 추가
-                        globalUsedPlaceIds.add(place.getName().toLowerCase().replaceAll("\\s+", ""));
+                        globalUsedPlaceIds.add(PlaceNameKey.normalize(place.getName()));
                     }
                 });
             }
@@ -1524,7 +1409,7 @@ public class Stage3IntegrationService {
             }
 
             List<TravelPlace> aiRecommended = searchNearbyPlacesWithGlobalTracking(
-                candidates,
+                snapshot,
                 centersForDay,
                 globalUsedPlaceIds,
                 travelStyle,
@@ -1538,7 +1423,7 @@ public class Stage3IntegrationService {
 
                 // 거리와 품질 조건을 완화하여 추가 검색
                 List<TravelPlace> additionalPlaces = searchAdditionalPlaces(
-                    candidates,
+                    snapshot,
                     scoredPlaces,
                     globalUsedPlaceIds,
                     minPlacesNeeded - dayPlaces.size() - aiRecommended.size()
@@ -1695,8 +1580,9 @@ public class Stage3IntegrationService {
             .collect(Collectors.toList());
     }
 
-    private boolean matchesTravelStyle(TravelCandidate candidate, String travelStyle) {
-        return matchesTravelStyle(candidate.getCategory(), candidate.getDescription(), travelStyle);
+    // Google Places 보강 데이터가 있고 품질 점수 임계값을 넘는 후보지
+    private boolean isEnrichedCandidate(CandidateRow candidate) {
+        return candidate.googlePlaceId() != null && candidate.qualityOrZero() >= 0.6;
     }
 
     private boolean matchesTravelStyle(TravelPlace place, String travelStyle) {
@@ -1,5 +1,6 @@
 package com.compass.domain.chat.stage3.service;
 
+import com.compass.domain.chat.common.cluster.KMeansEngine;
 import com.compass.domain.chat.model.TravelPlace;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,8 +14,7 @@ import java.util.stream.Collectors;
 @Slf4j
 public class Stage3KMeansClusteringService {
 
-    private static final int MAX_ITERATIONS = 100;
-    private static final double CONVERGENCE_THRESHOLD = 0.001;
+    private static final int RESTARTS = 4;
 
     public Map<Integer, List<TravelPlace>> clusterPlaces(List<TravelPlace> places, int k) {
         if (places.isEmpty() || k <= 0) {
@@ -35,41 +35,22 @@ public class Stage3KMeansClusteringService {
             return new HashMap<>();
         }
 
-        // 초기 중심점 선택 (K-means++ 알고리즘)
-        List<Point> centroids = initializeCentroids(validPlaces, k);
-        Map<Integer, List<TravelPlace>> clusters = new HashMap<>();
-
-        boolean converged = false;
-        int iteration = 0;
+        // 공통 엔진으로 클러스터링 (고정 시드 멀티 스타트라 같은 입력이면 같은 결과)
+        double[] latitudes = validPlaces.stream().mapToDouble(TravelPlace::getLatitude).toArray();
+        double[] longitudes = validPlaces.stream().mapToDouble(TravelPlace::getLongitude).toArray();
+        KMeansEngine.Result result = KMeansEngine.cluster(latitudes, longitudes, k,
+            KMeansEngine.Options.defaults().withRestarts(RESTARTS));
 
-        while (!converged && iteration < MAX_ITERATIONS) {
-            // 각 장소를 가장 가까운 중심점에 할당
-            clusters.clear();
-            for (TravelPlace place : validPlaces) {
-                int nearestCluster = findNearestCentroid(place, centroids);
-                clusters.computeIfAbsent(nearestCluster, key -> new ArrayList<>()).add(place);
-            }
-
-            // 새로운 중심점 계산
-            List<Point> newCentroids = new ArrayList<>();
-            for (int i = 0; i < k; i++) {
-                List<TravelPlace> clusterPlaces = clusters.getOrDefault(i, new ArrayList<>());
-                if (!clusterPlaces.isEmpty()) {
-                    Point newCentroid = calculateCentroid(clusterPlaces);
-                    newCentroids.add(newCentroid);
-                } else {
-                    // 빈 클러스터인 경우 이전 중심점 유지
-                    newCentroids.add(centroids.get(i));
-                }
+        // 빈 클러스터는 제외 (기존 동작과 동일)
+        Map<Integer, List<TravelPlace>> clusters = new HashMap<>();
+        List<List<TravelPlace>> groups = result.partition(validPlaces);
+        for (int i = 0; i < groups.size(); i++) {
+            if (!groups.get(i).isEmpty()) {
+                clusters.put(i, groups.get(i));
             }
-
-            // 수렴 확인
-            converged = checkConvergence(centroids, newCentroids);
-            centroids = newCentroids;
-            iteration++;
         }
 
-        log.info("K-means clustering completed in {} iterations", iteration);
+        log.info("K-means clustering completed in {} iterations", result.iterations());
         return clusters;
     }
 
@@ -142,74 +123,6 @@ public class Stage3KMeansClusteringService {
         return new ClusterAssignmentResult(dayAssignments, clusterToDayMap);
     }
 
-    // K-means++ 초기화
-    private List<Point> initializeCentroids(List<TravelPlace> places, int k) {
-        List<Point> centroids = new ArrayList<>();
-        Random random = new Random();
-
-        // 첫 번째 중심점은 무작위 선택
-        TravelPlace firstPlace = places.get(random.nextInt(places.size()));
-        centroids.add(new Point(firstPlace.getLatitude(), firstPlace.getLongitude()));
-
-        // 나머지 중심점은 거리 기반 확률적 선택
-        for (int i = 1; i < k; i++) {
-            double[] distances = new double[places.size()];
-            double totalDistance = 0;
-
-            for (int j = 0; j < places.size(); j++) {
-                TravelPlace place = places.get(j);
-                double minDistance = Double.MAX_VALUE;
-
-                for (Point centroid : centroids) {
-                    double dist = calculateDistance(
-                        place.getLatitude(), place.getLongitude(),
-                        centroid.lat, centroid.lon
-                    );
-                    minDistance = Math.min(minDistance, dist);
-                }
-
-                distances[j] = minDistance * minDistance; // 제곱하여 멀리 있는 점 선호
-                totalDistance += distances[j];
-            }
-
-            // 확률적 선택
-            double randomValue = random.nextDouble() * totalDistance;
-            double cumulativeDistance = 0;
-
-            for (int j = 0; j < places.size(); j++) {
-                cumulativeDistance += distances[j];
-                if (cumulativeDistance >= randomValue) {
-                    TravelPlace selectedPlace = places.get(j);
-                    centroids.add(new Point(selectedPlace.getLatitude(), selectedPlace.getLongitude()));
-                    break;
-                }
-            }
-        }
-
-        return centroids;
-    }
-
-    // 가장 가까운 중심점 찾기
-    private int findNearestCentroid(TravelPlace place, List<Point> centroids) {
-        int nearestCluster = 0;
-        double minDistance = Double.MAX_VALUE;
-
-        for (int i = 0; i < centroids.size(); i++) {
-            Point centroid = centroids.get(i);
-            double distance = calculateDistance(
-                place.getLatitude(), place.getLongitude(),
-                centroid.lat, centroid.lon
-            );
-
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearestCluster = i;
-            }
-        }
-
-        return nearestCluster;
-    }
-
     // 클러스터 중심점 계산
     private Point calculateCentroid(List<TravelPlace> places) {
         double sumLat = 0;
@@ -223,37 +136,6 @@ public class Stage3KMeansClusteringService {
         return new Point(sumLat / places.size(), sumLon / places.size());
     }
 
-    // 수렴 확인
-    private boolean checkConvergence(List<Point> oldCentroids, List<Point> newCentroids) {
-        for (int i = 0; i < oldCentroids.size(); i++) {
-            double distance = calculateDistance(
-                oldCentroids.get(i).lat, oldCentroids.get(i).lon,
-                newCentroids.get(i).lat, newCentroids.get(i).lon
-            );
-
-            if (distance > CONVERGENCE_THRESHOLD) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    // Haversine 공식으로 거리 계산 (km)
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final double R = 6371; // 지구 반지름 (km)
-
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
-
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return R * c;
-    }
-
     // 내부 클래스들
     private static class Point {
         final double lat;
@@ -1,11 +1,21 @@
 package com.compass.domain.chat.stage3.service;
 
+import com.compass.domain.chat.common.geo.DistanceMatrix;
+import com.compass.domain.chat.common.geo.GeoMath;
+import com.compass.domain.chat.common.route.BusinessHours;
+import com.compass.domain.chat.common.route.RouteImprover;
+import com.compass.domain.chat.common.route.TimeWindow;
+import com.compass.domain.chat.common.route.TimeWindowRouteSolver;
 import com.compass.domain.chat.model.TravelPlace;
 import com.compass.domain.chat.stage3.dto.OptimizedRoute;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -13,6 +23,15 @@ import java.util.*;
 @Slf4j
 public class Stage3RouteOptimizationService {
 
+    private static final int DAY_START_MINUTE = 9 * 60;
+    private static final int DAY_END_MINUTE = 21 * 60;
+    private static final int FIXED_STAY_MINUTES = 60;
+    private static final int FLEXIBLE_STAY_MINUTES = 90;
+
+    // 고정 일정 시각과 영업시간을 시간 창으로 보고 배치 (false면 기존 구간별 탐욕 배치)
+    @Value("${stage3.route.time-window-solver.enabled:true}")
+    private boolean timeWindowSolverEnabled;
+
     // TSP + 2-opt 알고리즘을 사용한 경로 최적화
     public OptimizedRoute optimize(List<TravelPlace> places, String transportMode) {
         return optimize(places, transportMode, null);
@@ -47,23 +66,35 @@ public class Stage3RouteOptimizationService {
             return 0;
         });
 
+        // 하루 일정의 장소 간 거리는 한 번만 계산해 배치/2-opt/구간 계산에서 재사용
+        DayDistances distances = new DayDistances(places);
+
         // 출발지가 있으면 출발지 기준으로 최적화
         List<TravelPlace> optimizedPlaces;
+        List<OptimizedRoute.SegmentSlack> segmentSlacks = null;
         if (departureLocation != null && !departureLocation.isEmpty()) {
             optimizedPlaces = arrangeWithDepartureAndFixedConstraints(
-                departureLocation, fixedPlaces, flexiblePlaces);
+                distances, departureLocation, fixedPlaces, flexiblePlaces);
+        } else if (timeWindowSolverEnabled && hasSameDayFixedTimes(fixedPlaces)) {
+            // 고정 일정 사이 빈 시간에 영업시간을 지키며 자유 일정 배치 (지역 탐색까지 솔버가 수행)
+            TimeWindowArrangement arrangement = arrangeWithTimeWindows(
+                distances, fixedPlaces, flexiblePlaces, transportMode);
+            optimizedPlaces = arrangement.places();
+            segmentSlacks = arrangement.slacks();
         } else {
             // 자유 일정을 고정 일정 사이에 최적 배치
-            optimizedPlaces = arrangeWithFixedConstraints(fixedPlaces, flexiblePlaces);
+            optimizedPlaces = arrangeWithFixedConstraints(distances, fixedPlaces, flexiblePlaces);
         }
 
-        // 2-opt 최적화 적용 (자유 일정 구간만)
-        optimizedPlaces = apply2OptOptimization(optimizedPlaces);
+        // 2-opt 최적화 적용 (자유 일정 구간만, 시간 창을 모르므로 솔버 결과에는 적용하지 않음)
+        if (segmentSlacks == null) {
+            optimizedPlaces = apply2OptOptimization(distances, optimizedPlaces);
+        }
 
         // 경로 정보 계산
-        double totalDistance = calculateTotalDistance(optimizedPlaces);
-        long totalDuration = calculateTotalDuration(optimizedPlaces, transportMode);
-        List<OptimizedRoute.RouteSegment> segments = createRouteSegments(optimizedPlaces, transportMode);
+        double totalDistance = calculateTotalDistance(distances, optimizedPlaces);
+        long totalDuration = calculateTotalDuration(distances, optimizedPlaces, transportMode);
+        List<OptimizedRoute.RouteSegment> segments = createRouteSegments(distances, optimizedPlaces, transportMode);
 
         return OptimizedRoute.builder()
             .places(optimizedPlaces)
@@ -72,11 +103,73 @@ public class Stage3RouteOptimizationService {
             .segments(segments)
             .transportMode(transportMode)
             .statistics(createStatistics(optimizedPlaces, totalDistance, totalDuration))
+            .segmentSlacks(segmentSlacks)
             .build();
     }
 
+    // 고정 일정이 모두 같은 날짜의 시각을 가지고 있는지
+    private boolean hasSameDayFixedTimes(List<TravelPlace> fixedPlaces) {
+        if (fixedPlaces.isEmpty() || fixedPlaces.stream().anyMatch(place -> place.getFixedTime() == null)) {
+            return false;
+        }
+        LocalDate date = fixedPlaces.get(0).getFixedTime().toLocalDate();
+        return fixedPlaces.stream().allMatch(place -> place.getFixedTime().toLocalDate().equals(date));
+    }
+
+    // 시간 제약 솔버로 배치 - 고정 일정은 정해진 시각, 자유 일정은 영업시간 창 안에서 방문
+    // 어느 빈 시간에도 들어가지 않는 자유 일정은 기존처럼 마지막에 가까운 순으로 덧붙인다
+    private TimeWindowArrangement arrangeWithTimeWindows(
+            DayDistances distances,
+            List<TravelPlace> fixedPlaces,
+            List<TravelPlace> flexiblePlaces,
+            String transportMode) {
+
+        DayOfWeek dayOfWeek = fixedPlaces.get(0).getFixedTime().getDayOfWeek();
+        List<TimeWindowRouteSolver.Anchor> anchors = new ArrayList<>(fixedPlaces.size());
+        for (TravelPlace fixed : fixedPlaces) {
+            LocalDateTime time = fixed.getFixedTime();
+            anchors.add(new TimeWindowRouteSolver.Anchor(
+                distances.indexOf(fixed), time.getHour() * 60 + time.getMinute(), FIXED_STAY_MINUTES));
+        }
+        List<TimeWindowRouteSolver.Stop> stops = new ArrayList<>(flexiblePlaces.size());
+        for (TravelPlace place : flexiblePlaces) {
+            TimeWindow window = BusinessHours.windowOn(place.getBusinessHours(), dayOfWeek);
+            stops.add(new TimeWindowRouteSolver.Stop(
+                distances.indexOf(place), window != null ? window : TimeWindow.ALL_DAY, FLEXIBLE_STAY_MINUTES));
+        }
+
+        TimeWindowRouteSolver.Result result = TimeWindowRouteSolver.solve(new TimeWindowRouteSolver.Problem(
+            (from, to) -> (int) travelMinutes(distances.between(from, to), transportMode),
+            anchors, stops, DAY_START_MINUTE, DAY_END_MINUTE));
+
+        List<TravelPlace> arranged = new ArrayList<>();
+        for (TimeWindowRouteSolver.ScheduledStop visit : result.route()) {
+            arranged.add(distances.placeAt(visit.node()));
+        }
+        if (!result.unscheduled().isEmpty()) {
+            List<TravelPlace> overflow = result.unscheduled().stream()
+                .map(flexiblePlaces::get)
+                .toList();
+            log.warn("{} flexible places did not fit any time window; appending after the last stop", overflow.size());
+            arranged.addAll(nearestNeighborFromStart(distances, arranged.get(arranged.size() - 1), overflow));
+        }
+
+        List<OptimizedRoute.SegmentSlack> slacks = result.slacks().stream()
+            .map(slack -> OptimizedRoute.SegmentSlack.builder()
+                .from(slack.fromNode() < 0 ? null : distances.placeAt(slack.fromNode()))
+                .to(slack.toNode() < 0 ? null : distances.placeAt(slack.toNode()))
+                .slackMinutes(slack.slackMinutes())
+                .build())
+            .toList();
+
+        log.info("Time-window arrangement: {} places scheduled, {} unscheduled, travel {} min",
+            result.route().size(), result.unscheduled().size(), result.travelMinutes());
+        return new TimeWindowArrangement(arranged, slacks);
+    }
+
     // 출발지와 고정 일정을 고려한 장소 배치
     private List<TravelPlace> arrangeWithDepartureAndFixedConstraints(
+            DayDistances distances,
             String departureLocation,
             List<TravelPlace> fixedPlaces,
             List<TravelPlace> flexiblePlaces) {
@@ -96,7 +189,7 @@ public class Stage3RouteOptimizationService {
         // 2. 고정 일정이 없고 자유 일정만 있는 경우
         if (fixedPlaces.isEmpty() && !remainingFlexible.isEmpty()) {
             // 호텔 다음에 출발지에서 가까운 곳부터 방문
-            List<TravelPlace> optimizedPlaces = nearestNeighborFromDeparture(departureLocation, remainingFlexible);
+            List<TravelPlace> optimizedPlaces = nearestNeighborFromDeparture(distances, departureLocation, remainingFlexible);
             result.addAll(optimizedPlaces);
             return result;
         }
@@ -106,7 +199,7 @@ public class Stage3RouteOptimizationService {
         if (!fixedPlaces.isEmpty()) {
             TravelPlace firstFixed = fixedPlaces.get(0);
             List<TravelPlace> beforeFirst = selectPlacesFromDeparture(
-                departureLocation, firstFixed, remainingFlexible, 2
+                distances, departureLocation, firstFixed, remainingFlexible, 2
             );
             result.addAll(beforeFirst);
             remainingFlexible.removeAll(beforeFirst);
@@ -120,7 +213,7 @@ public class Stage3RouteOptimizationService {
             if (i < fixedPlaces.size() - 1) {
                 TravelPlace nextFixed = fixedPlaces.get(i + 1);
                 List<TravelPlace> segment = selectPlacesForSegment(
-                    fixed, nextFixed, remainingFlexible
+                    distances, fixed, nextFixed, remainingFlexible
                 );
                 result.addAll(segment);
                 remainingFlexible.removeAll(segment);
@@ -129,6 +222,7 @@ public class Stage3RouteOptimizationService {
 
         if (!remainingFlexible.isEmpty()) {
             List<TravelPlace> lastSegment = nearestNeighborFromStart(
+                distances,
                 fixedPlaces.get(fixedPlaces.size() - 1),
                 remainingFlexible
             );
@@ -140,12 +234,13 @@ public class Stage3RouteOptimizationService {
 
     // 고정 일정을 고려한 장소 배치
     private List<TravelPlace> arrangeWithFixedConstraints(
+            DayDistances distances,
             List<TravelPlace> fixedPlaces,
             List<TravelPlace> flexiblePlaces) {
 
         if (fixedPlaces.isEmpty()) {
             // 고정 일정이 없으면 TSP로 최적화
-            return nearestNeighborTSP(flexiblePlaces);
+            return nearestNeighborTSP(distances, flexiblePlaces);
         }
 
         List<TravelPlace> result = new ArrayList<>();
@@ -159,7 +254,7 @@ public class Stage3RouteOptimizationService {
             if (i < fixedPlaces.size() - 1) {
                 TravelPlace nextFixed = fixedPlaces.get(i + 1);
                 List<TravelPlace> segment = selectPlacesForSegment(
-                    fixed, nextFixed, remainingFlexible
+                    distances, fixed, nextFixed, remainingFlexible
                 );
                 result.addAll(segment);
                 remainingFlexible.removeAll(segment);
@@ -169,6 +264,7 @@ public class Stage3RouteOptimizationService {
         // 마지막 고정 일정 이후 남은 자유 일정 추가
         if (!remainingFlexible.isEmpty()) {
             List<TravelPlace> lastSegment = nearestNeighborFromStart(
+                distances,
                 fixedPlaces.get(fixedPlaces.size() - 1),
                 remainingFlexible
             );
@@ -180,6 +276,7 @@ public class Stage3RouteOptimizationService {
 
     // 구간에 적합한 장소 선택
     private List<TravelPlace> selectPlacesForSegment(
+            DayDistances distances,
             TravelPlace start,
             TravelPlace end,
             List<TravelPlace> candidates) {
@@ -200,8 +297,8 @@ public class Stage3RouteOptimizationService {
         List<TravelPlace> selected = new ArrayList<>();
         List<TravelPlace> sorted = new ArrayList<>(candidates);
         sorted.sort((a, b) -> {
-            double distA = calculateDistance(start, a) + calculateDistance(a, end);
-            double distB = calculateDistance(start, b) + calculateDistance(b, end);
+            double distA = distances.between(start, a) + distances.between(a, end);
+            double distB = distances.between(start, b) + distances.between(b, end);
             return Double.compare(distA, distB);
         });
 
@@ -213,7 +310,7 @@ public class Stage3RouteOptimizationService {
     }
 
     // Nearest Neighbor TSP
-    private List<TravelPlace> nearestNeighborTSP(List<TravelPlace> places) {
+    private List<TravelPlace> nearestNeighborTSP(DayDistances distances, List<TravelPlace> places) {
         if (places.size() <= 2) {
             return new ArrayList<>(places);
         }
@@ -232,7 +329,7 @@ public class Stage3RouteOptimizationService {
             double minDistance = Double.MAX_VALUE;
 
             for (TravelPlace place : unvisited) {
-                double distance = calculateDistance(current, place);
+                double distance = distances.between(current, place);
                 if (distance < minDistance) {
                     minDistance = distance;
                     nearest = place;
@@ -251,6 +348,7 @@ public class Stage3RouteOptimizationService {
 
     // 특정 시작점에서 Nearest Neighbor
     private List<TravelPlace> nearestNeighborFromStart(
+            DayDistances distances,
             TravelPlace start,
             List<TravelPlace> places) {
 
@@ -263,7 +361,7 @@ public class Stage3RouteOptimizationService {
             double minDistance = Double.MAX_VALUE;
 
             for (TravelPlace place : unvisited) {
-                double distance = calculateDistance(current, place);
+                double distance = distances.between(current, place);
                 if (distance < minDistance) {
                     minDistance = distance;
                     nearest = place;
@@ -280,111 +378,43 @@ public class Stage3RouteOptimizationService {
         return result;
     }
 
-    // 2-opt 최적화
-    private List<TravelPlace> apply2OptOptimization(List<TravelPlace> places) {
+    // 2-opt/Or-opt 최적화 - 첫 장소와 고정 일정은 제자리에 두고 그 사이 자유 일정 구간만 개선
+    private List<TravelPlace> apply2OptOptimization(DayDistances distances, List<TravelPlace> places) {
         if (places.size() < 4) {
             return places;
         }
 
-        List<TravelPlace> improved = new ArrayList<>(places);
-        boolean improvement = true;
-
-        while (improvement) {
-            improvement = false;
-
-            for (int i = 0; i < improved.size() - 2; i++) {
-                // 고정 일정은 건너뛰기
-                if (Boolean.TRUE.equals(improved.get(i).getIsFixed())) {
-                    continue;
-                }
-
-                for (int j = i + 2; j < improved.size(); j++) {
-                    // 고정 일정은 건너뛰기
-                    if (Boolean.TRUE.equals(improved.get(j).getIsFixed())) {
-                        continue;
-                    }
-
-                    // 2-opt swap
-                    double currentDistance = calculateSegmentDistance(improved, i, j);
-                    List<TravelPlace> swapped = perform2OptSwap(improved, i + 1, j);
-                    double newDistance = calculateSegmentDistance(swapped, i, j);
-
-                    if (newDistance < currentDistance) {
-                        improved = swapped;
-                        improvement = true;
-                        break;
-                    }
-                }
-                if (improvement) break;
+        List<TravelPlace> improved = new ArrayList<>(places.size());
+        int anchor = 0;
+        while (anchor < places.size()) {
+            int next = anchor + 1;
+            while (next < places.size() && !Boolean.TRUE.equals(places.get(next).getIsFixed())) {
+                next++;
             }
-        }
-
-        return improved;
-    }
-
-    // 2-opt swap 수행
-    private List<TravelPlace> perform2OptSwap(List<TravelPlace> places, int i, int j) {
-        List<TravelPlace> result = new ArrayList<>();
-
-        // 0 to i-1
-        result.addAll(places.subList(0, i));
 
-        // i to j in reverse
-        for (int k = j; k >= i; k--) {
-            result.add(places.get(k));
+            // 다음 고정 일정이 있으면 구간 끝점도 고정
+            boolean endsAtFixed = next < places.size();
+            List<TravelPlace> run = places.subList(anchor, endsAtFixed ? next + 1 : places.size());
+            List<TravelPlace> optimizedRun = distances.improve(run, endsAtFixed);
+            improved.addAll(endsAtFixed ? optimizedRun.subList(0, optimizedRun.size() - 1) : optimizedRun);
+            anchor = next;
         }
-
-        // j+1 to end
-        if (j + 1 < places.size()) {
-            result.addAll(places.subList(j + 1, places.size()));
-        }
-
-        return result;
-    }
-
-    // 구간 거리 계산
-    private double calculateSegmentDistance(List<TravelPlace> places, int start, int end) {
-        double distance = 0;
-        for (int i = start; i < Math.min(end, places.size() - 1); i++) {
-            distance += calculateDistance(places.get(i), places.get(i + 1));
-        }
-        return distance;
-    }
-
-    // 두 장소 간 거리 계산 (Haversine formula)
-    private double calculateDistance(TravelPlace from, TravelPlace to) {
-        if (from.getLatitude() == null || from.getLongitude() == null ||
-            to.getLatitude() == null || to.getLongitude() == null) {
-            return 0;
-        }
-
-        double earthRadius = 6371; // km
-        double lat1Rad = Math.toRadians(from.getLatitude());
-        double lat2Rad = Math.toRadians(to.getLatitude());
-        double deltaLat = Math.toRadians(to.getLatitude() - from.getLatitude());
-        double deltaLon = Math.toRadians(to.getLongitude() - from.getLongitude());
-
-        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
-                  Math.cos(lat1Rad) * Math.cos(lat2Rad) *
-                  Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return earthRadius * c;
+        return improved;
     }
 
     // 전체 거리 계산
-    private double calculateTotalDistance(List<TravelPlace> places) {
+    private double calculateTotalDistance(DayDistances distances, List<TravelPlace> places) {
         double total = 0;
         for (int i = 0; i < places.size() - 1; i++) {
-            total += calculateDistance(places.get(i), places.get(i + 1));
+            total += distances.between(places.get(i), places.get(i + 1));
         }
         return total;
     }
 
     // 전체 소요 시간 계산
-    private long calculateTotalDuration(List<TravelPlace> places, String transportMode) {
+    private long calculateTotalDuration(DayDistances distances, List<TravelPlace> places, String transportMode) {
         // 간단한 추정: 거리와 이동 수단에 따른 평균 속도
-        double totalDistance = calculateTotalDistance(places);
+        double totalDistance = calculateTotalDistance(distances, places);
         double averageSpeed = "자차".equals(transportMode) ? 40 : 25; // km/h
 
         // 이동 시간 + 각 장소 체류 시간 (평균 1.5시간)
@@ -396,6 +426,7 @@ public class Stage3RouteOptimizationService {
 
     // 경로 구간 생성
     private List<OptimizedRoute.RouteSegment> createRouteSegments(
+            DayDistances distances,
             List<TravelPlace> places,
             String transportMode) {
 
@@ -408,8 +439,8 @@ public class Stage3RouteOptimizationService {
             segments.add(OptimizedRoute.RouteSegment.builder()
                 .from(from)
                 .to(to)
-                .distance(calculateDistance(from, to))
-                .duration(calculateSegmentDuration(from, to, transportMode))
+                .distance(distances.between(from, to))
+                .duration(calculateSegmentDuration(distances, from, to, transportMode))
                 .transportMode(transportMode)
                 .build());
         }
@@ -418,8 +449,12 @@ public class Stage3RouteOptimizationService {
     }
 
     // 구간 소요 시간 계산
-    private long calculateSegmentDuration(TravelPlace from, TravelPlace to, String transportMode) {
-        double distance = calculateDistance(from, to);
+    private long calculateSegmentDuration(DayDistances distances, TravelPlace from, TravelPlace to, String transportMode) {
+        return travelMinutes(distances.between(from, to), transportMode);
+    }
+
+    // 이동 거리(km) → 이동 시간(분)
+    private long travelMinutes(double distance, String transportMode) {
         double averageSpeed = "자차".equals(transportMode) ? 40 : 25; // km/h
         return (long) ((distance / averageSpeed) * 60); // 분
     }
@@ -442,6 +477,7 @@ public class Stage3RouteOptimizationService {
 
     // 출발지에서 가까운 장소 선택
     private List<TravelPlace> selectPlacesFromDeparture(
+            DayDistances distances,
             String departureLocation,
             TravelPlace nextFixed,
             List<TravelPlace> candidates,
@@ -459,10 +495,10 @@ public class Stage3RouteOptimizationService {
         List<TravelPlace> sorted = new ArrayList<>(candidates);
 
         sorted.sort((a, b) -> {
-            double distA = calculateDistanceFromPoint(departureCoords[0], departureCoords[1], a) +
-                          calculateDistance(a, nextFixed);
-            double distB = calculateDistanceFromPoint(departureCoords[0], departureCoords[1], b) +
-                          calculateDistance(b, nextFixed);
+            double distA = distances.fromPoint(departureCoords[0], departureCoords[1], a) +
+                          distances.between(a, nextFixed);
+            double distB = distances.fromPoint(departureCoords[0], departureCoords[1], b) +
+                          distances.between(b, nextFixed);
             return Double.compare(distA, distB);
         });
 
@@ -475,6 +511,7 @@ public class Stage3RouteOptimizationService {
 
     // 출발지에서 시작하는 Nearest Neighbor
     private List<TravelPlace> nearestNeighborFromDeparture(
+            DayDistances distances,
             String departureLocation,
             List<TravelPlace> places) {
 
@@ -491,7 +528,7 @@ public class Stage3RouteOptimizationService {
         double minDistance = Double.MAX_VALUE;
 
         for (TravelPlace place : unvisited) {
-            double distance = calculateDistanceFromPoint(
+            double distance = distances.fromPoint(
                 departureCoords[0], departureCoords[1], place
             );
             if (distance < minDistance) {
@@ -505,33 +542,13 @@ public class Stage3RouteOptimizationService {
             unvisited.remove(nearest);
 
             // 나머지는 일반 TSP로 처리
-            List<TravelPlace> remaining = nearestNeighborFromStart(nearest, new ArrayList<>(unvisited));
+            List<TravelPlace> remaining = nearestNeighborFromStart(distances, nearest, new ArrayList<>(unvisited));
             result.addAll(remaining);
         }
 
         return result;
     }
 
-    // 좌표에서 장소까지 거리 계산
-    private double calculateDistanceFromPoint(double lat, double lon, TravelPlace place) {
-        if (place.getLatitude() == null || place.getLongitude() == null) {
-            return 0;
-        }
-
-        double earthRadius = 6371; // km
-        double lat1Rad = Math.toRadians(lat);
-        double lat2Rad = Math.toRadians(place.getLatitude());
-        double deltaLat = Math.toRadians(place.getLatitude() - lat);
-        double deltaLon = Math.toRadians(place.getLongitude() - lon);
-
-        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
-                  Math.cos(lat1Rad) * Math.cos(lat2Rad) *
-                  Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-
-        return earthRadius * c;
-    }
-
     // 호텔 찾기 및 제거
     private TravelPlace findAndRemoveHotel(List<TravelPlace> places) {
         for (int i = 0; i < places.size(); i++) {
@@ -598,4 +615,73 @@ public class Stage3RouteOptimizationService {
             .statistics(createStatistics(new ArrayList<>(), 0, 0))
             .build();
     }
-}
\ No newline at end of file
+
+    // 하루 일정 장소 간 거리 행렬 (장소 → 행렬 인덱스, 동일 객체 기준)
+    private static final class DayDistances {
+
+        private final Map<TravelPlace, Integer> indexes = new IdentityHashMap<>();
+        private final List<TravelPlace> distinct;
+        private final DistanceMatrix matrix;
+
+        DayDistances(List<TravelPlace> places) {
+            this.distinct = new ArrayList<>(places.size());
+            for (TravelPlace place : places) {
+                if (indexes.putIfAbsent(place, distinct.size()) == null) {
+                    distinct.add(place);
+                }
+            }
+            this.matrix = DistanceMatrix.of(distinct, TravelPlace::getLatitude, TravelPlace::getLongitude);
+        }
+
+        // 첫 장소(필요하면 마지막 장소도) 고정한 채 방문 순서 개선
+        List<TravelPlace> improve(List<TravelPlace> route, boolean fixEnd) {
+            int[] order = new int[route.size()];
+            for (int i = 0; i < order.length; i++) {
+                Integer index = indexes.get(route.get(i));
+                if (index == null) {
+                    return route;
+                }
+                order[i] = index;
+            }
+
+            int[] improved = RouteImprover.improve(matrix, order, RouteImprover.Options.openPath().withFixedEnd(fixEnd));
+            List<TravelPlace> result = new ArrayList<>(improved.length);
+            for (int index : improved) {
+                result.add(distinct.get(index));
+            }
+            return result;
+        }
+
+        int indexOf(TravelPlace place) {
+            return indexes.get(place);
+        }
+
+        TravelPlace placeAt(int index) {
+            return distinct.get(index);
+        }
+
+        // 행렬 인덱스 간 거리 (좌표가 없으면 0)
+        double between(int from, int to) {
+            return matrix.get(from, to);
+        }
+
+        // 두 장소 간 거리 (좌표가 없으면 0)
+        double between(TravelPlace from, TravelPlace to) {
+            Integer i = indexes.get(from);
+            Integer j = indexes.get(to);
+            if (i != null && j != null) {
+                return matrix.get(i, j);
+            }
+            return GeoMath.haversineKmOrZero(from.getLatitude(), from.getLongitude(),
+                to.getLatitude(), to.getLongitude());
+        }
+
+        // 좌표에서 장소까지 거리 (좌표가 없으면 0)
+        double fromPoint(double lat, double lon, TravelPlace place) {
+            return GeoMath.haversineKmOrZero(lat, lon, place.getLatitude(), place.getLongitude());
+        }
+    }
+
+    // 시간 제약 배치 결과 (방문 순서 + 고정 일정 사이 구간 여유 시간)
+    private record TimeWindowArrangement(List<TravelPlace> places, List<OptimizedRoute.SegmentSlack> slacks) {}
+}
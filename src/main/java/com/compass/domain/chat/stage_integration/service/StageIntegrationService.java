@@ -1,5 +1,10 @@
 package com.compass.domain.chat.stage_integration.service;
 
+import com.compass.domain.chat.common.cluster.KMeansEngine;
+import com.compass.domain.chat.common.geo.GeoMath;
+import com.compass.domain.chat.common.snapshot.CandidateRow;
+import com.compass.domain.chat.common.snapshot.RegionCandidateSnapshot;
+import com.compass.domain.chat.common.snapshot.TravelCandidateSnapshotService;
 import com.compass.domain.chat.entity.TravelCandidate;
 import com.compass.domain.chat.model.context.TravelContext;
 import com.compass.domain.chat.model.TravelPlace;
@@ -28,6 +33,7 @@ import org.springframework.util.StringUtils;
 public class StageIntegrationService {
 
     private final TravelCandidateRepository travelCandidateRepository;
+    private final TravelCandidateSnapshotService candidateSnapshotService;
     private final Stage1DestinationSelectionService stage1Service;
     private final Stage2TimeBlockService stage2Service;
     private final Stage3IntegrationService stage3IntegrationService;
@@ -45,41 +51,47 @@ public class StageIntegrationService {
         log.info("🎯 [Stage 1] 장소 표시 시작 - 지역: {}", destination);
 
         try {
-            // 1. DB에서 해당 지역의 모든 장소 조회
-            List<TravelCandidate> allPlaces = travelCandidateRepository
-                .findByRegion(destination);
-
-            log.info("📍 [Stage 1] {}개 장소 조회됨", allPlaces.size());
-
-            // 2. 주소와 좌표가 있는 장소만 필터링하고 여행 스타일과 매칭
-            List<Map<String, Object>> displayPlaces = allPlaces.stream()
-                .filter(place -> isValidAddress(place.getAddress()))
-                .filter(place -> place.getLatitude() != null && place.getLongitude() != null)
-                .map(place -> {
-                    Map<String, Object> placeData = new HashMap<>();
-                    placeData.put("id", place.getId());
-                    placeData.put("name", place.getName());
-                    placeData.put("category", place.getCategory());
-                    placeData.put("subCategory", place.getCategory()); // subCategory 없으면 category 사용
-                    placeData.put("description", place.getDescription());
-                    placeData.put("address", place.getAddress());
-                    placeData.put("latitude", place.getLatitude());
-                    placeData.put("longitude", place.getLongitude());
-                    placeData.put("rating", place.getRating());
-                    placeData.put("imageUrl", ""); // imageUrl 필드가 없으므로 빈 문자열
-                    placeData.put("businessHours", place.getBusinessHours());
-                    @SuppressWarnings("unchecked")
-                    List<String> travelStyles = (List<String>) context.getCollectedInfo().get(TravelContext.KEY_TRAVEL_STYLE);
-                    placeData.put("isRecommended", matchesTravelStyle(place, travelStyles));
-                    return placeData;
-                })
-                .collect(Collectors.toList());
+            // 1. 지역 스냅샷에서 활성 장소 조회 (DB 전체 조회는 스냅샷 로드 시 1회만 발생)
+            RegionCandidateSnapshot snapshot = candidateSnapshotService.getSnapshot(destination);
 
-            log.info("📍 [Stage 1] 필터링 후 {}개 장소 (주소/좌표 있는 장소만)", displayPlaces.size());
+            log.info("📍 [Stage 1] {}개 장소 조회됨 (snapshot v{})", snapshot.size(), snapshot.version());
+
+            @SuppressWarnings("unchecked")
+            List<String> travelStyles = (List<String>) context.getCollectedInfo().get(TravelContext.KEY_TRAVEL_STYLE);
+
+            // 2. 주소와 좌표가 있는 장소만 필터링하고 여행 스타일과 매칭 (스냅샷 카테고리 인덱스 사용)
+            Map<String, List<Map<String, Object>>> categorizedPlaces = new HashMap<>();
+            List<Map<String, Object>> displayPlaces = new ArrayList<>();
+            for (Map.Entry<String, List<CandidateRow>> entry : snapshot.byCategory().entrySet()) {
+                List<Map<String, Object>> categoryPlaces = entry.getValue().stream()
+                    .filter(place -> isValidAddress(place.address()))
+                    .filter(CandidateRow::hasCoordinates)
+                    .map(place -> {
+                        Map<String, Object> placeData = new HashMap<>();
+                        placeData.put("id", place.id());
+                        placeData.put("name", place.name());
+                        placeData.put("category", place.category());
+                        placeData.put("subCategory", place.category()); // subCategory 없으면 category 사용
+                        placeData.put("description", place.description());
+                        placeData.put("address", place.address());
+                        placeData.put("latitude", place.latitude());
+                        placeData.put("longitude", place.longitude());
+                        placeData.put("rating", place.rating());
+                        placeData.put("imageUrl", ""); // imageUrl 필드가 없으므로 빈 문자열
+                        placeData.put("businessHours", place.businessHours());
+                        placeData.put("isRecommended", matchesTravelStyle(place.category(), place.description(), travelStyles));
+                        return placeData;
+                    })
+                    .collect(Collectors.toList());
+
+                // 3. 카테고리별 그룹화
+                if (!categoryPlaces.isEmpty()) {
+                    categorizedPlaces.put(entry.getKey(), categoryPlaces);
+                    displayPlaces.addAll(categoryPlaces);
+                }
+            }
 
-            // 3. 카테고리별 그룹화
-            Map<String, List<Map<String, Object>>> categorizedPlaces = displayPlaces.stream()
-                .collect(Collectors.groupingBy(p -> (String) p.get("category")));
+            log.info("📍 [Stage 1] 필터링 후 {}개 장소 (주소/좌표 있는 장소만)", displayPlaces.size());
 
             Map<String, Object> result = new HashMap<>();
             result.put("places", categorizedPlaces);
@@ -243,21 +255,32 @@ public class StageIntegrationService {
         return distribution;
     }
 
-    // 간단한 K-means 구현 (실제로는 더 복잡한 알고리즘 필요)
+    // 균등 크기 K-means로 가까운 장소끼리 묶되 날짜별 장소 수는 고르게 유지
+    // 좌표가 없는 장소는 가장 작은 클러스터에 차례로 추가
     private List<List<TravelPlace>> performKMeansClustering(List<TravelPlace> places, int k) {
-        List<List<TravelPlace>> clusters = new ArrayList<>();
+        List<TravelPlace> located = new ArrayList<>();
+        List<TravelPlace> unlocated = new ArrayList<>();
+        for (TravelPlace place : places) {
+            if (place.getLatitude() != null && place.getLongitude() != null) {
+                located.add(place);
+            } else {
+                unlocated.add(place);
+            }
+        }
+
+        double[] latitudes = located.stream().mapToDouble(TravelPlace::getLatitude).toArray();
+        double[] longitudes = located.stream().mapToDouble(TravelPlace::getLongitude).toArray();
+        KMeansEngine.Result result = KMeansEngine.cluster(latitudes, longitudes, k,
+            KMeansEngine.Options.defaults().withBalanced(true));
 
-        // 초기화: k개의 빈 클러스터 생성
-        for (int i = 0; i < k; i++) {
+        List<List<TravelPlace>> clusters = new ArrayList<>(result.partition(located));
+        while (clusters.size() < k) {
             clusters.add(new ArrayList<>());
         }
-
-        // 간단한 분배: 거리 기반으로 가까운 장소끼리 묶기
-        // (실제로는 더 정교한 K-means 알고리즘 구현 필요)
-        int clusterIndex = 0;
-        for (TravelPlace place : places) {
-            clusters.get(clusterIndex).add(place);
-            clusterIndex = (clusterIndex + 1) % k;
+        for (TravelPlace place : unlocated) {
+            clusters.stream()
+                .min(Comparator.comparingInt(List::size))
+                .ifPresent(cluster -> cluster.add(place));
         }
 
         return clusters;
@@ -538,24 +561,24 @@ public class StageIntegrationService {
                     .map(p -> String.valueOf(p.get("name")))
                     .collect(Collectors.toSet());
 
-                // DB에서 추가 장소 조회 (이름 중복 방지)
-                List<TravelCandidate> candidates = travelCandidateRepository
-                    .findByRegion(region).stream()
-                    .filter(c -> !existingNames.contains(c.getName()))
+                // 지역 스냅샷에서 추가 장소 조회 (이름 중복 방지)
+                List<CandidateRow> candidates = candidateSnapshotService.getSnapshot(region)
+                    .rows().stream()
+                    .filter(c -> !existingNames.contains(c.name()))
                     .limit(count)
                     .collect(Collectors.toList());
 
-                // TravelCandidate를 Map으로 변환
-                for (TravelCandidate candidate : candidates) {
+                // 스냅샷 행을 Map으로 변환
+                for (CandidateRow candidate : candidates) {
                     Map<String, Object> placeMap = new HashMap<>();
-                    placeMap.put("id", candidate.getId());
-                    placeMap.put("name", candidate.getName());
-                    placeMap.put("address", candidate.getAddress());
-                    placeMap.put("category", candidate.getCategory());
-                    placeMap.put("description", candidate.getDescription());
-                    placeMap.put("lat", candidate.getLatitude());
-                    placeMap.put("lng", candidate.getLongitude());
-                    placeMap.put("rating", candidate.getRating());
+                    placeMap.put("id", candidate.id());
+                    placeMap.put("name", candidate.name());
+                    placeMap.put("address", candidate.address());
+                    placeMap.put("category", candidate.category());
+                    placeMap.put("description", candidate.description());
+                    placeMap.put("lat", candidate.latitude());
+                    placeMap.put("lng", candidate.longitude());
+                    placeMap.put("rating", candidate.rating());
                     additional.add(placeMap);
                 }
             }
@@ -625,15 +648,7 @@ public class StageIntegrationService {
             double lat2 = ((Number) toPlace.get("lat")).doubleValue();
             double lng2 = ((Number) toPlace.get("lng")).doubleValue();
 
-            // Haversine formula
-            double R = 6371; // 지구 반지름 (km)
-            double dLat = Math.toRadians(lat2 - lat1);
-            double dLng = Math.toRadians(lng2 - lng1);
-            double a = Math.sin(dLat/2) * Math.sin(dLat/2) +
-                      Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                      Math.sin(dLng/2) * Math.sin(dLng/2);
-            double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1-a));
-            return Math.round(R * c * 10) / 10.0; // 소수점 1자리
+            return Math.round(GeoMath.haversineKm(lat1, lng1, lat2, lng2) * 10) / 10.0; // 소수점 1자리
         } catch (Exception e) {
             return 5.0; // 기본값
         }
@@ -749,14 +764,14 @@ public class StageIntegrationService {
                lowerAddress.length() > 5; // 최소 길이 체크
     }
 
-    private boolean matchesTravelStyle(TravelCandidate place, List<String> travelStyles) {
+    private boolean matchesTravelStyle(String categoryValue, String descriptionValue, List<String> travelStyles) {
         if (travelStyles == null || travelStyles.isEmpty()) {
             return false;
         }
 
-        String category = place.getCategory() != null ? place.getCategory().toLowerCase() : "";
-        String subCategory = place.getCategory() != null ? place.getCategory().toLowerCase() : "";
-        String description = place.getDescription() != null ? place.getDescription().toLowerCase() : "";
+        String category = categoryValue != null ? categoryValue.toLowerCase() : "";
+        String subCategory = category;
+        String description = descriptionValue != null ? descriptionValue.toLowerCase() : "";
 
         for (String style : travelStyles) {
             String lowerStyle = style.toLowerCase();
@@ -814,7 +829,8 @@ public class StageIntegrationService {
         place.setLatitude(candidate.getLatitude());
         place.setLongitude(candidate.getLongitude());
         place.setRating(candidate.getRating() != null ? candidate.getRating() : 0.0);
-        // imageUrl과 businessHours는 TravelPlace에 없으므로 제거
+        place.setBusinessHours(candidate.getBusinessHours());
+        // imageUrl은 TravelPlace에 없으므로 제거
         return place;
     }
 
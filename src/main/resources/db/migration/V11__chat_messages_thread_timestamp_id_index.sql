@@ -0,0 +1,6 @@
+-- 대화 기록 키셋 페이지는 (timestamp, id) 순서로 읽으므로 id까지 포함한 인덱스로 교체
+-- 같은 시각의 메시지(한 턴의 user/assistant)도 인덱스 순서대로 읽고 정렬 단계 없이 limit에서 멈춘다
+CREATE INDEX IF NOT EXISTS idx_chat_message_thread_timestamp_id
+    ON chat_messages (thread_id, timestamp DESC, id DESC);
+
+DROP INDEX IF EXISTS idx_chat_message_thread_timestamp;
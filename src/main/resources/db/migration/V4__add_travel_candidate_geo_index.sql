@@ -0,0 +1,18 @@
+-- 반경/경계 상자 조회용 좌표 인덱스 (확장 없는 Postgres에서도 사용)
+CREATE INDEX IF NOT EXISTS idx_region_lat_lng ON travel_candidates(region, latitude, longitude);
+
+-- earthdistance 확장이 설치 가능한 환경에서만 GiST 인덱스로 earth_box 조회 가속
+-- 확장 모듈이 없거나 만들 권한이 없으면 건너뛴다 (TravelCandidateRepositoryImpl이 기동 후 확장 여부를 확인해 경계 상자 조회로 대체)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_available_extensions WHERE name = 'earthdistance') THEN
+        CREATE EXTENSION IF NOT EXISTS cube;
+        CREATE EXTENSION IF NOT EXISTS earthdistance;
+        CREATE INDEX IF NOT EXISTS idx_travel_candidates_earth
+            ON travel_candidates USING gist (ll_to_earth(latitude, longitude));
+    END IF;
+EXCEPTION
+    WHEN insufficient_privilege THEN
+        RAISE NOTICE 'earthdistance 확장을 만들 권한이 없어 GiST 인덱스를 건너뜁니다';
+END
+$$;
@@ -0,0 +1,20 @@
+-- 메시지 추가 시 메시지 컬렉션을 읽지 않도록 스레드에 메시지 수와 마지막 메시지 미리보기를 저장
+ALTER TABLE chat_threads
+    ADD COLUMN IF NOT EXISTS message_count INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS last_message_preview VARCHAR(100);
+
+-- 기존 스레드 값 채우기 (마지막 메시지는 timestamp, id 순으로 가장 나중 것)
+UPDATE chat_threads ct
+SET message_count = stats.message_count,
+    last_message_at = stats.last_message_at,
+    last_message_preview = LEFT(stats.last_content, 100)
+FROM (
+    SELECT DISTINCT ON (m.thread_id)
+           m.thread_id,
+           COUNT(*) OVER (PARTITION BY m.thread_id) AS message_count,
+           m.timestamp AS last_message_at,
+           m.content AS last_content
+    FROM chat_messages m
+    ORDER BY m.thread_id, m.timestamp DESC, m.id DESC
+) stats
+WHERE ct.id = stats.thread_id;
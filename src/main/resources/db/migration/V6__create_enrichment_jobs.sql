@@ -0,0 +1,19 @@
+-- 보강 작업 체크포인트 (청크 단위 커밋 후 마지막 후보 id와 누적 건수 기록 - 실패/재시작 시 이어서 처리)
+CREATE TABLE IF NOT EXISTS enrichment_jobs (
+    id                BIGSERIAL PRIMARY KEY,
+    provider          VARCHAR(50)  NOT NULL,
+    status            VARCHAR(20)  NOT NULL,
+    chunk_size        INTEGER      NOT NULL,
+    last_candidate_id BIGINT       NOT NULL DEFAULT 0,
+    processed_count   INTEGER      NOT NULL DEFAULT 0,
+    success_count     INTEGER      NOT NULL DEFAULT 0,
+    failed_count      INTEGER      NOT NULL DEFAULT 0,
+    skipped_count     INTEGER      NOT NULL DEFAULT 0,
+    last_error        VARCHAR(500),
+    started_at        TIMESTAMP    NOT NULL,
+    updated_at        TIMESTAMP    NOT NULL,
+    finished_at       TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_enrichment_job_status ON enrichment_jobs(status);
+CREATE INDEX IF NOT EXISTS idx_enrichment_job_provider ON enrichment_jobs(provider);
@@ -0,0 +1,31 @@
+-- travel_candidates id를 IDENTITY에서 pooled 시퀀스(50개 단위 할당)로 전환 - Hibernate JDBC 배치 INSERT 활성화
+-- (시퀀스 위치/기본값 정렬은 PooledIdSequenceInitializer가 기동 시에도 확인하므로 이 부분은 수동 실행이 빠져도 안전하다)
+CREATE SEQUENCE IF NOT EXISTS travel_candidates_seq INCREMENT BY 50;
+ALTER SEQUENCE travel_candidates_seq INCREMENT BY 50;
+
+-- 다음 할당 구간이 기존 최대 id 이후부터 시작하도록 맞춤
+SELECT setval('travel_candidates_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM travel_candidates), 1));
+
+-- 네이티브 upsert(id 생략)도 같은 시퀀스를 쓰도록 IDENTITY를 해제하고 기본값으로 연결
+ALTER TABLE travel_candidates ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE travel_candidates ALTER COLUMN id SET DEFAULT nextval('travel_candidates_seq');
+ALTER SEQUENCE travel_candidates_seq OWNED BY travel_candidates.id;
+
+-- CSV 후보지 place_id 백필: 예전 임포트는 임의 값(csv_ + 8자리)을 썼으므로, 재임포트 upsert가 같은 행을 찾도록
+-- CSVImportService.generatePlaceId와 같은 규칙(UUID.nameUUIDFromBytes("지역|이름|주소"), 버전 3)으로 바꾼다.
+-- 이 백필 전에 재임포트하면 기존 CSV 행이 모두 중복으로 들어간다.
+-- 같은 키로 이미 중복된 행은 가장 작은 id 하나만 바꾸고 나머지는 그대로 둔다 (유니크 제약 충돌 방지)
+WITH keyed AS (
+    SELECT id,
+           md5(region || '|' || name || '|' || COALESCE(address, 'null')) AS h,
+           ROW_NUMBER() OVER (PARTITION BY region, name, address ORDER BY id) AS rn
+    FROM travel_candidates
+    WHERE place_id ~ '^csv_[0-9a-f]{8}$'
+)
+UPDATE travel_candidates t
+SET place_id = 'csv_' || substr(k.h, 1, 8) || '-' || substr(k.h, 9, 4)
+    || '-3' || substr(k.h, 14, 3)
+    || '-' || to_hex((('x' || substr(k.h, 17, 1))::bit(4)::int & 3) | 8) || substr(k.h, 18, 3)
+    || '-' || substr(k.h, 21, 12)
+FROM keyed k
+WHERE t.id = k.id AND k.rn = 1;
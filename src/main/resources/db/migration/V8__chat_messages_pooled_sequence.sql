@@ -0,0 +1,10 @@
+-- chat_messages id를 IDENTITY에서 pooled 시퀀스(50개 단위 할당)로 전환 - 한 턴의 메시지를 JDBC 배치 INSERT로 저장
+-- (PooledIdSequenceInitializer가 기동 시에도 같은 정렬을 확인한다)
+CREATE SEQUENCE IF NOT EXISTS chat_messages_seq INCREMENT BY 50;
+ALTER SEQUENCE chat_messages_seq INCREMENT BY 50;
+
+SELECT setval('chat_messages_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM chat_messages), 1));
+
+ALTER TABLE chat_messages ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE chat_messages ALTER COLUMN id SET DEFAULT nextval('chat_messages_seq');
+ALTER SEQUENCE chat_messages_seq OWNED BY chat_messages.id;
@@ -0,0 +1,3 @@
+-- 보강 작업 점유 토큰 - 청크 기록/종료/heartbeat를 작업을 점유한 인스턴스의 쓰기로 제한
+-- (오래 걸리는 청크 도중 다른 인스턴스가 재개로 점유하면 원래 실행자의 쓰기는 반영되지 않는다)
+ALTER TABLE enrichment_jobs ADD COLUMN IF NOT EXISTS lease_token VARCHAR(36);
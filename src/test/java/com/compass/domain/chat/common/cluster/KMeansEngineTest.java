@@ -0,0 +1,119 @@
+package com.compass.domain.chat.common.cluster;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KMeansEngineTest {
+
+    private static final double[][] CITY_CENTERS = {
+        {37.5665, 126.9780},   // 서울
+        {35.1796, 129.0756},   // 부산
+        {33.4996, 126.5312}    // 제주
+    };
+
+    @Test
+    @DisplayName("떨어진 세 지역의 장소는 지역별로 묶이고, 같은 시드면 결과가 같다")
+    void cluster_separatesRegionsDeterministically() {
+        // given
+        double[][] points = scatter(CITY_CENTERS, 30, new Random(7));
+
+        // when
+        KMeansEngine.Result first = KMeansEngine.cluster(points[0], points[1], 3,
+            KMeansEngine.Options.defaults().withRestarts(4));
+        KMeansEngine.Result second = KMeansEngine.cluster(points[0], points[1], 3,
+            KMeansEngine.Options.defaults().withRestarts(4));
+
+        // then
+        int[] assignments = first.assignments();
+        for (int i = 0; i < assignments.length; i++) {
+            assertThat(assignments[i]).isEqualTo(assignments[i % 3]);
+        }
+        assertThat(Arrays.stream(assignments).distinct().count()).isEqualTo(3);
+        assertThat(second.assignments()).containsExactly(assignments);
+        assertThat(first.iterations()).isLessThan(KMeansEngine.DEFAULT_MAX_ITERATIONS);
+    }
+
+    @Test
+    @DisplayName("균등 모드에서는 한 지역에 몰려 있어도 클러스터 크기 차이가 1 이하다")
+    void cluster_balancedKeepsSizesEven() {
+        // given - 25개 중 20개가 서울, 5개가 부산
+        Random random = new Random(3);
+        double[] latitudes = new double[25];
+        double[] longitudes = new double[25];
+        for (int i = 0; i < 25; i++) {
+            double[] center = i < 20 ? CITY_CENTERS[0] : CITY_CENTERS[1];
+            latitudes[i] = center[0] + random.nextDouble() * 0.05;
+            longitudes[i] = center[1] + random.nextDouble() * 0.05;
+        }
+
+        // when
+        KMeansEngine.Result result = KMeansEngine.cluster(latitudes, longitudes, 4,
+            KMeansEngine.Options.defaults().withBalanced(true));
+
+        // then
+        int[] sizes = new int[result.k()];
+        Arrays.stream(result.assignments()).forEach(c -> sizes[c]++);
+        assertThat(Arrays.stream(sizes).max().getAsInt() - Arrays.stream(sizes).min().getAsInt())
+            .isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("k가 장소 수보다 크면 장소 수로 줄이고, 빈 입력은 빈 결과를 반환한다")
+    void cluster_clampsK() {
+        // when
+        KMeansEngine.Result clamped = KMeansEngine.cluster(new double[]{37.5, 35.1}, new double[]{127.0, 129.0}, 5);
+        KMeansEngine.Result empty = KMeansEngine.cluster(new double[0], new double[0], 3);
+
+        // then
+        assertThat(clamped.k()).isEqualTo(2);
+        assertThat(clamped.assignments()).containsExactlyInAnyOrder(0, 1);
+        assertThat(empty.k()).isZero();
+        assertThat(empty.partition(List.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("k가 0 이하이면 입력과 상관없이 예외를 던진다")
+    void cluster_rejectsNonPositiveK() {
+        assertThatThrownBy(() -> KMeansEngine.cluster(new double[]{37.5}, new double[]{127.0}, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KMeansEngine.cluster(new double[0], new double[0], -1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("멀티 스타트 결과는 시드별 단일 실행 중 관성이 가장 작은 결과와 같다")
+    void cluster_restartsOnOwnedPool() {
+        // given
+        double[][] points = scatter(CITY_CENTERS, 30, new Random(11));
+        KMeansEngine.Options options = KMeansEngine.Options.defaults().withRestarts(6);
+        double bestSingle = Double.MAX_VALUE;
+        for (int i = 0; i < 6; i++) {
+            bestSingle = Math.min(bestSingle, KMeansEngine.cluster(points[0], points[1], 3,
+                KMeansEngine.Options.defaults().withSeed(KMeansEngine.DEFAULT_SEED + i)).inertia());
+        }
+
+        // when
+        KMeansEngine.Result result = KMeansEngine.cluster(points[0], points[1], 3, options);
+
+        // then
+        assertThat(result.inertia()).isEqualTo(bestSingle);
+    }
+
+    private static double[][] scatter(double[][] centers, int count, Random random) {
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        for (int i = 0; i < count; i++) {
+            double[] center = centers[i % centers.length];
+            latitudes[i] = center[0] + random.nextGaussian() * 0.02;
+            longitudes[i] = center[1] + random.nextGaussian() * 0.02;
+        }
+        return new double[][]{latitudes, longitudes};
+    }
+}
@@ -0,0 +1,53 @@
+package com.compass.domain.chat.common.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UsedPlaceNameIndexTest {
+
+    @Test
+    @DisplayName("변형 표기와 수식어가 붙은 이름은 같은 핵심 이름으로 정규화된다")
+    void placeNameKey_normalizesVariants() {
+        // when
+        PlaceNameKey tower = PlaceNameKey.of("남산 타워 야경");
+        PlaceNameKey lotte = PlaceNameKey.of("롯데 월드 어드벤처");
+
+        // then
+        assertThat(tower.normalized()).isEqualTo("남산타워야경");
+        assertThat(tower.core()).isEqualTo("서울타워");
+        assertThat(lotte.core()).isEqualTo("롯데월드");
+        assertThat(PlaceNameKey.of(null).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("정규화 이름, 핵심 이름, 포함 관계로 유사 장소를 찾는다")
+    void containsSimilar_matchesSimilarNames() {
+        // given
+        UsedPlaceNameIndex index = new UsedPlaceNameIndex();
+        index.add("N 서울타워");
+        index.add("경복궁 야간개장");
+        index.add("북촌 한옥마을");
+
+        // when & then
+        assertThat(index.containsSimilar(PlaceNameKey.of("n서울타워"))).isTrue();      // 정규화 이름 일치
+        assertThat(index.containsSimilar(PlaceNameKey.of("남산타워 전망대"))).isTrue(); // 핵심 이름 일치
+        assertThat(index.containsSimilar(PlaceNameKey.of("경복궁"))).isTrue();          // 핵심 이름 일치
+        assertThat(index.containsSimilar(PlaceNameKey.of("한옥마을"))).isTrue();        // 사용된 이름이 후보를 포함
+        assertThat(index.containsSimilar(PlaceNameKey.of("북촌한옥마을 카페"))).isTrue(); // 후보가 사용된 이름을 포함
+        assertThat(index.containsSimilar(PlaceNameKey.of("창덕궁"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("3자 미만 핵심 이름은 포함 관계로 판단하지 않는다")
+    void containsSimilar_ignoresShortContainment() {
+        // given
+        UsedPlaceNameIndex index = new UsedPlaceNameIndex();
+        index.add("명동");
+
+        // when & then
+        assertThat(index.containsSimilar(PlaceNameKey.of("명동교자"))).isFalse();
+        assertThat(index.containsNormalized(PlaceNameKey.of("명 동"))).isTrue();
+    }
+}
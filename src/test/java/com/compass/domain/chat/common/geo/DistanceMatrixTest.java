@@ -0,0 +1,58 @@
+package com.compass.domain.chat.common.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DistanceMatrixTest {
+
+    private record Place(String name, Double lat, Double lng) {}
+
+    @Test
+    @DisplayName("거리 행렬은 대칭이고 Haversine 거리와 일치한다")
+    void of_buildsSymmetricHaversineMatrix() {
+        // given
+        List<Place> places = List.of(
+            new Place("서울시청", 37.5665, 126.9780),
+            new Place("경복궁", 37.5796, 126.9770),
+            new Place("부산역", 35.1151, 129.0415)
+        );
+
+        // when
+        DistanceMatrix matrix = DistanceMatrix.of(places, Place::lat, Place::lng);
+
+        // then
+        assertThat(matrix.size()).isEqualTo(3);
+        assertThat(matrix.get(0, 0)).isZero();
+        assertThat(matrix.get(0, 2)).isEqualTo(matrix.get(2, 0));
+        assertThat((double) matrix.get(0, 1))
+            .isCloseTo(GeoMath.haversineKm(37.5665, 126.9780, 37.5796, 126.9770), within(1e-3));
+        assertThat((double) matrix.get(0, 2)).isBetween(320.0, 335.0);
+        assertThat(matrix.pathLength(new int[]{0, 1, 2}))
+            .isCloseTo(matrix.get(0, 1) + matrix.get(1, 2), within(1e-6));
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 장소가 포함된 거리는 0으로 취급한다")
+    void of_treatsMissingCoordinatesAsZero() {
+        // given
+        List<Place> places = Arrays.asList(
+            new Place("서울시청", 37.5665, 126.9780),
+            new Place("좌표 없음", null, 127.0)
+        );
+
+        // when
+        GeoPoints points = GeoPoints.of(places, Place::lat, Place::lng);
+        DistanceMatrix matrix = points.distanceMatrix();
+
+        // then
+        assertThat(points.hasCoordinates(1)).isFalse();
+        assertThat(matrix.get(0, 1)).isZero();
+        assertThat(GeoMath.haversineKmOrZero(37.5665, 126.9780, null, 127.0)).isZero();
+    }
+}
@@ -0,0 +1,96 @@
+package com.compass.domain.chat.common.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpatialGridIndexTest {
+
+    private record Point(int id, Double lat, Double lng) {}
+
+    @Test
+    @DisplayName("반경 내 k개 조회 결과는 전체 순회 결과와 같다")
+    void nearest_matchesBruteForce() {
+        // given
+        Random random = new Random(42);
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            points.add(new Point(i, 37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4));
+        }
+        SpatialGridIndex<Point> index = SpatialGridIndex.build(points, Point::lat, Point::lng);
+
+        for (int q = 0; q < 50; q++) {
+            double lat = 37.4 + random.nextDouble() * 0.3;
+            double lng = 126.8 + random.nextDouble() * 0.4;
+
+            // when
+            List<Integer> actual = index.nearest(lat, lng, 3.0, 5).stream()
+                .map(hit -> hit.item().id())
+                .toList();
+
+            // then
+            List<Integer> expected = points.stream()
+                .filter(p -> haversine(lat, lng, p.lat(), p.lng()) <= 3.0)
+                .sorted(Comparator.comparingDouble(p -> haversine(lat, lng, p.lat(), p.lng())))
+                .limit(5)
+                .map(Point::id)
+                .toList();
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("필터를 통과한 항목만 반환하고 반경 밖 항목은 제외한다")
+    void nearest_appliesFilterAndRadius() {
+        // given
+        List<Point> points = List.of(
+            new Point(1, 37.5665, 126.9780),   // 기준점
+            new Point(2, 37.5700, 126.9800),   // 약 0.4km
+            new Point(3, 37.5800, 126.9900),   // 약 1.8km
+            new Point(4, 35.1796, 129.0756)    // 부산
+        );
+        SpatialGridIndex<Point> index = SpatialGridIndex.build(points, Point::lat, Point::lng);
+
+        // when
+        List<SpatialGridIndex.Hit<Point>> hits = index.nearest(37.5665, 126.9780, 10.0, 5,
+            p -> p.id() != 1, null);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.item().id()).containsExactly(2, 3);
+        assertThat(hits.get(0).distanceKm()).isLessThan(hits.get(1).distanceKm());
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 항목은 인덱스에서 제외되고, 반경 없는 조회는 가장 가까운 항목을 찾는다")
+    void build_skipsMissingCoordinates() {
+        // given
+        List<Point> points = List.of(
+            new Point(1, null, 127.0),
+            new Point(2, 35.1796, 129.0756),
+            new Point(3, 33.4996, 126.5312)
+        );
+
+        // when
+        SpatialGridIndex<Point> index = SpatialGridIndex.build(points, Point::lat, Point::lng);
+        List<SpatialGridIndex.Hit<Point>> hits = index.nearest(37.5665, 126.9780, 1, p -> true);
+
+        // then
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(hits).extracting(hit -> hit.item().id()).containsExactly(2);
+    }
+
+    private static double haversine(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+            + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+            * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * 6371.0 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
@@ -0,0 +1,91 @@
+package com.compass.domain.chat.common.route;
+
+import com.compass.domain.chat.common.geo.DistanceMatrix;
+import com.compass.domain.chat.common.geo.GeoPoints;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteImproverTest {
+
+    @Test
+    @DisplayName("일직선 위 장소를 뒤섞어도 출발점 기준 순서대로 정렬된다")
+    void improve_untanglesLine() {
+        // given - 경도만 다른 6개 장소, 출발점은 0번
+        double[] latitudes = new double[6];
+        double[] longitudes = new double[6];
+        for (int i = 0; i < 6; i++) {
+            latitudes[i] = 37.5;
+            longitudes[i] = 127.0 + i * 0.01;
+        }
+        DistanceMatrix matrix = DistanceMatrix.of(GeoPoints.of(latitudes, longitudes));
+        int[] shuffled = {0, 3, 1, 5, 2, 4};
+
+        // when
+        int[] improved = RouteImprover.improve(matrix, shuffled, RouteImprover.Options.openPath());
+
+        // then
+        assertThat(improved).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(matrix.pathLength(improved)).isLessThan(matrix.pathLength(shuffled));
+    }
+
+    @Test
+    @DisplayName("끝점 고정 옵션이면 첫 지점과 마지막 지점은 움직이지 않는다")
+    void improve_keepsFixedEndpoints() {
+        // given
+        Random random = new Random(11);
+        int n = 30;
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = 37.4 + random.nextDouble() * 0.2;
+            longitudes[i] = 126.9 + random.nextDouble() * 0.2;
+        }
+        DistanceMatrix matrix = DistanceMatrix.of(GeoPoints.of(latitudes, longitudes));
+        int[] order = new int[n];
+        Arrays.setAll(order, i -> i);
+
+        // when
+        int[] improved = RouteImprover.improve(matrix, order,
+            RouteImprover.Options.openPath().withFixedEnd(true));
+
+        // then
+        assertThat(improved[0]).isEqualTo(0);
+        assertThat(improved[n - 1]).isEqualTo(n - 1);
+        assertThat(improved).containsExactlyInAnyOrder(order);
+        assertThat(matrix.pathLength(improved)).isLessThan(matrix.pathLength(order));
+    }
+
+    @Test
+    @DisplayName("비대칭 비용에서도 개선 결과의 총 비용은 원래 경로보다 크지 않다")
+    void improve_asymmetricCostNeverWorse() {
+        // given - 오른쪽(번호가 큰 쪽)으로 갈 때만 추가 비용
+        List<Integer> route = List.of(0, 4, 2, 7, 1, 6, 3, 5);
+
+        // when
+        List<Integer> improved = RouteImprover.improve(route, RouteImproverTest::cost, false,
+            RouteImprover.Options.openPath());
+
+        // then
+        assertThat(improved.get(0)).isEqualTo(0);
+        assertThat(improved).containsExactlyInAnyOrderElementsOf(route);
+        assertThat(total(improved)).isLessThanOrEqualTo(total(route));
+    }
+
+    private static double cost(Integer from, Integer to) {
+        return Math.abs(from - to) + (to > from ? 0.5 : 0.0);
+    }
+
+    private static double total(List<Integer> route) {
+        double sum = 0;
+        for (int i = 0; i < route.size() - 1; i++) {
+            sum += cost(route.get(i), route.get(i + 1));
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,74 @@
+package com.compass.domain.chat.common.snapshot;
+
+import com.compass.domain.chat.entity.TravelCandidate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TravelCandidateChangeListenerTest {
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    private TravelCandidateChangeListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new TravelCandidateChangeListener(publisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 대량 저장은 지역당 무효화 이벤트를 한 번만 발행한다")
+    void onChange_publishesOncePerRegionInTransaction() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            listener.onChange(candidate("서울"));
+        }
+        listener.onChange(candidate("부산"));
+
+        // then
+        verify(publisher).publishEvent(new TravelCandidateChangedEvent("서울"));
+        verify(publisher).publishEvent(new TravelCandidateChangedEvent("부산"));
+        verifyNoMoreInteractions(publisher);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 쓰기는 바로 발행한다")
+    void onChange_publishesImmediatelyWithoutTransaction() {
+        // when
+        listener.onChange(candidate("서울"));
+        listener.onChange(candidate("서울"));
+
+        // then
+        verify(publisher, times(2)).publishEvent(new TravelCandidateChangedEvent("서울"));
+    }
+
+    private TravelCandidate candidate(String region) {
+        return TravelCandidate.builder()
+            .placeId("place_" + region)
+            .name(region + " 장소")
+            .region(region)
+            .build();
+    }
+}
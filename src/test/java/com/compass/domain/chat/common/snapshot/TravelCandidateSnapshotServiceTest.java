@@ -0,0 +1,153 @@
+package com.compass.domain.chat.common.snapshot;
+
+import com.compass.domain.chat.entity.TravelCandidate;
+import com.compass.domain.chat.entity.TravelCandidate.TimeBlock;
+import com.compass.domain.chat.repository.TravelCandidateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TravelCandidateSnapshotServiceTest {
+
+    @Mock
+    private TravelCandidateRepository travelCandidateRepository;
+
+    private TravelCandidateSnapshotService snapshotService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new TravelCandidateSnapshotService(travelCandidateRepository);
+        ReflectionTestUtils.setField(snapshotService, "ttlMinutes", 10L);
+    }
+
+    @Test
+    @DisplayName("같은 지역을 여러 번 조회해도 DB는 한 번만 조회한다")
+    void getSnapshot_loadsRegionOnlyOnce() {
+        // given
+        when(travelCandidateRepository.findByRegionAndIsActiveTrue("서울"))
+            .thenReturn(List.of(candidate(1L, "경복궁", "관광지", TimeBlock.MORNING_ACTIVITY, 0.8)));
+
+        // when
+        RegionCandidateSnapshot first = snapshotService.getSnapshot("서울");
+        RegionCandidateSnapshot second = snapshotService.getSnapshot("서울");
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(travelCandidateRepository, times(1)).findByRegionAndIsActiveTrue("서울");
+    }
+
+    @Test
+    @DisplayName("변경 이벤트를 받으면 해당 지역 스냅샷을 새 버전으로 다시 로드한다")
+    void onCandidateChanged_reloadsWithNewVersion() {
+        // given
+        when(travelCandidateRepository.findByRegionAndIsActiveTrue("부산"))
+            .thenReturn(List.of(candidate(1L, "해운대", "관광지", TimeBlock.AFTERNOON_ACTIVITY, 0.7)));
+        RegionCandidateSnapshot before = snapshotService.getSnapshot("부산");
+
+        // when
+        snapshotService.onCandidateChanged(new TravelCandidateChangedEvent("부산"));
+        RegionCandidateSnapshot after = snapshotService.getSnapshot("부산");
+
+        // then
+        assertThat(after.version()).isGreaterThan(before.version());
+        verify(travelCandidateRepository, times(2)).findByRegionAndIsActiveTrue("부산");
+    }
+
+    @Test
+    @DisplayName("같은 지역을 동시에 처음 조회하면 한 번만 로드하고 결과를 함께 쓴다")
+    void getSnapshot_coalescesConcurrentLoads() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(travelCandidateRepository.findByRegionAndIsActiveTrue("서울")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(candidate(1L, "경복궁", "관광지", TimeBlock.MORNING_ACTIVITY, 0.8));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<RegionCandidateSnapshot> first = executor.submit(() -> snapshotService.getSnapshot("서울"));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<RegionCandidateSnapshot> second = executor.submit(() -> snapshotService.getSnapshot("서울"));
+            release.countDown();
+
+            // then
+            assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            verify(travelCandidateRepository, times(1)).findByRegionAndIsActiveTrue("서울");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("로드 중에 무효화되면 그 결과는 캐시하지 않아 다음 조회가 다시 읽는다")
+    void getSnapshot_doesNotCacheLoadRacingInvalidation() {
+        // given
+        when(travelCandidateRepository.findByRegionAndIsActiveTrue("서울")).thenAnswer(invocation -> {
+            snapshotService.onCandidateChanged(new TravelCandidateChangedEvent("서울"));
+            return List.of(candidate(1L, "경복궁", "관광지", TimeBlock.MORNING_ACTIVITY, 0.8));
+        }).thenReturn(List.of(candidate(1L, "경복궁", "관광지", TimeBlock.MORNING_ACTIVITY, 0.9)));
+
+        // when
+        RegionCandidateSnapshot raced = snapshotService.getSnapshot("서울");
+        RegionCandidateSnapshot reloaded = snapshotService.getSnapshot("서울");
+
+        // then
+        assertThat(reloaded.version()).isGreaterThan(raced.version());
+        assertThat(snapshotService.getSnapshot("서울")).isSameAs(reloaded);
+        verify(travelCandidateRepository, times(2)).findByRegionAndIsActiveTrue("서울");
+    }
+
+    @Test
+    @DisplayName("카테고리/시간블록 인덱스는 품질 점수 내림차순으로 정렬된다")
+    void snapshotIndexes_areSortedByQuality() {
+        // given
+        when(travelCandidateRepository.findByRegionAndIsActiveTrue("서울")).thenReturn(List.of(
+            candidate(1L, "카페A", "카페", TimeBlock.BREAKFAST, 0.5),
+            candidate(2L, "카페B", "카페", TimeBlock.BREAKFAST, 0.9),
+            candidate(3L, "식당C", "맛집", TimeBlock.LUNCH, null)
+        ));
+
+        // when
+        RegionCandidateSnapshot snapshot = snapshotService.getSnapshot("서울");
+
+        // then
+        assertThat(snapshot.byCategory("카페")).extracting(CandidateRow::name).containsExactly("카페B", "카페A");
+        assertThat(snapshot.byTimeBlock(TimeBlock.LUNCH)).extracting(CandidateRow::id).containsExactly(3L);
+        assertThat(snapshot.byTimeBlock(TimeBlock.DINNER)).isEmpty();
+        assertThat(snapshot.byQuality()).extracting(CandidateRow::id).containsExactly(2L, 1L, 3L);
+    }
+
+    private TravelCandidate candidate(Long id, String name, String category, TimeBlock timeBlock, Double quality) {
+        return TravelCandidate.builder()
+            .id(id)
+            .placeId("place_" + id)
+            .name(name)
+            .region("서울")
+            .category(category)
+            .timeBlock(timeBlock)
+            .latitude(37.5)
+            .longitude(127.0)
+            .qualityScore(quality)
+            .build();
+    }
+}
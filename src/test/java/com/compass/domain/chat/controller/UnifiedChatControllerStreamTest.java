@@ -0,0 +1,79 @@
+package com.compass.domain.chat.controller;
+
+import com.compass.config.jwt.JwtTokenProvider;
+import com.compass.domain.chat.model.request.ChatRequest;
+import com.compass.domain.chat.orchestrator.MainLLMOrchestrator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.Disposable;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+// SSE 스트리밍 취소 테스트 (Spring 컨텍스트 없이 컨트롤러를 직접 구독)
+@ExtendWith(MockitoExtension.class)
+class UnifiedChatControllerStreamTest {
+
+    @Mock
+    private MainLLMOrchestrator mainLLMOrchestrator;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Test
+    @DisplayName("클라이언트가 구독을 취소하면 블록된 스트리밍 작업을 중단시킨다")
+    void streamChat_cancelInterruptsWorker() throws Exception {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(mainLLMOrchestrator.processChatStream(any(ChatRequest.class), any())).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                // 같은 대화의 앞선 요청(대화 락)을 기다리는 상황
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException("이전 요청을 기다리는 중 중단되었습니다.", e);
+            }
+            throw new AssertionError("중단되지 않음");
+        });
+        UnifiedChatController controller = new UnifiedChatController(mainLLMOrchestrator, jwtTokenProvider);
+
+        // when
+        Disposable subscription = controller
+            .streamChat(new ChatRequest("부산 여행", "thread-1", null), null, "thread-1", null)
+            .subscribe();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        subscription.dispose();
+
+        // then
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시작 전에 취소되면 작업을 시작하지 않고, 끝난 작업은 중단하지 않는다")
+    void streamCancellation_onlyInterruptsRunningWork() {
+        // given
+        var cancelledBeforeStart = new UnifiedChatController.StreamCancellation();
+        var finished = new UnifiedChatController.StreamCancellation();
+
+        // when
+        cancelledBeforeStart.cancel();
+        boolean started = cancelledBeforeStart.start();
+        finished.start();
+        finished.finish();
+        finished.cancel();
+
+        // then
+        assertThat(started).isFalse();
+        assertThat(finished.isCancelled()).isTrue();
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+    }
+}
@@ -0,0 +1,189 @@
+package com.compass.domain.chat.orchestrator;
+
+import com.compass.domain.chat.model.enums.Intent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingIntentClassifierTest {
+
+    @Mock
+    private LlmIntentClassifier delegate;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingIntentClassifier classifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        classifier = new CachingIntentClassifier(delegate, redisTemplate, meterRegistry);
+        classifier.init();
+    }
+
+    @Test
+    @DisplayName("정규화하면 같은 메시지는 한 번만 분류하고 이후에는 캐시에서 돌려준다")
+    void classify_cachesByNormalizedMessage() {
+        // given
+        when(delegate.classifyOrThrow(anyString(), eq(false))).thenReturn(Intent.DESTINATION_SEARCH);
+
+        // when
+        Intent first = classifier.classify("부산 가고 싶어", false);
+        Intent second = classifier.classify("  부산   가고 싶어 ", false);
+
+        // then
+        assertThat(first).isEqualTo(Intent.DESTINATION_SEARCH);
+        assertThat(second).isEqualTo(Intent.DESTINATION_SEARCH);
+        verify(delegate, times(1)).classifyOrThrow(anyString(), anyBoolean());
+        assertThat(count("intent", "miss", "none")).isEqualTo(1.0);
+        assertThat(count("intent", "hit", "local")).isEqualTo(1.0);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("확인 대기 여부가 다르면 다른 키로 캐시한다")
+    void classify_keysIncludeConfirmationState() {
+        // given
+        when(delegate.classifyOrThrow("좋아", false)).thenReturn(Intent.GENERAL_QUESTION);
+        when(delegate.classifyOrThrow("좋아", true)).thenReturn(Intent.CONFIRMATION);
+
+        // when & then
+        assertThat(classifier.classify("좋아", false)).isEqualTo(Intent.GENERAL_QUESTION);
+        assertThat(classifier.classify("좋아", true)).isEqualTo(Intent.CONFIRMATION);
+        assertThat(classifier.classify("좋아", true)).isEqualTo(Intent.CONFIRMATION);
+        verify(delegate, times(2)).classifyOrThrow(anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("LLM 호출이 실패하면 기본값을 돌려주되 캐시하지 않는다")
+    void classify_doesNotCacheFailures() {
+        // given
+        when(delegate.classifyOrThrow("추천해줘", false))
+            .thenThrow(new IllegalStateException("LLM 타임아웃"))
+            .thenReturn(Intent.DESTINATION_SEARCH);
+
+        // when
+        Intent failed = classifier.classify("추천해줘", false);
+        Intent retried = classifier.classify("추천해줘", false);
+
+        // then
+        assertThat(failed).isEqualTo(Intent.GENERAL_QUESTION);
+        assertThat(retried).isEqualTo(Intent.DESTINATION_SEARCH);
+        verify(delegate, times(2)).classifyOrThrow("추천해줘", false);
+    }
+
+    @Test
+    @DisplayName("같은 메시지의 동시 미스는 한 번만 분류하고 나머지는 그 결과를 기다린다")
+    void classify_coalescesConcurrentMisses() throws Exception {
+        // given
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.classifyOrThrow("추천해줘", false)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Intent.DESTINATION_SEARCH;
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<Intent> first = executor.submit(() -> classifier.classify("추천해줘", false));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Intent> second = executor.submit(() -> classifier.classify("추천해줘", false));
+            release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(Intent.DESTINATION_SEARCH);
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(Intent.DESTINATION_SEARCH);
+            verify(delegate, times(1)).classifyOrThrow("추천해줘", false);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Redis를 켜면 다른 노드가 저장한 결과를 쓰고, 새 결과는 TTL과 함께 저장한다")
+    void classify_usesSharedRedisCache() {
+        // given
+        ReflectionTestUtils.setField(classifier, "redisEnabled", true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("intent:cache:intent:false:부산 가고 싶어")).thenReturn("TRAVEL_PLANNING");
+        when(delegate.classifyOrThrow("날씨 어때", false)).thenReturn(Intent.WEATHER_INQUIRY);
+
+        // when
+        Intent shared = classifier.classify("부산 가고 싶어", false);
+        Intent loaded = classifier.classify("날씨 어때", false);
+
+        // then
+        assertThat(shared).isEqualTo(Intent.TRAVEL_PLANNING);
+        assertThat(loaded).isEqualTo(Intent.WEATHER_INQUIRY);
+        verify(delegate, never()).classifyOrThrow(eq("부산 가고 싶어"), anyBoolean());
+        verify(valueOperations).set(eq("intent:cache:intent:false:날씨 어때"), eq("WEATHER_INQUIRY"), any(Duration.class));
+        assertThat(count("intent", "hit", "redis")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("긴 메시지와 캐시 비활성화 시에는 분류기를 그대로 호출한다")
+    void classify_bypassesCacheForLongMessagesOrWhenDisabled() {
+        // given
+        String longMessage = "가".repeat(201);
+        when(delegate.classify(anyString(), anyBoolean())).thenReturn(Intent.GENERAL_QUESTION);
+
+        // when
+        classifier.classify(longMessage, false);
+        classifier.classify(longMessage, false);
+        ReflectionTestUtils.setField(classifier, "enabled", false);
+        classifier.classify("안녕", false);
+
+        // then
+        verify(delegate, times(3)).classify(anyString(), anyBoolean());
+        verify(delegate, never()).classifyOrThrow(anyString(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("구체적 여행 질문 판단도 메시지별로 캐시한다")
+    void isSpecificTravelQuery_cachesResult() {
+        // given
+        when(delegate.isSpecificTravelQueryOrThrow("제주도 2박 3일")).thenReturn(true);
+
+        // when & then
+        assertThat(classifier.isSpecificTravelQuery("제주도 2박 3일")).isTrue();
+        assertThat(classifier.isSpecificTravelQuery("제주도  2박 3일")).isTrue();
+        verify(delegate, times(1)).isSpecificTravelQueryOrThrow(anyString());
+        assertThat(count("specific", "hit", "local")).isEqualTo(1.0);
+    }
+
+    private double count(String kind, String result, String tier) {
+        var counter = meterRegistry.find("chat.intent.cache")
+            .tags("kind", kind, "result", result, "tier", tier)
+            .counter();
+        return counter == null ? 0.0 : counter.count();
+    }
+}
@@ -0,0 +1,173 @@
+package com.compass.domain.chat.orchestrator;
+
+import com.compass.domain.chat.model.context.TravelContext;
+import com.compass.domain.chat.model.dto.ConfirmedSchedule;
+import com.compass.domain.chat.model.enums.TravelPhase;
+import com.compass.domain.chat.orchestrator.cache.ContextCache;
+import com.compass.domain.chat.orchestrator.cache.ContextFields;
+import com.compass.domain.chat.orchestrator.cache.PartialContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContextManagerTest {
+
+    private static final String THREAD_ID = "thread-1";
+    private static final String USER_ID = "user-1";
+
+    @Mock
+    private ContextCache contextCache;
+
+    private ContextManager contextManager;
+
+    @BeforeEach
+    void setUp() {
+        contextManager = new ContextManager(contextCache);
+    }
+
+    @Test
+    @DisplayName("버전 충돌 시 최신 컨텍스트의 OCR 일정과 수집 정보를 병합해 다시 저장한다")
+    void updateContext_mergesConcurrentOcrSchedule() {
+        // given
+        TravelContext turn = context(3L);
+        turn.updateCollectedInfo(TravelContext.KEY_BUDGET, 500000);
+
+        TravelContext latest = context(4L);
+        latest.updateCollectedInfo(TravelContext.KEY_COMPANIONS, "family");
+        latest.addOcrSchedule(ConfirmedSchedule.hotel(
+            LocalDateTime.of(2026, 11, 2, 15, 0), LocalDateTime.of(2026, 11, 4, 11, 0),
+            "제주 호텔", "제주시 탑동로 1", "체크인 15:00", null));
+
+        when(contextCache.get(THREAD_ID)).thenReturn(Optional.of(context(3L)), Optional.of(latest));
+        when(contextCache.compareAndSet(eq(THREAD_ID), same(turn), eq(ContextFields.ALL))).thenReturn(false, true);
+
+        // when
+        contextManager.updateContext(turn, USER_ID);
+
+        // then
+        verify(contextCache, times(2)).compareAndSet(THREAD_ID, turn, ContextFields.ALL);
+        assertThat(turn.getVersion()).isEqualTo(4L);
+        assertThat(turn.getCollectedInfo())
+            .containsEntry(TravelContext.KEY_BUDGET, 500000)
+            .containsEntry(TravelContext.KEY_COMPANIONS, "family");
+        assertThat(turn.getOcrConfirmedSchedules()).extracting(ConfirmedSchedule::title).containsExactly("제주 호텔");
+    }
+
+    @Test
+    @DisplayName("같은 키는 현재 요청의 값이 우선한다")
+    void updateContext_currentValueWinsOnSameKey() {
+        // given
+        TravelContext turn = context(1L);
+        turn.updateCollectedInfo(TravelContext.KEY_BUDGET, 500000);
+        TravelContext latest = context(2L);
+        latest.updateCollectedInfo(TravelContext.KEY_BUDGET, 300000);
+
+        when(contextCache.get(THREAD_ID)).thenReturn(Optional.of(context(1L)), Optional.of(latest));
+        when(contextCache.compareAndSet(THREAD_ID, turn, ContextFields.ALL)).thenReturn(false, true);
+
+        // when
+        contextManager.updateContext(turn, USER_ID);
+
+        // then
+        assertThat(turn.getCollectedInfo()).containsEntry(TravelContext.KEY_BUDGET, 500000);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘기면 IllegalStateException")
+    void updateContext_throwsAfterMaxAttempts() {
+        // given
+        TravelContext turn = context(1L);
+        when(contextCache.get(THREAD_ID)).thenReturn(Optional.of(context(2L)));
+        when(contextCache.compareAndSet(THREAD_ID, turn, ContextFields.ALL)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> contextManager.updateContext(turn, USER_ID))
+            .isInstanceOf(IllegalStateException.class);
+        verify(contextCache, times(3)).compareAndSet(THREAD_ID, turn, ContextFields.ALL);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 스레드를 만들면 먼저 저장된 컨텍스트를 사용한다")
+    void getOrCreateContext_usesConcurrentlyCreatedContext() {
+        // given
+        TravelContext stored = context(1L);
+        stored.updateCollectedInfo(TravelContext.KEY_DESTINATIONS, "제주");
+        when(contextCache.get(THREAD_ID)).thenReturn(Optional.empty(), Optional.of(stored), Optional.of(stored));
+        when(contextCache.compareAndSet(eq(THREAD_ID), any(TravelContext.class), eq(ContextFields.ALL))).thenReturn(false);
+
+        // when
+        TravelContext result = contextManager.getOrCreateContext(THREAD_ID, USER_ID);
+
+        // then
+        assertThat(result).isSameAs(stored);
+    }
+
+    @Test
+    @DisplayName("초기화는 저장된 버전만 읽어 이어받는다")
+    void resetContext_inheritsStoredVersion() {
+        // given
+        when(contextCache.getFields(THREAD_ID, List.of(ContextFields.VERSION)))
+            .thenReturn(Optional.of(PartialContext.of(context(6L), List.of(ContextFields.VERSION))));
+        when(contextCache.compareAndSet(eq(THREAD_ID), any(TravelContext.class), eq(ContextFields.ALL))).thenReturn(true);
+
+        // when
+        contextManager.resetContext(THREAD_ID, USER_ID);
+
+        // then
+        ArgumentCaptor<TravelContext> written = ArgumentCaptor.forClass(TravelContext.class);
+        verify(contextCache).compareAndSet(eq(THREAD_ID), written.capture(), eq(ContextFields.ALL));
+        assertThat(written.getValue().getVersion()).isEqualTo(6L);
+        assertThat(written.getValue().getCurrentPhase()).isEqualTo(TravelPhase.INITIALIZATION.name());
+        verify(contextCache, never()).put(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("초기화가 끝내 저장되지 않으면 완료로 처리하지 않고 IllegalStateException")
+    void resetContext_throwsWhenNeverApplied() {
+        // given
+        when(contextCache.getFields(THREAD_ID, List.of(ContextFields.VERSION))).thenReturn(Optional.empty());
+        when(contextCache.compareAndSet(eq(THREAD_ID), any(TravelContext.class), eq(ContextFields.ALL))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> contextManager.resetContext(THREAD_ID, USER_ID))
+            .isInstanceOf(IllegalStateException.class);
+        verify(contextCache, times(3)).compareAndSet(eq(THREAD_ID), any(TravelContext.class), eq(ContextFields.ALL));
+    }
+
+    @Test
+    @DisplayName("부분 업데이트는 소유자만 읽어 확인하고, 다른 사용자면 저장하지 않는다")
+    void patchContext_rejectsOtherOwner() {
+        // given
+        TravelContext turn = context(1L);
+        when(contextCache.getFields(THREAD_ID, List.of(ContextFields.USER_ID)))
+            .thenReturn(Optional.of(PartialContext.of(context(1L), List.of(ContextFields.USER_ID))));
+
+        // when & then
+        assertThatThrownBy(() -> contextManager.patchContext(turn, "user-2", ContextFields.CURRENT_PHASE))
+            .isInstanceOf(SecurityException.class);
+        verify(contextCache, never()).compareAndSet(anyString(), any(), anyCollection());
+    }
+
+    private TravelContext context(long version) {
+        return TravelContext.builder()
+            .threadId(THREAD_ID)
+            .userId(USER_ID)
+            .currentPhase(TravelPhase.INFORMATION_COLLECTION.name())
+            .version(version)
+            .build();
+    }
+}
@@ -14,6 +14,7 @@ import org.springframework.ai.chat.model.Generation;
 import org.springframework.ai.chat.prompt.Prompt;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.lenient;
@@ -36,7 +37,7 @@ class IntentClassifierTest {
     @BeforeEach
     void setUp() {
         // 생성자로 ChatModel 주입
-        intentClassifier = new IntentClassifier(chatModel);
+        intentClassifier = new LlmIntentClassifier(chatModel);
     }
 
     @Test
@@ -170,6 +171,20 @@ class IntentClassifierTest {
         verify(chatModel, times(1)).call(any(Prompt.class));
     }
 
+    @Test
+    @DisplayName("캐시용 분류는 알 수 없는 LLM 응답을 기본값으로 바꾸지 않고 예외로 알린다")
+    void testInvalidLLMResponseIsSignalled() {
+        // given
+        setupLLMResponse("알 수 없는 응답");
+        LlmIntentClassifier classifier = (LlmIntentClassifier) intentClassifier;
+
+        // when & then
+        assertThatThrownBy(() -> classifier.classifyOrThrow("테스트 메시지", false))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> classifier.isSpecificTravelQueryOrThrow("테스트 메시지"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
     @Test
     @DisplayName("LLM 호출 실패 시 GENERAL_QUESTION 반환")
     void testLLMFailure() {
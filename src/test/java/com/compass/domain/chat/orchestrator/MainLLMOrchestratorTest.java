@@ -17,12 +17,14 @@ import com.compass.domain.chat.service.ChatThreadService;
 // ❌ 사용되지 않는 의존성 (테스트 실패의 원인)
 // import com.compass.domain.chat.service.TravelInfoService; 
 import com.compass.domain.chat.service.TravelFormWorkflowService; // ✅ 실제 사용되는 서비스
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
@@ -52,6 +54,7 @@ class MainLLMOrchestratorTest {
     @Mock private StartFollowUpFunction startFollowUpFunction;
     @Mock private RecommendDestinationsFunction recommendDestinationsFunction;
     @Mock private ContinueFollowUpFunction continueFollowUpFunction;
+    @Spy private ThreadRequestSerializer threadRequestSerializer = new ThreadRequestSerializer(new SimpleMeterRegistry());
 
     private TravelContext context;
     private ChatRequest chatRequest;
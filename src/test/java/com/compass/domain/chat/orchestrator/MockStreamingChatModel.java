@@ -0,0 +1,57 @@
+package com.compass.domain.chat.orchestrator;
+
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 테스트용 스트리밍 ChatModel - 정해진 청크를 순서대로 내보내고, call()은 청크를 이어 붙인 응답을 돌려준다
+// failAfterChunks()로 만들면 청크를 모두 보낸 뒤 스트림이 오류로 끝난다
+class MockStreamingChatModel implements ChatModel {
+
+    private final List<String> chunks;
+    private final RuntimeException failure;
+    private final List<Prompt> streamedPrompts = new ArrayList<>();
+
+    MockStreamingChatModel(String... chunks) {
+        this(null, chunks);
+    }
+
+    private MockStreamingChatModel(RuntimeException failure, String... chunks) {
+        this.chunks = List.of(chunks);
+        this.failure = failure;
+    }
+
+    static MockStreamingChatModel failAfterChunks(RuntimeException failure, String... chunks) {
+        return new MockStreamingChatModel(failure, chunks);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        return responseOf(String.join("", chunks));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        streamedPrompts.add(prompt);
+        Flux<ChatResponse> tokens = Flux.fromIterable(chunks).map(MockStreamingChatModel::responseOf);
+        if (failure != null) {
+            return tokens.concatWith(Flux.error(failure));
+        }
+        // 실제 모델처럼 마지막에는 텍스트 없는 청크(메타데이터)가 온다
+        return tokens.concatWith(Flux.just(new ChatResponse(List.of())));
+    }
+
+    List<Prompt> streamedPrompts() {
+        return streamedPrompts;
+    }
+
+    private static ChatResponse responseOf(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+}
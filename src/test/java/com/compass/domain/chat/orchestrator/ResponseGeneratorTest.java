@@ -21,6 +21,7 @@ import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -167,6 +168,83 @@ class ResponseGeneratorTest {
         assertThat(response.getContent()).isNotNull();
     }
 
+    @Test
+    @DisplayName("스트리밍 응답 생성 - LLM 청크를 받는 대로 전달하고 전체 내용을 응답에 담는다")
+    void testGenerateResponse_Streaming() {
+        // given
+        var streamingModel = new MockStreamingChatModel("부산은 ", "바다가 ", "아름다워요.");
+        ReflectionTestUtils.setField(responseGenerator, "chatModel", streamingModel);
+        when(travelContext.isWaitingForTravelConfirmation()).thenReturn(false);
+        when(promptBuilder.buildSystemPrompt(any(), any(), any())).thenReturn("시스템 프롬프트");
+        when(promptBuilder.buildUserPrompt(any(), any())).thenReturn("사용자 프롬프트");
+        List<String> tokens = new ArrayList<>();
+
+        // when
+        var response = responseGenerator.generateResponse(createChatRequest("부산 어때?"),
+            Intent.GENERAL_QUESTION, TravelPhase.COMPLETION, travelContext, promptBuilder, tokens::add);
+
+        // then
+        assertThat(tokens).containsExactly("부산은 ", "바다가 ", "아름다워요.");
+        assertThat(response.getContent()).isEqualTo("부산은 바다가 아름다워요.");
+        assertThat(streamingModel.streamedPrompts()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답 생성 - 확인 프롬프트도 마지막 토큰으로 전달한다")
+    void testGenerateResponse_StreamingWithConfirmationPrompt() {
+        // given
+        ReflectionTestUtils.setField(responseGenerator, "chatModel", new MockStreamingChatModel("안녕하세요!"));
+        when(travelContext.isWaitingForTravelConfirmation()).thenReturn(false);
+        when(promptBuilder.buildSystemPrompt(any(), any(), any())).thenReturn("시스템 프롬프트");
+        when(promptBuilder.buildUserPrompt(any(), any())).thenReturn("사용자 프롬프트");
+        List<String> tokens = new ArrayList<>();
+
+        // when
+        var response = responseGenerator.generateResponse(createChatRequest("안녕"),
+            Intent.GENERAL_QUESTION, TravelPhase.INITIALIZATION, travelContext, promptBuilder, tokens::add);
+
+        // then
+        assertThat(tokens).hasSize(2);
+        assertThat(String.join("", tokens)).isEqualTo(response.getContent());
+        assertThat(response.getContent()).startsWith("안녕하세요!");
+    }
+
+    @Test
+    @DisplayName("스트리밍 응답 생성 - 중간에 끊기면 이미 보낸 부분까지를 응답으로 한다")
+    void testGenerateResponse_StreamingFailsMidway() {
+        // given
+        ReflectionTestUtils.setField(responseGenerator, "chatModel",
+            MockStreamingChatModel.failAfterChunks(new IllegalStateException("연결 끊김"), "제주도는 ", "봄에"));
+        when(travelContext.isWaitingForTravelConfirmation()).thenReturn(false);
+        when(promptBuilder.buildSystemPrompt(any(), any(), any())).thenReturn("시스템 프롬프트");
+        when(promptBuilder.buildUserPrompt(any(), any())).thenReturn("사용자 프롬프트");
+        List<String> tokens = new ArrayList<>();
+
+        // when
+        var response = responseGenerator.generateResponse(createChatRequest("제주도 언제 가?"),
+            Intent.GENERAL_QUESTION, TravelPhase.COMPLETION, travelContext, promptBuilder, tokens::add);
+
+        // then
+        assertThat(tokens).containsExactly("제주도는 ", "봄에");
+        assertThat(response.getContent()).isEqualTo("제주도는 봄에");
+    }
+
+    @Test
+    @DisplayName("스트리밍 요청이라도 LLM을 거치지 않는 응답은 완성된 내용을 한 번에 전달한다")
+    void testGenerateResponse_StreamingNonLLMContent() {
+        // given
+        when(travelContext.isWaitingForTravelConfirmation()).thenReturn(true);
+        List<String> tokens = new ArrayList<>();
+
+        // when
+        var response = responseGenerator.generateResponse(createChatRequest("네, 여행 계획 세워주세요"),
+            Intent.CONFIRMATION, TravelPhase.INITIALIZATION, travelContext, promptBuilder, tokens::add);
+
+        // then
+        assertThat(tokens).containsExactly(response.getContent());
+        verifyNoInteractions(chatModel);
+    }
+
     private ChatRequest createChatRequest(String message) {
         return new ChatRequest(message, "test-thread-123", "test-user-123");
     }
@@ -0,0 +1,140 @@
+package com.compass.domain.chat.orchestrator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThreadRequestSerializerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ThreadRequestSerializer serializer;
+    private ExecutorService requests;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        serializer = new ThreadRequestSerializer(meterRegistry);
+        requests = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        requests.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 대화의 요청은 겹치지 않고 하나씩 실행된다")
+    void sameThread_runsOneAtATime() throws Exception {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            futures.add(requests.submit(() -> serializer.execute("thread-1", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(5);
+                return running.decrementAndGet();
+            })));
+        }
+        for (Future<Integer> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(serializer.activeLanes()).isZero();
+        assertThat(meterRegistry.get("chat.thread.queue.wait").timer().count()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("다른 대화의 요청은 서로 기다리지 않는다")
+    void differentThreads_runInParallel() throws Exception {
+        // given
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<String> finished = Collections.synchronizedList(new ArrayList<>());
+
+        // when - 두 요청이 모두 시작돼야 끝나므로 직렬로 실행되면 시간 초과
+        Future<?> first = requests.submit(() -> serializer.execute("thread-1", () -> awaitBoth(bothStarted, finished, "thread-1")));
+        Future<?> second = requests.submit(() -> serializer.execute("thread-2", () -> awaitBoth(bothStarted, finished, "thread-2")));
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(finished).containsExactlyInAnyOrder("thread-1", "thread-2");
+    }
+
+    @Test
+    @DisplayName("앞선 요청을 최대 대기 시간보다 오래 기다리면 IllegalStateException")
+    void waitTimeout_throws() throws Exception {
+        // given
+        ReflectionTestUtils.setField(serializer, "maxWaitSeconds", 0L);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> holder = requests.submit(() -> serializer.execute("thread-1", () -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        holding.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> serializer.execute("thread-1", () -> "late"))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("chat.thread.queue.depth").gauge().value()).isZero();
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertThat(serializer.activeLanes()).isZero();
+    }
+
+    @Test
+    @DisplayName("threadId가 없으면 바로 실행한다")
+    void nullThreadId_runsDirectly() {
+        assertThat(serializer.execute(null, () -> "ok")).isEqualTo("ok");
+        assertThat(serializer.activeLanes()).isZero();
+    }
+
+    private String awaitBoth(CountDownLatch bothStarted, List<String> finished, String threadId) {
+        bothStarted.countDown();
+        await(bothStarted);
+        finished.add(threadId);
+        return threadId;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(3, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("latch timeout");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
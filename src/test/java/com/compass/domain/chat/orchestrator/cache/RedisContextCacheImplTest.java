@@ -0,0 +1,242 @@
+package com.compass.domain.chat.orchestrator.cache;
+
+import com.compass.domain.chat.model.context.TravelContext;
+import com.compass.domain.chat.model.enums.TravelPhase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisContextCacheImplTest {
+
+    private static final String THREAD_ID = "thread-1";
+    private static final String HASH_KEY = "context:hash:" + THREAD_ID;
+
+    @Mock
+    private RedisTemplate<String, byte[]> redisTemplate;
+
+    @Mock
+    private HashOperations<String, String, byte[]> hashOperations;
+
+    @Mock
+    private ValueOperations<String, byte[]> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final VersionedContextCodec codec = new VersionedContextCodec(objectMapper);
+
+    private RedisContextCacheImpl cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RedisContextCacheImpl(redisTemplate, objectMapper, codec);
+        ReflectionTestUtils.setField(cache, "keyPrefix", "context:thread:");
+        ReflectionTestUtils.setField(cache, "hashKeyPrefix", "context:hash:");
+        ReflectionTestUtils.setField(cache, "ttlHours", 24L);
+    }
+
+    @Test
+    @DisplayName("필드별 해시 값을 하나의 컨텍스트로 조립한다 - 바이너리와 이전 JSON 값이 섞여 있어도 읽는다")
+    void get_assemblesHashFields() throws Exception {
+        // given
+        TravelContext original = context();
+        Map<String, byte[]> entries = new HashMap<>();
+        for (String field : ContextFields.ALL) {
+            entries.put(field, codec.encode(ContextFields.valueOf(original, field)));
+        }
+        entries.put(ContextFields.USER_ID, objectMapper.writeValueAsBytes("user-1"));
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        when(hashOperations.entries(HASH_KEY)).thenReturn(entries);
+
+        // when
+        Optional<TravelContext> loaded = cache.get(THREAD_ID);
+
+        // then
+        assertThat(loaded).isPresent();
+        assertThat(loaded.get().getUserId()).isEqualTo("user-1");
+        assertThat(loaded.get().getCurrentPhase()).isEqualTo(TravelPhase.INFORMATION_COLLECTION.name());
+        assertThat(loaded.get().getCollectedInfo()).containsEntry("budget", 300000);
+        assertThat(loaded.get().getMessageHistory()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("해시가 없으면 이전 형식의 전체 JSON 키를 읽는다")
+    void get_fallsBackToLegacyKey() throws Exception {
+        // given
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        when(hashOperations.entries(HASH_KEY)).thenReturn(Map.of());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("context:thread:" + THREAD_ID)).thenReturn(objectMapper.writeValueAsBytes(context()));
+
+        // when
+        Optional<TravelContext> loaded = cache.get(THREAD_ID);
+
+        // then
+        assertThat(loaded).map(TravelContext::getUserId).contains("user-1");
+    }
+
+    @Test
+    @DisplayName("필드 조회는 읽은 필드만 꺼낼 수 있는 PartialContext를 돌려준다")
+    void getFields_exposesOnlyLoadedFields() throws Exception {
+        // given
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        when(hashOperations.multiGet(HASH_KEY, List.of(ContextFields.THREAD_ID, ContextFields.USER_ID, ContextFields.VERSION)))
+            .thenReturn(List.of(codec.encode(THREAD_ID), codec.encode("user-1"), "7".getBytes(StandardCharsets.UTF_8)));
+
+        // when
+        Optional<PartialContext> loaded = cache.getFields(THREAD_ID, List.of(ContextFields.VERSION));
+
+        // then
+        assertThat(loaded).isPresent();
+        PartialContext partial = loaded.get();
+        assertThat(partial.getUserId()).isEqualTo("user-1");
+        assertThat(partial.getVersion()).isEqualTo(7L);
+        assertThat(partial.fields())
+            .containsExactlyInAnyOrder(ContextFields.THREAD_ID, ContextFields.USER_ID, ContextFields.VERSION);
+        assertThatThrownBy(() -> partial.value(ContextFields.COLLECTED_INFO))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("필드 조회에서 해시에 없는 필드는 읽은 필드에 들어가지 않는다")
+    void getFields_missingFieldIsNotLoaded() throws Exception {
+        // given
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        when(hashOperations.multiGet(HASH_KEY, List.of(ContextFields.THREAD_ID, ContextFields.USER_ID, ContextFields.VERSION)))
+            .thenReturn(Arrays.asList(codec.encode(THREAD_ID), codec.encode("user-1"), null));
+
+        // when
+        PartialContext partial = cache.getFields(THREAD_ID, List.of(ContextFields.VERSION)).orElseThrow();
+
+        // then
+        assertThat(partial.contains(ContextFields.VERSION)).isFalse();
+        assertThat(partial.getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("필드 조회가 이전 형식 키로 대신 읽으면 모든 필드를 읽은 것으로 본다")
+    void getFields_legacyKeyLoadsAllFields() throws Exception {
+        // given
+        doReturn(hashOperations).when(redisTemplate).opsForHash();
+        when(hashOperations.multiGet(eq(HASH_KEY), anyList())).thenReturn(Arrays.asList(null, null, null));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("context:thread:" + THREAD_ID)).thenReturn(objectMapper.writeValueAsBytes(context()));
+
+        // when
+        PartialContext partial = cache.getFields(THREAD_ID, List.of(ContextFields.VERSION)).orElseThrow();
+
+        // then
+        assertThat(partial.fields()).containsExactlyInAnyOrderElementsOf(ContextFields.ALL);
+        assertThat(partial.value(ContextFields.CURRENT_PHASE)).isEqualTo(TravelPhase.INFORMATION_COLLECTION.name());
+    }
+
+    @Test
+    @DisplayName("부분 저장은 바뀐 필드만 보내고, 해시가 없으면 전체 저장으로 대신한다")
+    @SuppressWarnings("unchecked")
+    void patch_writesOnlyChangedFields() throws Exception {
+        // given
+        TravelContext context = context();
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(HASH_KEY)), any(Object[].class)))
+            .thenReturn(1L, 0L);
+
+        // when
+        cache.patch(THREAD_ID, context, List.of(ContextFields.CURRENT_PHASE));
+        cache.patch(THREAD_ID, context, List.of(ContextFields.CURRENT_PHASE));
+
+        // then
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of(HASH_KEY)), args.capture());
+        Object[] firstPatch = args.getAllValues().get(0);
+        assertThat(firstPatch).hasSize(3);
+        assertThat(new String((byte[]) firstPatch[0], StandardCharsets.UTF_8)).isEqualTo("86400");
+        assertThat(new String((byte[]) firstPatch[1], StandardCharsets.UTF_8)).isEqualTo(ContextFields.CURRENT_PHASE);
+        assertThat(codec.decode((byte[]) firstPatch[2]).asText()).isEqualTo("INFORMATION_COLLECTION");
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    @DisplayName("버전 비교 저장 - 충돌하면 false와 원래 버전, 해시가 없으면 전체 필드로 다시 저장")
+    @SuppressWarnings("unchecked")
+    void compareAndSet_conflictAndMissingHash() {
+        // given
+        TravelContext context = context();
+        context.setVersion(5L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(HASH_KEY)), any(Object[].class)))
+            .thenReturn(0L, -1L, 1L);
+
+        // when
+        boolean conflicted = cache.compareAndSet(THREAD_ID, context, List.of(ContextFields.CURRENT_PHASE));
+        long versionAfterConflict = context.getVersion();
+        boolean stored = cache.compareAndSet(THREAD_ID, context, List.of(ContextFields.CURRENT_PHASE));
+
+        // then
+        assertThat(conflicted).isFalse();
+        assertThat(versionAfterConflict).isEqualTo(5L);
+        assertThat(stored).isTrue();
+        assertThat(context.getVersion()).isEqualTo(6L);
+
+        ArgumentCaptor<Object[]> args = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate, times(3)).execute(any(RedisScript.class), eq(List.of(HASH_KEY)), args.capture());
+        Object[] partial = args.getAllValues().get(1);
+        Object[] full = args.getAllValues().get(2);
+        assertThat(new String((byte[]) partial[1], StandardCharsets.UTF_8)).isEqualTo("5");
+        assertThat(new String((byte[]) partial[2], StandardCharsets.UTF_8)).isEqualTo("1");
+        assertThat(partial).hasSize(3 + 2 * 2);
+        assertThat(new String((byte[]) full[2], StandardCharsets.UTF_8)).isEqualTo("0");
+        assertThat(full).hasSize(3 + 2 * ContextFields.ALL.size());
+    }
+
+    @Test
+    @DisplayName("버전 비교 저장 중 Redis 오류가 나면 저장되지 않은 것으로 false와 원래 버전")
+    @SuppressWarnings("unchecked")
+    void compareAndSet_redisFailureIsNotApplied() {
+        // given
+        TravelContext context = context();
+        context.setVersion(5L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(HASH_KEY)), any(Object[].class)))
+            .thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        // when
+        boolean applied = cache.compareAndSet(THREAD_ID, context, List.of(ContextFields.CURRENT_PHASE));
+
+        // then
+        assertThat(applied).isFalse();
+        assertThat(context.getVersion()).isEqualTo(5L);
+    }
+
+    private TravelContext context() {
+        TravelContext context = TravelContext.builder()
+            .threadId(THREAD_ID)
+            .userId("user-1")
+            .currentPhase(TravelPhase.INFORMATION_COLLECTION.name())
+            .build();
+        context.updateCollectedInfo("budget", 300000);
+        context.addMessage("user", "제주 여행 가고 싶어");
+        return context;
+    }
+}
@@ -0,0 +1,182 @@
+package com.compass.domain.chat.orchestrator.cache;
+
+import com.compass.domain.chat.model.context.TravelContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierContextCacheTest {
+
+    private static final String THREAD_ID = "thread-1";
+    private static final String CHANNEL = "context:invalidate";
+
+    @Mock
+    private RedisContextCacheImpl redisCache;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private TwoTierContextCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TwoTierContextCache(redisCache, redisTemplate, new VersionedContextCodec(objectMapper), objectMapper);
+        ReflectionTestUtils.setField(cache, "maxSize", 100L);
+        ReflectionTestUtils.setField(cache, "ttlMinutes", 30L);
+        ReflectionTestUtils.setField(cache, "invalidationChannel", CHANNEL);
+        cache.init();
+    }
+
+    @Test
+    @DisplayName("한 번 L2에서 읽은 컨텍스트는 이후 조회에서 Redis를 다시 읽지 않는다")
+    void get_readsRedisOnce() {
+        // given
+        TravelContext context = context("user-1");
+        when(redisCache.get(THREAD_ID)).thenReturn(Optional.of(context));
+
+        // when
+        Optional<TravelContext> first = cache.get(THREAD_ID);
+        Optional<TravelContext> second = cache.get(THREAD_ID);
+
+        // then
+        assertThat(first).contains(context);
+        assertThat(second).contains(context);
+        verify(redisCache, times(1)).get(THREAD_ID);
+    }
+
+    @Test
+    @DisplayName("L1은 조회마다 복사본을 돌려주므로 저장하지 않은 변경이 다른 조회에 보이지 않는다")
+    void get_returnsIndependentCopies() {
+        // given
+        TravelContext context = context("user-1");
+        context.setVersion(3L);
+        cache.put(THREAD_ID, context);
+
+        // when - 저장 후 원본과 조회 결과를 고쳐도 (실패한 턴, 비동기 리스너)
+        context.getCollectedInfo().put(TravelContext.KEY_BUDGET, 100000);
+        TravelContext first = cache.get(THREAD_ID).orElseThrow();
+        first.setVersion(4L);
+        first.getCollectedInfo().put(TravelContext.KEY_DESTINATIONS, "제주");
+        TravelContext second = cache.get(THREAD_ID).orElseThrow();
+
+        // then
+        assertThat(second).isNotSameAs(first).isNotSameAs(context);
+        assertThat(second.getVersion()).isEqualTo(3L);
+        assertThat(second.getCollectedInfo()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버전 충돌이나 Redis 오류로 저장되지 않은 컨텍스트는 L1에 남지 않고 무효화도 발행하지 않는다")
+    void compareAndSet_conflictDoesNotReachL1() {
+        // given
+        TravelContext stored = context("user-1");
+        cache.put(THREAD_ID, stored);
+        TravelContext failed = context("user-1");
+        failed.getCollectedInfo().put(TravelContext.KEY_BUDGET, 100000);
+        when(redisCache.compareAndSet(eq(THREAD_ID), eq(failed), any())).thenReturn(false);
+        when(redisCache.get(THREAD_ID)).thenReturn(Optional.of(stored));
+
+        // when
+        boolean applied = cache.compareAndSet(THREAD_ID, failed, ContextFields.ALL);
+
+        // then
+        assertThat(applied).isFalse();
+        assertThat(cache.get(THREAD_ID).orElseThrow().getCollectedInfo()).isEmpty();
+        // put에서 한 번만 발행
+        verify(redisTemplate, times(1)).convertAndSend(eq(CHANNEL), any());
+    }
+
+    @Test
+    @DisplayName("저장하면 L1/L2에 쓰고 다른 노드에 무효화 메시지를 발행한다")
+    void put_writesThroughAndPublishes() {
+        // given
+        TravelContext context = context("user-1");
+
+        // when
+        cache.put(THREAD_ID, context);
+        Optional<TravelContext> read = cache.get(THREAD_ID);
+
+        // then
+        assertThat(read).contains(context);
+        verify(redisCache).put(THREAD_ID, context);
+        verify(redisCache, never()).get(THREAD_ID);
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), message.capture());
+        assertThat(message.getValue()).endsWith(":" + THREAD_ID);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 L1을 비우고, 자기 메시지는 무시한다")
+    void onMessage_evictsOnlyForOtherNodes() {
+        // given
+        TravelContext local = context("user-1");
+        TravelContext remote = context("user-2");
+        cache.put(THREAD_ID, local);
+        ArgumentCaptor<String> ownMessage = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), ownMessage.capture());
+        when(redisCache.get(THREAD_ID)).thenReturn(Optional.of(remote));
+
+        // when & then - 자기 메시지
+        cache.onMessage(message(ownMessage.getValue()), null);
+        assertThat(cache.get(THREAD_ID)).contains(local);
+
+        // when & then - 다른 노드 메시지
+        cache.onMessage(message("other-node:" + THREAD_ID), null);
+        assertThat(cache.get(THREAD_ID)).contains(remote);
+        verify(redisCache, times(1)).get(THREAD_ID);
+    }
+
+    @Test
+    @DisplayName("L2 조회 중에 무효화가 오면 읽은 값을 L1에 넣지 않는다")
+    void get_skipsL1WhenInvalidatedDuringLoad() {
+        // given
+        TravelContext stale = context("user-1");
+        TravelContext fresh = context("user-1");
+        when(redisCache.get(THREAD_ID))
+            .thenAnswer(invocation -> {
+                cache.onMessage(message("other-node:" + THREAD_ID), null);
+                return Optional.of(stale);
+            })
+            .thenReturn(Optional.of(fresh));
+
+        // when
+        Optional<TravelContext> first = cache.get(THREAD_ID);
+        Optional<TravelContext> second = cache.get(THREAD_ID);
+
+        // then
+        assertThat(first).containsSame(stale);
+        assertThat(second).containsSame(fresh);
+        verify(redisCache, times(2)).get(THREAD_ID);
+    }
+
+    private TravelContext context(String userId) {
+        return TravelContext.builder()
+            .threadId(THREAD_ID)
+            .userId(userId)
+            .build();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
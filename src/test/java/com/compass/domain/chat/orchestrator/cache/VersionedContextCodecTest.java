@@ -0,0 +1,100 @@
+package com.compass.domain.chat.orchestrator.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VersionedContextCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final VersionedContextCodec codec = new VersionedContextCodec(objectMapper);
+
+    @Test
+    @DisplayName("작은 값은 압축 없이 Smile 헤더로 저장하고 그대로 복원한다")
+    void encode_smallValueAsSmile() throws IOException {
+        // given
+        Map<String, Object> info = Map.of("destinations", List.of("제주"), "budget", 300000);
+
+        // when
+        byte[] encoded = codec.encode(info);
+
+        // then
+        assertThat(encoded[0]).isEqualTo(VersionedContextCodec.MAGIC);
+        assertThat(encoded[1]).isEqualTo(VersionedContextCodec.FORMAT_SMILE);
+        assertThat(codec.decode(encoded)).isEqualTo(objectMapper.valueToTree(info));
+    }
+
+    @Test
+    @DisplayName("임계값보다 큰 값은 LZ4로 압축해 JSON보다 작게 저장한다")
+    void encode_largeValueCompressed() throws IOException {
+        // given
+        List<Map<String, Object>> history = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            history.add(Map.of(
+                "role", i % 2 == 0 ? "user" : "assistant",
+                "content", "제주도 3박 4일 일정에서 " + i + "번째 날 동선을 다시 짜 주세요",
+                "timestamp", LocalDateTime.of(2026, 10, 16, 9, 0).plusMinutes(i)
+            ));
+        }
+
+        // when
+        byte[] encoded = codec.encode(history);
+
+        // then
+        assertThat(encoded[1]).isEqualTo(VersionedContextCodec.FORMAT_SMILE_LZ4);
+        assertThat(encoded.length).isLessThan(objectMapper.writeValueAsBytes(history).length);
+        assertThat(codec.decode(encoded)).isEqualTo(objectMapper.valueToTree(history));
+    }
+
+    @Test
+    @DisplayName("헤더 없는 이전 JSON 텍스트 값도 읽는다")
+    void decode_legacyJson() throws IOException {
+        // given
+        byte[] legacy = "{\"currentPhase\":\"INFORMATION_COLLECTION\"}".getBytes();
+
+        // when
+        JsonNode decoded = codec.decode(legacy);
+
+        // then
+        assertThat(decoded.get("currentPhase").asText()).isEqualTo("INFORMATION_COLLECTION");
+    }
+
+    @Test
+    @DisplayName("format=json이면 헤더 없이 JSON 텍스트로 저장한다 (롤백용)")
+    void encode_jsonFormat() throws IOException {
+        // given
+        ReflectionTestUtils.setField(codec, "format", "json");
+        codec.init();
+
+        // when
+        byte[] encoded = codec.encode(Map.of("waitingForTravelConfirmation", true));
+
+        // then
+        assertThat(new String(encoded)).isEqualTo("{\"waitingForTravelConfirmation\":true}");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식 버전은 예외")
+    void decode_unknownVersion() {
+        // given
+        byte[] unknown = {VersionedContextCodec.MAGIC, 9, 0};
+
+        // when & then
+        assertThatThrownBy(() -> codec.decode(unknown))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("9");
+    }
+}
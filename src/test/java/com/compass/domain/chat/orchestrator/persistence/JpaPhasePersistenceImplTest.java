@@ -0,0 +1,69 @@
+package com.compass.domain.chat.orchestrator.persistence;
+
+import com.compass.domain.chat.entity.ChatThread;
+import com.compass.domain.chat.model.enums.TravelPhase;
+import com.compass.domain.chat.repository.ChatThreadRepository;
+import com.compass.domain.chat.service.ChatTurn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JpaPhasePersistenceImplTest {
+
+    private static final String THREAD_ID = "thread-1";
+
+    @Mock
+    private ChatThreadRepository chatThreadRepository;
+
+    @InjectMocks
+    private JpaPhasePersistenceImpl phasePersistence;
+
+    private ChatTurn turn;
+
+    @AfterEach
+    void tearDown() {
+        if (turn != null) {
+            turn.end();
+        }
+    }
+
+    @Test
+    @DisplayName("턴 안의 초기화는 앞서 기록된 Phase보다 나중에 반영된다")
+    void deleteByThreadId_insideTurnOverridesEarlierPhase() {
+        // given
+        turn = ChatTurn.begin(THREAD_ID, "1");
+        phasePersistence.save(THREAD_ID, TravelPhase.INFORMATION_COLLECTION);
+
+        // when
+        phasePersistence.deleteByThreadId(THREAD_ID);
+
+        // then
+        assertThat(turn.getPhase()).isEqualTo(TravelPhase.INITIALIZATION);
+        verifyNoInteractions(chatThreadRepository);
+    }
+
+    @Test
+    @DisplayName("턴 밖의 초기화는 바로 저장한다")
+    void deleteByThreadId_outsideTurnWritesImmediately() {
+        // given
+        ChatThread thread = ChatThread.builder().id(THREAD_ID).currentPhase(TravelPhase.INFORMATION_COLLECTION.name()).build();
+        when(chatThreadRepository.findById(THREAD_ID)).thenReturn(Optional.of(thread));
+
+        // when
+        phasePersistence.deleteByThreadId(THREAD_ID);
+
+        // then
+        assertThat(thread.getCurrentPhase()).isEqualTo(TravelPhase.INITIALIZATION.name());
+        verify(chatThreadRepository).save(thread);
+    }
+}
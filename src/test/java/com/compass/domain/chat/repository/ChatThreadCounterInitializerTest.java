@@ -0,0 +1,66 @@
+package com.compass.domain.chat.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ChatThreadCounterInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ChatThreadCounterInitializer initializer;
+
+    @Test
+    @DisplayName("PostgreSQL이면 카운터가 비어 있는 기존 스레드만 백필한다")
+    void backfillOnStartup_updatesThreadsWithoutCounters() {
+        // given
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+
+        // when
+        initializer.backfillOnStartup();
+
+        // then
+        verify(jdbcTemplate).update(ChatThreadCounterInitializer.BACKFILL_SQL);
+        assertThat(ChatThreadCounterInitializer.BACKFILL_SQL)
+            .contains("t.last_message_at IS NOT NULL")
+            .contains("ct.message_count < stats.message_count");
+    }
+
+    @Test
+    @DisplayName("PostgreSQL이 아니면 아무것도 하지 않는다")
+    void backfillOnStartup_skipsOtherDatabases() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(false);
+
+        initializer.backfillOnStartup();
+
+        verify(jdbcTemplate, never()).update(anyString());
+    }
+
+    @Test
+    @DisplayName("첫 메시지 제목은 메시지 수와 마지막 메시지 시각이 모두 비어 있는 스레드에만 적용한다")
+    void recordAppendedMessage_guardsTitleWithLastMessageAt() throws Exception {
+        Query query = ChatThreadRepository.class
+            .getMethod("recordAppendedMessage", String.class, LocalDateTime.class, String.class, String.class)
+            .getAnnotation(Query.class);
+
+        assertThat(query.value()).contains("CASE WHEN ct.messageCount = 0 AND ct.lastMessageAt IS NULL");
+    }
+}
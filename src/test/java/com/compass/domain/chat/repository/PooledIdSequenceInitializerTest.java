@@ -0,0 +1,127 @@
+package com.compass.domain.chat.repository;
+
+import com.compass.domain.chat.entity.ChatMessage;
+import com.compass.domain.chat.entity.TravelCandidate;
+import com.compass.domain.chat.repository.PooledIdSequenceInitializer.Target;
+import jakarta.persistence.SequenceGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PooledIdSequenceInitializerTest {
+
+    private static final Target CANDIDATES =
+        new Target("travel_candidates", TravelCandidate.ID_SEQUENCE, TravelCandidate.ID_ALLOCATION_SIZE);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PooledIdSequenceInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        initializer = new PooledIdSequenceInitializer(jdbcTemplate);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+        when(jdbcTemplate.queryForObject(contains("increment_by"), eq(Long.class), any()))
+            .thenReturn((long) TravelCandidate.ID_ALLOCATION_SIZE);
+        when(jdbcTemplate.queryForMap(contains("information_schema.columns"), any()))
+            .thenReturn(Map.of("is_identity", "NO", "column_default", "nextval('travel_candidates_seq'::regclass)"));
+    }
+
+    @Test
+    @DisplayName("엔티티 allocationSize와 마이그레이션 시퀀스 증가폭이 같다")
+    void allocationSize_matchesMigrations() throws Exception {
+        assertMatches(TravelCandidate.class, TravelCandidate.ID_SEQUENCE, TravelCandidate.ID_ALLOCATION_SIZE,
+            "db/migration/V7__travel_candidates_pooled_sequence.sql");
+        assertMatches(ChatMessage.class, ChatMessage.ID_SEQUENCE, ChatMessage.ID_ALLOCATION_SIZE,
+            "db/migration/V8__chat_messages_pooled_sequence.sql");
+    }
+
+    @Test
+    @DisplayName("ddl-auto가 1부터 만든 시퀀스는 기존 최대 id 뒤로 옮긴다")
+    void align_movesSequencePastExistingIds() {
+        // given
+        when(jdbcTemplate.queryForObject(contains("MAX(id)"), eq(Long.class))).thenReturn(1200L);
+        when(jdbcTemplate.queryForObject(contains("last_value"), eq(Long.class))).thenReturn(1L);
+
+        // when
+        initializer.align(CANDIDATES);
+
+        // then
+        verify(jdbcTemplate).queryForObject(startsWith("SELECT setval"), eq(Long.class), eq(TravelCandidate.ID_SEQUENCE), eq(1200L));
+    }
+
+    @Test
+    @DisplayName("이미 정렬된 시퀀스와 기본값은 건드리지 않는다")
+    void align_leavesAlignedSequence() {
+        // given
+        when(jdbcTemplate.queryForObject(contains("MAX(id)"), eq(Long.class))).thenReturn(1200L);
+        when(jdbcTemplate.queryForObject(contains("last_value"), eq(Long.class))).thenReturn(1250L);
+
+        // when
+        initializer.align(CANDIDATES);
+
+        // then
+        verify(jdbcTemplate, never()).queryForObject(startsWith("SELECT setval"), eq(Long.class), any(), any());
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER"));
+    }
+
+    @Test
+    @DisplayName("IDENTITY 컬럼이면 기본값을 시퀀스로 전환한다")
+    void align_switchesIdentityColumnToSequence() {
+        // given
+        when(jdbcTemplate.queryForObject(contains("MAX(id)"), eq(Long.class))).thenReturn(0L);
+        when(jdbcTemplate.queryForObject(contains("last_value"), eq(Long.class))).thenReturn(1L);
+        when(jdbcTemplate.queryForMap(contains("information_schema.columns"), any()))
+            .thenReturn(Map.of("is_identity", "YES"));
+
+        // when
+        initializer.align(CANDIDATES);
+
+        // then
+        verify(jdbcTemplate).execute("ALTER TABLE travel_candidates ALTER COLUMN id DROP IDENTITY IF EXISTS");
+        verify(jdbcTemplate).execute("ALTER TABLE travel_candidates ALTER COLUMN id SET DEFAULT nextval('travel_candidates_seq')");
+    }
+
+    @Test
+    @DisplayName("PostgreSQL이 아니면 아무것도 하지 않는다")
+    void alignOnStartup_skipsOtherDatabases() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(false);
+
+        initializer.alignOnStartup();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private void assertMatches(Class<?> entity, String sequence, int allocationSize, String migrationPath) throws Exception {
+        SequenceGenerator generator = entity.getDeclaredField("id").getAnnotation(SequenceGenerator.class);
+        String migration = new ClassPathResource(migrationPath).getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(generator.sequenceName()).isEqualTo(sequence);
+        assertThat(generator.allocationSize()).isEqualTo(allocationSize);
+        assertThat(migration).contains("CREATE SEQUENCE IF NOT EXISTS " + sequence + " INCREMENT BY " + allocationSize);
+    }
+}
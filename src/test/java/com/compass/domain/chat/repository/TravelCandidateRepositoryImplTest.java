@@ -0,0 +1,128 @@
+package com.compass.domain.chat.repository;
+
+import com.compass.domain.chat.entity.TravelCandidate;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.jdbc.ReturningWork;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TravelCandidateRepositoryImplTest {
+
+    // CSV 재임포트가 갱신해도 되는 컬럼 - 나머지는 보강 서비스가 채운 값을 지켜야 한다
+    private static final Set<String> CSV_OWNED_COLUMNS =
+        Set.of("name", "sub_region", "category", "time_block", "is_active", "updated_at");
+
+    private static final Set<String> ENRICHED_COLUMNS = Set.of(
+        "latitude", "longitude", "rating", "review_count", "price_level", "description", "address",
+        "quality_score", "reliability_level", "photo_url", "phone_number", "website", "business_hours");
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    private TravelCandidateRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = new TravelCandidateRepositoryImpl(new JPAQueryFactory(entityManager), entityManager);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(session.doReturningWork(any())).thenAnswer(invocation ->
+            ((ReturningWork<?>) invocation.getArgument(0)).execute(connection));
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeBatch()).thenAnswer(invocation -> new int[]{1});
+    }
+
+    @Test
+    @DisplayName("재임포트 upsert는 CSV가 소유한 컬럼만 갱신하고 보강된 컬럼은 덮어쓰지 않는다")
+    void upsert_keepsEnrichedColumnsOnConflict() {
+        Set<String> upsertColumns = updatedColumns(TravelCandidateRepositoryImpl.UPSERT_SQL);
+        Set<String> mergeColumns = updatedColumns(TravelCandidateRepositoryImpl.MERGE_STAGING_SQL);
+
+        assertThat(upsertColumns).isEqualTo(CSV_OWNED_COLUMNS).doesNotContainAnyElementsOf(ENRICHED_COLUMNS);
+        assertThat(mergeColumns).isEqualTo(upsertColumns);
+    }
+
+    @Test
+    @DisplayName("같은 (place_id, region)은 마지막 값만 남겨 한 배치로 실행한다")
+    void upsertAll_deduplicatesKeysAndBatches() throws Exception {
+        // given
+        List<TravelCandidate> candidates = List.of(
+            candidate("csv_a", "서울", "광장시장"),
+            candidate("csv_b", "서울", "경복궁"),
+            candidate("csv_a", "서울", "광장시장(수정)"));
+
+        // when
+        int written = repository.upsertAll(candidates);
+
+        // then
+        verify(connection).prepareStatement(TravelCandidateRepositoryImpl.UPSERT_SQL);
+        verify(statement, times(2)).addBatch();
+        verify(statement).setString(2, "광장시장(수정)");
+        verify(statement, never()).setString(2, "광장시장");
+        verify(statement).executeBatch();
+        verify(entityManager).flush();
+        assertThat(written).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("빈 목록은 DB에 접근하지 않는다")
+    void upsertAll_skipsEmptyInput() throws Exception {
+        assertThat(repository.upsertAll(List.of())).isZero();
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    // ON CONFLICT ... DO UPDATE SET 뒤의 "컬럼 = ..." 목록
+    private Set<String> updatedColumns(String sql) {
+        String setClause = sql.substring(sql.indexOf("DO UPDATE SET") + "DO UPDATE SET".length());
+        return Arrays.stream(setClause.split(","))
+            .map(assignment -> assignment.substring(0, assignment.indexOf('=')).trim())
+            .collect(Collectors.toSet());
+    }
+
+    private TravelCandidate candidate(String placeId, String region, String name) {
+        return TravelCandidate.builder()
+            .placeId(placeId)
+            .region(region)
+            .name(name)
+            .category("관광지")
+            .timeBlock(TravelCandidate.TimeBlock.MORNING_ACTIVITY)
+            .latitude(37.5)
+            .longitude(127.0)
+            .rating(4.5)
+            .reviewCount(100)
+            .build();
+    }
+}
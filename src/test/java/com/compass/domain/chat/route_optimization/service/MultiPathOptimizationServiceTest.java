@@ -0,0 +1,120 @@
+package com.compass.domain.chat.route_optimization.service;
+
+import com.compass.domain.chat.function.processing.phase3.date_selection.model.TourPlace;
+import com.compass.domain.chat.route_optimization.client.KakaoMobilityClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class MultiPathOptimizationServiceTest {
+
+    private static final List<String> TIME_BLOCKS = List.of(
+        "BREAKFAST", "MORNING_ACTIVITY", "LUNCH",
+        "AFTERNOON_ACTIVITY", "DINNER", "EVENING_ACTIVITY"
+    );
+    private static final KakaoMobilityClient.TransportMode MODE = KakaoMobilityClient.TransportMode.CAR;
+
+    private MultiPathOptimizationService service;
+
+    @BeforeEach
+    void setUp() {
+        // calculateDistance는 Haversine 계산만 하므로 RestTemplate 없이 사용
+        service = new MultiPathOptimizationService(new KakaoMobilityClient(null, new ObjectMapper()));
+    }
+
+    @Test
+    @DisplayName("DP 결과는 모든 경로를 전수 탐색한 최소 비용과 같고 Beam Search보다 나쁘지 않다")
+    void findOptimalPath_matchesBruteForce() {
+        // given
+        Random random = new Random(42);
+        for (int run = 0; run < 20; run++) {
+            Map<String, List<TourPlace>> candidates = randomCandidates(random, 4);
+
+            // when
+            List<TourPlace> dp = service.findOptimalPath(candidates, MODE);
+            List<TourPlace> beam = service.beamSearchOptimization(candidates, TIME_BLOCKS, MODE);
+
+            // then
+            assertThat(dp).hasSize(TIME_BLOCKS.size());
+            for (int i = 0; i < TIME_BLOCKS.size(); i++) {
+                assertThat(dp.get(i).timeBlock()).isEqualTo(TIME_BLOCKS.get(i));
+            }
+            double best = bruteForce(candidates, 0, null, 0.0);
+            assertThat(pathCost(dp)).isCloseTo(best, offset(1e-9));
+            assertThat(pathCost(dp)).isLessThanOrEqualTo(pathCost(beam) + 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("후보 수가 임계값을 넘으면 Beam Search, 비어 있는 시간블록이 있으면 빈 경로")
+    void findOptimalPath_fallsBackToBeamSearch() {
+        // given
+        Map<String, List<TourPlace>> candidates = randomCandidates(new Random(7), 5);
+        ReflectionTestUtils.setField(service, "beamSearchThreshold", 3);
+
+        List<TourPlace> expected = service.beamSearchOptimization(candidates, TIME_BLOCKS, MODE);
+
+        // when
+        List<TourPlace> path = service.findOptimalPath(candidates, MODE);
+        candidates.put("LUNCH", List.of());
+        List<TourPlace> empty = service.dynamicProgrammingOptimization(candidates, TIME_BLOCKS, MODE);
+
+        // then
+        assertThat(path).isEqualTo(expected);
+        assertThat(empty).isEmpty();
+    }
+
+    private Map<String, List<TourPlace>> randomCandidates(Random random, int perBlock) {
+        Map<String, List<TourPlace>> candidates = new LinkedHashMap<>();
+        for (String block : TIME_BLOCKS) {
+            List<TourPlace> places = new ArrayList<>();
+            for (int i = 0; i < perBlock; i++) {
+                places.add(TourPlace.builder()
+                    .id(block + "-" + i)
+                    .name(block + " 장소 " + i)
+                    .timeBlock(block)
+                    .latitude(33.3 + random.nextDouble() * 0.2)
+                    .longitude(126.3 + random.nextDouble() * 0.4)
+                    .rating(3.0 + random.nextDouble() * 2.0)
+                    .build());
+            }
+            candidates.put(block, places);
+        }
+        return candidates;
+    }
+
+    private double bruteForce(Map<String, List<TourPlace>> candidates, int layer, TourPlace previous, double cost) {
+        if (layer == TIME_BLOCKS.size()) {
+            return cost;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (TourPlace place : candidates.get(TIME_BLOCKS.get(layer))) {
+            double step = previous == null ? 0.0 : transitionCost(previous, place);
+            best = Math.min(best, bruteForce(candidates, layer + 1, place, cost + step));
+        }
+        return best;
+    }
+
+    private double pathCost(List<TourPlace> path) {
+        double cost = 0.0;
+        for (int i = 1; i < path.size(); i++) {
+            cost += transitionCost(path.get(i - 1), path.get(i));
+        }
+        return cost;
+    }
+
+    private double transitionCost(TourPlace from, TourPlace to) {
+        return ReflectionTestUtils.invokeMethod(service, "calculateTransitionCost", from, to, MODE);
+    }
+}
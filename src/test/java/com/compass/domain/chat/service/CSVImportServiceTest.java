@@ -0,0 +1,139 @@
+package com.compass.domain.chat.service;
+
+import com.compass.domain.chat.common.snapshot.TravelCandidateChangedEvent;
+import com.compass.domain.chat.entity.TravelCandidate;
+import com.compass.domain.chat.repository.TravelCandidateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CSVImportServiceTest {
+
+    private static final String HEADER = "시간블록,#,이름,지역,주소,카테고리";
+
+    @Mock
+    private TravelCandidateRepository travelCandidateRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path tempDir;
+
+    private CSVImportService csvImportService;
+    private List<TravelCandidate> copied;
+
+    @BeforeEach
+    void setUp() {
+        csvImportService = new CSVImportService(travelCandidateRepository, eventPublisher);
+        copied = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("스트리밍 임포트는 유효한 행만 COPY로 넘기고 거부된 행은 줄 번호와 함께 보고한다")
+    void importCSVFileStreaming_reportsRejectedLines() throws IOException {
+        // given
+        Path csv = writeCsv(
+            HEADER,
+            "점심식사(12:00-14:00),1,광장시장,서울,서울 종로구 창경궁로 88,맛집(전통시장)",
+            "오전일과(10:00-12:00),2,경복궁,서울",
+            "저녁식사(18:00-20:00),3,,서울,서울 중구 명동길 14,맛집",
+            "",
+            "오후일과(14:00-17:00),4,해운대,부산,부산 해운대구 우동,관광지"
+        );
+        when(travelCandidateRepository.copyUpsert(any())).thenAnswer(invocation -> drain(invocation.getArgument(0)));
+
+        // when
+        CSVImportService.StreamingImportResult result = csvImportService.importCSVFileStreaming(csv.toString());
+
+        // then
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(copied).extracting(TravelCandidate::getName).containsExactly("광장시장", "해운대");
+        assertThat(result.rejectedCount()).isEqualTo(2);
+        assertThat(result.rejectedRows()).extracting(CSVImportService.RejectedRow::lineNumber).containsExactly(3L, 4L);
+        verify(eventPublisher).publishEvent(new TravelCandidateChangedEvent("서울"));
+        verify(eventPublisher).publishEvent(new TravelCandidateChangedEvent("부산"));
+    }
+
+    @Test
+    @DisplayName("같은 장소는 재임포트해도 같은 place_id로 upsert된다")
+    void importCSVFileStreaming_usesStablePlaceId() throws IOException {
+        // given
+        Path csv = writeCsv(HEADER, "점심식사(12:00-14:00),1,광장시장,서울,서울 종로구 창경궁로 88,맛집");
+        when(travelCandidateRepository.copyUpsert(any())).thenAnswer(invocation -> drain(invocation.getArgument(0)));
+
+        // when
+        csvImportService.importCSVFileStreaming(csv.toString());
+        csvImportService.importCSVFileStreaming(csv.toString());
+
+        // then
+        assertThat(copied).hasSize(2);
+        assertThat(copied.get(0).getPlaceId()).isEqualTo(copied.get(1).getPlaceId());
+    }
+
+    @Test
+    @DisplayName("place_id는 잘리지 않은 UUID이며 V7 백필 SQL과 같은 규칙으로 만들어진다")
+    void generatePlaceId_matchesBackfillRule() throws Exception {
+        String placeId = CSVImportService.generatePlaceId("서울", "광장시장", "서울 종로구 창경궁로 88");
+
+        assertThat(placeId).matches("csv_[0-9a-f]{8}-[0-9a-f]{4}-3[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}");
+        assertThat(placeId).isEqualTo(backfillPlaceId("서울|광장시장|서울 종로구 창경궁로 88"));
+    }
+
+    @Test
+    @DisplayName("파일을 읽을 수 없으면 예외를 던지고 DB에 쓰지 않는다")
+    void importCSVFileStreaming_failsOnMissingFile() {
+        assertThatThrownBy(() -> csvImportService.importCSVFileStreaming(tempDir.resolve("missing.csv").toString()))
+            .isInstanceOf(IllegalStateException.class);
+        verify(travelCandidateRepository, never()).copyUpsert(any());
+    }
+
+    // V7의 md5 기반 백필 식을 그대로 옮긴 것
+    private String backfillPlaceId(String key) throws Exception {
+        byte[] digest = MessageDigest.getInstance("MD5").digest(key.getBytes(StandardCharsets.UTF_8));
+        String h = HexFormat.of().formatHex(digest);
+        int variant = (Integer.parseInt(h.substring(16, 17), 16) & 3) | 8;
+        return "csv_" + h.substring(0, 8) + "-" + h.substring(8, 12)
+            + "-3" + h.substring(13, 16)
+            + "-" + Integer.toHexString(variant) + h.substring(17, 20)
+            + "-" + h.substring(20, 32);
+    }
+
+    private int drain(Iterator<TravelCandidate> rows) {
+        int count = 0;
+        while (rows.hasNext()) {
+            copied.add(rows.next());
+            count++;
+        }
+        return count;
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path csv = tempDir.resolve("places.csv");
+        Files.write(csv, List.of(lines), StandardCharsets.UTF_8);
+        return csv;
+    }
+}
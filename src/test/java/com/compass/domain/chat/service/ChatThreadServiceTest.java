@@ -0,0 +1,314 @@
+package com.compass.domain.chat.service;
+
+import com.compass.domain.auth.entity.User;
+import com.compass.domain.auth.repository.UserRepository;
+import com.compass.domain.chat.entity.ChatMessage;
+import com.compass.domain.chat.entity.ChatThread;
+import com.compass.domain.chat.model.dto.ChatMessageView;
+import com.compass.domain.chat.model.dto.MessageCursor;
+import com.compass.domain.chat.model.dto.MessageHistoryPage;
+import com.compass.domain.chat.model.enums.TravelPhase;
+import com.compass.domain.chat.repository.ChatMessageRepository;
+import com.compass.domain.chat.repository.ChatThreadRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatThreadServiceTest {
+
+    private static final String THREAD_ID = "thread-1";
+
+    @Mock
+    private ChatThreadRepository chatThreadRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private ChatThreadService chatThreadService;
+
+    private ChatTurn turn;
+
+    @AfterEach
+    void tearDown() {
+        if (turn != null) {
+            turn.end();
+        }
+    }
+
+    @Test
+    @DisplayName("턴 안에서는 메시지 저장이 DB에 가지 않고 턴에 모이며 empty를 반환한다")
+    void saveMessage_buffersInsideTurn() {
+        // given
+        turn = ChatTurn.begin(THREAD_ID, "1");
+
+        // when
+        Optional<ChatMessage> result = chatThreadService.saveMessage(
+            new ChatThreadService.MessageSaveRequest(THREAD_ID, "user", "제주 여행 가고 싶어"));
+
+        // then
+        assertThat(result).isEmpty();
+        assertThat(turn.getMessages()).extracting(ChatTurn.PendingMessage::content).containsExactly("제주 여행 가고 싶어");
+        verifyNoInteractions(chatThreadRepository, chatMessageRepository, userRepository);
+    }
+
+    @Test
+    @DisplayName("턴 안에서도 스레드는 바로 만들어 같은 턴의 다른 저장이 조회할 수 있다")
+    void ensureThreadExists_createsThreadEagerlyInsideTurn() {
+        // given
+        User user = mock(User.class);
+        when(chatThreadRepository.findById(THREAD_ID)).thenReturn(Optional.empty());
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(chatThreadRepository.save(any(ChatThread.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        turn = ChatTurn.begin(THREAD_ID, "1");
+
+        // when
+        chatThreadService.ensureThreadExists(THREAD_ID, "1");
+
+        // then
+        verify(chatThreadRepository).save(argThat(thread -> THREAD_ID.equals(thread.getId())));
+        verify(chatThreadRepository).flush();
+    }
+
+    @Test
+    @DisplayName("메시지 추가 - 스레드 카운터 UPDATE 1회 + 메시지 INSERT 1회, 메시지 컬렉션은 읽지 않는다")
+    void saveMessage_issuesOneUpdateAndOneInsert() {
+        // given
+        ChatThread reference = mock(ChatThread.class);
+        when(chatThreadRepository.recordAppendedMessage(eq(THREAD_ID), any(), eq("제주 여행 가고 싶어"), eq("제주 여행 가고 싶어")))
+            .thenReturn(1);
+        when(chatThreadRepository.getReferenceById(THREAD_ID)).thenReturn(reference);
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ChatMessage saved = chatThreadService.saveMessage(
+            new ChatThreadService.MessageSaveRequest(THREAD_ID, "user", "제주 여행 가고 싶어")).orElseThrow();
+
+        // then
+        assertThat(saved.getThread()).isSameAs(reference);
+        assertThat(saved.getTimestamp()).isNotNull();
+        verify(chatThreadRepository).recordAppendedMessage(eq(THREAD_ID), eq(saved.getTimestamp()), anyString(), anyString());
+        verify(chatThreadRepository).getReferenceById(THREAD_ID);
+        verify(chatMessageRepository).save(any(ChatMessage.class));
+        verifyNoMoreInteractions(chatThreadRepository, chatMessageRepository);
+        verifyNoInteractions(reference, userRepository);
+    }
+
+    @Test
+    @DisplayName("메시지 추가 - 어시스턴트 메시지는 제목을 바꾸지 않는다")
+    void saveMessage_assistantMessageDoesNotSetTitle() {
+        // given
+        when(chatThreadRepository.recordAppendedMessage(eq(THREAD_ID), any(), anyString(), isNull())).thenReturn(1);
+        when(chatThreadRepository.getReferenceById(THREAD_ID)).thenReturn(mock(ChatThread.class));
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        chatThreadService.saveMessage(new ChatThreadService.MessageSaveRequest(THREAD_ID, "assistant", "출발 날짜를 알려주세요."));
+
+        // then
+        verify(chatThreadRepository).recordAppendedMessage(eq(THREAD_ID), any(), eq("출발 날짜를 알려주세요."), isNull());
+    }
+
+    @Test
+    @DisplayName("메시지 추가 - 갱신된 스레드가 없으면 카운터를 채운 스레드를 만든다")
+    void saveMessage_createsMissingThreadWithCounters() {
+        // given
+        User user = mock(User.class);
+        when(chatThreadRepository.recordAppendedMessage(eq(THREAD_ID), any(), anyString(), anyString())).thenReturn(0);
+        when(userRepository.findAll()).thenReturn(List.of(user));
+        when(chatThreadRepository.save(any(ChatThread.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        ChatMessage saved = chatThreadService.saveMessage(
+            new ChatThreadService.MessageSaveRequest(THREAD_ID, "user", "안녕")).orElseThrow();
+
+        // then
+        ChatThread created = saved.getThread();
+        assertThat(created.getId()).isEqualTo(THREAD_ID);
+        assertThat(created.getTitle()).isEqualTo("안녕");
+        assertThat(created.getMessageCount()).isEqualTo(1);
+        assertThat(created.getLastMessageAt()).isEqualTo(saved.getTimestamp());
+        assertThat(created.getLastMessagePreview()).isEqualTo("안녕");
+        verify(chatThreadRepository, never()).getReferenceById(any());
+    }
+
+    @Test
+    @DisplayName("턴 저장 - 스레드 조회 1회, 메시지 일괄 저장, 제목/메시지 카운터/Phase를 한 번에 갱신")
+    void saveTurn_writesMessagesAndPhaseTogether() {
+        // given
+        ChatThread thread = ChatThread.builder().id(THREAD_ID).title("새 대화").build();
+        when(chatThreadRepository.findById(THREAD_ID)).thenReturn(Optional.of(thread));
+        when(chatMessageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        turn = ChatTurn.begin(THREAD_ID, "1");
+        turn.recordMessage("user", "부산 2박 3일 일정 짜줘");
+        turn.recordPhase(TravelPhase.INFORMATION_COLLECTION);
+        turn.recordMessage("assistant", "출발 날짜를 알려주세요.");
+        turn.end();
+
+        // when
+        List<ChatMessage> saved = chatThreadService.saveTurn(turn);
+
+        // then
+        assertThat(saved).extracting(ChatMessage::getRole).containsExactly("user", "assistant");
+        assertThat(saved).allMatch(message -> message.getThread() == thread);
+        verify(chatThreadRepository).recordAppendedTurn(eq(THREAD_ID), eq(2), eq(saved.get(1).getTimestamp()),
+            eq("출발 날짜를 알려주세요."), eq("부산 2박 3일 일정 짜줘"),
+            eq(TravelPhase.INFORMATION_COLLECTION.name()), notNull());
+        // 카운터는 DB에서 더하므로 읽어 온 엔티티는 고치지 않는다
+        assertThat(thread.getMessageCount()).isZero();
+        assertThat(thread.getTitle()).isEqualTo("새 대화");
+        verify(chatMessageRepository).saveAll(anyList());
+        verify(chatMessageRepository, never()).save(any());
+        verify(chatThreadRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("턴 저장 - 어시스턴트 메시지만 있으면 제목 후보 없이, Phase가 없으면 Phase를 유지하도록 갱신한다")
+    void saveTurn_withoutUserMessageOrPhase_keepsTitleAndPhase() {
+        // given
+        ChatThread thread = ChatThread.builder().id(THREAD_ID).title("제주도 3박 4일").build();
+        when(chatThreadRepository.findById(THREAD_ID)).thenReturn(Optional.of(thread));
+        when(chatMessageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        turn = ChatTurn.begin(THREAD_ID, "1");
+        turn.recordMessage("assistant", "둘째 날 일정을 다시 짰어요.");
+        turn.end();
+
+        // when
+        chatThreadService.saveTurn(turn);
+
+        // then
+        verify(chatThreadRepository).recordAppendedTurn(eq(THREAD_ID), eq(1), any(),
+            eq("둘째 날 일정을 다시 짰어요."), isNull(), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("턴 저장 - 메시지 없이 Phase만 바뀌면 Phase만 갱신한다")
+    void saveTurn_phaseOnly_updatesPhase() {
+        // given
+        ChatThread thread = ChatThread.builder().id(THREAD_ID).title("새 대화").build();
+        when(chatThreadRepository.findById(THREAD_ID)).thenReturn(Optional.of(thread));
+        when(chatMessageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        turn = ChatTurn.begin(THREAD_ID, "1");
+        turn.recordPhase(TravelPhase.PLAN_GENERATION);
+        turn.end();
+
+        // when
+        List<ChatMessage> saved = chatThreadService.saveTurn(turn);
+
+        // then
+        assertThat(saved).isEmpty();
+        verify(chatThreadRepository).recordPhase(eq(THREAD_ID), eq(TravelPhase.PLAN_GENERATION.name()), notNull());
+        verify(chatThreadRepository, never()).recordAppendedTurn(any(), anyInt(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("턴 저장 - 스레드가 없으면 함께 만든다")
+    void saveTurn_createsMissingThread() {
+        // given
+        User user = mock(User.class);
+        when(chatThreadRepository.findById(THREAD_ID)).thenReturn(Optional.empty());
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+        when(chatThreadRepository.save(any(ChatThread.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(chatMessageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        turn = ChatTurn.begin(THREAD_ID, "7");
+        turn.recordMessage("user", "안녕");
+        turn.end();
+
+        // when
+        List<ChatMessage> saved = chatThreadService.saveTurn(turn);
+
+        // then
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getThread().getId()).isEqualTo(THREAD_ID);
+        assertThat(saved.get(0).getThread().getUser()).isSameAs(user);
+        verify(chatThreadRepository).recordAppendedTurn(eq(THREAD_ID), eq(1), any(), eq("안녕"), eq("안녕"), isNull(), isNull());
+    }
+
+    @Test
+    @DisplayName("대화 기록 첫 페이지 - limit + 1행만 조회하고 시간순으로 돌려주며 더 있으면 nextCursor를 준다")
+    void getHistoryPage_firstPageReadsLimitPlusOne() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2026, 10, 1, 12, 0);
+        when(chatMessageRepository.findLatestViews(eq(THREAD_ID), any(Pageable.class))).thenReturn(List.of(
+            view(5L, base.plusMinutes(5)), view(4L, base.plusMinutes(4)), view(3L, base.plusMinutes(3))));
+
+        // when
+        MessageHistoryPage page = chatThreadService.getHistoryPage(THREAD_ID, null, 2);
+
+        // then
+        assertThat(page.messages()).extracting(ChatMessageView::id).containsExactly(4L, 5L);
+        assertThat(MessageCursor.decode(page.nextCursor())).isEqualTo(new MessageCursor(base.plusMinutes(4), 4L));
+        verify(chatMessageRepository).findLatestViews(eq(THREAD_ID), argThat(pageable -> pageable.getPageSize() == 3));
+        verifyNoMoreInteractions(chatMessageRepository);
+    }
+
+    @Test
+    @DisplayName("대화 기록 다음 페이지 - 커서의 (timestamp, id) 이전부터 조회하고 마지막 페이지면 nextCursor가 없다")
+    void getHistoryPage_continuesFromCursor() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2026, 10, 1, 12, 0);
+        String cursor = new MessageCursor(base.plusMinutes(4), 4L).encode();
+        when(chatMessageRepository.findViewsBefore(eq(THREAD_ID), eq(base.plusMinutes(4)), eq(4L), any(Pageable.class)))
+            .thenReturn(List.of(view(3L, base.plusMinutes(3)), view(2L, base.plusMinutes(3))));
+
+        // when
+        MessageHistoryPage page = chatThreadService.getHistoryPage(THREAD_ID, cursor, 2);
+
+        // then
+        assertThat(page.messages()).extracting(ChatMessageView::id).containsExactly(2L, 3L);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("기존 메시지 조회 - 처음 limit개만 DB에서 시간순으로 읽는다")
+    void getFirstMessages_readsOnlyLimitRows() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2026, 10, 1, 12, 0);
+        when(chatMessageRepository.findFirstViews(eq(THREAD_ID), any(Pageable.class)))
+            .thenReturn(List.of(view(1L, base), view(2L, base.plusMinutes(1))));
+
+        // when
+        List<ChatMessageView> messages = chatThreadService.getFirstMessages(THREAD_ID, 2);
+
+        // then
+        assertThat(messages).extracting(ChatMessageView::id).containsExactly(1L, 2L);
+        verify(chatMessageRepository).findFirstViews(eq(THREAD_ID), argThat(pageable -> pageable.getPageSize() == 2));
+        assertThat(chatThreadService.getFirstMessages(THREAD_ID, 0)).isEmpty();
+        verifyNoMoreInteractions(chatMessageRepository);
+    }
+
+    @Test
+    @DisplayName("대화 기록 - 잘못된 커서는 IllegalArgumentException")
+    void getHistoryPage_rejectsMalformedCursor() {
+        assertThatThrownBy(() -> chatThreadService.getHistoryPage(THREAD_ID, "not-a-cursor", 50))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    private static ChatMessageView view(Long id, LocalDateTime timestamp) {
+        return new ChatMessageView(id, THREAD_ID, "user", "메시지 " + id, timestamp);
+    }
+}
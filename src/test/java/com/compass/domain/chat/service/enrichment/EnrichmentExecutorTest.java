@@ -0,0 +1,162 @@
+package com.compass.domain.chat.service.enrichment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EnrichmentExecutorTest {
+
+    private ApiRateLimiter rateLimiter;
+    private SimpleMeterRegistry meterRegistry;
+    private EnrichmentExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new ApiRateLimiter();
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new EnrichmentExecutor(rateLimiter, meterRegistry, 2, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("동시 요청 수는 QPS × 예상 응답 시간으로 정하고 1 이상, 상한 이하로 제한한다")
+    void inFlight_followsRateAndLatency() {
+        // google_places 10 QPS × 2초 = 20 → 상한 16, perplexity 0.05 QPS → 최소 1, tour_api 5 QPS × 2초 = 10
+        assertThat(executor.inFlightFor("google_places")).isEqualTo(16);
+        assertThat(executor.inFlightFor("perplexity")).isEqualTo(1);
+        assertThat(executor.inFlightFor("tour_api")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("여러 항목을 동시에 처리하되 API별 동시 요청 수를 넘지 않는다")
+    void run_processesConcurrentlyWithinLimit() {
+        // given - kakao_map 30 QPS × 2초 → 상한 16
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Set<Integer> processed = ConcurrentHashMap.newKeySet();
+        List<Integer> items = IntStream.range(0, 40).boxed().toList();
+
+        // when
+        executor.run("kakao_map", items, item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(10);
+            running.decrementAndGet();
+            processed.add(item);
+        });
+
+        // then
+        assertThat(processed).hasSize(40);
+        assertThat(maxRunning.get()).isGreaterThan(1).isLessThanOrEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("API별 이름 붙은 전용 풀에서 실행하고 작업 지표를 남긴다")
+    void run_usesNamedProviderPoolAndRecordsMetrics() {
+        // given
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+        // when
+        executor.run("tour_api", List.of(1, 2, 3), item -> {
+            threadNames.add(Thread.currentThread().getName());
+            if (item == 2) {
+                throw new IllegalStateException("boom");
+            }
+        });
+
+        // then
+        assertThat(threadNames).allMatch(name -> name.startsWith("enrichment-tour_api-"));
+        assertThat(meterRegistry.get("enrichment.task").tag("provider", "tour_api").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("enrichment.task.failures").tag("provider", "tour_api").counter().count()).isEqualTo(1.0);
+        assertThat(executor.poolFor("tour_api").getMaximumPoolSize()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("dispatchAsync는 호출한 스레드를 잡지 않고 보강 전용 조율 스레드에서 실행한다")
+    void dispatchAsync_runsOffCallerThread() throws Exception {
+        // given
+        String caller = Thread.currentThread().getName();
+
+        // when
+        String worker = executor.dispatchAsync(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(worker).isNotEqualTo(caller).startsWith("enrichment-dispatch-");
+    }
+
+    @Test
+    @DisplayName("QPS가 낮은 API는 한 번에 하나씩만 실행한다")
+    void run_lowRateApi_runsOneAtATime() {
+        // given
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        executor.run("perplexity", List.of(1, 2, 3, 4), item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(5);
+            running.decrementAndGet();
+        });
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 항목이 실패해도 나머지 항목은 계속 처리한다")
+    void run_failureDoesNotStopOthers() {
+        // given
+        AtomicInteger processed = new AtomicInteger();
+
+        // when
+        executor.run("tour_api", List.of(1, 2, 3, 4, 5), item -> {
+            if (item == 3) {
+                throw new IllegalStateException("boom");
+            }
+            processed.incrementAndGet();
+        });
+
+        // then
+        assertThat(processed.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("runThrottled는 항목마다 허가를 받으므로 처리 속도가 QPS를 넘지 않는다")
+    void runThrottled_isBoundedByRate() throws Exception {
+        // given - 20 QPS에서 첫 허가 이후 10개를 더 받으려면 약 0.5초가 필요
+        rateLimiter.updateRate("test_api", 20.0);
+        CountDownLatch done = new CountDownLatch(11);
+
+        // when
+        long start = System.nanoTime();
+        executor.runThrottled("test_api", IntStream.range(0, 11).boxed().toList(), item -> done.countDown());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(400);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
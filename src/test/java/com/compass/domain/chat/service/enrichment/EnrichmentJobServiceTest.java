@@ -0,0 +1,257 @@
+package com.compass.domain.chat.service.enrichment;
+
+import com.compass.domain.chat.entity.EnrichmentJob;
+import com.compass.domain.chat.entity.EnrichmentJob.Status;
+import com.compass.domain.chat.repository.EnrichmentJobRepository;
+import com.compass.domain.chat.repository.TravelCandidateRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class EnrichmentJobServiceTest {
+
+    private static final String PROVIDER = "TourApiEnrichment";
+    private static final String LEASE = "lease-1";
+
+    @Mock
+    private EnrichmentService enrichmentService;
+
+    @Mock
+    private EnrichmentJobRepository jobRepository;
+
+    @Mock
+    private TravelCandidateRepository travelCandidateRepository;
+
+    private EnrichmentExecutor executor;
+    private EnrichmentJobService jobService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new EnrichmentExecutor(new ApiRateLimiter(), new SimpleMeterRegistry(), 2, 16);
+        when(enrichmentService.getServiceName()).thenReturn(PROVIDER);
+        jobService = new EnrichmentJobService(List.of(enrichmentService), jobRepository, travelCandidateRepository, executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobService.shutdown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("청크마다 체크포인트를 기록하고 빈 청크를 만나면 완료 처리한다")
+    void start_recordsEachChunkAndCompletes() {
+        // given
+        EnrichmentJob job = savedJob(0L);
+        when(jobRepository.save(any(EnrichmentJob.class))).thenReturn(job);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(enrichmentService.enrichChunk(0L, 2)).thenReturn(chunk(2, 2, 10L));
+        when(enrichmentService.enrichChunk(10L, 2)).thenReturn(chunk(2, 1, 20L));
+        when(enrichmentService.enrichChunk(20L, 2)).thenReturn(chunk(0, 0, 20L));
+        when(jobRepository.recordChunk(eq(1L), eq(LEASE), anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), any())).thenReturn(1);
+
+        // when
+        jobService.start(PROVIDER, 2);
+
+        // then
+        verify(jobRepository, timeout(2000)).finish(eq(1L), anyString(), eq(Status.COMPLETED), isNull(), any());
+        verify(jobRepository).recordChunk(eq(1L), eq(LEASE), eq(10L), eq(2), eq(2), eq(0), eq(0), any());
+        verify(jobRepository).recordChunk(eq(1L), eq(LEASE), eq(20L), eq(2), eq(1), eq(0), eq(0), any());
+    }
+
+    @Test
+    @DisplayName("체크포인트 기록이 반영되지 않으면(취소됐거나 다른 인스턴스가 점유) 다음 청크를 처리하지 않는다")
+    void start_stopsWhenCancelled() {
+        // given
+        EnrichmentJob job = savedJob(0L);
+        when(jobRepository.save(any(EnrichmentJob.class))).thenReturn(job);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(enrichmentService.enrichChunk(0L, 2)).thenReturn(chunk(2, 2, 10L));
+        when(jobRepository.recordChunk(eq(1L), eq(LEASE), anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), any())).thenReturn(0);
+
+        // when
+        jobService.start(PROVIDER, 2);
+
+        // then
+        verify(jobRepository, timeout(2000)).recordChunk(eq(1L), eq(LEASE), eq(10L), anyInt(), anyInt(), anyInt(), anyInt(), any());
+        verify(enrichmentService, after(200).never()).enrichChunk(eq(10L), anyInt());
+        verify(jobRepository, never()).finish(anyLong(), any(), eq(Status.COMPLETED), any(), any());
+    }
+
+    @Test
+    @DisplayName("청크 처리 중 예외가 나면 마지막 체크포인트를 남긴 채 실패 처리한다")
+    void start_marksFailedOnError() {
+        // given
+        EnrichmentJob job = savedJob(0L);
+        when(jobRepository.save(any(EnrichmentJob.class))).thenReturn(job);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(enrichmentService.enrichChunk(0L, 2)).thenThrow(new IllegalStateException("DB down"));
+
+        // when
+        jobService.start(PROVIDER, 2);
+
+        // then
+        verify(jobRepository, timeout(2000)).finish(eq(1L), anyString(), eq(Status.FAILED), eq("DB down"), any());
+    }
+
+    @Test
+    @DisplayName("재개는 마지막 체크포인트 다음 청크부터 처리한다")
+    void resume_continuesFromCheckpoint() {
+        // given
+        EnrichmentJob job = savedJob(500L);
+        job.setStatus(Status.FAILED);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(jobRepository.claimForResume(eq(1L), anyString(), any(), any())).thenReturn(1);
+        when(enrichmentService.enrichChunk(500L, 2)).thenReturn(chunk(0, 0, 500L));
+
+        // when
+        jobService.resume(1L);
+
+        // then - 재개한 실행자는 새로 발급한 점유 토큰으로만 쓴다
+        ArgumentCaptor<String> claimed = ArgumentCaptor.forClass(String.class);
+        verify(jobRepository).claimForResume(eq(1L), claimed.capture(), any(), any());
+        verify(jobRepository, timeout(2000)).finish(eq(1L), eq(claimed.getValue()), eq(Status.COMPLETED), isNull(), any());
+        assertThat(claimed.getValue()).isNotEqualTo(LEASE);
+        verify(enrichmentService, never()).enrichChunk(eq(0L), anyInt());
+    }
+
+    @Test
+    @DisplayName("청크가 끝나지 않아도 heartbeat로 updatedAt을 갱신해 다른 인스턴스가 재개하지 못하게 한다")
+    void start_heartbeatsWhileChunkRuns() {
+        // given - stale 0분 -> heartbeat 최소 간격(1초)
+        ReflectionTestUtils.setField(jobService, "staleAfterMinutes", 0L);
+        EnrichmentJob job = savedJob(0L);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jobRepository.save(any(EnrichmentJob.class))).thenReturn(job);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(enrichmentService.enrichChunk(0L, 2)).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return chunk(0, 0, 0L);
+        });
+        when(jobRepository.heartbeat(eq(1L), eq(LEASE), any())).thenReturn(1);
+
+        // when
+        jobService.start(PROVIDER, 2);
+
+        // then
+        verify(jobRepository, timeout(3000)).heartbeat(eq(1L), eq(LEASE), any());
+        release.countDown();
+        verify(jobRepository, timeout(2000)).finish(eq(1L), eq(LEASE), eq(Status.COMPLETED), isNull(), any());
+        verify(jobRepository, after(1500).atMost(2)).heartbeat(eq(1L), eq(LEASE), any());
+    }
+
+    @Test
+    @DisplayName("취소는 점유 토큰과 무관하게 RUNNING 작업을 멈춘다")
+    void cancel_ignoresLease() {
+        // given
+        EnrichmentJob job = savedJob(0L);
+        job.setStatus(Status.CANCELLED);
+        when(jobRepository.cancel(eq(1L), any())).thenReturn(1);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        // when
+        EnrichmentJob cancelled = jobService.cancel(1L);
+
+        // then
+        assertThat(cancelled.getStatus()).isEqualTo(Status.CANCELLED);
+        verify(jobRepository, never()).finish(anyLong(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 실행 중인 작업은 재개할 수 없다")
+    void resume_rejectsRunningJob() {
+        // given
+        EnrichmentJob job = savedJob(0L);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(jobRepository.claimForResume(eq(1L), anyString(), any(), any())).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> jobService.resume(1L)).isInstanceOf(IllegalStateException.class);
+        verify(enrichmentService, never()).enrichChunk(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 보강 서비스로는 작업을 시작할 수 없다")
+    void start_rejectsUnknownProvider() {
+        assertThatThrownBy(() -> jobService.start("Unknown", 10)).isInstanceOf(IllegalArgumentException.class);
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("진행률은 처리한 수와 체크포인트 이후 남은 후보 수로 계산한다")
+    void getProgress_usesRemainingAfterCheckpoint() {
+        // given
+        EnrichmentJob job = savedJob(100L);
+        job.setProcessedCount(100);
+        when(travelCandidateRepository.countByIdGreaterThan(100L)).thenReturn(300L);
+
+        // when
+        var progress = jobService.getProgress(job);
+
+        // then
+        assertThat(progress).containsEntry("remaining", 300L).containsEntry("progressRate", 25.0);
+    }
+
+    @Test
+    @DisplayName("최근 작업 목록의 남은 후보 수는 체크포인트 수와 상관없이 한 번의 쿼리로 센다")
+    void getRecentProgress_countsRemainingInOneQuery() {
+        // given
+        EnrichmentJob running = savedJob(100L);
+        running.setProcessedCount(100);
+        EnrichmentJob failed = savedJob(200L);
+        failed.setId(2L);
+        failed.setStatus(Status.FAILED);
+        EnrichmentJob completed = savedJob(400L);
+        completed.setId(3L);
+        completed.setStatus(Status.COMPLETED);
+        when(jobRepository.findTop10ByOrderByIdDesc()).thenReturn(List.of(completed, failed, running));
+        when(travelCandidateRepository.countIdsGreaterThan(List.of(200L, 100L))).thenReturn(Map.of(100L, 300L, 200L, 200L));
+
+        // when
+        List<Map<String, Object>> progress = jobService.getRecentProgress();
+
+        // then
+        assertThat(progress).extracting(p -> p.get("remaining")).containsExactly(0L, 200L, 300L);
+        verify(travelCandidateRepository, times(1)).countIdsGreaterThan(any());
+        verify(travelCandidateRepository, never()).countByIdGreaterThan(anyLong());
+    }
+
+    private EnrichmentJob savedJob(long lastCandidateId) {
+        EnrichmentJob job = EnrichmentJob.start(PROVIDER, 2);
+        job.setId(1L);
+        job.setLeaseToken(LEASE);
+        job.setLastCandidateId(lastCandidateId);
+        return job;
+    }
+
+    private EnrichmentResult chunk(int processed, int success, long lastCandidateId) {
+        return EnrichmentResult.builder()
+            .serviceName(PROVIDER)
+            .totalProcessed(processed)
+            .successCount(success)
+            .lastCandidateId(lastCandidateId)
+            .build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.compass.domain.chat.stage3.service;
+
+import com.compass.domain.chat.common.geo.GeoMath;
+import com.compass.domain.chat.common.route.BusinessHours;
+import com.compass.domain.chat.common.route.TimeWindow;
+import com.compass.domain.chat.model.TravelPlace;
+import com.compass.domain.chat.stage3.dto.OptimizedRoute;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Stage3RouteOptimizationServiceTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 10, 16, 0, 0);
+
+    @Test
+    @DisplayName("시간 제약 배치는 고정 일정 시각과 영업시간을 지키고 구간별 여유 시간을 돌려준다")
+    void optimize_timeWindowSolverRespectsWindows() {
+        // given
+        Stage3RouteOptimizationService service = new Stage3RouteOptimizationService();
+        ReflectionTestUtils.setField(service, "timeWindowSolverEnabled", true);
+        List<TravelPlace> places = scenario(new Random(42));
+
+        // when
+        OptimizedRoute route = service.optimize(places, "자차", null);
+
+        // then
+        assertThat(route.getPlaces()).containsExactlyInAnyOrderElementsOf(places);
+        assertThat(countViolations(route.getPlaces())).isZero();
+        assertThat(route.getSegmentSlacks()).hasSize(3); // 시작→고정1, 고정1→고정2, 고정2→끝
+        assertThat(route.getSegmentSlacks()).allSatisfy(slack -> assertThat(slack.getSlackMinutes()).isNotNegative());
+    }
+
+    @Test
+    @DisplayName("무작위 시나리오 50개 모두 시간 제약 배치는 시간 창을 위반하지 않는다")
+    void optimize_timeWindowSolverHasNoViolations() {
+        // given
+        Stage3RouteOptimizationService service = new Stage3RouteOptimizationService();
+        ReflectionTestUtils.setField(service, "timeWindowSolverEnabled", true);
+        Random random = new Random(7);
+        int violations = 0;
+
+        // when (기존 탐욕 배치와의 실행 시간 비교는 src/jmh의 Stage3RouteOptimizationBenchmark)
+        for (int run = 0; run < 50; run++) {
+            violations += countViolations(service.optimize(scenario(random), "자차", null).getPlaces());
+        }
+
+        // then
+        assertThat(violations).isZero();
+    }
+
+    // 10시/15시 고정 일정 2개 + 점심 영업 2곳, 낮 영업 1곳, 저녁 영업 2곳 (반경 약 2km, 순서는 섞음)
+    private List<TravelPlace> scenario(Random random) {
+        List<TravelPlace> places = new ArrayList<>();
+        places.add(fixed("호텔 체크인 전 투어", random, DAY.withHour(10)));
+        places.add(fixed("공연 관람", random, DAY.withHour(15)));
+        places.add(flexible("점심 식당", random, "11:00~14:30"));
+        places.add(flexible("브런치 카페", random, "11:00~14:30"));
+        places.add(flexible("박물관", random, "09:00~18:00"));
+        places.add(flexible("야시장", random, "17:00~22:00"));
+        places.add(flexible("루프탑 바", random, "17:00~22:00"));
+        Collections.shuffle(places, random);
+        return places;
+    }
+
+    private TravelPlace fixed(String name, Random random, LocalDateTime time) {
+        return TravelPlace.builder()
+            .placeId(name)
+            .name(name)
+            .latitude(37.55 + random.nextDouble() * 0.02)
+            .longitude(126.97 + random.nextDouble() * 0.02)
+            .isFixed(true)
+            .fixedTime(time)
+            .build();
+    }
+
+    private TravelPlace flexible(String name, Random random, String businessHours) {
+        return TravelPlace.builder()
+            .placeId(name)
+            .name(name)
+            .latitude(37.55 + random.nextDouble() * 0.02)
+            .longitude(126.97 + random.nextDouble() * 0.02)
+            .isFixed(false)
+            .businessHours(businessHours)
+            .build();
+    }
+
+    // 순서대로 방문했을 때 고정 일정 지각 + 영업시간 밖 체류 횟수 (서비스와 같은 체류/이동 시간 가정)
+    private int countViolations(List<TravelPlace> route) {
+        int violations = 0;
+        int time = 9 * 60;
+        TravelPlace previous = null;
+        for (TravelPlace place : route) {
+            int move = previous == null ? 0 : (int) (GeoMath.haversineKm(
+                previous.getLatitude(), previous.getLongitude(), place.getLatitude(), place.getLongitude()) / 40 * 60);
+            int arrive = time + move;
+            if (Boolean.TRUE.equals(place.getIsFixed())) {
+                int fixedMinute = place.getFixedTime().getHour() * 60 + place.getFixedTime().getMinute();
+                if (previous == null) {
+                    arrive = fixedMinute;
+                }
+                if (arrive > fixedMinute) {
+                    violations++;
+                }
+                time = Math.max(arrive, fixedMinute) + 60;
+            } else {
+                TimeWindow window = BusinessHours.windowOn(place.getBusinessHours(), DAY.getDayOfWeek());
+                int begin = Math.max(arrive, window.openMinute());
+                if (begin + 90 > window.closeMinute()) {
+                    violations++;
+                }
+                time = begin + 90;
+            }
+            previous = place;
+        }
+        return violations;
+    }
+}